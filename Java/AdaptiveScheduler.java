@@ -0,0 +1,805 @@
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ *  This Class is Responsible for Running Index Range Workloads, Such as
+ *  Key Searches and Bulk Verification, on a Fixed Pool of Threads. Each
+ *  Thread Owns a Span of Indexes and Takes Chunks From its Front. A
+ *  Thread That Runs Dry Steals the Back Half of the Largest Span Left, so
+ *  Threads Stay Busy Until the Very End Instead of Waiting on the Last
+ *  Fixed Block.
+ *
+ *  Chunk Sizes Follow the Measured Cost per Index. Each Thread Keeps a
+ *  Moving Average of the Time an Index Takes and Sizes its Next Chunk to
+ *  Last About a Millisecond, so Cheap Indexes are Handed Out in Large
+ *  Chunks With Almost No Overhead, While Expensive Ones Come in Small
+ *  Chunks That Balance Well. Cancellation is Checked Between Chunks (and
+ *  May be Checked Inside Them), so a First Match Stops Every Thread
+ *  Within About a Chunk.
+ *
+ *  Several Workloads May Run at Once. Each Keeps its Own Spans, Failure
+ *  and Cancelled Flag, and a Thread That Runs Dry on One Moves to the
+ *  Oldest Other Workload With Work Left. A Task That Starts a Workload on
+ *  its Own Scheduler Has it Run Inline on the Calling Pool Thread, so
+ *  Nested Calls Never Wait on a Pool That is Busy Running Them.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class AdaptiveScheduler implements AutoCloseable {
+
+    // The Time Each Chunk is Sized to Take.
+    private static final long TARGET_CHUNK_NANOS = 1_000_000;
+    // The Chunk Size Used Before Any Cost is Measured.
+    private static final long INITIAL_CHUNK = 16;
+    // The Largest Chunk Ever Handed Out.
+    private static final long MAX_CHUNK = 1L << 22;
+
+    // How Often a Waiting Caller Checks its Stop Condition.
+    private static final long STOP_POLL_MILLIS = 10;
+
+    /**
+     *  This Interface is Implemented by the Work Run on Each Chunk.
+     */
+    public interface RangeTask {
+
+        /**
+         *  This Method is Responsible for Processing a Chunk of Indexes.
+         *
+         *  @param from         The First Index (Inclusive).
+         *
+         *  @param to           The Last Index (Exclusive).
+         *
+         *  @param worker       The Number of the Pool Thread Running the
+         *                      Chunk, From Zero, For Per Thread Scratch
+         *                      Buffers.
+         */
+        void run(long from, long to, int worker);
+    }
+
+    /**
+     *  This Class Holds the Statistics of a Finished Workload.
+     */
+    public static final class Stats {
+
+        // The Time the Workload Took From Start to End.
+        private final long wallNanos;
+        // The Time Each Thread Spent Running Chunks.
+        private final long[] busyNanos;
+        // The Number of Indexes Each Thread Processed.
+        private final long[] items;
+        // The Number of Chunks Each Thread Ran.
+        private final long[] chunks;
+        // The Number of Times Each Thread Stole Work.
+        private final long[] steals;
+        // Whether the Workload Was Cancelled.
+        private final boolean cancelled;
+
+        Stats(long wallNanos, long[] busyNanos, long[] items, long[] chunks, long[] steals, boolean cancelled) {
+            // Set Stats Values
+            this.wallNanos = wallNanos;
+            this.busyNanos = busyNanos;
+            this.items = items;
+            this.chunks = chunks;
+            this.steals = steals;
+            this.cancelled = cancelled;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Share of
+         *  the Workload's Time Each Thread Spent Running Chunks. Values
+         *  Close to One Mean the Thread Was Saturated.
+         *
+         *  @return             The Utilization of Each Thread.
+         */
+        public double[] getUtilization() {
+            // Divide Each Thread's Busy Time by the Wall Time.
+            double[] utilization = new double[this.busyNanos.length];
+            for (int i = 0; i < utilization.length; i++) {
+                utilization[i] = this.wallNanos == 0 ? 0 : (double) this.busyNanos[i] / this.wallNanos;
+            }
+            return utilization;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Indexes Each Thread Processed.
+         *
+         *  @return             The Index Count of Each Thread.
+         */
+        public long[] getItems() {
+            // Return a Copy of the Counts.
+            return this.items.clone();
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Total
+         *  Number of Chunks Run.
+         *
+         *  @return             The Chunk Count.
+         */
+        public long getChunks() {
+            // Add Up Every Thread.
+            long total = 0;
+            for (long count : this.chunks) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Total
+         *  Number of Steals.
+         *
+         *  @return             The Steal Count.
+         */
+        public long getSteals() {
+            // Add Up Every Thread.
+            long total = 0;
+            for (long count : this.steals) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Time
+         *  the Workload Took.
+         *
+         *  @return             The Wall Time in Nanoseconds.
+         */
+        public long getWallNanos() {
+            // Return Wall Time
+            return this.wallNanos;
+        }
+
+        /**
+         *  This Method is Used to Check Whether the Workload Was
+         *  Cancelled Before it Finished.
+         *
+         *  @return             True if it Was Cancelled.
+         */
+        public boolean isCancelled() {
+            // Return Cancelled Flag
+            return this.cancelled;
+        }
+
+        @Override
+        public String toString() {
+            // Show the Totals and the Utilization of Each Thread.
+            StringBuilder text = new StringBuilder();
+            text.append("chunks=").append(getChunks()).append(" steals=").append(getSteals()).append(" utilization=");
+            double[] utilization = getUtilization();
+            for (int i = 0; i < utilization.length; i++) {
+                text.append(i == 0 ? "" : ",").append(String.format("%.2f", utilization[i]));
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     *  This Class Holds the Indexes a Thread Still Owns. The Owner Takes
+     *  From the Front and Thieves Take From the Back, Both Under the
+     *  Span's Lock.
+     */
+    private static final class Span {
+
+        // The Next Index (Inclusive) and the End (Exclusive).
+        private long from;
+        private long to;
+        // The Number of Indexes Left, Readable Without the Lock
+        // When Thieves Look For the Largest Span.
+        private volatile long remaining;
+
+        synchronized long[] takeFront(long size) {
+            // Take Up to the Chunk Size From the Front.
+            if (this.from >= this.to) {
+                return null;
+            }
+            long end = this.to - this.from <= size ? this.to : this.from + size;
+            long[] chunk = { this.from, end };
+            this.from = end;
+            this.remaining = this.to - this.from;
+            return chunk;
+        }
+
+        synchronized long[] takeBackHalf() {
+            // Take the Back Half, or the Last Index.
+            if (this.from >= this.to) {
+                return null;
+            }
+            long middle = this.from + (this.to - this.from) / 2;
+            long[] stolen = { middle, this.to };
+            this.to = middle;
+            this.remaining = this.to - this.from;
+            return stolen;
+        }
+
+        synchronized void set(long[] range) {
+            // Replace the Span With a New Range.
+            this.from = range[0];
+            this.to = range[1];
+            this.remaining = this.to - this.from;
+        }
+    }
+
+    /**
+     *  This Class Holds the State of One Running Workload.
+     */
+    private static final class Job {
+
+        // The Work to Run.
+        final RangeTask task;
+        // The Condition That Stops the Workload
+        // From Outside, or Null.
+        final BooleanSupplier stop;
+        // Ranges No Thread Has Taken Yet.
+        final ArrayDeque<long[]> unassigned = new ArrayDeque<>();
+        // The Span of Each Thread.
+        final Span[] spans;
+        // The Statistics of Each Thread.
+        final long[] busyNanos;
+        final long[] items;
+        final long[] chunks;
+        final long[] steals;
+        // The Number of Threads Working on the Job.
+        final AtomicInteger participants = new AtomicInteger();
+        // Opens Once the Last Thread Has Left the Job.
+        final CountDownLatch done = new CountDownLatch(1);
+        // The First Failure Thrown by the Task.
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // Whether the Workload Was Cancelled.
+        volatile boolean cancelled;
+
+        Job(RangeTask task, List<long[]> ranges, int threads, BooleanSupplier stop) {
+            // Set Job Values
+            this.task = task;
+            this.stop = stop;
+            for (long[] range : ranges) {
+                if (range[0] < range[1]) {
+                    this.unassigned.add(range.clone());
+                }
+            }
+            this.spans = new Span[threads];
+            for (int i = 0; i < threads; i++) {
+                this.spans[i] = new Span();
+            }
+            this.busyNanos = new long[threads];
+            this.items = new long[threads];
+            this.chunks = new long[threads];
+            this.steals = new long[threads];
+        }
+
+        boolean isCancelled() {
+            // Latch the Stop Condition Into the Flag.
+            if (!this.cancelled && this.stop != null && this.stop.getAsBoolean()) {
+                this.cancelled = true;
+            }
+            return this.cancelled;
+        }
+
+        boolean hasWork() {
+            // A Cancelled Job Has No Work Left to Hand Out.
+            if (isCancelled()) {
+                return false;
+            }
+            synchronized (this.unassigned) {
+                if (!this.unassigned.isEmpty()) {
+                    return true;
+                }
+            }
+            for (Span span : this.spans) {
+                if (span.remaining > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     *  This Class is a Pool Thread, Which Remembers the Workload it is
+     *  Running so Tasks Can Cancel Their Own Workload.
+     */
+    private static final class Worker extends Thread {
+
+        // The Scheduler Owning the Thread.
+        final AdaptiveScheduler owner;
+        // The Thread Number.
+        final int id;
+        // The Workload Being Run, or Null.
+        Job job;
+
+        Worker(AdaptiveScheduler owner, int id) {
+            super("adaptive-scheduler-" + id);
+            this.owner = owner;
+            this.id = id;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            this.owner.serve(this);
+        }
+    }
+
+    /**
+     *  This Class Holds the Scheduler Shared by Static Helpers, Which is
+     *  Created the First Time it is Used.
+     */
+    private static final class Common {
+
+        // The Shared Scheduler.
+        static final AdaptiveScheduler INSTANCE = new AdaptiveScheduler(Runtime.getRuntime().availableProcessors());
+
+        /**
+         *  Private Constructor Used to Prevent Instances of This Helper
+         *  Class From Being Created.
+         */
+        private Common() {
+        }
+    }
+
+    // The Pool Threads.
+    private final Worker[] threads;
+    // The Workloads Not Yet Finished, Oldest First.
+    private final ArrayDeque<Job> active = new ArrayDeque<>();
+    // Whether the Pool Has Been Closed.
+    private boolean closed;
+    // The Lock Guarding the Workloads, Which
+    // Pool Threads Wait on For New Work.
+    private final Object signal = new Object();
+
+    /**
+     *  Constructor Method That is Used to Create a New Scheduler and
+     *  Start its Threads.
+     *
+     *  @param threads      The Number of Pool Threads.
+     */
+    public AdaptiveScheduler(int threads) {
+        // Make Sure There is at Least One Thread.
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread Count Must be Positive: " + threads);
+        }
+
+        // Start the Pool Threads, Which Wait For Work.
+        this.threads = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            this.threads[i] = new Worker(this, i);
+            this.threads[i].start();
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Returning a Scheduler Shared by
+     *  Static Helpers, With One Thread per Processor.
+     *
+     *  @return             The Shared Scheduler.
+     */
+    public static AdaptiveScheduler common() {
+        // The Holder Class Creates it the First Time it is Needed.
+        return Common.INSTANCE;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Pool Threads.
+     *
+     *  @return             The Thread Count.
+     */
+    public int getThreadCount() {
+        // Return Thread Count
+        return this.threads.length;
+    }
+
+    /**
+     *  This Method is Responsible for Running a Task Over a Range of
+     *  Indexes and Waiting For it to Finish.
+     *
+     *  @param from         The First Index (Inclusive).
+     *
+     *  @param to           The Last Index (Exclusive).
+     *
+     *  @param task         The Work to Run on Each Chunk.
+     *
+     *  @return             The Workload Statistics.
+     */
+    public Stats execute(long from, long to, RangeTask task) {
+        // Run a Single Range.
+        return execute(Collections.singletonList(new long[] { from, to }), task, null);
+    }
+
+    /**
+     *  This Method is Responsible for Running a Task Over a Range of
+     *  Indexes and Waiting For it to Finish, Stopping Early Once the
+     *  Parameter Condition Holds.
+     *
+     *  @param from         The First Index (Inclusive).
+     *
+     *  @param to           The Last Index (Exclusive).
+     *
+     *  @param task         The Work to Run on Each Chunk.
+     *
+     *  @param stop         The Condition That Cancels the Workload,
+     *                      Checked Between Chunks and by isCancelled.
+     *
+     *  @return             The Workload Statistics.
+     */
+    public Stats execute(long from, long to, RangeTask task, BooleanSupplier stop) {
+        // Run a Single Range.
+        return execute(Collections.singletonList(new long[] { from, to }), task, stop);
+    }
+
+    /**
+     *  This Method is Responsible for Running a Task Over Several Ranges
+     *  of Indexes and Waiting For it to Finish. A Failure Thrown by the
+     *  Task Cancels the Workload and is Thrown Again Here.
+     *
+     *  @param ranges       The Ranges as {From, To}.
+     *
+     *  @param task         The Work to Run on Each Chunk.
+     *
+     *  @return             The Workload Statistics.
+     */
+    public Stats execute(List<long[]> ranges, RangeTask task) {
+        // Run Without a Stop Condition.
+        return execute(ranges, task, null);
+    }
+
+    /**
+     *  This Method is Responsible for Running a Task Over Several Ranges
+     *  of Indexes and Waiting For it to Finish. A Failure Thrown by the
+     *  Task Cancels the Workload and is Thrown Again Here. Called From a
+     *  Task of This Scheduler, the Workload Runs Inline on the Calling
+     *  Thread.
+     *
+     *  @param ranges       The Ranges as {From, To}.
+     *
+     *  @param task         The Work to Run on Each Chunk.
+     *
+     *  @param stop         The Condition That Cancels the Workload, or
+     *                      Null.
+     *
+     *  @return             The Workload Statistics.
+     */
+    public Stats execute(List<long[]> ranges, RangeTask task, BooleanSupplier stop) {
+        Job job = new Job(task, ranges, this.threads.length, stop);
+        long began = System.nanoTime();
+
+        // Run a Nested Workload on the Calling Pool Thread.
+        Thread caller = Thread.currentThread();
+        if (caller instanceof Worker && ((Worker) caller).owner == this) {
+            Worker worker = (Worker) caller;
+            Job outer = worker.job;
+            worker.job = job;
+            try {
+                work(job, worker.id);
+            }
+            catch (Throwable e) {
+                job.failure.compareAndSet(null, e);
+                job.cancelled = true;
+            }
+            finally {
+                worker.job = outer;
+            }
+            return finish(job, began);
+        }
+
+        // Otherwise Hand the Workload to the Pool.
+        synchronized (this.signal) {
+            if (this.closed) {
+                throw new IllegalStateException("Scheduler is Closed");
+            }
+            if (!job.hasWork()) {
+                return finish(job, began);
+            }
+            this.active.add(job);
+            this.signal.notifyAll();
+        }
+
+        // Wait For Every Thread to Leave the Job, Checking the Stop
+        // Condition Now and Then so a Job No Thread Has Joined Yet
+        // Still Ends When it is Cancelled.
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (job.done.await(STOP_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            }
+            catch (InterruptedException e) {
+                // Cancel, Then Keep Waiting so No Thread
+                // is Still Running the Task Afterwards.
+                interrupted = true;
+                job.cancelled = true;
+            }
+            if (job.isCancelled()) {
+                synchronized (this.signal) {
+                    if (job.participants.get() == 0) {
+                        close(job);
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return finish(job, began);
+    }
+
+    /**
+     *  This Method is Responsible for Cancelling the Workload the Calling
+     *  Task Belongs to, For Example on a First Match. Other Workloads
+     *  Running on the Pool are Not Affected.
+     *
+     *  @throws IllegalStateException   When Called From Outside a Task of
+     *                                  This Scheduler. (Pass a Stop
+     *                                  Condition to execute Instead.)
+     */
+    public void cancel() {
+        // Flag the Calling Thread's Job.
+        Job job = callerJob();
+        if (job == null) {
+            throw new IllegalStateException("cancel Must be Called From a Task of This Scheduler");
+        }
+        job.cancelled = true;
+    }
+
+    /**
+     *  This Method is Used to Check Whether the Workload the Calling Task
+     *  Belongs to Was Cancelled. Long Chunks May Call it to Stop Early.
+     *
+     *  @return             True if the Workload Was Cancelled, and
+     *                      False Outside a Task of This Scheduler.
+     */
+    public boolean isCancelled() {
+        // Read the Calling Thread's Job.
+        Job job = callerJob();
+        return job != null && job.isCancelled();
+    }
+
+    @Override
+    public void close() {
+        // Stop the Threads Once Every Running Workload Ends.
+        synchronized (this.signal) {
+            this.closed = true;
+            this.signal.notifyAll();
+        }
+    }
+
+    /**
+     *  This Method is Used to Find the Workload the Calling Thread is
+     *  Running.
+     *
+     *  @return             The Workload, or Null Outside a Task of This
+     *                      Scheduler.
+     */
+    private Job callerJob() {
+        Thread caller = Thread.currentThread();
+        if (caller instanceof Worker && ((Worker) caller).owner == this) {
+            return ((Worker) caller).job;
+        }
+        return null;
+    }
+
+    /**
+     *  This Method is Used to Mark a Workload as Ended and Drop it From
+     *  the Active Workloads. The Caller Must Hold the Signal Lock.
+     *
+     *  @param job          The Workload.
+     */
+    private void close(Job job) {
+        this.active.remove(job);
+        job.done.countDown();
+    }
+
+    /**
+     *  This Method is Used to Throw the Failure of an Ended Workload, or
+     *  Otherwise Build its Statistics.
+     *
+     *  @param job          The Workload.
+     *
+     *  @param began        When the Workload Was Started.
+     *
+     *  @return             The Workload Statistics.
+     */
+    private static Stats finish(Job job, long began) {
+        // Throw Any Failure, Otherwise Return the Statistics.
+        Throwable failure = job.failure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new Stats(System.nanoTime() - began, job.busyNanos, job.items, job.chunks, job.steals, job.cancelled);
+    }
+
+    /**
+     *  This Method is the Body of Each Pool Thread. It Joins the Oldest
+     *  Workload That Still Has Work, Runs Chunks Until None is Left, and
+     *  Looks Again.
+     *
+     *  @param worker       The Pool Thread.
+     */
+    private void serve(Worker worker) {
+        while (true) {
+            // Wait For a Workload With Work Left.
+            Job job = null;
+            synchronized (this.signal) {
+                while (job == null) {
+                    for (Job candidate : this.active) {
+                        if (candidate.hasWork()) {
+                            job = candidate;
+                            break;
+                        }
+                    }
+                    if (job == null) {
+                        if (this.closed) {
+                            return;
+                        }
+                        try {
+                            this.signal.wait();
+                        }
+                        catch (InterruptedException e) {
+                            // A Stray Interrupt Must Not Shrink the Pool;
+                            // Only Closing Ends a Pool Thread.
+                        }
+                    }
+                }
+                job.participants.incrementAndGet();
+            }
+
+            // Run Chunks Until There is Nothing Left Anywhere.
+            worker.job = job;
+            try {
+                work(job, worker.id);
+            }
+            catch (Throwable e) {
+                job.failure.compareAndSet(null, e);
+                job.cancelled = true;
+            }
+            finally {
+                worker.job = null;
+                // Drop Any Interrupt Aimed at the Task, so it Can Not
+                // Reach the Next Workload.
+                Thread.interrupted();
+                // The Last Thread to Leave a Job With Nothing
+                // Left Ends it.
+                synchronized (this.signal) {
+                    if (job.participants.decrementAndGet() == 0 && !job.hasWork()) {
+                        close(job);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running One Thread's Share of a
+     *  Workload.
+     *
+     *  @param job          The Workload.
+     *
+     *  @param id           The Thread Number.
+     */
+    private static void work(Job job, int id) {
+        Span own = job.spans[id];
+        long chunk = INITIAL_CHUNK;
+        double cost = -1;
+        while (!job.isCancelled()) {
+            // Take From the Own Span, Then From the Unassigned
+            // Ranges, Then Steal.
+            long[] next = own.takeFront(chunk);
+            if (next == null) {
+                long[] range;
+                synchronized (job.unassigned) {
+                    range = job.unassigned.poll();
+                }
+                if (range == null) {
+                    range = steal(job, id);
+                    if (range == null) {
+                        return;
+                    }
+                    job.steals[id]++;
+                }
+                own.set(range);
+                continue;
+            }
+
+            // Run the Chunk and Time it.
+            long start = System.nanoTime();
+            job.task.run(next[0], next[1], id);
+            long elapsed = System.nanoTime() - start;
+            long count = next[1] - next[0];
+            job.busyNanos[id] += elapsed;
+            job.items[id] += count;
+            job.chunks[id]++;
+
+            // Size the Next Chunk From the Moving Average Cost.
+            double sample = (double) elapsed / count;
+            cost = cost < 0 ? sample : 0.75 * cost + 0.25 * sample;
+            chunk = (long) Math.max(1, Math.min(MAX_CHUNK, TARGET_CHUNK_NANOS / Math.max(cost, 1)));
+        }
+    }
+
+    /**
+     *  This Method is Used to Steal the Back Half of the Largest Span
+     *  Another Thread Owns.
+     *
+     *  @param job          The Workload.
+     *
+     *  @param id           The Thief's Thread Number.
+     *
+     *  @return             The Stolen Range, or Null When Every Span
+     *                      is Empty.
+     */
+    private static long[] steal(Job job, int id) {
+        while (!job.isCancelled()) {
+            // Find the Largest Span.
+            Span victim = null;
+            long largest = 0;
+            for (int i = 0; i < job.spans.length; i++) {
+                long remaining = job.spans[i].remaining;
+                if (i != id && remaining > largest) {
+                    largest = remaining;
+                    victim = job.spans[i];
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+
+            // Take its Back Half. (Another Thief May Have Emptied it
+            // First, in Which Case Look Again.)
+            long[] stolen = victim.takeBackHalf();
+            if (stolen != null) {
+                return stolen;
+            }
+        }
+        return null;
+    }
+
+    /**
+     *  Main Method That Checks the Pool Survives Interrupts: it Interrupts
+     *  Every Pool Thread, Both While Idle and While Running a Task, Then
+     *  Checks a Workload Still Runs to Completion on Every Thread.
+     *
+     *  @param args     [threads]
+     *
+     *  @throws InterruptedException When Interrupted While Waiting.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        try (AdaptiveScheduler scheduler = new AdaptiveScheduler(threads)) {
+            // Interrupt the Idle Threads, and Again in the Middle of a Task.
+            Thread.sleep(50);
+            for (Worker worker : scheduler.threads) {
+                worker.interrupt();
+            }
+            Thread.sleep(50);
+            scheduler.execute(0, threads, (from, to, worker) -> scheduler.threads[worker].interrupt());
+
+            // Every Thread Must Still be Alive and Every Index Covered.
+            AtomicLong covered = new AtomicLong();
+            long count = 1_000_000;
+            scheduler.execute(0, count, (from, to, worker) -> covered.addAndGet(to - from));
+            int alive = 0;
+            for (Worker worker : scheduler.threads) {
+                alive += worker.isAlive() ? 1 : 0;
+            }
+            boolean ok = covered.get() == count && alive == threads;
+            System.out.println("Covered " + covered.get() + " of " + count + " With " + alive + " of " + threads + " Threads Alive: " + (ok ? "OK" : "FAILED"));
+            if (!ok) {
+                System.exit(1);
+            }
+        }
+    }
+}
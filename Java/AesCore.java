@@ -0,0 +1,244 @@
+/**
+ *  This Class is Responsible for Encrypting and Decrypting Single AES
+ *  Blocks With Any Number of Rounds, Using the Word Form of the Key
+ *  Schedule Built by KeySchedule.expandKeyWords. Each Round Uses Four
+ *  Combined SubBytes, ShiftRows and MixColumns Tables, and the Final Round
+ *  Skips MixColumns as in the Full Cipher, so Ten Rounds Give Standard
+ *  AES-128 and Fewer Rounds Give the Reduced Variants Used in Research.
+ *
+ *  Nothing Here is Tied to a Single Key. The Caller Owns the Round Key
+ *  Words, so Trying a New Key Only Costs a Forward Key Expansion (Plus an
+ *  InvMixColumns Pass For Decryption) and Nothing is Created per Key. All
+ *  Methods are Safe to Call From Many Threads at Once.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class AesCore {
+
+    // The Combined Encryption Round Tables.
+    private static final int[] TE0 = new int[256];
+    private static final int[] TE1 = new int[256];
+    private static final int[] TE2 = new int[256];
+    private static final int[] TE3 = new int[256];
+    // The Combined Decryption Round Tables.
+    private static final int[] TD0 = new int[256];
+    private static final int[] TD1 = new int[256];
+    private static final int[] TD2 = new int[256];
+    private static final int[] TD3 = new int[256];
+    // The Substitution Boxes as Unsigned Integers.
+    static final int[] SBOX = new int[256];
+    static final int[] INV_SBOX = new int[256];
+
+    static {
+        // Fill the Tables From the Substitution Boxes.
+        for (int i = 0; i < 256; i++) {
+            int s = InverseKeyGeneration.SUBSITUTION_BOX[i] & 0xFF;
+            int v = InverseKeyGeneration.INVERSE_SUBSITUTION_BOX[i] & 0xFF;
+            SBOX[i] = s;
+            INV_SBOX[i] = v;
+
+            // Column (2s, s, s, 3s) For Encryption.
+            int e = mul(s, 2) << 24 | s << 16 | s << 8 | mul(s, 3);
+            TE0[i] = e;
+            TE1[i] = Integer.rotateRight(e, 8);
+            TE2[i] = Integer.rotateRight(e, 16);
+            TE3[i] = Integer.rotateRight(e, 24);
+
+            // Column (14v, 9v, 13v, 11v) For Decryption.
+            int d = mul(v, 14) << 24 | mul(v, 9) << 16 | mul(v, 13) << 8 | mul(v, 11);
+            TD0[i] = d;
+            TD1[i] = Integer.rotateRight(d, 8);
+            TD2[i] = Integer.rotateRight(d, 16);
+            TD3[i] = Integer.rotateRight(d, 24);
+        }
+    }
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper
+     *  Class From Being Created.
+     */
+    private AesCore() {
+    }
+
+    /**
+     *  This Method is Responsible for Encrypting a Single Block.
+     *
+     *  @param words        The Round Key Words From expandKeyWords.
+     *
+     *  @param rounds       The Number of Rounds (1 or More).
+     *
+     *  @param in           The Array Holding the Plaintext.
+     *
+     *  @param inOffset     The Index of the First Plaintext Byte.
+     *
+     *  @param out          The Array the Ciphertext is Written to.
+     *
+     *  @param outOffset    The Index the Ciphertext is Written at.
+     */
+    public static void encryptBlock(int[] words, int rounds, byte[] in, int inOffset, byte[] out, int outOffset) {
+        // Load the Block and Add the Original Key.
+        int s0 = KeySchedule.readWord(in, inOffset) ^ words[0];
+        int s1 = KeySchedule.readWord(in, inOffset + 4) ^ words[1];
+        int s2 = KeySchedule.readWord(in, inOffset + 8) ^ words[2];
+        int s3 = KeySchedule.readWord(in, inOffset + 12) ^ words[3];
+
+        // Run Every Full Round.
+        int k = 4;
+        for (int round = 1; round < rounds; round++, k += 4) {
+            int t0 = TE0[s0 >>> 24] ^ TE1[(s1 >>> 16) & 0xFF] ^ TE2[(s2 >>> 8) & 0xFF] ^ TE3[s3 & 0xFF] ^ words[k];
+            int t1 = TE0[s1 >>> 24] ^ TE1[(s2 >>> 16) & 0xFF] ^ TE2[(s3 >>> 8) & 0xFF] ^ TE3[s0 & 0xFF] ^ words[k + 1];
+            int t2 = TE0[s2 >>> 24] ^ TE1[(s3 >>> 16) & 0xFF] ^ TE2[(s0 >>> 8) & 0xFF] ^ TE3[s1 & 0xFF] ^ words[k + 2];
+            int t3 = TE0[s3 >>> 24] ^ TE1[(s0 >>> 16) & 0xFF] ^ TE2[(s1 >>> 8) & 0xFF] ^ TE3[s2 & 0xFF] ^ words[k + 3];
+            s0 = t0;
+            s1 = t1;
+            s2 = t2;
+            s3 = t3;
+        }
+
+        // Run the Final Round Without MixColumns.
+        KeySchedule.writeWord(lastRound(s0, s1, s2, s3, SBOX) ^ words[k], out, outOffset);
+        KeySchedule.writeWord(lastRound(s1, s2, s3, s0, SBOX) ^ words[k + 1], out, outOffset + 4);
+        KeySchedule.writeWord(lastRound(s2, s3, s0, s1, SBOX) ^ words[k + 2], out, outOffset + 8);
+        KeySchedule.writeWord(lastRound(s3, s0, s1, s2, SBOX) ^ words[k + 3], out, outOffset + 12);
+    }
+
+    /**
+     *  This Method is Used to Work Out Only the First Column of the State
+     *  After Round One, For Searches That Can Reject a Key From That
+     *  Column Alone. Round One Must be a Full Round, so the Cipher Must
+     *  Have at Least Two Rounds.
+     *
+     *  @param words        The Round Key Words From expandKeyWords.
+     *
+     *  @param in           The Array Holding the Plaintext.
+     *
+     *  @param inOffset     The Index of the First Plaintext Byte.
+     *
+     *  @return             The Column as a Word.
+     */
+    static int firstRoundColumn(int[] words, byte[] in, int inOffset) {
+        // Take the Diagonal ShiftRows Moves Into Column 0.
+        int a = (in[inOffset] & 0xFF) ^ (words[0] >>> 24);
+        int b = (in[inOffset + 5] & 0xFF) ^ ((words[1] >>> 16) & 0xFF);
+        int c = (in[inOffset + 10] & 0xFF) ^ ((words[2] >>> 8) & 0xFF);
+        int d = (in[inOffset + 15] & 0xFF) ^ (words[3] & 0xFF);
+        return TE0[a] ^ TE1[b] ^ TE2[c] ^ TE3[d] ^ words[4];
+    }
+
+    /**
+     *  This Method is Responsible for Turning Encryption Round Key Words
+     *  Into the Words Used by decryptBlock. The Round Keys are Reversed
+     *  and Every Middle Round Key is Passed Through InvMixColumns.
+     *
+     *  @param words        The Round Key Words From expandKeyWords.
+     *
+     *  @param rounds       The Number of Rounds (1 or More).
+     *
+     *  @param dest         The Array the Decryption Words are Written
+     *                      to. It Needs 4 * (rounds + 1) Entries and
+     *                      May Not be the Source Array.
+     */
+    public static void decryptionWords(int[] words, int rounds, int[] dest) {
+        // The Last Round Key is Added First and
+        // the Original Key is Added Last.
+        for (int j = 0; j < 4; j++) {
+            dest[j] = words[4 * rounds + j];
+            dest[4 * rounds + j] = words[j];
+        }
+
+        // Move the Middle Round Keys Through InvMixColumns. (The Tables
+        // Already Hold InvSubBytes, so Each Byte is Substituted First.)
+        for (int round = 1; round < rounds; round++) {
+            for (int j = 0; j < 4; j++) {
+                int w = words[4 * (rounds - round) + j];
+                dest[4 * round + j] = TD0[SBOX[w >>> 24]] ^ TD1[SBOX[(w >>> 16) & 0xFF]] ^ TD2[SBOX[(w >>> 8) & 0xFF]] ^ TD3[SBOX[w & 0xFF]];
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Decrypting a Single Block.
+     *
+     *  @param words        The Decryption Words From decryptionWords.
+     *
+     *  @param rounds       The Number of Rounds (1 or More).
+     *
+     *  @param in           The Array Holding the Ciphertext.
+     *
+     *  @param inOffset     The Index of the First Ciphertext Byte.
+     *
+     *  @param out          The Array the Plaintext is Written to.
+     *
+     *  @param outOffset    The Index the Plaintext is Written at.
+     */
+    public static void decryptBlock(int[] words, int rounds, byte[] in, int inOffset, byte[] out, int outOffset) {
+        // Load the Block and Add the Last Round Key.
+        int s0 = KeySchedule.readWord(in, inOffset) ^ words[0];
+        int s1 = KeySchedule.readWord(in, inOffset + 4) ^ words[1];
+        int s2 = KeySchedule.readWord(in, inOffset + 8) ^ words[2];
+        int s3 = KeySchedule.readWord(in, inOffset + 12) ^ words[3];
+
+        // Undo Every Full Round.
+        int k = 4;
+        for (int round = 1; round < rounds; round++, k += 4) {
+            int t0 = TD0[s0 >>> 24] ^ TD1[(s3 >>> 16) & 0xFF] ^ TD2[(s2 >>> 8) & 0xFF] ^ TD3[s1 & 0xFF] ^ words[k];
+            int t1 = TD0[s1 >>> 24] ^ TD1[(s0 >>> 16) & 0xFF] ^ TD2[(s3 >>> 8) & 0xFF] ^ TD3[s2 & 0xFF] ^ words[k + 1];
+            int t2 = TD0[s2 >>> 24] ^ TD1[(s1 >>> 16) & 0xFF] ^ TD2[(s0 >>> 8) & 0xFF] ^ TD3[s3 & 0xFF] ^ words[k + 2];
+            int t3 = TD0[s3 >>> 24] ^ TD1[(s2 >>> 16) & 0xFF] ^ TD2[(s1 >>> 8) & 0xFF] ^ TD3[s0 & 0xFF] ^ words[k + 3];
+            s0 = t0;
+            s1 = t1;
+            s2 = t2;
+            s3 = t3;
+        }
+
+        // Undo the First Round, Which Has No MixColumns Step.
+        KeySchedule.writeWord(lastRound(s0, s3, s2, s1, INV_SBOX) ^ words[k], out, outOffset);
+        KeySchedule.writeWord(lastRound(s1, s0, s3, s2, INV_SBOX) ^ words[k + 1], out, outOffset + 4);
+        KeySchedule.writeWord(lastRound(s2, s1, s0, s3, INV_SBOX) ^ words[k + 2], out, outOffset + 8);
+        KeySchedule.writeWord(lastRound(s3, s2, s1, s0, INV_SBOX) ^ words[k + 3], out, outOffset + 12);
+    }
+
+    /**
+     *  This Method is Used to Build One Output Column of a Round That
+     *  Has No MixColumns Step, Taking Row r From the r-th Parameter Word.
+     *
+     *  @param a            The Word Supplying Row 0.
+     *
+     *  @param b            The Word Supplying Row 1.
+     *
+     *  @param c            The Word Supplying Row 2.
+     *
+     *  @param d            The Word Supplying Row 3.
+     *
+     *  @param box          The Substitution Box to Apply.
+     *
+     *  @return             The Substituted Column.
+     */
+    private static int lastRound(int a, int b, int c, int d, int[] box) {
+        // Substitute One Byte From Each Word.
+        return box[a >>> 24] << 24 | box[(b >>> 16) & 0xFF] << 16 | box[(c >>> 8) & 0xFF] << 8 | box[d & 0xFF];
+    }
+
+    /**
+     *  This Method is Used to Multiply Two Values in GF(2^8).
+     *
+     *  @param a            The First Value.
+     *
+     *  @param b            The Second Value.
+     *
+     *  @return             The Product.
+     */
+    static int mul(int a, int b) {
+        // Shift and Add, Reducing by the AES Polynomial.
+        int product = 0;
+        while (b != 0) {
+            if ((b & 1) != 0) {
+                product ^= a;
+            }
+            a = ((a << 1) ^ ((a & 0x80) != 0 ? 0x1B : 0)) & 0xFF;
+            b >>>= 1;
+        }
+        return product;
+    }
+}
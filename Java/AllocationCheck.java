@@ -0,0 +1,358 @@
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.crypto.Cipher;
+
+/**
+ *  This Class is Responsible for Guarding the Hot Paths Against
+ *  Allocation Regressions. Each Path is Driven in a Loop on the Current
+ *  Thread, First Until the JIT Has Compiled it and Then For the Measured
+ *  Run, and the Bytes the Thread Allocated are Read From the Platform's
+ *  com.sun.management.ThreadMXBean and Divided by the Number of
+ *  Operations. A Path Fails When it Allocates More Than its Budget, so a
+ *  Change That Brings Back Per Call Churn (Such as the String.format
+ *  Calls substituteBytes Once Made For Every Byte) is Caught.
+ *
+ *      java AllocationCheck [--iterations N]
+ *
+ *  The Exit Code is 0 When Every Path is Within its Budget, 1 When Any
+ *  Path is Over, 2 For Bad Arguments and 3 When the Platform Can Not
+ *  Measure Allocation.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class AllocationCheck {
+
+    // The Exit Codes.
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_OVER_BUDGET = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int EXIT_UNSUPPORTED = 3;
+
+    // The Default Number of Measured Operations per Path.
+    public static final int DEFAULT_ITERATIONS = 200_000;
+    // The Number of Measured Runs per Path. The Lowest is Kept, so a
+    // Single Run Disturbed by a Recompilation Does Not Fail the Check.
+    private static final int RUNS = 3;
+
+    // Where the Arrays the Legacy Entry Points Return are Kept, so the
+    // JIT Can Not Prove They are Unused and Remove Their Allocation.
+    private static volatile Object sink;
+
+    /**
+     *  This Interface Represents One Operation of a Hot Path.
+     */
+    @FunctionalInterface
+    private interface Operation {
+
+        /**
+         *  This Method Runs the Operation Once.
+         *
+         *  @param i        The Number of the Operation, For Varying the
+         *                  Input.
+         *
+         *  @throws Exception   When the Operation Fails.
+         */
+        void run(int i) throws Exception;
+    }
+
+    /**
+     *  This Class Holds the Outcome of Checking One Path.
+     */
+    public static final class Result {
+
+        // The Path Name.
+        private final String name;
+        // The Largest Number of Bytes an Operation May Allocate.
+        private final double budget;
+        // The Number of Bytes an Operation Allocated.
+        private final double measured;
+
+        Result(String name, double budget, double measured) {
+            // Set Result Values
+            this.name = name;
+            this.budget = budget;
+            this.measured = measured;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Path
+         *  Name.
+         *
+         *  @return             The Name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Budget.
+         *
+         *  @return             The Bytes per Operation Allowed.
+         */
+        public double getBudget() {
+            return this.budget;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Bytes
+         *  Allocated per Operation.
+         *
+         *  @return             The Bytes per Operation.
+         */
+        public double getMeasured() {
+            return this.measured;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving Whether the
+         *  Path Stayed Within its Budget.
+         *
+         *  @return             True if it Did.
+         */
+        public boolean isWithinBudget() {
+            return this.measured <= this.budget;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-38s %8.1f B/op  (Budget %6.0f)  %s",
+                    this.name, this.measured, this.budget, isWithinBudget() ? "OK" : "OVER BUDGET");
+        }
+    }
+
+    /**
+     *  This Class is an Endless Input That Repeats the Same Lines, so the
+     *  Parse Path Can be Driven For Any Number of Keys Without Holding
+     *  Them All in Memory.
+     */
+    private static final class RepeatingInput extends InputStream {
+
+        // The Lines Repeated.
+        private final byte[] lines;
+        // The Next Byte to Give.
+        private int position;
+
+        RepeatingInput(byte[] lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int read() {
+            int b = this.lines[this.position] & 0xFF;
+            this.position = (this.position + 1) % this.lines.length;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] dest, int offset, int length) {
+            int n = Math.min(length, this.lines.length - this.position);
+            System.arraycopy(this.lines, this.position, dest, offset, n);
+            this.position = (this.position + n) % this.lines.length;
+            return n;
+        }
+    }
+
+    // The Allocation Counter of the Platform.
+    private final com.sun.management.ThreadMXBean threads;
+    // The Number of Measured Operations per Run.
+    private final int iterations;
+
+    /**
+     *  Private Constructor Used by the Check Method.
+     *
+     *  @param threads      The Allocation Counter.
+     *
+     *  @param iterations   The Number of Measured Operations per Run.
+     */
+    private AllocationCheck(com.sun.management.ThreadMXBean threads, int iterations) {
+        this.threads = threads;
+        this.iterations = iterations;
+    }
+
+    /**
+     *  This Method is Responsible for Checking Every Hot Path.
+     *
+     *  @param iterations   The Number of Measured Operations per Path.
+     *
+     *  @return             The Outcome For Each Path, in Order.
+     *
+     *  @throws UnsupportedOperationException   When the Platform Can Not
+     *                                          Count the Bytes a Thread
+     *                                          Allocates.
+     *
+     *  @throws Exception   When a Path Fails.
+     */
+    public static List<Result> check(int iterations) throws Exception {
+        // Turn On the Allocation Counter.
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            throw new UnsupportedOperationException("No com.sun.management.ThreadMXBean on This Platform");
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException("Thread Allocation Counting is Not Supported");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        AllocationCheck check = new AllocationCheck(threads, iterations);
+
+        // Build Inputs Shared by the Paths: Random Last Round Keys, Their
+        // Originals and Schedules, and a Four Block Ciphertext.
+        Random random = new Random(197);
+        int count = 1024;
+        byte[] lastRoundKeys = new byte[16 * count];
+        random.nextBytes(lastRoundKeys);
+        byte[] originals = new byte[16 * count];
+        StringBuilder hex = new StringBuilder();
+        StringBuilder lines = new StringBuilder();
+        for (int k = 0; k < count; k++) {
+            KeySchedule.recoverOriginalKey(lastRoundKeys, 16 * k, originals, 16 * k, KeySchedule.ROUNDS);
+            String key = Block128.toHex(lastRoundKeys, 16 * k);
+            hex.append(key);
+            lines.append(k % 2 == 0 ? key : key.toLowerCase()).append('\n');
+        }
+        String hexKeys = hex.toString();
+        byte[] ciphertext = new byte[64];
+        random.nextBytes(ciphertext);
+        byte[] key = new byte[16];
+        byte[] dest = new byte[16 * (KeySchedule.ROUNDS + 1)];
+        byte[] plaintext = new byte[ciphertext.length];
+        byte[] word = new byte[4];
+        Cipher cipher = EngineSelector.jceCipher();
+        InverseKeyCli.LineReader reader = new InverseKeyCli.LineReader(new RepeatingInput(lines.toString().getBytes()));
+        Metrics.Tally tally = new Metrics.Tally(Metrics.OUTPUT, Metrics.BYTES_WRITTEN);
+
+        // Check Each Path Against its Budget in Bytes per Operation. The
+        // Allocation Free Engines Must Stay at Zero; The Legacy Entry
+        // Points May Only Allocate the Arrays They Return; Decryption
+        // May Expand its Key Once per Message (Into Two Word Arrays For
+        // the Table Engine, and Inside the Provider For JCE).
+        List<Result> results = new ArrayList<>();
+        results.add(check.measure("KeySchedule.recoverOriginalKey", 0, i -> {
+            int at = 16 * (i & (count - 1));
+            KeySchedule.recoverOriginalKey(lastRoundKeys, at, dest, 0, KeySchedule.ROUNDS);
+        }));
+        results.add(check.measure("KeySchedule.recoverSchedule", 0, i -> {
+            KeySchedule.recoverSchedule(lastRoundKeys, 16 * (i & (count - 1)), dest, 0, KeySchedule.ROUNDS);
+        }));
+        results.add(check.measure("KeySchedule.inverseRound", 0, i -> {
+            KeySchedule.inverseRound(lastRoundKeys, 16 * (i & (count - 1)), dest, 0, 1 + i % KeySchedule.ROUNDS);
+        }));
+        int round = InverseKeyGeneration.ROUND_NUMBER;
+        results.add(check.measure("InverseKeyGeneration.inverseRoundKey", 32, i -> {
+            System.arraycopy(lastRoundKeys, 16 * (i & (count - 1)), key, 0, 16);
+            InverseKeyGeneration.ROUND_NUMBER = 1 + i % KeySchedule.ROUNDS;
+            sink = InverseKeyGeneration.inverseRoundKey(key);
+        }));
+        InverseKeyGeneration.ROUND_NUMBER = round;
+        results.add(check.measure("InverseKeyGeneration.substituteBytes", 24, i -> {
+            word[0] = (byte) i;
+            sink = InverseKeyGeneration.substituteBytes(word);
+        }));
+        results.add(check.measure("InverseKeyCli.LineReader.parseKey", 0, i -> {
+            reader.next();
+            reader.parseKey(key);
+        }));
+        results.add(check.measure("Block128.parseHex", 0, i -> {
+            Block128.parseHex(hexKeys, 32 * (i & (count - 1)), key, 0);
+        }));
+        results.add(check.measure("KeySchedule.expandsTo", 0, i -> {
+            int at = 16 * (i & (count - 1));
+            KeySchedule.expandsTo(originals, at, lastRoundKeys, at, KeySchedule.ROUNDS);
+        }));
+        results.add(check.measure("EngineSelector.decryptTable", 400, i -> {
+            EngineSelector.decryptTable(originals, ciphertext, 0, ciphertext.length, plaintext, 0);
+        }));
+        results.add(check.measure("EngineSelector.decryptJce", 1536, i -> {
+            System.arraycopy(originals, 16 * (i & (count - 1)), key, 0, 16);
+            EngineSelector.decryptJce(cipher, key, ciphertext, 0, ciphertext.length, plaintext, 0);
+        }));
+        results.add(check.measure("Metrics.Histogram.record", 0, i -> {
+            Metrics.PARSE.record(i & 4095);
+        }));
+        results.add(check.measure("Metrics.Tally", 0, i -> {
+            long start = tally.start();
+            tally.stop(start, 1);
+        }));
+        tally.flush();
+        return results;
+    }
+
+    /**
+     *  This Method is Used to Measure the Bytes One Operation of a Path
+     *  Allocates.
+     *
+     *  @param name         The Path Name.
+     *
+     *  @param budget       The Bytes per Operation Allowed.
+     *
+     *  @param operation    The Operation.
+     *
+     *  @return             The Outcome.
+     *
+     *  @throws Exception   When the Operation Fails.
+     */
+    private Result measure(String name, double budget, Operation operation) throws Exception {
+        // Warm Up, So the Interpreter's Allocations are Not Counted.
+        for (int i = 0; i < this.iterations; i++) {
+            operation.run(i);
+        }
+
+        // Keep the Lowest of Several Runs.
+        long id = Thread.currentThread().getId();
+        double lowest = Double.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long before = this.threads.getThreadAllocatedBytes(id);
+            for (int i = 0; i < this.iterations; i++) {
+                operation.run(i);
+            }
+            long allocated = this.threads.getThreadAllocatedBytes(id) - before;
+            lowest = Math.min(lowest, (double) allocated / this.iterations);
+        }
+        return new Result(name, budget, lowest);
+    }
+
+    /**
+     *  This Method is Responsible for Running the Check From the Command
+     *  Line.
+     *
+     *  @param args         [--iterations N]
+     *
+     *  @throws Exception   When a Path Fails.
+     */
+    public static void main(String[] args) throws Exception {
+        // Read the Options.
+        int iterations = DEFAULT_ITERATIONS;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--iterations")) {
+                iterations = Integer.parseInt(args[i + 1]);
+            }
+            else {
+                System.err.println("Usage: java AllocationCheck [--iterations N]");
+                System.exit(EXIT_USAGE);
+            }
+        }
+
+        // Check Every Path and Report.
+        List<Result> results;
+        try {
+            results = check(iterations);
+        }
+        catch (UnsupportedOperationException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(EXIT_UNSUPPORTED);
+            return;
+        }
+        int over = 0;
+        for (Result result : results) {
+            System.out.println(result);
+            if (!result.isWithinBudget()) {
+                over++;
+            }
+        }
+        System.out.println(over == 0 ? "Every Path is Within its Budget" : over + " Path(s) Over Budget");
+        System.exit(over == 0 ? EXIT_OK : EXIT_OVER_BUDGET);
+    }
+}
@@ -0,0 +1,484 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ *  This Class is Responsible for Offering the Inversion and Decryption
+ *  Engines to Non Blocking Code. Every Method Returns at Once With a
+ *  CompletableFuture or a Flow.Publisher, and the Work Runs on the
+ *  Executor Given to the Constructor. Nothing Here Touches the Static
+ *  State of InverseKeyGeneration.
+ *
+ *  Large Batches are Split Into Chunks so Other Work Can Share the
+ *  Executor, and Cancelling a Future Stops the Inversion Within a Few
+ *  Hundred Keys, Even Part Way Through a Chunk. Keys That are Not 16
+ *  Bytes Fail the Returned Future Rather Than Throwing. Publishers Only
+ *  Read and Invert (or Decrypt)
+ *  What Their Subscriber Has Requested, Plus at Most One Chunk Ahead, so
+ *  a Slow Subscriber Holds the Producer Back Instead of Letting Results
+ *  Pile Up, and Cancelling the Subscription Stops the Reading.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class AsyncKeyInverter {
+
+    // The Number of Keys Inverted Before Giving the Thread Back to the
+    // Executor.
+    public static final int CHUNK_KEYS = 4096;
+    // The Number of Ciphertext Bytes Read and Decrypted at a Time.
+    public static final int CHUNK_BYTES = 1 << 16;
+    // The Number of Items a Publisher Emits Before Giving its Thread
+    // Back to the Executor.
+    private static final int FAIRNESS = 1024;
+
+    // The Executor Running the Work.
+    private final Executor executor;
+
+    /**
+     *  Constructor That Runs the Work on a Given Executor.
+     *
+     *  @param executor     The Executor.
+     */
+    public AsyncKeyInverter(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     *  Constructor That Runs the Work on the Common Fork Join Pool.
+     */
+    public AsyncKeyInverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     *  This Method is Responsible for Inverting One Last Round Key.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @return             A Future Completed With the Original Key, or
+     *                      Failed if the Key is Not 16 Bytes.
+     */
+    public CompletableFuture<byte[]> invertAsync(byte[] lastRoundKey) {
+        // Copy the Key so the Caller May Reuse its Array.
+        if (!isKey(lastRoundKey)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Last Round Keys Must be 16 Bytes"));
+        }
+        byte[] key = lastRoundKey.clone();
+        return CompletableFuture.supplyAsync(() -> {
+            byte[] original = new byte[16];
+            KeySchedule.recoverOriginalKey(key, 0, original, 0, KeySchedule.ROUNDS);
+            return original;
+        }, this.executor);
+    }
+
+    /**
+     *  This Method is Responsible for Inverting a Batch of Last Round Keys
+     *  With the Bulk Engine, One Chunk at a Time. Cancelling the Future
+     *  Stops the Work Within a Few Hundred Keys.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys.
+     *
+     *  @return                 A Future Completed With the Original Keys,
+     *                          in the Same Order, or Failed if Any Key
+     *                          is Not 16 Bytes.
+     */
+    public CompletableFuture<byte[][]> invertAllAsync(byte[][] lastRoundKeys) {
+        // Check the Keys Before Starting.
+        Objects.requireNonNull(lastRoundKeys, "lastRoundKeys");
+        for (byte[] key : lastRoundKeys) {
+            if (!isKey(key)) {
+                return CompletableFuture.failedFuture(new IllegalArgumentException("Last Round Keys Must be 16 Bytes"));
+            }
+        }
+        byte[][] originals = new byte[lastRoundKeys.length][16];
+        CompletableFuture<byte[][]> future = new CompletableFuture<>();
+        this.executor.execute(() -> chunk(lastRoundKeys, originals, 0, future));
+        return future;
+    }
+
+    /**
+     *  This Method is Responsible for Inverting a Stream of Last Round
+     *  Keys as They are Requested. The Stream is Read Lazily, so it May be
+     *  Far Larger Than Memory.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys.
+     *
+     *  @return                 A Publisher of the Original Keys, in the
+     *                          Same Order, For a Single Subscriber.
+     */
+    public Flow.Publisher<byte[]> invertAllAsync(Stream<byte[]> lastRoundKeys) {
+        Iterator<byte[]> keys = lastRoundKeys.iterator();
+        return new PullPublisher<byte[]>(this.executor) {
+
+            // The Original Keys Inverted Ahead of Demand.
+            private byte[][] ready = new byte[0][];
+            private int position;
+
+            @Override
+            protected byte[] next() {
+                // Invert the Next Chunk Once the Last is Used Up.
+                if (this.position == this.ready.length) {
+                    byte[][] chunk = new byte[CHUNK_KEYS][];
+                    int count = 0;
+                    while (count < CHUNK_KEYS && keys.hasNext()) {
+                        chunk[count++] = checkKey(keys.next());
+                    }
+                    if (count == 0) {
+                        return null;
+                    }
+                    chunk = Arrays.copyOf(chunk, count);
+                    this.ready = new byte[count][16];
+                    this.position = 0;
+
+                    // End Quietly if the Subscriber Cancels Part Way.
+                    if (!EngineSelector.get().invertAll(chunk, this.ready, this::isCancelled)) {
+                        return null;
+                    }
+                }
+                return this.ready[this.position++];
+            }
+
+            @Override
+            protected void release() {
+                lastRoundKeys.close();
+            }
+        };
+    }
+
+    /**
+     *  This Method is Responsible for Decrypting Everything Read From a
+     *  Channel With the Key Recovered From a Last Round Key. The Channel is
+     *  Only Read as Plaintext is Requested (on the Executor, so it Should
+     *  be in Blocking Mode), and is Closed When the Publisher Finishes,
+     *  Fails or is Cancelled.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @param channel      The Ciphertext, Whose Length Must be a Multiple
+     *                      of 16 Bytes.
+     *
+     *  @return             A Publisher of Plaintext Buffers of Up to
+     *                      CHUNK_BYTES Each, For a Single Subscriber.
+     */
+    public Flow.Publisher<ByteBuffer> decryptAsync(byte[] lastRoundKey, ReadableByteChannel channel) {
+        // Recover the Key Once.
+        byte[] original = new byte[16];
+        KeySchedule.recoverOriginalKey(checkKey(lastRoundKey), 0, original, 0, KeySchedule.ROUNDS);
+        return new PullPublisher<ByteBuffer>(this.executor) {
+
+            @Override
+            protected ByteBuffer next() throws IOException {
+                // Fill a Chunk, or Whatever is Left.
+                ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Keep Reading.
+                }
+                if (buffer.position() == 0) {
+                    return null;
+                }
+                if (buffer.position() % 16 != 0) {
+                    throw new EOFException("Ciphertext Ends Part Way Through a Block");
+                }
+
+                // Decrypt it in Place.
+                EngineSelector.get().decrypt(original, buffer.array(), 0, buffer.position(), buffer.array(), 0);
+                return buffer.flip();
+            }
+
+            @Override
+            protected void release() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    /**
+     *  This Method is Responsible for Inverting One Chunk of a Batch and
+     *  Queueing the Next, Unless the Future Was Cancelled.
+     *
+     *  @param src          The Last Round Keys.
+     *
+     *  @param dest         The Original Keys.
+     *
+     *  @param from         The Index of the Chunk.
+     *
+     *  @param future       The Future of the Batch.
+     */
+    private void chunk(byte[][] src, byte[][] dest, int from, CompletableFuture<byte[][]> future) {
+        // Stop Once the Future is Cancelled.
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            int to = Math.min(src.length, from + CHUNK_KEYS);
+            boolean finished;
+            if (from == 0 && to == src.length) {
+                finished = EngineSelector.get().invertAll(src, dest, future::isDone);
+            }
+            else {
+                finished = EngineSelector.get().invertAll(Arrays.copyOfRange(src, from, to), Arrays.copyOfRange(dest, from, to), future::isDone);
+            }
+            if (!finished) {
+                return;
+            }
+            if (to == src.length) {
+                future.complete(dest);
+            }
+            else {
+                this.executor.execute(() -> chunk(src, dest, to, future));
+            }
+        }
+        catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     *  This Method is Used to Check That a Key is 16 Bytes.
+     *
+     *  @param key          The Key.
+     *
+     *  @return             The Key.
+     */
+    private static byte[] checkKey(byte[] key) {
+        if (!isKey(key)) {
+            throw new IllegalArgumentException("Last Round Keys Must be 16 Bytes");
+        }
+        return key;
+    }
+
+    /**
+     *  This Method is Used to Test Whether a Key is 16 Bytes.
+     *
+     *  @param key          The Key.
+     *
+     *  @return             True if it is.
+     */
+    private static boolean isKey(byte[] key) {
+        return key != null && key.length == 16;
+    }
+
+    /**
+     *  This Class Publishes Items Pulled One at a Time, Only as Fast as
+     *  the Subscriber Requests Them, to a Single Subscriber.
+     *
+     *  @param <T>      The Item Type.
+     */
+    private abstract static class PullPublisher<T> implements Flow.Publisher<T> {
+
+        // The Executor the Items are Produced on.
+        private final Executor executor;
+        // Whether a Subscriber Has Already Been Taken.
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+        // Whether the Subscriber Has Cancelled.
+        private volatile boolean cancelled;
+
+        PullPublisher(Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         *  This Method Produces the Next Item.
+         *
+         *  @return             The Item, or Null Once There are No More.
+         *
+         *  @throws Exception   When Producing Fails.
+         */
+        protected abstract T next() throws Exception;
+
+        /**
+         *  This Method Releases What the Publisher Holds Once it Ends.
+         *
+         *  @throws Exception   When Releasing Fails.
+         */
+        protected void release() throws Exception {
+        }
+
+        /**
+         *  This Method is Used by next to Check Whether the Subscriber
+         *  Has Cancelled, so Long Running Work Can Stop Part Way.
+         *
+         *  @return             True Once the Subscription is Cancelled.
+         */
+        protected boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber");
+            if (!this.subscribed.compareAndSet(false, true)) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("Only One Subscriber is Allowed"));
+                return;
+            }
+            Subscription subscription = new Subscription(subscriber);
+            subscriber.onSubscribe(subscription);
+            subscription.subscribed();
+        }
+
+        /**
+         *  This Class Tracks the Demand of the Subscriber and Emits Items
+         *  on the Executor, Never Two Signals at Once.
+         */
+        private final class Subscription implements Flow.Subscription, Runnable {
+
+            // The Subscriber.
+            private final Flow.Subscriber<? super T> subscriber;
+            // The Number of Items Requested But Not Yet Sent.
+            private final AtomicLong demand = new AtomicLong();
+            // The Number of Reasons to Run the Emitting Loop. While it is
+            // Above Zero, Exactly One Thread Owns the Loop. It Starts at
+            // One so Nothing is Emitted Until onSubscribe Returns.
+            private final AtomicInteger work = new AtomicInteger(1);
+            // Whether the Subscription Was Cancelled or Asked For a
+            // Non Positive Number of Items.
+            private volatile boolean cancelled;
+            private volatile boolean invalid;
+            // Whether a Terminal Signal Was Sent or the Publisher Ended.
+            private boolean done;
+
+            Subscription(Flow.Subscriber<? super T> subscriber) {
+                this.subscriber = subscriber;
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    this.invalid = true;
+                }
+                else {
+                    this.demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+                }
+                schedule();
+            }
+
+            @Override
+            public void cancel() {
+                this.cancelled = true;
+                PullPublisher.this.cancelled = true;
+                schedule();
+            }
+
+            /**
+             *  This Method is Called Once onSubscribe Has Returned.
+             */
+            void subscribed() {
+                // Run the Loop if Anything Arrived During onSubscribe.
+                if (this.work.decrementAndGet() != 0) {
+                    PullPublisher.this.executor.execute(this);
+                }
+            }
+
+            /**
+             *  This Method is Used to Run the Loop Unless it is Running.
+             */
+            private void schedule() {
+                if (this.work.getAndIncrement() == 0) {
+                    PullPublisher.this.executor.execute(this);
+                }
+            }
+
+            @Override
+            public void run() {
+                int missed = 1;
+                int emitted = 0;
+                do {
+                    // Send Items While There is Demand.
+                    while (!this.done && !this.cancelled && !this.invalid && this.demand.get() > 0) {
+                        T item;
+                        try {
+                            item = next();
+                        }
+                        catch (Exception e) {
+                            finish(e);
+                            return;
+                        }
+                        if (item == null) {
+                            finish(null);
+                            return;
+                        }
+                        this.demand.decrementAndGet();
+                        this.subscriber.onNext(item);
+
+                        // Give the Thread Back Now and Then.
+                        if (++emitted == FAIRNESS) {
+                            PullPublisher.this.executor.execute(this);
+                            return;
+                        }
+                    }
+
+                    // Handle a Cancellation or an Invalid Request.
+                    if (!this.done && this.invalid) {
+                        finish(new IllegalArgumentException("Requests Must be Positive (Rule 3.9)"));
+                        return;
+                    }
+                    if (!this.done && this.cancelled) {
+                        this.done = true;
+                        quietRelease();
+                    }
+                    missed = this.work.addAndGet(-missed);
+                } while (missed != 0);
+            }
+
+            /**
+             *  This Method Ends the Subscription With a Terminal Signal.
+             *
+             *  @param error        The Failure, or Null to Complete.
+             */
+            private void finish(Throwable error) {
+                // Release First so Completion Means the Resource is Free.
+                this.done = true;
+                try {
+                    release();
+                }
+                catch (Exception e) {
+                    error = error == null ? e : error;
+                }
+                if (this.cancelled) {
+                    return;
+                }
+                if (error == null) {
+                    this.subscriber.onComplete();
+                }
+                else {
+                    this.subscriber.onError(error);
+                }
+            }
+
+            /**
+             *  This Method Releases the Publisher After a Cancellation,
+             *  When There is No One Left to Tell About a Failure.
+             */
+            private void quietRelease() {
+                try {
+                    release();
+                }
+                catch (Exception e) {
+                    // The Subscriber Has Gone.
+                }
+            }
+        }
+    }
+}
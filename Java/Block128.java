@@ -0,0 +1,201 @@
+/**
+ *  This Class Contains Small Helper Methods Used to Treat a 16 Byte
+ *  AES Block (a Round Key, an Original Key or a Ciphertext Block) as
+ *  a Pair of Big Endian Long Values. Working on Two Longs Instead of a
+ *  Byte Array Allows Keys to be Hashed, Compared and Stored Without
+ *  Creating Any Objects.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class Block128 {
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper
+     *  Class From Being Created.
+     */
+    private Block128() {
+    }
+
+    /**
+     *  This Method is Responsible for Reading the First (High) Eight
+     *  Bytes of a 16 Byte Block as a Big Endian Long Value.
+     *
+     *  @param value        The Byte Array Holding the Block.
+     *
+     *  @param offset       The Index of the First Block Byte.
+     *
+     *  @return             The High Long Value of the Block.
+     */
+    public static long high(byte[] value, int offset) {
+        // Read the First Eight Bytes.
+        return readLong(value, offset);
+    }
+
+    /**
+     *  This Method is Responsible for Reading the Last (Low) Eight
+     *  Bytes of a 16 Byte Block as a Big Endian Long Value.
+     *
+     *  @param value        The Byte Array Holding the Block.
+     *
+     *  @param offset       The Index of the First Block Byte.
+     *
+     *  @return             The Low Long Value of the Block.
+     */
+    public static long low(byte[] value, int offset) {
+        // Read the Last Eight Bytes.
+        return readLong(value, offset + 8);
+    }
+
+    /**
+     *  This Method is Responsible for Writing a Pair of Long Values
+     *  Back Into a Byte Array as a 16 Byte Big Endian Block.
+     *
+     *  @param high         The High Long Value of the Block.
+     *
+     *  @param low          The Low Long Value of the Block.
+     *
+     *  @param dest         The Destination Byte Array.
+     *
+     *  @param offset       The Index of the First Block Byte.
+     */
+    public static void store(long high, long low, byte[] dest, int offset) {
+        // Write the High Eight Bytes.
+        writeLong(high, dest, offset);
+        // Write the Low Eight Bytes.
+        writeLong(low, dest, offset + 8);
+    }
+
+    /**
+     *  This Method is Responsible for Mixing the Two Halves of a 128
+     *  Bit Value into a Well Distributed 64 Bit Hash Code Which is Used
+     *  to Choose a Slot in the Open Addressing Tables.
+     *
+     *  @param high         The High Long Value of the Block.
+     *
+     *  @param low          The Low Long Value of the Block.
+     *
+     *  @return             The Mixed Hash Value.
+     */
+    public static long hash(long high, long low) {
+        // Combine Both Halves Using the Golden Ratio Multiplier.
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        // Run the Result Through a 64 Bit Finalizer so
+        // Every Input Bit Affects the Low Order Bits.
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+
+        // Return the Mixed Hash.
+        return h;
+    }
+
+    /**
+     *  This Method is Responsible for Formatting a 16 Byte Block as a
+     *  32 Character Upper Case HEXIDECIMAL String.
+     *
+     *  @param value        The Byte Array Holding the Block.
+     *
+     *  @param offset       The Index of the First Block Byte.
+     *
+     *  @return             The HEXIDECIMAL String.
+     */
+    public static String toHex(byte[] value, int offset) {
+        // The HEXIDECIMAL Digits in Order.
+        final char[] digits = "0123456789ABCDEF".toCharArray();
+
+        // Create the Character Array Holding
+        // Two Characters For Every Byte.
+        char[] chars = new char[32];
+
+        // Convert Each Byte Into its Two Digits.
+        for (int i = 0; i < 16; i++) {
+            chars[2 * i] = digits[(value[offset + i] >> 4) & 0x0F];
+            chars[2 * i + 1] = digits[value[offset + i] & 0x0F];
+        }
+
+        // Return the Formatted String.
+        return new String(chars);
+    }
+
+    /**
+     *  This Method is Responsible for Parsing 32 HEXIDECIMAL Characters
+     *  Into a 16 Byte Block Without Creating Any Intermediate Strings.
+     *
+     *  @param value        The Characters to Parse.
+     *
+     *  @param start        The Index of the First Character.
+     *
+     *  @param dest         The Destination Byte Array.
+     *
+     *  @param offset       The Index of the First Block Byte.
+     *
+     *  @return             True if All 32 Characters Were Valid
+     *                      HEXIDECIMAL Digits, Otherwise False.
+     */
+    public static boolean parseHex(CharSequence value, int start, byte[] dest, int offset) {
+        // Make Sure There Are Enough Characters.
+        if (start < 0 || value.length() - start < 32) {
+            return false;
+        }
+
+        // Convert Each Pair of Characters Into a Byte.
+        for (int i = 0; i < 16; i++) {
+            // Get the Integer Values of Both Characters.
+            int a = InverseKeyGeneration.getCharIntValue(value.charAt(start + 2 * i));
+            int b = InverseKeyGeneration.getCharIntValue(value.charAt(start + 2 * i + 1));
+
+            // Stop if Either Character is Invalid.
+            if (a < 0 || b < 0) {
+                return false;
+            }
+
+            // Store the Combined Byte.
+            dest[offset + i] = (byte) ((a << 4) | b);
+        }
+
+        // All Characters Were Valid.
+        return true;
+    }
+
+    /**
+     *  This Method is Used to Read Eight Bytes as a Big Endian Long.
+     *
+     *  @param value        The Byte Array to Read From.
+     *
+     *  @param offset       The Index of the First Byte.
+     *
+     *  @return             The Long Value.
+     */
+    private static long readLong(byte[] value, int offset) {
+        // Combine the Eight Bytes, Most
+        // Significant Byte First.
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (value[offset + i] & 0xFFL);
+        }
+
+        // Return the Long Value.
+        return result;
+    }
+
+    /**
+     *  This Method is Used to Write a Long as Eight Big Endian Bytes.
+     *
+     *  @param value        The Long Value to Write.
+     *
+     *  @param dest         The Byte Array to Write Into.
+     *
+     *  @param offset       The Index of the First Byte.
+     */
+    private static void writeLong(long value, byte[] dest, int offset) {
+        // Write the Eight Bytes, Most
+        // Significant Byte First.
+        for (int i = 7; i >= 0; i--) {
+            dest[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ *  This Class Places a Bounded Result Cache in Front of the Inverse Key
+ *  Generation and Decryption Entry Points. It is Meant For Service Mode,
+ *  Where the Same Round Keys and Ciphertexts are Submitted Again and
+ *  Again (Retries, Re-Analysis), and Both Caches Report Their Own Hit
+ *  Rate so the Benefit Can be Measured. Each Cache Key Covers the Whole
+ *  Input, and a Failed Decryption is Never Cached, so a Failure That Was
+ *  Only Passing is Retried on the Next Request.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public class CachedKeyService {
+
+    // The Result the Decryption Process Returns When it Fails.
+    private static final String FAILED = "Error";
+
+    // The Approximate Heap Cost of a Cached
+    // Original Key (Array Plus Entry Objects).
+    private static final int KEY_ENTRY_WEIGHT = 96;
+    // The Approximate Heap Cost of the Objects
+    // Surrounding a Cached Decrypted String.
+    private static final int STRING_ENTRY_OVERHEAD = 96;
+
+    // The Cache of Original Keys Keyed
+    // by the Last Round Key.
+    private final ResultCache<byte[]> inversions;
+    // The Cache of Decrypted Messages Keyed by a
+    // Digest of the Decryption Key and Ciphertext.
+    private final ResultCache<String> decryptions;
+
+    /**
+     *  Constructor Method That is Used to Create a New Cached Service.
+     *
+     *  @param maximumSize      The Largest Number of Entries Each
+     *                          Cache May Hold.
+     *
+     *  @param maximumWeight    The Largest Number of Bytes Each
+     *                          Cache May Hold.
+     */
+    public CachedKeyService(int maximumSize, long maximumWeight) {
+        // Create the Inversion Cache, Where Every
+        // Entry Has the Same Fixed Weight.
+        this.inversions = new ResultCache<>(maximumSize, maximumWeight, value -> KEY_ENTRY_WEIGHT);
+        // Create the Decryption Cache, Weighing Each
+        // Entry by the Length of the Decrypted String.
+        this.decryptions = new ResultCache<>(maximumSize, maximumWeight, value -> STRING_ENTRY_OVERHEAD + 2 * value.length());
+    }
+
+    /**
+     *  This Method is Responsible for Returning the Original Key For the
+     *  Parameter Last Round Key, Running the Inverse Key Generation
+     *  Process Only When the Result is Not Already Cached.
+     *
+     *  @param lastRoundKey     The 16 Byte Last Round Key.
+     *
+     *  @return                 A Copy of the 16 Byte Original Key.
+     *
+     *  @throws IllegalArgumentException When the Key is Not 16 Bytes.
+     */
+    public byte[] invert(byte[] lastRoundKey) {
+        // The Cache Key Holds 16 Bytes, so Only
+        // Take Inputs That Fit in it Whole.
+        if (lastRoundKey.length != 16) {
+            throw new IllegalArgumentException("Last Round Key Must be 16 Bytes: " + lastRoundKey.length);
+        }
+
+        // Look up or Compute the Original Key.
+        byte[] original = this.inversions.get(new ResultCache.Key(lastRoundKey), key -> KeySchedule.recoverOriginalKey(lastRoundKey));
+        // Return a Copy so Callers Can Never
+        // Modify the Cached Array.
+        return original.clone();
+    }
+
+    /**
+     *  This Method is Responsible for Returning the Decrypted Message For
+     *  the Parameter Key and Ciphertext, Running the Decryption Process
+     *  Only When the Result is Not Already Cached. A Failed Decryption is
+     *  Returned But Not Cached.
+     *
+     *  @param key              The Decryption Key.
+     *
+     *  @param message          The Encrypted Message.
+     *
+     *  @return                 The Decrypted Message String.
+     */
+    public String decrypt(byte[] key, byte[] message) {
+        // Create the Cache Key From All 32 Bytes of
+        // a Digest of the Whole Key and Ciphertext.
+        byte[] digest = digest(key, message);
+        ResultCache.Key cacheKey = new ResultCache.Key(Block128.high(digest, 0), Block128.low(digest, 0), Block128.high(digest, 16), Block128.low(digest, 16));
+
+        // Look up the Decrypted Message, or Compute it
+        // and Cache it Unless the Decryption Failed.
+        String result = this.decryptions.get(cacheKey);
+        if (result == null) {
+            result = InverseKeyGeneration.decryptECBBlockCipher(key, message);
+            if (!result.equals(FAILED)) {
+                this.decryptions.put(cacheKey, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Cache of
+     *  Original Keys.
+     *
+     *  @return             The Inversion Cache.
+     */
+    public ResultCache<byte[]> getInversionCache() {
+        // Return Inversion Cache
+        return this.inversions;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Cache of
+     *  Decrypted Messages.
+     *
+     *  @return             The Decryption Cache.
+     */
+    public ResultCache<String> getDecryptionCache() {
+        // Return Decryption Cache
+        return this.decryptions;
+    }
+
+    /**
+     *  This Method is Responsible for Formatting the Metrics of Both
+     *  Caches as Text.
+     *
+     *  @return             The Metrics String.
+     */
+    public String stats() {
+        // Combine the Metrics of Both Caches.
+        return "inversion: " + this.inversions.stats() + "\ndecryption: " + this.decryptions.stats();
+    }
+
+    /**
+     *  This Method is Used to Find the SHA-256 Digest of the Parameter
+     *  Key and Message. The Key's Length Comes First, so Moving Bytes
+     *  Between the Key and the Message Changes the Digest.
+     *
+     *  @param key              The Decryption Key.
+     *
+     *  @param message          The Encrypted Message.
+     *
+     *  @return                 The 32 Byte Digest.
+     */
+    private static byte[] digest(byte[] key, byte[] message) {
+        try {
+            // Digest the Key Length, the Key and the Whole Message.
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((byte) key.length);
+            digest.update(key);
+            return digest.digest(message);
+        }
+        // Every Java Platform is Required
+        // to Support SHA-256.
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 Not Available", ex);
+        }
+    }
+}
@@ -0,0 +1,441 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ *  This Class is Responsible for Recovering the Last (Tenth) Round Key of
+ *  AES-128 From Power Traces Using Correlation Power Analysis. For Each
+ *  Ciphertext Byte and Each of the 256 Key Byte Guesses, the Final Round
+ *  is Undone With the Inverse Substitution Box and the Hamming Distance
+ *  Between That Value and the Ciphertext Byte That Overwrites it in the
+ *  State Register is Correlated Against Every Sample of the Trace.
+ *
+ *  Only Running Sums are Kept, so Traces Can be Streamed One Batch at a
+ *  Time and Memory Use Depends on the Number of Samples, Never on the
+ *  Number of Traces. Trace Files are Memory Mapped Window by Window and
+ *  the Sixteen Key Byte Positions are Updated in Parallel.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class CorrelationPowerAnalysis {
+
+    // The Number of Traces Gathered Before the
+    // Running Sums are Updated in Parallel.
+    private static final int BATCH_SIZE = 256;
+    // The Largest Number of Trace File Bytes
+    // Mapped Into Memory at Once.
+    private static final long MAX_WINDOW_BYTES = 1L << 28;
+
+    /**
+     *  The Sample Encodings That Trace Files May Use.
+     */
+    public enum SampleType {
+
+        // Four Byte IEEE Floating Point Samples.
+        FLOAT32(4),
+        // Two Byte Signed Integer Samples.
+        INT16(2);
+
+        // The Width of a Single Sample in Bytes.
+        private final int width;
+
+        SampleType(int width) {
+            // Set Sample Width
+            this.width = width;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Width
+         *  of a Single Sample.
+         *
+         *  @return             The Sample Width in Bytes.
+         */
+        public int getWidth() {
+            // Return Sample Width
+            return this.width;
+        }
+    }
+
+    // The Ciphertext Position Whose Byte Held the Same State Register
+    // Before the Final ShiftRows Step. (The Byte at Position 4c + r Came
+    // From Position 4((c + r) mod 4) + r.)
+    private static final int[] PREVIOUS = new int[16];
+    // The Inverse Substitution Box as Unsigned Integers.
+    private static final int[] INV_SBOX = new int[256];
+
+    static {
+        // Fill the Register Position Table.
+        for (int c = 0; c < 4; c++) {
+            for (int r = 0; r < 4; r++) {
+                PREVIOUS[4 * c + r] = 4 * ((c + r) & 3) + r;
+            }
+        }
+        // Copy the Inverse Substitution Box.
+        for (int i = 0; i < 256; i++) {
+            INV_SBOX[i] = InverseKeyGeneration.INVERSE_SUBSITUTION_BOX[i] & 0xFF;
+        }
+    }
+
+    // The Number of Samples in Each Stored Trace.
+    private final int samplesPerTrace;
+    // The First Sample of Each Trace That is Analysed.
+    private final int firstSample;
+    // The Number of Samples of Each Trace That are Analysed.
+    private final int sampleCount;
+
+    // The Number of Traces Added so Far.
+    private long traces;
+    // The Sums of Each Sample and of its Square.
+    private final double[] sumT;
+    private final double[] sumT2;
+    // The Sums of Each Hypothesis and of its Square,
+    // Indexed by [Byte Position][Key Guess].
+    private final double[][] sumH = new double[16][256];
+    private final double[][] sumH2 = new double[16][256];
+    // The Sums of Each Hypothesis Times Each Sample, Indexed
+    // by [Byte Position][Key Guess * sampleCount + Sample].
+    private final double[][] sumHT = new double[16][];
+
+    /**
+     *  Constructor Method That is Used to Create an Analysis Over Every
+     *  Sample of Each Trace.
+     *
+     *  @param samplesPerTrace  The Number of Samples in Each Trace.
+     */
+    public CorrelationPowerAnalysis(int samplesPerTrace) {
+        // Analyse the Whole Trace.
+        this(samplesPerTrace, 0, samplesPerTrace);
+    }
+
+    /**
+     *  Constructor Method That is Used to Create an Analysis Over a
+     *  Window of Samples. Restricting the Window to the Final Round Keeps
+     *  Both the Memory Use and the Work per Trace Down.
+     *
+     *  @param samplesPerTrace  The Number of Samples in Each Trace.
+     *
+     *  @param firstSample      The First Sample That is Analysed.
+     *
+     *  @param sampleCount      The Number of Samples Analysed.
+     */
+    public CorrelationPowerAnalysis(int samplesPerTrace, int firstSample, int sampleCount) {
+        // Make Sure the Window Lies Inside of the Trace.
+        if (samplesPerTrace <= 0 || firstSample < 0 || sampleCount <= 0 || firstSample + sampleCount > samplesPerTrace) {
+            throw new IllegalArgumentException("Invalid Sample Window: " + firstSample + "+" + sampleCount + " of " + samplesPerTrace);
+        }
+        // Make Sure the Hypothesis Sums Fit in an Array.
+        if ((long) sampleCount * 256 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Sample Window Too Large: " + sampleCount);
+        }
+
+        // Set Trace Layout
+        this.samplesPerTrace = samplesPerTrace;
+        this.firstSample = firstSample;
+        this.sampleCount = sampleCount;
+
+        // Create the Running Sums.
+        this.sumT = new double[sampleCount];
+        this.sumT2 = new double[sampleCount];
+        for (int i = 0; i < 16; i++) {
+            this.sumHT[i] = new double[256 * sampleCount];
+        }
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Traces Added so Far.
+     *
+     *  @return             The Trace Count.
+     */
+    public synchronized long getTraceCount() {
+        // Return Trace Count
+        return this.traces;
+    }
+
+    /**
+     *  This Method is Responsible for Adding a Single Trace.
+     *
+     *  @param samples      The Analysed Samples of the Trace.
+     *
+     *  @param ciphertext   The 16 Byte Ciphertext of the Trace.
+     */
+    public void addTrace(float[] samples, byte[] ciphertext) {
+        // Add a Batch of One Trace.
+        addTraces(new float[][] { samples }, new byte[][] { ciphertext }, 1);
+    }
+
+    /**
+     *  This Method is Responsible for Adding a Batch of Traces to the
+     *  Running Sums. The Sixteen Byte Positions are Updated in Parallel,
+     *  and Each Position Only Touches its Own Sums.
+     *
+     *  @param samples      The Analysed Samples of Each Trace.
+     *
+     *  @param ciphertexts  The 16 Byte Ciphertext of Each Trace.
+     *
+     *  @param count        The Number of Traces in the Batch.
+     */
+    public synchronized void addTraces(float[][] samples, byte[][] ciphertexts, int count) {
+        // Check the Whole Batch Before Changing Any Sum.
+        for (int t = 0; t < count; t++) {
+            if (samples[t].length < this.sampleCount || ciphertexts[t].length != 16) {
+                throw new IllegalArgumentException("Invalid Trace at Batch Index " + t);
+            }
+        }
+
+        // Update the Per Sample Sums Once For the Batch.
+        for (int t = 0; t < count; t++) {
+            float[] trace = samples[t];
+            for (int s = 0; s < this.sampleCount; s++) {
+                this.sumT[s] += trace[s];
+                this.sumT2[s] += (double) trace[s] * trace[s];
+            }
+        }
+
+        // Update the Hypothesis Sums of Each Byte Position in Parallel.
+        IntStream.range(0, 16).parallel().forEach(i -> {
+            double[] h = this.sumH[i];
+            double[] h2 = this.sumH2[i];
+            double[] ht = this.sumHT[i];
+            int n = this.sampleCount;
+
+            for (int t = 0; t < count; t++) {
+                float[] trace = samples[t];
+                int c = ciphertexts[t][i] & 0xFF;
+                int previous = ciphertexts[t][PREVIOUS[i]] & 0xFF;
+
+                for (int k = 0; k < 256; k++) {
+                    // Predict the Hamming Distance For This Key Guess.
+                    int hd = Integer.bitCount(INV_SBOX[c ^ k] ^ previous);
+                    h[k] += hd;
+                    h2[k] += hd * hd;
+
+                    // A Zero Prediction Adds Nothing to the Products.
+                    if (hd == 0) {
+                        continue;
+                    }
+                    int base = k * n;
+                    for (int s = 0; s < n; s++) {
+                        ht[base + s] += hd * trace[s];
+                    }
+                }
+            }
+        });
+
+        // Count the New Traces.
+        this.traces += count;
+    }
+
+    /**
+     *  This Method is Responsible for Streaming Traces From a Pair of
+     *  Binary Files. The Trace File Holds Each Trace's Samples Back to
+     *  Back, and the Ciphertext File Holds the Matching 16 Byte
+     *  Ciphertexts in the Same Order. The Trace File is Memory Mapped a
+     *  Window at a Time, so Files Far Larger Than the Heap Can be Used.
+     *
+     *  @param traceFile        The Path of the Trace File.
+     *
+     *  @param ciphertextFile   The Path of the Ciphertext File.
+     *
+     *  @param type             The Encoding of Each Sample.
+     *
+     *  @param order            The Byte Order of Each Sample.
+     *
+     *  @return                 The Number of Traces Read.
+     *
+     *  @throws IOException     When Either File Can Not be Read or
+     *                          the Two Files Disagree on the Trace
+     *                          Count.
+     */
+    public long addTraceFile(Path traceFile, Path ciphertextFile, SampleType type, ByteOrder order) throws IOException {
+        try (FileChannel traceChannel = FileChannel.open(traceFile, StandardOpenOption.READ);
+             FileChannel cipherChannel = FileChannel.open(ciphertextFile, StandardOpenOption.READ)) {
+
+            // Work Out the Number of Traces From Both Files.
+            long traceBytes = (long) this.samplesPerTrace * type.getWidth();
+            long count = traceChannel.size() / traceBytes;
+            if (traceChannel.size() % traceBytes != 0 || cipherChannel.size() != count * 16) {
+                throw new IOException("Trace File Holds " + traceChannel.size() + " Bytes and Ciphertext File Holds "
+                        + cipherChannel.size() + " Bytes, Which Do Not Describe the Same Number of Traces");
+            }
+
+            // Create the Batch Buffers Once.
+            float[][] samples = new float[BATCH_SIZE][this.sampleCount];
+            byte[][] ciphertexts = new byte[BATCH_SIZE][16];
+
+            // Map the Files One Window of Whole Traces at a Time.
+            long tracesPerWindow = Math.max(1, MAX_WINDOW_BYTES / traceBytes);
+            for (long first = 0; first < count; first += tracesPerWindow) {
+                long inWindow = Math.min(tracesPerWindow, count - first);
+                MappedByteBuffer traceWindow = traceChannel.map(FileChannel.MapMode.READ_ONLY, first * traceBytes, inWindow * traceBytes);
+                MappedByteBuffer cipherWindow = cipherChannel.map(FileChannel.MapMode.READ_ONLY, first * 16, inWindow * 16);
+                traceWindow.order(order);
+
+                // Decode the Window Into Batches.
+                int filled = 0;
+                for (int t = 0; t < inWindow; t++) {
+                    int position = (int) (t * traceBytes) + this.firstSample * type.getWidth();
+                    float[] trace = samples[filled];
+                    for (int s = 0; s < this.sampleCount; s++) {
+                        trace[s] = type == SampleType.FLOAT32
+                                ? traceWindow.getFloat(position + 4 * s)
+                                : traceWindow.getShort(position + 2 * s);
+                    }
+                    for (int b = 0; b < 16; b++) {
+                        ciphertexts[filled][b] = cipherWindow.get(t * 16 + b);
+                    }
+
+                    // Add the Batch Once it is Full.
+                    if (++filled == BATCH_SIZE) {
+                        addTraces(samples, ciphertexts, filled);
+                        filled = 0;
+                    }
+                }
+
+                // Add Whatever is Left of the Window.
+                if (filled > 0) {
+                    addTraces(samples, ciphertexts, filled);
+                }
+            }
+
+            // Return the Number of Traces Read.
+            return count;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Computing the Peak Absolute
+     *  Correlation of Every Key Guess For a Single Byte Position.
+     *
+     *  @param position     The Ciphertext Byte Position (0 to 15).
+     *
+     *  @return             The Peak Correlation of Each Guess.
+     */
+    public synchronized double[] correlations(int position) {
+        // Compute the Peaks Under the Lock.
+        return peaks(position);
+    }
+
+    /**
+     *  This Method is Responsible for Building the Last Round Key From
+     *  the Best Key Guess of Every Byte Position.
+     *
+     *  @return             The 16 Byte Last Round Key.
+     */
+    public synchronized byte[] bestLastRoundKey() {
+        // Create the Key.
+        byte[] key = new byte[16];
+
+        // Rank the Guesses of Each Position in Parallel.
+        IntStream.range(0, 16).parallel().forEach(i -> {
+            double[] peaks = peaks(i);
+            int best = 0;
+            for (int k = 1; k < 256; k++) {
+                if (peaks[k] > peaks[best]) {
+                    best = k;
+                }
+            }
+            key[i] = (byte) best;
+        });
+
+        // Return the Key.
+        return key;
+    }
+
+    /**
+     *  This Method is Used to Compute the Peak Correlations of a Byte
+     *  Position. Callers Must Hold the Lock of This Analysis.
+     *
+     *  @param position     The Ciphertext Byte Position (0 to 15).
+     *
+     *  @return             The Peak Correlation of Each Guess.
+     */
+    private double[] peaks(int position) {
+        // Create the Result Array.
+        double[] peaks = new double[256];
+        double n = this.traces;
+        if (this.traces < 2) {
+            return peaks;
+        }
+
+        // Compute the Sample Variances Once.
+        double[] sampleVariance = new double[this.sampleCount];
+        for (int s = 0; s < this.sampleCount; s++) {
+            sampleVariance[s] = n * this.sumT2[s] - this.sumT[s] * this.sumT[s];
+        }
+
+        // Find the Peak Correlation of Each Guess.
+        double[] ht = this.sumHT[position];
+        for (int k = 0; k < 256; k++) {
+            double h = this.sumH[position][k];
+            double hypothesisVariance = n * this.sumH2[position][k] - h * h;
+            if (hypothesisVariance <= 0) {
+                continue;
+            }
+            int base = k * this.sampleCount;
+            for (int s = 0; s < this.sampleCount; s++) {
+                if (sampleVariance[s] <= 0) {
+                    continue;
+                }
+                double rho = (n * ht[base + s] - h * this.sumT[s]) / Math.sqrt(hypothesisVariance * sampleVariance[s]);
+                peaks[k] = Math.max(peaks[k], Math.abs(rho));
+            }
+        }
+
+        // Return the Peak Correlations.
+        return peaks;
+    }
+
+    /**
+     *  This Method is Responsible for Handing the Best Last Round Key to
+     *  the Inverse Key Schedule.
+     *
+     *  @return             The 16 Byte Original Key.
+     */
+    public byte[] recoverOriginalKey() {
+        // Invert the Best Last Round Key.
+        return KeySchedule.recoverOriginalKey(bestLastRoundKey());
+    }
+
+    /**
+     *  Main Method That Streams a Trace File and Prints the Recovered
+     *  Last Round Key and Original Key.
+     *
+     *  @param args     The Trace File, the Ciphertext File, the Number
+     *                  of Samples per Trace and Optionally the Sample
+     *                  Type (float32 or int16), First Sample and Sample
+     *                  Count.
+     *
+     *  @throws IOException When Either File Can Not be Read.
+     */
+    public static void main(String[] args) throws IOException {
+        // Make Sure the Required Arguments Were Given.
+        if (args.length < 3) {
+            System.err.println("Usage: java CorrelationPowerAnalysis <trace file> <ciphertext file> <samples per trace> [float32|int16] [first sample] [sample count]");
+            System.exit(2);
+        }
+
+        // Read the Trace Layout.
+        int samplesPerTrace = Integer.parseInt(args[2]);
+        SampleType type = args.length > 3 ? SampleType.valueOf(args[3].toUpperCase()) : SampleType.FLOAT32;
+        int first = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        int count = args.length > 5 ? Integer.parseInt(args[5]) : samplesPerTrace - first;
+
+        // Stream the Traces. (Most Capture Tools
+        // Write Little Endian Samples.)
+        CorrelationPowerAnalysis analysis = new CorrelationPowerAnalysis(samplesPerTrace, first, count);
+        long traces = analysis.addTraceFile(Paths.get(args[0]), Paths.get(args[1]), type, ByteOrder.LITTLE_ENDIAN);
+
+        // Print the Recovered Keys.
+        byte[] lastRoundKey = analysis.bestLastRoundKey();
+        System.out.println("Traces:\t\t" + traces);
+        System.out.println("Round Key [10]:\t" + Block128.toHex(lastRoundKey, 0));
+        System.out.println("Original Key:\t" + Block128.toHex(KeySchedule.recoverOriginalKey(lastRoundKey), 0));
+    }
+}
@@ -0,0 +1,522 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ *  This Class is Responsible for Recovering the Last (Tenth) Round Key of
+ *  AES-128 From Pairs of Correct and Faulty Ciphertexts Using Piret and
+ *  Quisquater's Differential Fault Analysis. A Single Byte Fault Injected
+ *  Before the Ninth Round MixColumns Step Makes Each Affected Column of the
+ *  Ciphertext Difference Follow the Pattern (2f, f, f, 3f) up to Rotation,
+ *  Which Leaves Only a Few Hundred Possible Values For the Four Key Bytes
+ *  of That Column. A Fault Injected One Round Earlier Spreads to All Four
+ *  Columns at Once, so a Pair of Those Narrows Every Column Together.
+ *
+ *  Candidate Key Bytes are Held in Compact 256 Bit Sets While Hypotheses
+ *  are Generated, the Four Columns are Analysed in Parallel, and Each
+ *  Further Pair Filters the Surviving Hypotheses in Parallel. The Keys
+ *  That Survive are Handed Straight to the Fused Inverse Key Schedule to
+ *  Produce the Original Keys.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class DifferentialFaultAnalysis {
+
+    // The Largest Number of Full Key Candidates
+    // That Will be Enumerated and Inverted.
+    public static final int MAX_KEY_CANDIDATES = 1 << 20;
+
+    // The MixColumns Matrix. A Fault f in Row p of a Column Turns Into
+    // the Difference MIX[r][p] * f in Row r of the Same Column.
+    private static final int[][] MIX = { { 2, 3, 1, 1 }, { 1, 2, 3, 1 }, { 1, 1, 2, 3 }, { 3, 1, 1, 2 } };
+
+    // The Products m * x in GF(2^8) For m = 0..3.
+    private static final int[][] MUL = new int[4][256];
+    // The Quotients x / m in GF(2^8) For m = 1..3.
+    private static final int[][] DIV = new int[4][256];
+    // The Inverse Substitution Box as Unsigned Integers.
+    private static final int[] INV_SBOX = new int[256];
+
+    static {
+        // Fill the Multiplication and Division Tables.
+        for (int x = 0; x < 256; x++) {
+            int x2 = ((x << 1) ^ ((x & 0x80) != 0 ? 0x1B : 0)) & 0xFF;
+            MUL[1][x] = x;
+            MUL[2][x] = x2;
+            MUL[3][x] = x2 ^ x;
+        }
+        for (int m = 1; m <= 3; m++) {
+            for (int x = 0; x < 256; x++) {
+                DIV[m][MUL[m][x]] = x;
+            }
+        }
+        // Copy the Inverse Substitution Box.
+        for (int i = 0; i < 256; i++) {
+            INV_SBOX[i] = InverseKeyGeneration.INVERSE_SUBSITUTION_BOX[i] & 0xFF;
+        }
+    }
+
+    /**
+     *  This Class Holds the Outcome of a Fault Analysis.
+     */
+    public static final class Result {
+
+        // The Candidate Key Bytes Left For Each Column.
+        // (Each Entry Packs the Four Key Bytes of the
+        // Column, Row 0 in the Lowest Byte.)
+        private final int[][] columnCandidates;
+        // The Number of Pairs That Were Used For Each Column.
+        private final int[] pairsUsed;
+        // The Surviving Last Round Keys.
+        private final List<byte[]> lastRoundKeys;
+        // The Original Keys Recovered From Them.
+        private final List<byte[]> originalKeys;
+
+        Result(int[][] columnCandidates, int[] pairsUsed, List<byte[]> lastRoundKeys, List<byte[]> originalKeys) {
+            // Set Result Values
+            this.columnCandidates = columnCandidates;
+            this.pairsUsed = pairsUsed;
+            this.lastRoundKeys = lastRoundKeys;
+            this.originalKeys = originalKeys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Candidates Left For a Column. A Column With No Usable Pairs
+         *  Reports 2^32 Candidates.
+         *
+         *  @param column       The Column Index (0 to 3).
+         *
+         *  @return             The Number of Candidates.
+         */
+        public long getCandidateCount(int column) {
+            // A Null Entry Means the Column Was Never Narrowed.
+            return this.columnCandidates[column] == null ? 1L << 32 : this.columnCandidates[column].length;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Pairs That Narrowed a Column.
+         *
+         *  @param column       The Column Index (0 to 3).
+         *
+         *  @return             The Number of Pairs Used.
+         */
+        public int getPairsUsed(int column) {
+            // Return Pair Count
+            return this.pairsUsed[column];
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving Every
+         *  Surviving Last Round Key.
+         *
+         *  @return             The 16 Byte Last Round Keys.
+         */
+        public List<byte[]> getLastRoundKeys() {
+            // Return Last Round Keys
+            return this.lastRoundKeys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Original
+         *  Key of Every Surviving Last Round Key, in the Same Order.
+         *
+         *  @return             The 16 Byte Original Keys.
+         */
+        public List<byte[]> getOriginalKeys() {
+            // Return Original Keys
+            return this.originalKeys;
+        }
+    }
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper
+     *  Class From Being Created.
+     */
+    private DifferentialFaultAnalysis() {
+    }
+
+    /**
+     *  This Method is Responsible for Reading Correct and Faulty
+     *  Ciphertext Pairs From a Text File. Each Line Holds the 32 Character
+     *  Correct Ciphertext Followed by the 32 Character Faulty Ciphertext,
+     *  Separated by White Space. Blank Lines and Lines Starting With '#'
+     *  are Skipped.
+     *
+     *  @param file         The Path of the Pair File.
+     *
+     *  @return             The Pairs, Each as {correct, faulty}.
+     *
+     *  @throws IOException When the File Can Not be Read or
+     *                      Holds an Invalid Line.
+     */
+    public static List<byte[][]> readPairs(Path file) throws IOException {
+        // Create the List of Pairs.
+        List<byte[][]> pairs = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            // Read the File One Line at a Time.
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                // Remove White Space Between the Two Ciphertexts.
+                String compact = InverseKeyGeneration.formatInputString(line);
+                // Skip Blank and Comment Lines.
+                if (compact.isEmpty() || compact.charAt(0) == '#') {
+                    continue;
+                }
+
+                // Parse Both Ciphertexts.
+                byte[] correct = new byte[16];
+                byte[] faulty = new byte[16];
+                if (compact.length() != 64 || !Block128.parseHex(compact, 0, correct, 0) || !Block128.parseHex(compact, 32, faulty, 0)) {
+                    throw new IOException("Invalid Ciphertext Pair on Line " + number + " of " + file);
+                }
+                pairs.add(new byte[][] { correct, faulty });
+            }
+        }
+
+        // Return the Pairs.
+        return pairs;
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Last Round Key From
+     *  the Parameter Pairs and Inverting Every Surviving Candidate.
+     *
+     *  @param pairs        The Pairs, Each as {correct, faulty}.
+     *
+     *  @return             The Analysis Result.
+     */
+    public static Result analyse(List<byte[][]> pairs) {
+        // Create the Per Column Results.
+        int[][] candidates = new int[4][];
+        int[] used = new int[4];
+
+        // Narrow the Four Columns in Parallel.
+        IntStream.range(0, 4).parallel().forEach(column -> {
+            // Find the Ciphertext Positions of the Column.
+            int[] positions = positions(column);
+
+            // Let Each Relevant Pair Narrow the Column.
+            for (byte[][] pair : pairs) {
+                // Skip Pairs That Did Not Fault Every
+                // Byte of This Column.
+                if (!affects(pair, positions)) {
+                    continue;
+                }
+
+                // The First Pair Generates the Hypotheses, and
+                // Every Later Pair Filters Them.
+                if (candidates[column] == null) {
+                    candidates[column] = generate(pair, positions);
+                }
+                else {
+                    candidates[column] = filter(candidates[column], pair, positions);
+                }
+                used[column]++;
+
+                // Stop Once the Column is Fully Determined.
+                if (candidates[column].length <= 1) {
+                    break;
+                }
+            }
+        });
+
+        // Work Out How Many Full Keys the Columns Allow.
+        long total = 1;
+        for (int column = 0; column < 4; column++) {
+            total *= candidates[column] == null ? 1L << 32 : candidates[column].length;
+            if (total > MAX_KEY_CANDIDATES) {
+                break;
+            }
+        }
+
+        // Enumerate and Invert the Keys if
+        // There Are Few Enough of Them.
+        List<byte[]> lastKeys = new ArrayList<>();
+        List<byte[]> originals = new ArrayList<>();
+        if (total <= MAX_KEY_CANDIDATES) {
+            enumerate(candidates, lastKeys, originals);
+        }
+
+        // Return the Analysis Result.
+        return new Result(candidates, used, lastKeys, originals);
+    }
+
+    /**
+     *  This Method is Used to Find the Four Ciphertext Byte Positions That
+     *  Hold the Bytes of a Ninth Round Column After the Final ShiftRows.
+     *
+     *  @param column       The Column Index (0 to 3).
+     *
+     *  @return             The Positions, Indexed by Row.
+     */
+    static int[] positions(int column) {
+        // Row r of the Column Moves Left by r Columns.
+        int[] positions = new int[4];
+        for (int r = 0; r < 4; r++) {
+            positions[r] = 4 * ((column - r + 4) & 3) + r;
+        }
+        return positions;
+    }
+
+    /**
+     *  This Method is Used to Check Whether a Pair Differs in Every Byte
+     *  of a Column.
+     *
+     *  @param pair         The Pair as {correct, faulty}.
+     *
+     *  @param positions    The Ciphertext Positions of the Column.
+     *
+     *  @return             True if All Four Bytes Differ.
+     */
+    private static boolean affects(byte[][] pair, int[] positions) {
+        // Check Each Position of the Column.
+        for (int r = 0; r < 4; r++) {
+            if (pair[0][positions[r]] == pair[1][positions[r]]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *  This Method is Responsible for Generating Every Column Key
+     *  Hypothesis Consistent With a Single Pair.
+     *
+     *  @param pair         The Pair as {correct, faulty}.
+     *
+     *  @param positions    The Ciphertext Positions of the Column.
+     *
+     *  @return             The Sorted, Unique Packed Hypotheses.
+     */
+    private static int[] generate(byte[][] pair, int[] positions) {
+        // For Each Row and Each Possible Difference Before the Final
+        // SubBytes Step, Build the 256 Bit Set of Key Bytes That
+        // Produce That Difference.
+        long[][][] sets = new long[4][256][4];
+        for (int r = 0; r < 4; r++) {
+            int c = pair[0][positions[r]] & 0xFF;
+            int cf = pair[1][positions[r]] & 0xFF;
+            for (int k = 0; k < 256; k++) {
+                int d = INV_SBOX[c ^ k] ^ INV_SBOX[cf ^ k];
+                sets[r][d][k >>> 6] |= 1L << k;
+            }
+        }
+
+        // Collect the Hypotheses of Every Fault Row and Value.
+        int[] found = new int[1024];
+        int count = 0;
+        for (int p = 0; p < 4; p++) {
+            for (int f = 1; f < 256; f++) {
+                // Get the Key Byte Set of Each Row.
+                long[] s0 = sets[0][MUL[MIX[0][p]][f]];
+                long[] s1 = sets[1][MUL[MIX[1][p]][f]];
+                long[] s2 = sets[2][MUL[MIX[2][p]][f]];
+                long[] s3 = sets[3][MUL[MIX[3][p]][f]];
+                // Skip the Fault if Any Row Allows No Key Byte.
+                if (isEmpty(s0) || isEmpty(s1) || isEmpty(s2) || isEmpty(s3)) {
+                    continue;
+                }
+
+                // Add Every Combination of the Four Sets.
+                for (int k0 = next(s0, 0); k0 >= 0; k0 = next(s0, k0 + 1)) {
+                    for (int k1 = next(s1, 0); k1 >= 0; k1 = next(s1, k1 + 1)) {
+                        for (int k2 = next(s2, 0); k2 >= 0; k2 = next(s2, k2 + 1)) {
+                            for (int k3 = next(s3, 0); k3 >= 0; k3 = next(s3, k3 + 1)) {
+                                if (count == found.length) {
+                                    found = Arrays.copyOf(found, count * 2);
+                                }
+                                found[count++] = k0 | k1 << 8 | k2 << 16 | k3 << 24;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Sort the Hypotheses and Drop Duplicates.
+        Arrays.sort(found, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || found[unique - 1] != found[i]) {
+                found[unique++] = found[i];
+            }
+        }
+        return Arrays.copyOf(found, unique);
+    }
+
+    /**
+     *  This Method is Responsible for Keeping Only the Hypotheses That
+     *  Are Also Consistent With Another Pair. Large Hypothesis Lists are
+     *  Filtered in Parallel.
+     *
+     *  @param candidates   The Current Packed Hypotheses.
+     *
+     *  @param pair         The Pair as {correct, faulty}.
+     *
+     *  @param positions    The Ciphertext Positions of the Column.
+     *
+     *  @return             The Surviving Hypotheses.
+     */
+    private static int[] filter(int[] candidates, byte[][] pair, int[] positions) {
+        // Read the Four Byte Pairs of the Column Once.
+        int[] c = new int[4];
+        int[] cf = new int[4];
+        for (int r = 0; r < 4; r++) {
+            c[r] = pair[0][positions[r]] & 0xFF;
+            cf[r] = pair[1][positions[r]] & 0xFF;
+        }
+
+        // Keep the Hypotheses Consistent With the Pair.
+        IntStream stream = Arrays.stream(candidates);
+        if (candidates.length > 4096) {
+            stream = stream.parallel();
+        }
+        return stream.filter(h -> consistent(h, c, cf)).toArray();
+    }
+
+    /**
+     *  This Method is Used to Check Whether a Column Key Hypothesis
+     *  Explains the Difference of a Pair by a Single Byte Fault.
+     *
+     *  @param h            The Packed Hypothesis.
+     *
+     *  @param c            The Correct Ciphertext Bytes by Row.
+     *
+     *  @param cf           The Faulty Ciphertext Bytes by Row.
+     *
+     *  @return             True if Some Fault Row and Value Fit.
+     */
+    private static boolean consistent(int h, int[] c, int[] cf) {
+        // Undo the Final Round For Each Row.
+        int d0 = INV_SBOX[c[0] ^ (h & 0xFF)] ^ INV_SBOX[cf[0] ^ (h & 0xFF)];
+        int d1 = INV_SBOX[c[1] ^ (h >>> 8 & 0xFF)] ^ INV_SBOX[cf[1] ^ (h >>> 8 & 0xFF)];
+        int d2 = INV_SBOX[c[2] ^ (h >>> 16 & 0xFF)] ^ INV_SBOX[cf[2] ^ (h >>> 16 & 0xFF)];
+        int d3 = INV_SBOX[c[3] ^ (h >>> 24)] ^ INV_SBOX[cf[3] ^ (h >>> 24)];
+
+        // Try Each Fault Row, Solving For the Fault
+        // Value From Row 0 and Checking the Others.
+        for (int p = 0; p < 4; p++) {
+            int f = DIV[MIX[0][p]][d0];
+            if (f != 0 && d1 == MUL[MIX[1][p]][f] && d2 == MUL[MIX[2][p]][f] && d3 == MUL[MIX[3][p]][f]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  This Method is Responsible for Building Every Full Last Round Key
+     *  From the Column Candidates and Inverting Each of Them.
+     *
+     *  @param candidates   The Packed Candidates of Each Column.
+     *
+     *  @param lastKeys     The List the Last Round Keys are Added to.
+     *
+     *  @param originals    The List the Original Keys are Added to.
+     */
+    private static void enumerate(int[][] candidates, List<byte[]> lastKeys, List<byte[]> originals) {
+        // Walk Every Combination Like an Odometer.
+        int[] index = new int[4];
+        while (true) {
+            // Place Each Column's Key Bytes at
+            // Their Ciphertext Positions.
+            byte[] key = new byte[16];
+            for (int column = 0; column < 4; column++) {
+                int h = candidates[column][index[column]];
+                int[] positions = positions(column);
+                for (int r = 0; r < 4; r++) {
+                    key[positions[r]] = (byte) (h >>> (8 * r));
+                }
+            }
+
+            // Invert the Key to its Original Key.
+            lastKeys.add(key);
+            originals.add(KeySchedule.recoverOriginalKey(key));
+
+            // Move to the Next Combination.
+            int column = 0;
+            while (column < 4 && ++index[column] == candidates[column].length) {
+                index[column++] = 0;
+            }
+            if (column == 4) {
+                return;
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Check Whether a 256 Bit Set is Empty.
+     *
+     *  @param set          The Set.
+     *
+     *  @return             True if No Bit is Set.
+     */
+    private static boolean isEmpty(long[] set) {
+        // Check All Four Words.
+        return (set[0] | set[1] | set[2] | set[3]) == 0;
+    }
+
+    /**
+     *  This Method is Used to Find the Next Member of a 256 Bit Set.
+     *
+     *  @param set          The Set.
+     *
+     *  @param from         The First Value to Consider.
+     *
+     *  @return             The Next Member, or -1 if None.
+     */
+    private static int next(long[] set, int from) {
+        // Search Word by Word.
+        for (int w = from >>> 6; w < 4; w++) {
+            long bits = set[w] & (w == from >>> 6 ? -1L << (from & 63) : -1L);
+            if (bits != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     *  Main Method That Reads a Pair File and Prints Every Surviving Last
+     *  Round Key Together With its Original Key.
+     *
+     *  @param args     The Path of the Pair File.
+     *
+     *  @throws IOException When the Pair File Can Not be Read.
+     */
+    public static void main(String[] args) throws IOException {
+        // Make Sure a Pair File Was Given.
+        if (args.length != 1) {
+            System.err.println("Usage: java DifferentialFaultAnalysis <pair file>");
+            System.exit(2);
+        }
+
+        // Read the Pairs and Run the Analysis.
+        List<byte[][]> pairs = readPairs(Paths.get(args[0]));
+        Result result = analyse(pairs);
+
+        // Print the Candidates Left in Each Column.
+        for (int column = 0; column < 4; column++) {
+            System.out.println("Column " + column + ":\t" + result.getCandidateCount(column) + " Candidates From " + result.getPairsUsed(column) + " Pairs");
+        }
+
+        // Print Every Surviving Key.
+        for (int i = 0; i < result.getLastRoundKeys().size(); i++) {
+            System.out.println("\nRound Key [10]:\t" + Block128.toHex(result.getLastRoundKeys().get(i), 0));
+            System.out.println("Original Key:\t" + Block128.toHex(result.getOriginalKeys().get(i), 0));
+        }
+    }
+}
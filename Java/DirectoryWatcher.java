@@ -0,0 +1,568 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  This Class is Responsible for Processing Key Files as They are Dropped
+ *  Into a Directory. A Key File ("name.keys" or "name.txt") Holds Last
+ *  Round Keys One per Line; if a Ciphertext Blob "name.bin" Sits Beside
+ *  it, Every Recovered Key Also Decrypts the Blob. The Results of Each Key
+ *  File are Written by InverseKeyCli to the File's Full Name Plus
+ *  ".ndjson" (Such as "name.keys.ndjson") in the Output Directory, so Key
+ *  Files That Differ Only in Extension Never Share Results.
+ *
+ *  Results are Kept Under the SHA-256 of the Key File and its Blob in a
+ *  Hidden Directory of the Output Directory, and an Index Remembers the
+ *  Hash Each File Was Last Processed With, so a File That Has Not Changed
+ *  is Skipped and a File With the Same Content as One Already Done Gets a
+ *  Link to (or Copy of) its Results, Across Restarts Too. A Stored Result
+ *  is Never Rewritten, so Changing or Replacing One Key File Can Not
+ *  Alter the Results Another File Reuses. Changes are Seen Through a
+ *  WatchService and Only Handled Once a File Has Been Quiet For a Moment,
+ *  so Files Still Being Written are Not Read Half Way. Settled Files Wait
+ *  in a Bounded Queue For a Fixed Number of Worker Threads That Stream
+ *  Each File, so a Burst of Files Never Holds More Than the Queue in
+ *  Memory. A Worker Reads a File Once, Hashing it While Copying it Aside,
+ *  and Processes the Copy, so the Results Always Match the Hash They are
+ *  Stored Under Even When the File Changes Meanwhile.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class DirectoryWatcher implements AutoCloseable {
+
+    // The Time a File Must be Quiet Before it is Handled.
+    public static final long DEFAULT_SETTLE_MILLIS = 500;
+    // The Number of Files That May Wait For a Worker.
+    public static final int QUEUE_CAPACITY = 256;
+    // The Largest Ciphertext Blob Read.
+    public static final long MAX_BLOB = 64L << 20;
+    // The Name of the Index File.
+    public static final String INDEX = "index.properties";
+    // The Name of the Default Output Directory, Inside the Watched One.
+    public static final String RESULTS = ".results";
+    // The Name of the Directory of Results by Content Hash, Inside the
+    // Output Directory.
+    public static final String STORE = ".by-hash";
+
+    // The Watched Directory and the Output Directory.
+    private final Path directory;
+    private final Path output;
+    // The Time a File Must be Quiet Before it is Handled.
+    private final long settleMillis;
+    // The Directory of Results by Content Hash.
+    private final Path results;
+    // The Index of Content Hashes by Name.
+    private final Properties index = new Properties();
+    // The Key Files Seen But Not Yet Settled, With the Time Last Seen.
+    private final Map<Path, Long> unsettled = new HashMap<>();
+    // The Settled Key Files Waiting For a Worker.
+    private final ArrayBlockingQueue<Path> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // The Key Files Queued or Being Processed.
+    private final Set<Path> busy = ConcurrentHashMap.newKeySet();
+    // The Workers.
+    private final List<Thread> workers = new ArrayList<>();
+    // The Watch Service.
+    private final WatchService watcher;
+    // Whether the Watcher Has Been Closed.
+    private volatile boolean closed;
+    // The Counts of Files Processed, Skipped, Copied and Failed.
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong memoized = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     *  Constructor That Loads the Index, Starts Watching the Directory and
+     *  Starts the Workers. Files Already in the Directory are Scanned.
+     *
+     *  @param directory        The Directory to Watch.
+     *
+     *  @param output           The Directory the Results and Index are
+     *                          Kept in.
+     *
+     *  @param threads          The Number of Workers.
+     *
+     *  @param settleMillis     The Time a File Must be Quiet Before it is
+     *                          Handled.
+     *
+     *  @throws IOException     When the Directories Can Not be Used.
+     */
+    public DirectoryWatcher(Path directory, Path output, int threads, long settleMillis) throws IOException {
+        // Set Up the Directories and Load the Index.
+        this.directory = directory.toAbsolutePath();
+        this.output = output.toAbsolutePath();
+        this.settleMillis = settleMillis;
+        this.results = this.output.resolve(STORE);
+        Files.createDirectories(this.results);
+        Path file = this.output.resolve(INDEX);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                this.index.load(in);
+            }
+        }
+
+        // Watch Before Scanning, so Nothing Slips Between the Two.
+        this.watcher = this.directory.getFileSystem().newWatchService();
+        this.directory.register(this.watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        scan();
+
+        // Start the Workers.
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            Thread thread = new Thread(this::work, "directory-watcher-" + i);
+            thread.setDaemon(true);
+            this.workers.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Key Files Processed.
+     *
+     *  @return             The Number of Files.
+     */
+    public long getProcessed() {
+        return this.processed.get();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Key Files Skipped Because Their Results Were Already Up to Date.
+     *
+     *  @return             The Number of Files.
+     */
+    public long getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Key Files Given a Copy of the Results of Identical Content.
+     *
+     *  @return             The Number of Files.
+     */
+    public long getMemoized() {
+        return this.memoized.get();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Key Files That Could Not be Processed.
+     *
+     *  @return             The Number of Files.
+     */
+    public long getFailed() {
+        return this.failed.get();
+    }
+
+    /**
+     *  This Method is Responsible for Marking Every Key File in the
+     *  Directory as Seen, so Each is Checked Against the Index.
+     *
+     *  @throws IOException When the Directory Can Not be Listed.
+     */
+    public void scan() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)) {
+            for (Path file : files) {
+                seen(file);
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Watching Until Closed.
+     */
+    public void watch() {
+        while (!this.closed) {
+            poll(100);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Handling Every File Already Seen,
+     *  Then Returning Once the Workers are Idle.
+     */
+    public void drain() {
+        // Keep Settling and Queueing Until Nothing is Left.
+        while (!this.closed && (!this.unsettled.isEmpty() || !this.busy.isEmpty())) {
+            poll(20);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Stopping the Watch and the Workers.
+     *  A File Being Processed is Finished First.
+     *
+     *  @throws IOException When the Watch Service Can Not be Closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.watcher.close();
+        for (Thread worker : this.workers) {
+            worker.interrupt();
+            try {
+                worker.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Taking the Watch Events of One
+     *  Interval and Queueing the Files That Have Settled.
+     *
+     *  @param millis       The Longest Time to Wait For an Event.
+     */
+    private void poll(long millis) {
+        try {
+            // Note Every Changed File.
+            WatchKey key = this.watcher.poll(millis, TimeUnit.MILLISECONDS);
+            if (key != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        scan();
+                    }
+                    else {
+                        seen(this.directory.resolve((Path) event.context()));
+                    }
+                }
+                key.reset();
+            }
+        }
+        catch (ClosedWatchServiceException e) {
+            return;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.closed = true;
+            return;
+        }
+        catch (IOException e) {
+            System.err.println("Directory Watcher: Scan Failed: " + e);
+        }
+
+        // Queue Files That Have Been Quiet Long Enough, While There is
+        // Room. Files Left Over Wait Here (One Entry Each) Until There is.
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Path, Long>> entries = this.unsettled.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Path, Long> entry = entries.next();
+            if (now - entry.getValue() < this.settleMillis || this.busy.contains(entry.getKey())) {
+                continue;
+            }
+            this.busy.add(entry.getKey());
+            if (!this.queue.offer(entry.getKey())) {
+                this.busy.remove(entry.getKey());
+                break;
+            }
+            entries.remove();
+        }
+    }
+
+    /**
+     *  This Method is Used to Note That a File Changed. A Blob Counts as
+     *  a Change to its Key File.
+     *
+     *  @param file         The File.
+     */
+    private void seen(Path file) {
+        // Ignore Hidden Files, Directories and Unrelated Files.
+        String name = file.getFileName().toString();
+        if (name.startsWith(".") || Files.isDirectory(file)) {
+            return;
+        }
+        if (name.endsWith(".bin")) {
+            String base = name.substring(0, name.length() - 4);
+            for (String extension : new String[] {".keys", ".txt"}) {
+                Path keys = file.resolveSibling(base + extension);
+                if (Files.exists(keys)) {
+                    this.unsettled.put(keys, System.currentTimeMillis());
+                }
+            }
+        }
+        else if (name.endsWith(".keys") || name.endsWith(".txt")) {
+            this.unsettled.put(file, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running a Worker Until Closed.
+     */
+    private void work() {
+        while (!this.closed) {
+            Path file;
+            try {
+                file = this.queue.take();
+            }
+            catch (InterruptedException e) {
+                return;
+            }
+            try {
+                process(file);
+            }
+            catch (IOException | RuntimeException e) {
+                this.failed.incrementAndGet();
+                System.err.println("Directory Watcher: " + file.getFileName() + ": " + e);
+            }
+            finally {
+                this.busy.remove(file);
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Bringing the Results of One Key File
+     *  Up to Date.
+     *
+     *  @param file         The Key File.
+     *
+     *  @throws IOException When the File Can Not be Read or the Results
+     *                      Written.
+     */
+    private void process(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        // Copy the Key File and its Blob Aside, Hashing Them on the Way,
+        // so What is Processed is Exactly What Was Hashed.
+        String name = file.getFileName().toString();
+        String base = name.substring(0, name.lastIndexOf('.'));
+        Path blob = file.resolveSibling(base + ".bin");
+        boolean hasBlob = Files.exists(blob);
+        Path input = this.output.resolve("." + name + ".input.tmp");
+        Path ciphertext = this.output.resolve("." + name + ".bin.tmp");
+        Path result = this.output.resolve(name + ".ndjson");
+        Path temporary = this.output.resolve("." + name + ".ndjson.tmp");
+        try {
+            MessageDigest digest = sha256();
+            copy(file, input, digest, Long.MAX_VALUE);
+            if (hasBlob) {
+                copy(blob, ciphertext, digest, MAX_BLOB);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            // Skip it if Nothing Changed, or Reuse the Stored Results of
+            // the Same Content, or Work Them Out and Store Them.
+            String known = hashOf(name);
+            if (hash.equals(known) && Files.exists(result)) {
+                this.skipped.incrementAndGet();
+                return;
+            }
+            Path stored = this.results.resolve(hash + ".ndjson");
+            if (Files.exists(stored)) {
+                this.memoized.incrementAndGet();
+            }
+            else {
+                List<String> args = new ArrayList<>(List.of("--input", input.toString(), "--output", temporary.toString()));
+                if (hasBlob) {
+                    args.addAll(List.of("--ciphertext-file", ciphertext.toString()));
+                }
+                int code = InverseKeyCli.run(args.toArray(new String[0]));
+                if (code != InverseKeyCli.EXIT_OK && code != InverseKeyCli.EXIT_INVALID_INPUT) {
+                    Files.deleteIfExists(temporary);
+                    throw new IOException("Processing Failed With Exit Code " + code);
+                }
+                move(temporary, stored);
+                this.processed.incrementAndGet();
+            }
+
+            // Link the Stored Results in Place, Then Record Them.
+            Files.deleteIfExists(temporary);
+            try {
+                Files.createLink(temporary, stored);
+            }
+            catch (IOException | UnsupportedOperationException e) {
+                Files.copy(stored, temporary, StandardCopyOption.REPLACE_EXISTING);
+            }
+            move(temporary, result);
+            record(name, hash);
+        }
+        finally {
+            // Drop the Copies.
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(ciphertext);
+        }
+    }
+
+    /**
+     *  This Method is Used to Look Up the Hash Last Processed For a File.
+     *
+     *  @param name         The File Name.
+     *
+     *  @return             The Hash, or Null.
+     */
+    private synchronized String hashOf(String name) {
+        return this.index.getProperty("file." + name);
+    }
+
+    /**
+     *  This Method is Used to Record the Hash a File Was Processed With
+     *  and Save the Index Atomically.
+     *
+     *  @param name         The File Name.
+     *
+     *  @param hash         The Hash of its Content.
+     *
+     *  @throws IOException When the Index Can Not be Saved.
+     */
+    private synchronized void record(String name, String hash) throws IOException {
+        // Update, Then Write a Temporary Copy and Move it Over the Index.
+        this.index.setProperty("file." + name, hash);
+        Path temporary = this.output.resolve("." + INDEX + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            this.index.store(out, "AES Round Key Inverter Directory Index");
+        }
+        move(temporary, this.output.resolve(INDEX));
+    }
+
+    /**
+     *  This Method is Used to Move a File Over Another, Atomically Where
+     *  the File System Allows.
+     *
+     *  @param from         The New File.
+     *
+     *  @param to           The File it Replaces.
+     *
+     *  @throws IOException When Moving Fails.
+     */
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     *  This Method is Used to Create the Digest Files are Hashed With.
+     *
+     *  @return             A SHA-256 Digest.
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is Not Available", e);
+        }
+    }
+
+    /**
+     *  This Method is Used to Copy a File While Adding it to a Hash,
+     *  Streaming it in One Pass.
+     *
+     *  @param from         The File to Read.
+     *
+     *  @param to           The Copy.
+     *
+     *  @param digest       The Hash of Every Part so Far.
+     *
+     *  @param limit        The Largest Number of Bytes Allowed.
+     *
+     *  @throws IOException When Reading or Writing Fails, or the File is
+     *                      Larger Than the Limit.
+     */
+    private static void copy(Path from, Path to, MessageDigest digest, long limit) throws IOException {
+        byte[] buffer = new byte[1 << 16];
+        long total = 0;
+        try (InputStream in = Files.newInputStream(from);
+             OutputStream out = Files.newOutputStream(to)) {
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                total += read;
+                if (total > limit) {
+                    throw new IOException(from.getFileName() + " is Larger Than " + limit + " Bytes");
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        }
+        // Separate the Parts so Moving Bytes Between Them Changes the Hash.
+        digest.update((byte) 0);
+    }
+
+    /**
+     *  Main Method That Watches a Directory Until Killed, or Handles What
+     *  is There Once and Exits.
+     *
+     *  @param args     The Directory, Then [--output DIR] [--threads N]
+     *                  [--settle-millis N] [--once]
+     *
+     *  @throws IOException When the Directories Can Not be Used.
+     */
+    public static void main(String[] args) throws IOException {
+        // Read the Options.
+        if (args.length < 1) {
+            System.err.println("Usage: java DirectoryWatcher <directory> [--output DIR] [--threads N] [--settle-millis N] [--once]");
+            System.exit(InverseKeyCli.EXIT_USAGE);
+        }
+        Path directory = Paths.get(args[0]);
+        Path output = directory.resolve(RESULTS);
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        long settle = DEFAULT_SETTLE_MILLIS;
+        boolean once = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--settle-millis":
+                    settle = Long.parseLong(args[++i]);
+                    break;
+                case "--once":
+                    once = true;
+                    break;
+                default:
+                    System.err.println("Unknown Option: " + args[i]);
+                    System.exit(InverseKeyCli.EXIT_USAGE);
+            }
+        }
+
+        // Run, Then Report the Counts.
+        try (DirectoryWatcher watcher = new DirectoryWatcher(directory, output, threads, settle)) {
+            if (once) {
+                watcher.drain();
+            }
+            else {
+                System.err.println("Watching " + directory.toAbsolutePath() + ", Results in " + output.toAbsolutePath());
+                watcher.watch();
+            }
+            System.err.printf("Processed: %d  Skipped: %d  Memoized: %d  Failed: %d%n",
+                    watcher.getProcessed(), watcher.getSkipped(), watcher.getMemoized(), watcher.getFailed());
+            System.exit(watcher.getFailed() == 0 ? InverseKeyCli.EXIT_OK : InverseKeyCli.EXIT_IO);
+        }
+    }
+}
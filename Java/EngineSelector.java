@@ -0,0 +1,781 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ *  This Class is Responsible for Choosing the Fastest Engine For Each
+ *  Kind of Work on the Current JVM and CPU. Which One Wins Depends on the
+ *  Platform: the JCE Cipher Uses AES Instructions Where the JIT Provides
+ *  Them but Pays For Setting Up Each Key, While AesCore's Tables Set Up
+ *  Quickly but Decrypt More Slowly, and the Byte Wise Inverse Round of
+ *  InverseKeyGeneration Competes With the Fused Word Based One, as Does
+ *  Checking a Recovered Key by Expanding it Forward With Inverting the
+ *  Last Round Key Again.
+ *
+ *  A Short Calibration Times Every Engine on Each Batch Shape When an
+ *  Entry Point (the Command Line, Daemon, HTTP Service, Pipeline or a
+ *  Search) Calls initialize. The Choices and Measured Rates are Cached in
+ *  a Local File, Keyed by the JVM, Operating System, Architecture and
+ *  Processor Count, so Later Runs Skip the Calibration. The Cache Lives
+ *  at ~/.aes-round-key-inverter/engines.properties Unless the
+ *  aes.engine.cache System Property Names Another File. Until initialize
+ *  is Called, get Returns Fixed Defaults, so Library Callers Never Pay
+ *  For a Calibration or a File Write They Did Not Ask For.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class EngineSelector {
+
+    // Bumped Whenever the Engines or the Calibration Change,
+    // so Older Cached Decisions are Ignored.
+    private static final String CALIBRATION_VERSION = "2";
+    // The Time Each Engine Runs Before it is Timed.
+    private static final long WARMUP_NANOS = 20_000_000;
+    // The Time Each Engine is Timed For.
+    private static final long MEASURE_NANOS = 40_000_000;
+    // The Number of Keys in a Calibration Batch, and the Smallest
+    // Batch That is Treated as a Batch Rather Than Single Keys.
+    public static final int BATCH_THRESHOLD = 4096;
+    // The Number of Keys the Byte Wise Engine Times per Batch Run. (It
+    // is Slow Enough That a Whole Batch Would Outlast the Calibration,
+    // and Running it Key by Key Scales Linearly Anyway.)
+    private static final int BYTEWISE_SLICE = 64;
+    // The Number of Blocks per Key in a Long Calibration Message,
+    // and the Fewest Blocks Treated as a Long Message.
+    private static final int LONG_MESSAGE_BLOCKS = 64;
+    public static final int LONG_THRESHOLD = 8;
+    // The Number of Keys Inverted Between Checks of a Stop Condition.
+    private static final int STOP_INTERVAL = 256;
+
+    // The Choices Used Until a Calibration or the Cache
+    // Provides Measured Ones.
+    private static final EngineSelector DEFAULTS = defaults();
+    // The Selector in Use. Read Without a Lock on Every
+    // Call, and Replaced Only by initialize and main.
+    private static volatile EngineSelector current = DEFAULTS;
+    // The JCE Cipher of Each Thread, Created When First Used.
+    // (Null Where the Platform Has None.)
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(EngineSelector::jceCipher);
+
+    /**
+     *  The Engines That Can Invert a Last Round Key.
+     */
+    public enum InversionEngine {
+        // The Byte Wise Inverse Round of InverseKeyGeneration.
+        BYTEWISE,
+        // The Fused Word Based Rounds of KeySchedule.
+        FUSED,
+        // The Fused Rounds Spread Over the Shared AdaptiveScheduler.
+        FUSED_PARALLEL
+    }
+
+    /**
+     *  The Engines That Can Check a Recovered Key Against its Last Round
+     *  Key.
+     */
+    public enum VerificationEngine {
+        // Expanding the Original Key Forward and Comparing the Last Round.
+        EXPAND,
+        // Inverting the Last Round Key Again and Comparing the Originals.
+        INVERT
+    }
+
+    /**
+     *  The Engines That Can Decrypt ECB Blocks.
+     */
+    public enum DecryptionEngine {
+        // The JCE Cipher "AES/ECB/NoPadding".
+        JCE,
+        // The Table Driven AesCore.
+        TABLE
+    }
+
+    /**
+     *  The Batch Shapes an Engine is Chosen For.
+     */
+    public enum Shape {
+        // Inverting One Key at a Time.
+        SINGLE_INVERSION,
+        // Inverting a Batch of At Least BATCH_THRESHOLD Keys.
+        BATCH_INVERSION,
+        // Decrypting Fewer Than LONG_THRESHOLD Blocks per Key, as When
+        // Testing Candidate Keys.
+        SHORT_DECRYPTION,
+        // Decrypting At Least LONG_THRESHOLD Blocks per Key.
+        LONG_DECRYPTION,
+        // Checking One Recovered Key.
+        VERIFICATION
+    }
+
+    // The Engine Chosen For Each Shape.
+    private final Map<Shape, Enum<?>> choices = new EnumMap<>(Shape.class);
+    // The Measured Rate of Each Engine on Each Shape, in Keys per Second.
+    private final Map<Shape, Map<String, Double>> rates = new EnumMap<>(Shape.class);
+    // Where the Choices Came From: "defaults",
+    // "cached" or "calibrated".
+    private String origin = "calibrated";
+
+    /**
+     *  Private Constructor Used by the Calibrate and Load Methods.
+     */
+    private EngineSelector() {
+    }
+
+    /**
+     *  This Method is Responsible for Returning the Selector in Use. It
+     *  Takes No Lock and Never Calibrates: Before initialize Has Run it
+     *  Returns the Fixed Defaults.
+     *
+     *  @return             The Selector.
+     */
+    public static EngineSelector get() {
+        // Read the Published Selector.
+        return current;
+    }
+
+    /**
+     *  This Method is Responsible for Making the Measured Choices the
+     *  Ones in Use, Loading Them From the Cache File or, if There is No
+     *  Usable Cache, Calibrating (About Half a Second) and Writing the
+     *  Cache. Entry Points Call it Once at Startup; Later Calls Return
+     *  the Same Selector.
+     *
+     *  @return             The Selector.
+     */
+    public static synchronized EngineSelector initialize() {
+        // Load or Calibrate the First Time Only.
+        if (current == DEFAULTS) {
+            Path file = cacheFile();
+            EngineSelector selector = load(file);
+            if (selector == null) {
+                selector = calibrate();
+                try {
+                    selector.save(file);
+                }
+                catch (IOException e) {
+                    // A Cache That Can Not be Written Only Costs
+                    // the Next Run Another Calibration.
+                }
+            }
+            current = selector;
+        }
+        return current;
+    }
+
+    /**
+     *  This Method is Used to Build the Fixed Default Choices: the Fused
+     *  Rounds on the Calling Thread For Inversion, the Tables For Short
+     *  Messages (No Per Key Cipher Setup) and the JCE Cipher For Long
+     *  Ones (AES Instructions Where Available).
+     *
+     *  @return             The Default Selector.
+     */
+    private static EngineSelector defaults() {
+        EngineSelector selector = new EngineSelector();
+        selector.choices.put(Shape.SINGLE_INVERSION, InversionEngine.FUSED);
+        selector.choices.put(Shape.BATCH_INVERSION, InversionEngine.FUSED);
+        selector.choices.put(Shape.SHORT_DECRYPTION, DecryptionEngine.TABLE);
+        selector.choices.put(Shape.LONG_DECRYPTION, DecryptionEngine.JCE);
+        selector.choices.put(Shape.VERIFICATION, VerificationEngine.EXPAND);
+        for (Shape shape : Shape.values()) {
+            selector.rates.put(shape, new LinkedHashMap<>());
+        }
+        selector.origin = "defaults";
+        return selector;
+    }
+
+    /**
+     *  This Method is Responsible for Timing Every Engine on Every Shape
+     *  and Choosing the Fastest. It Takes About Half a Second.
+     *
+     *  @return             A New Selector Holding the Choices.
+     */
+    public static EngineSelector calibrate() {
+        // Create Random Keys and Messages.
+        Random random = new Random(0x5EED);
+        byte[][] keys = new byte[BATCH_THRESHOLD][16];
+        for (byte[] key : keys) {
+            random.nextBytes(key);
+        }
+        byte[][] originals = new byte[BATCH_THRESHOLD][16];
+        byte[] message = new byte[16 * LONG_MESSAGE_BLOCKS];
+        random.nextBytes(message);
+        byte[] out = new byte[message.length];
+        Cipher cipher = jceCipher();
+
+        // Time Each Engine on Each Shape.
+        EngineSelector selector = new EngineSelector();
+        selector.measure(Shape.SINGLE_INVERSION, InversionEngine.BYTEWISE, 1, () -> invertBytewise(keys[0], originals[0]));
+        selector.measure(Shape.SINGLE_INVERSION, InversionEngine.FUSED, 1, () -> KeySchedule.recoverOriginalKey(keys[0], 0, originals[0], 0, KeySchedule.ROUNDS));
+        byte[][] slice = Arrays.copyOf(keys, BYTEWISE_SLICE);
+        selector.measure(Shape.BATCH_INVERSION, InversionEngine.BYTEWISE, BYTEWISE_SLICE, () -> invert(InversionEngine.BYTEWISE, slice, originals, null));
+        selector.measure(Shape.BATCH_INVERSION, InversionEngine.FUSED, BATCH_THRESHOLD, () -> invert(InversionEngine.FUSED, keys, originals, null));
+        selector.measure(Shape.BATCH_INVERSION, InversionEngine.FUSED_PARALLEL, BATCH_THRESHOLD, () -> invert(InversionEngine.FUSED_PARALLEL, keys, originals, null));
+        if (cipher != null) {
+            selector.measure(Shape.SHORT_DECRYPTION, DecryptionEngine.JCE, 1, () -> decryptJce(cipher, keys[0], message, 0, 16, out, 0));
+            selector.measure(Shape.LONG_DECRYPTION, DecryptionEngine.JCE, 1, () -> decryptJce(cipher, keys[0], message, 0, message.length, out, 0));
+        }
+        selector.measure(Shape.SHORT_DECRYPTION, DecryptionEngine.TABLE, 1, () -> decryptTable(keys[0], message, 0, 16, out, 0));
+        selector.measure(Shape.LONG_DECRYPTION, DecryptionEngine.TABLE, 1, () -> decryptTable(keys[0], message, 0, message.length, out, 0));
+        KeySchedule.recoverOriginalKey(keys[0], 0, originals[0], 0, KeySchedule.ROUNDS);
+        byte[] scratch = new byte[16];
+        for (VerificationEngine engine : VerificationEngine.values()) {
+            selector.measure(Shape.VERIFICATION, engine, 1, () -> verify(engine, originals[0], 0, keys[0], 0, scratch));
+        }
+        return selector;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Inversion
+     *  Engine Chosen For a Batch Size.
+     *
+     *  @param batchSize    The Number of Keys to Invert.
+     *
+     *  @return             The Engine.
+     */
+    public InversionEngine inversionEngine(int batchSize) {
+        // Pick the Shape From the Batch Size.
+        return (InversionEngine) this.choices.get(batchSize >= BATCH_THRESHOLD ? Shape.BATCH_INVERSION : Shape.SINGLE_INVERSION);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the
+     *  Verification Engine Chosen For This Platform.
+     *
+     *  @return             The Engine.
+     */
+    public VerificationEngine verificationEngine() {
+        // There is Only One Verification Shape.
+        return (VerificationEngine) this.choices.get(Shape.VERIFICATION);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Decryption
+     *  Engine Chosen For a Message Length.
+     *
+     *  @param blocksPerKey The Number of Blocks Decrypted With Each Key.
+     *
+     *  @return             The Engine.
+     */
+    public DecryptionEngine decryptionEngine(int blocksPerKey) {
+        // Pick the Shape From the Message Length.
+        return (DecryptionEngine) this.choices.get(blocksPerKey >= LONG_THRESHOLD ? Shape.LONG_DECRYPTION : Shape.SHORT_DECRYPTION);
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Original Keys of a
+     *  Batch of Last Round Keys With the Engine Chosen For its Size.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys.
+     *
+     *  @param originals        The Arrays the Original Keys are
+     *                          Written to, One per Key.
+     */
+    public void invertAll(byte[][] lastRoundKeys, byte[][] originals) {
+        // Run Without a Stop Condition.
+        invertAll(lastRoundKeys, originals, null);
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Original Keys of a
+     *  Batch of Last Round Keys With the Engine Chosen For its Size,
+     *  Stopping Early Once the Parameter Condition Holds. The Condition is
+     *  Checked Every Few Hundred Keys (and by the Scheduler Between the
+     *  Chunks of a Parallel Batch), so Cancelling a Large Batch Takes
+     *  Effect Quickly.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys.
+     *
+     *  @param originals        The Arrays the Original Keys are
+     *                          Written to, One per Key.
+     *
+     *  @param stop             The Condition That Cancels the Batch, or
+     *                          Null.
+     *
+     *  @return                 True if Every Key Was Inverted, or False
+     *                          if the Condition Stopped the Batch First
+     *                          (Leaving Some Originals Unwritten).
+     */
+    public boolean invertAll(byte[][] lastRoundKeys, byte[][] originals, BooleanSupplier stop) {
+        // Run the Chosen Engine, Recording the Mean Time per Key.
+        StageEvents.Probe probe = StageEvents.probe("invert");
+        probe.start();
+        long start = System.nanoTime();
+        InversionEngine engine = inversionEngine(lastRoundKeys.length);
+        boolean finished = invert(engine, lastRoundKeys, originals, stop);
+        if (finished && lastRoundKeys.length > 0) {
+            Metrics.INVERSION.record((System.nanoTime() - start) / lastRoundKeys.length, lastRoundKeys.length);
+            Metrics.KEYS_INVERTED.add(lastRoundKeys.length);
+        }
+        probe.finish(lastRoundKeys.length, engine.name(), 0);
+        return finished;
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Full Schedule of One
+     *  Last Round Key With the Engine Chosen For Single Keys.
+     *
+     *  @param lastRoundKey The Array Holding the Last Round Key.
+     *
+     *  @param offset       The Index of the Last Round Key.
+     *
+     *  @param schedule     The Array the 176 Byte Schedule is Written
+     *                      to, Original Key First.
+     *
+     *  @param at           The Index the Schedule is Written at.
+     */
+    public void recoverSchedule(byte[] lastRoundKey, int offset, byte[] schedule, int at) {
+        // Undo the Rounds Byte by Byte if That Won, Keeping Each Key.
+        if (inversionEngine(1) == InversionEngine.BYTEWISE) {
+            byte[] key = Arrays.copyOfRange(lastRoundKey, offset, offset + 16);
+            System.arraycopy(key, 0, schedule, at + 16 * KeySchedule.ROUNDS, 16);
+            for (int round = KeySchedule.ROUNDS; round >= 1; round--) {
+                key = InverseKeyGeneration.inverseRoundKeyBytewise(key, round);
+                System.arraycopy(key, 0, schedule, at + 16 * (round - 1), 16);
+            }
+            return;
+        }
+        KeySchedule.recoverSchedule(lastRoundKey, offset, schedule, at, KeySchedule.ROUNDS);
+    }
+
+    /**
+     *  This Method is Responsible for Checking That an Original Key
+     *  Belongs to a Last Round Key With a Given Engine.
+     *
+     *  @param engine       The Engine, Usually verificationEngine().
+     *
+     *  @param original     The Array Holding the Original Key.
+     *
+     *  @param originalOffset The Index of the Original Key.
+     *
+     *  @param lastRoundKey The Array Holding the Last Round Key.
+     *
+     *  @param lastOffset   The Index of the Last Round Key.
+     *
+     *  @param scratch      A 16 Byte Array the INVERT Engine Works in.
+     *
+     *  @return             True if They Match.
+     */
+    public static boolean verify(VerificationEngine engine, byte[] original, int originalOffset, byte[] lastRoundKey, int lastOffset, byte[] scratch) {
+        if (engine == VerificationEngine.INVERT) {
+            KeySchedule.recoverOriginalKey(lastRoundKey, lastOffset, scratch, 0, KeySchedule.ROUNDS);
+            return Block128.high(scratch, 0) == Block128.high(original, originalOffset) && Block128.low(scratch, 0) == Block128.low(original, originalOffset);
+        }
+        return KeySchedule.expandsTo(original, originalOffset, lastRoundKey, lastOffset, KeySchedule.ROUNDS);
+    }
+
+    /**
+     *  This Method is Responsible for Decrypting Whole ECB Blocks With
+     *  the Engine Chosen For the Message Length.
+     *
+     *  @param key          The 16 Byte Key.
+     *
+     *  @param in           The Array Holding the Ciphertext.
+     *
+     *  @param inOffset     The Index of the First Ciphertext Byte.
+     *
+     *  @param length       The Number of Bytes, a Multiple of 16.
+     *
+     *  @param out          The Array the Plaintext is Written to.
+     *
+     *  @param outOffset    The Index the Plaintext is Written at.
+     */
+    public void decrypt(byte[] key, byte[] in, int inOffset, int length, byte[] out, int outOffset) {
+        // Only Whole Blocks Can be Decrypted.
+        if (length % 16 != 0) {
+            throw new IllegalArgumentException("Length Must be a Multiple of 16: " + length);
+        }
+        StageEvents.Probe probe = StageEvents.probe("decrypt");
+        probe.start();
+        long start = System.nanoTime();
+        DecryptionEngine engine = decryptionEngine(length / 16);
+        Cipher cipher = engine == DecryptionEngine.JCE ? CIPHERS.get() : null;
+        if (cipher != null) {
+            decryptJce(cipher, key, in, inOffset, length, out, outOffset);
+        }
+        else {
+            // Fall Back to the Tables Where There is No JCE Cipher.
+            engine = DecryptionEngine.TABLE;
+            decryptTable(key, in, inOffset, length, out, outOffset);
+        }
+        Metrics.DECRYPTION.since(start);
+        Metrics.BLOCKS_DECRYPTED.add(length / 16);
+        probe.finish(length / 16, engine.name(), 0);
+    }
+
+    /**
+     *  This Method is Used to Check Whether the Choices Came From the
+     *  Cache File Rather Than a Calibration in This Run.
+     *
+     *  @return             True if They Were Cached.
+     */
+    public boolean isCached() {
+        // Return Cached Flag
+        return this.origin.equals("cached");
+    }
+
+    /**
+     *  This Method is Responsible for Describing the Choices and the
+     *  Measured Rates, For Diagnostics.
+     *
+     *  @return             One Line per Shape.
+     */
+    public String describe() {
+        // List Each Shape With its Choice and Every Engine's Rate.
+        StringBuilder text = new StringBuilder();
+        text.append("Engines (").append(this.origin).append(", ").append(fingerprint()).append(")\n");
+        for (Map.Entry<Shape, Enum<?>> choice : this.choices.entrySet()) {
+            text.append(String.format("  %-17s %-15s", choice.getKey(), choice.getValue()));
+            for (Map.Entry<String, Double> rate : this.rates.get(choice.getKey()).entrySet()) {
+                text.append(String.format("  %s=%.0f/s", rate.getKey(), rate.getValue()));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     *  This Method is Responsible for Running One Engine on One Shape,
+     *  First to Warm it Up and Then Timed, and Keeping it if it is the
+     *  Fastest Seen so Far.
+     *
+     *  @param shape        The Shape Being Measured.
+     *
+     *  @param engine       The Engine Being Measured.
+     *
+     *  @param keysPerRun   The Number of Keys Each Run Handles.
+     *
+     *  @param run          One Run of the Engine.
+     */
+    private void measure(Shape shape, Enum<?> engine, int keysPerRun, Runnable run) {
+        // Warm the Engine Up so the JIT Has Compiled it.
+        long end = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < end) {
+            run.run();
+        }
+
+        // Count the Runs Finished in the Timed Window.
+        long runs = 0;
+        long start = System.nanoTime();
+        long now = start;
+        while (now - start < MEASURE_NANOS) {
+            run.run();
+            runs++;
+            now = System.nanoTime();
+        }
+        double rate = runs * (double) keysPerRun * 1e9 / (now - start);
+
+        // Keep the Rate, and the Engine if it is the Fastest.
+        Map<String, Double> shapeRates = this.rates.computeIfAbsent(shape, s -> new LinkedHashMap<>());
+        shapeRates.put(engine.name(), rate);
+        Enum<?> best = this.choices.get(shape);
+        if (best == null || rate > shapeRates.get(best.name())) {
+            this.choices.put(shape, engine);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Inverting a Batch With a Given
+     *  Engine.
+     *
+     *  @param engine           The Engine to Use.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys.
+     *
+     *  @param originals        The Arrays the Original Keys are
+     *                          Written to.
+     *
+     *  @param stop             The Condition That Cancels the Batch, or
+     *                          Null.
+     *
+     *  @return                 True if Every Key Was Inverted.
+     */
+    private static boolean invert(InversionEngine engine, byte[][] lastRoundKeys, byte[][] originals, BooleanSupplier stop) {
+        // Make Sure the Arrays Line Up.
+        if (originals.length < lastRoundKeys.length) {
+            throw new IllegalArgumentException("Too Few Output Arrays: " + originals.length + " < " + lastRoundKeys.length);
+        }
+        switch (engine) {
+            case BYTEWISE:
+                for (int i = 0; i < lastRoundKeys.length; i++) {
+                    if (stopped(stop, i)) {
+                        return false;
+                    }
+                    invertBytewise(lastRoundKeys[i], originals[i]);
+                }
+                return true;
+            case FUSED:
+                for (int i = 0; i < lastRoundKeys.length; i++) {
+                    if (stopped(stop, i)) {
+                        return false;
+                    }
+                    KeySchedule.recoverOriginalKey(lastRoundKeys[i], 0, originals[i], 0, KeySchedule.ROUNDS);
+                }
+                return true;
+            default:
+                AdaptiveScheduler.common().execute(0, lastRoundKeys.length, (from, to, worker) -> {
+                    for (int i = (int) from; i < to; i++) {
+                        if (stopped(stop, i - from)) {
+                            return;
+                        }
+                        KeySchedule.recoverOriginalKey(lastRoundKeys[i], 0, originals[i], 0, KeySchedule.ROUNDS);
+                    }
+                }, stop);
+                return stop == null || !stop.getAsBoolean();
+        }
+    }
+
+    /**
+     *  This Method is Used to Check a Stop Condition Once Every
+     *  STOP_INTERVAL Keys.
+     *
+     *  @param stop             The Condition, or Null.
+     *
+     *  @param done             The Number of Keys Inverted so Far.
+     *
+     *  @return                 True if the Batch Should Stop.
+     */
+    private static boolean stopped(BooleanSupplier stop, long done) {
+        // Only Call the Condition Now and Then.
+        return stop != null && done % STOP_INTERVAL == 0 && stop.getAsBoolean();
+    }
+
+    /**
+     *  This Method is Used to Invert All Ten Rounds With the Byte Wise
+     *  Inverse Round.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @param original     The Array the Original Key is Written to.
+     */
+    private static void invertBytewise(byte[] lastRoundKey, byte[] original) {
+        // Undo Each Round in Turn.
+        byte[] key = lastRoundKey;
+        for (int round = KeySchedule.ROUNDS; round >= 1; round--) {
+            key = InverseKeyGeneration.inverseRoundKeyBytewise(key, round);
+        }
+        System.arraycopy(key, 0, original, 0, 16);
+    }
+
+    /**
+     *  This Method is Used to Decrypt Whole Blocks With a JCE Cipher.
+     *
+     *  @param cipher       The Cipher, Initialised Here With the Key.
+     *
+     *  @param key          The 16 Byte Key.
+     *
+     *  @param in           The Ciphertext Array.
+     *
+     *  @param inOffset     The Index of the First Ciphertext Byte.
+     *
+     *  @param length       The Number of Bytes.
+     *
+     *  @param out          The Plaintext Array.
+     *
+     *  @param outOffset    The Index the Plaintext is Written at.
+     */
+    static void decryptJce(Cipher cipher, byte[] key, byte[] in, int inOffset, int length, byte[] out, int outOffset) {
+        try {
+            // Set the Key and Decrypt Every Block.
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"));
+            cipher.doFinal(in, inOffset, length, out, outOffset);
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JCE Decryption Failed", e);
+        }
+    }
+
+    /**
+     *  This Method is Used to Decrypt Whole Blocks With AesCore.
+     *
+     *  @param key          The 16 Byte Key.
+     *
+     *  @param in           The Ciphertext Array.
+     *
+     *  @param inOffset     The Index of the First Ciphertext Byte.
+     *
+     *  @param length       The Number of Bytes.
+     *
+     *  @param out          The Plaintext Array.
+     *
+     *  @param outOffset    The Index the Plaintext is Written at.
+     */
+    static void decryptTable(byte[] key, byte[] in, int inOffset, int length, byte[] out, int outOffset) {
+        // Expand the Key Once, Then Decrypt Each Block.
+        int[] words = new int[4 * (KeySchedule.ROUNDS + 1)];
+        int[] decryption = new int[words.length];
+        KeySchedule.expandKeyWords(key, 0, words, KeySchedule.ROUNDS);
+        AesCore.decryptionWords(words, KeySchedule.ROUNDS, decryption);
+        for (int i = 0; i < length; i += 16) {
+            AesCore.decryptBlock(decryption, KeySchedule.ROUNDS, in, inOffset + i, out, outOffset + i);
+        }
+    }
+
+    /**
+     *  This Method is Used to Get a JCE ECB Cipher.
+     *
+     *  @return             The Cipher, or Null if the Platform Has None.
+     */
+    static Cipher jceCipher() {
+        try {
+            // Every Java Platform Should Provide it.
+            return Cipher.getInstance("AES/ECB/NoPadding");
+        }
+        catch (GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     *  This Method is Used to Describe the Platform the Choices Were
+     *  Made For.
+     *
+     *  @return             The Platform Fingerprint.
+     */
+    private static String fingerprint() {
+        // Join Everything That Changes Which Engine Wins.
+        return System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + " "
+                + System.getProperty("os.name") + " " + System.getProperty("os.arch") + " "
+                + Runtime.getRuntime().availableProcessors() + "cpu v" + CALIBRATION_VERSION;
+    }
+
+    /**
+     *  This Method is Used to Find the Cache File.
+     *
+     *  @return             The Path of the Cache File.
+     */
+    private static Path cacheFile() {
+        // Use the Property if Set, Otherwise the Home Directory.
+        String property = System.getProperty("aes.engine.cache");
+        return property != null ? Paths.get(property) : Paths.get(System.getProperty("user.home"), ".aes-round-key-inverter", "engines.properties");
+    }
+
+    /**
+     *  This Method is Responsible for Reading the Cache File. A File
+     *  Written on Another Platform, or One That Can Not be Read, is
+     *  Ignored.
+     *
+     *  @param file         The Cache File.
+     *
+     *  @return             The Cached Selector, or Null.
+     */
+    private static EngineSelector load(Path file) {
+        // Read the File, if There is One.
+        Properties state = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            state.load(in);
+        }
+        catch (IOException e) {
+            return null;
+        }
+        if (!fingerprint().equals(state.getProperty("fingerprint"))) {
+            return null;
+        }
+
+        // Restore the Choice and Rates of Every Shape.
+        EngineSelector selector = new EngineSelector();
+        try {
+            for (Shape shape : Shape.values()) {
+                String choice = state.getProperty(shape + ".choice");
+                if (choice == null) {
+                    return null;
+                }
+                switch (shape) {
+                    case SINGLE_INVERSION:
+                    case BATCH_INVERSION:
+                        selector.choices.put(shape, InversionEngine.valueOf(choice));
+                        break;
+                    case VERIFICATION:
+                        selector.choices.put(shape, VerificationEngine.valueOf(choice));
+                        break;
+                    default:
+                        selector.choices.put(shape, DecryptionEngine.valueOf(choice));
+                }
+                Map<String, Double> shapeRates = new LinkedHashMap<>();
+                for (String rate : state.getProperty(shape + ".rates", "").split(",")) {
+                    int equals = rate.indexOf('=');
+                    if (equals > 0) {
+                        shapeRates.put(rate.substring(0, equals), Double.parseDouble(rate.substring(equals + 1)));
+                    }
+                }
+                selector.rates.put(shape, shapeRates);
+            }
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+        selector.origin = "cached";
+        return selector;
+    }
+
+    /**
+     *  This Method is Responsible for Writing the Cache File. The File is
+     *  Written Beside the Target and Then Moved Over it.
+     *
+     *  @param file         The Cache File.
+     *
+     *  @throws IOException When the File Can Not be Written.
+     */
+    private void save(Path file) throws IOException {
+        // Collect the Choices and Rates.
+        Properties state = new Properties();
+        state.setProperty("fingerprint", fingerprint());
+        for (Map.Entry<Shape, Enum<?>> choice : this.choices.entrySet()) {
+            state.setProperty(choice.getKey() + ".choice", choice.getValue().name());
+            StringBuilder rates = new StringBuilder();
+            for (Map.Entry<String, Double> rate : this.rates.get(choice.getKey()).entrySet()) {
+                rates.append(rates.length() == 0 ? "" : ",").append(rate.getKey()).append('=').append(String.format("%.0f", rate.getValue()));
+            }
+            state.setProperty(choice.getKey() + ".rates", rates.toString());
+        }
+
+        // Write it Beside the Target, Then Swap it in.
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            state.store(out, "Engine Calibration");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     *  Main Method That Prints the Engine Choices, Calibrating Again
+     *  First When Asked.
+     *
+     *  @param args     Optionally "--recalibrate".
+     *
+     *  @throws IOException When the Cache File Can Not be Written.
+     */
+    public static void main(String[] args) throws IOException {
+        // Recalibrate and Replace the Cache, or Use the Current Choices.
+        EngineSelector selector;
+        if (args.length > 0 && args[0].equals("--recalibrate")) {
+            selector = calibrate();
+            selector.save(cacheFile());
+            synchronized (EngineSelector.class) {
+                current = selector;
+            }
+        }
+        else {
+            selector = initialize();
+        }
+        System.out.print(selector.describe());
+    }
+}
@@ -0,0 +1,637 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ *  This Class is Responsible for Recovering the Original Key of One and
+ *  Two Round AES-128 From Only One or Two Known Plaintext and Ciphertext
+ *  Pairs by Guessing Part of the Key and Determining the Rest.
+ *
+ *  For One Round Each Row of the State Only Mixes With the Same Row of the
+ *  Two Round Keys, Plus One Byte of the Next Row That Passes Through the
+ *  Key Schedule's Substitute Word Step. Guessing a Single Round 1 Key Byte
+ *  Fixes Most Rows Outright, so Each Row Needs Only a Few Hundred Guesses,
+ *  the Rows are Solved in Parallel, and the Row Solutions are Then Joined
+ *  Through the Schedule.
+ *
+ *  For Two Rounds the Unknown Bytes of the Last Round Key are Enumerated
+ *  in Parallel Around the Bytes That are Already Known, and Each Guess is
+ *  Pushed Back to the Original Key With the Inverse Key Schedule. The
+ *  First Column of the State Between the Rounds is Then Worked Out Twice,
+ *  Forward From the Plaintext and Backward From the Ciphertext, and a
+ *  Guess Whose Two Columns Disagree is Dropped There, so Only the Rare
+ *  Survivors are Fully Encrypted.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class GuessAndDetermine {
+
+    // The Largest Number of Unknown Last Round Key
+    // Bytes the Two Round Search Will Enumerate.
+    public static final int MAX_UNKNOWN_BYTES = 5;
+
+    /**
+     *  This Class Holds the Keys Found by a Search Together With its
+     *  Statistics.
+     */
+    public static final class Result {
+
+        // The Original Keys That Match Every Pair.
+        private final List<byte[]> keys;
+        // The Number of Guesses Tried.
+        private final long guesses;
+        // The Number of Guesses Rejected.
+        private final long pruned;
+        // The Time the Search Took in Nanoseconds.
+        private final long nanos;
+
+        Result(List<byte[]> keys, long guesses, long pruned, long nanos) {
+            // Set Result Values
+            this.keys = keys;
+            this.guesses = guesses;
+            this.pruned = pruned;
+            this.nanos = nanos;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving Every
+         *  Original Key That Matches All of the Pairs.
+         *
+         *  @return             The 16 Byte Original Keys.
+         */
+        public List<byte[]> getKeys() {
+            // Return Keys
+            return this.keys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Guesses Tried.
+         *
+         *  @return             The Guess Count.
+         */
+        public long getGuesses() {
+            // Return Guess Count
+            return this.guesses;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Share of
+         *  Guesses That Were Rejected Before Reaching a Full Key.
+         *
+         *  @return             The Pruning Ratio (0 to 1).
+         */
+        public double getPruningRatio() {
+            // Avoid Dividing by Zero.
+            return this.guesses == 0 ? 0 : (double) this.pruned / this.guesses;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Rate
+         *  the Guesses Were Tried at.
+         *
+         *  @return             The Guesses per Second.
+         */
+        public double getGuessesPerSecond() {
+            // Avoid Dividing by Zero.
+            return this.nanos == 0 ? 0 : this.guesses * 1e9 / this.nanos;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Time the
+         *  Search Took.
+         *
+         *  @return             The Elapsed Time in Nanoseconds.
+         */
+        public long getElapsedNanos() {
+            // Return Elapsed Time
+            return this.nanos;
+        }
+    }
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper
+     *  Class From Being Created.
+     */
+    private GuessAndDetermine() {
+    }
+
+    /**
+     *  This Method is Responsible for Recovering Every Original Key of
+     *  One Round AES-128 That Matches the Parameter Pairs. The First Pair
+     *  Drives the Guesses and Any Further Pairs Only Filter the Results.
+     *
+     *  @param plaintexts   The 16 Byte Known Plaintexts.
+     *
+     *  @param ciphertexts  The Matching 16 Byte Ciphertexts.
+     *
+     *  @return             The Search Result.
+     */
+    public static Result solveOneRound(byte[][] plaintexts, byte[][] ciphertexts) {
+        // Make Sure the Pairs Line Up.
+        checkPairs(plaintexts, ciphertexts);
+        long start = System.nanoTime();
+        byte[] p = plaintexts[0];
+        byte[] c = ciphertexts[0];
+
+        // Solve the Four Rows in Parallel. Each Row Solution Packs the
+        // Four Original Key Bytes of the Row (Column 0 in the Lowest Byte)
+        // and the Substitute Word Byte Above Them.
+        LongAdder guesses = new LongAdder();
+        LongAdder pruned = new LongAdder();
+        List<List<long[]>> rows = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            rows.add(null);
+        }
+        IntStream.range(0, 4).parallel().forEach(r -> rows.set(r, solveRow(p, c, r, guesses, pruned)));
+
+        // Index the Solutions of Each Row by Their Column 3 Key Byte,
+        // Which is What the Row Above Needs From Them.
+        List<List<List<long[]>>> byLastByte = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            List<List<long[]>> index = new ArrayList<>();
+            for (int v = 0; v < 256; v++) {
+                index.add(new ArrayList<>());
+            }
+            for (long[] solution : rows.get(r)) {
+                index.get((int) (solution[0] >>> 24)).add(solution);
+            }
+            byLastByte.add(index);
+        }
+
+        // Join the Rows Through the Schedule. Row r's Substitute Word
+        // Byte Must Come From Row r + 1's Column 3 Key Byte.
+        int rcon = InverseKeyGeneration.ROUND_CONSTANT_BOX[1] & 0xFF;
+        List<byte[]> keys = Collections.synchronizedList(new ArrayList<>());
+        rows.get(0).parallelStream().forEach(s0 -> {
+            int need1 = AesCore.INV_SBOX[(int) s0[1] ^ rcon];
+            for (long[] s1 : byLastByte.get(1).get(need1)) {
+                for (long[] s2 : byLastByte.get(2).get(AesCore.INV_SBOX[(int) s1[1]])) {
+                    for (long[] s3 : byLastByte.get(3).get(AesCore.INV_SBOX[(int) s2[1]])) {
+                        // Close the Loop Back to Row 0.
+                        if (AesCore.SBOX[(int) (s0[0] >>> 24)] != (int) s3[1]) {
+                            continue;
+                        }
+
+                        // Assemble the Original Key and Check it
+                        // Against Every Pair.
+                        byte[] key = new byte[16];
+                        long[][] solutions = { s0, s1, s2, s3 };
+                        for (int r = 0; r < 4; r++) {
+                            for (int m = 0; m < 4; m++) {
+                                key[4 * m + r] = (byte) (solutions[r][0] >>> (8 * m));
+                            }
+                        }
+                        if (matchesAll(key, 1, plaintexts, ciphertexts)) {
+                            keys.add(key);
+                        }
+                    }
+                }
+            }
+        });
+
+        // Return the Keys and Statistics. (A Row Guess
+        // Counts as Pruned When its Own Relations Fail.)
+        return new Result(new ArrayList<>(keys), guesses.sum(), pruned.sum(), System.nanoTime() - start);
+    }
+
+    /**
+     *  This Method is Responsible for Solving a Single Row of a One Round
+     *  Pair. Row r Links the Original Key Bytes k[m] = K0[4m + r] and the
+     *  Round 1 Key Bytes a[m] = K1[4m + r] Through the Schedule,
+     *
+     *      a[0] = k[0] ^ g,  a[m] = a[m - 1] ^ k[m],
+     *
+     *  and Through the Cipher, Where Key Column m Meets Ciphertext Column
+     *  (m - r) % 4:
+     *
+     *      a[(m - r) % 4] = C[4((m - r) % 4) + r] ^ S[P[4m + r] ^ k[m]].
+     *
+     *  That Leaves One Free Byte per Row, so a[0] is Guessed, the
+     *  Relations are Propagated, and a Further Key Byte is Only Guessed
+     *  When the Propagation Stalls. The Substitute Word Byte g Falls Out
+     *  as a[0] ^ k[0].
+     *
+     *  @param p            The Plaintext.
+     *
+     *  @param c            The Ciphertext.
+     *
+     *  @param r            The Row.
+     *
+     *  @param guesses      The Counter of Guesses Tried.
+     *
+     *  @param pruned       The Counter of Rejected Guesses.
+     *
+     *  @return             The Row Solutions as {Key Bytes, g}.
+     */
+    private static List<long[]> solveRow(byte[] p, byte[] c, int r, LongAdder guesses, LongAdder pruned) {
+        // Read the Row's Plaintext and Ciphertext Bytes, Indexed by the
+        // Key Column They Meet.
+        int[] plain = new int[4];
+        int[] cipher = new int[4];
+        int[] column = new int[4];
+        for (int m = 0; m < 4; m++) {
+            column[m] = (m - r) & 3;
+            plain[m] = p[4 * m + r] & 0xFF;
+            cipher[m] = c[4 * column[m] + r] & 0xFF;
+        }
+
+        // Try Every Guess of a[0].
+        List<long[]> solutions = new ArrayList<>();
+        for (int a0 = 0; a0 < 256; a0++) {
+            int[] k = new int[4];
+            int[] a = new int[4];
+            a[0] = a0;
+            determineRow(plain, cipher, column, k, a, 0, 1, solutions, guesses, pruned);
+        }
+        return solutions;
+    }
+
+    /**
+     *  This Method is Used to Propagate One Row Guess Through the Cipher
+     *  and Schedule Relations. A Guess Whose Relations Fail is Pruned at
+     *  Once, and a Guess That Stalls Branches on its First Unknown Key
+     *  Byte.
+     *
+     *  @param plain        The Plaintext Byte Met by Each Key Column.
+     *
+     *  @param cipher       The Ciphertext Byte Met by Each Key Column.
+     *
+     *  @param column       The Ciphertext Column Met by Each Key Column.
+     *
+     *  @param k            The Original Key Bytes of the Row.
+     *
+     *  @param a            The Round 1 Key Bytes of the Row.
+     *
+     *  @param knownK       The Mask of Known Original Key Bytes.
+     *
+     *  @param knownA       The Mask of Known Round 1 Key Bytes.
+     *
+     *  @param solutions    The List Full Solutions are Added to.
+     *
+     *  @param guesses      The Counter of Guesses Tried.
+     *
+     *  @param pruned       The Counter of Rejected Guesses.
+     */
+    private static void determineRow(int[] plain, int[] cipher, int[] column, int[] k, int[] a, int knownK, int knownA,
+            List<long[]> solutions, LongAdder guesses, LongAdder pruned) {
+        guesses.increment();
+
+        // Apply the Relations Until Nothing Changes.
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int m = 0; m < 4; m++) {
+                // The Cipher Relation Between k[m] and a[column[m]].
+                int cm = column[m];
+                boolean hasK = (knownK & 1 << m) != 0;
+                boolean hasA = (knownA & 1 << cm) != 0;
+                if (hasK && hasA) {
+                    if (a[cm] != (cipher[m] ^ AesCore.SBOX[plain[m] ^ k[m]])) {
+                        pruned.increment();
+                        return;
+                    }
+                }
+                else if (hasK) {
+                    a[cm] = cipher[m] ^ AesCore.SBOX[plain[m] ^ k[m]];
+                    knownA |= 1 << cm;
+                    changed = true;
+                }
+                else if (hasA) {
+                    k[m] = plain[m] ^ AesCore.INV_SBOX[a[cm] ^ cipher[m]];
+                    knownK |= 1 << m;
+                    changed = true;
+                }
+
+                // The Schedule Relation a[m] = a[m - 1] ^ k[m].
+                if (m > 0) {
+                    int bits = ((knownA >>> (m - 1)) & 1) | ((knownA >>> m) & 1) << 1 | ((knownK >>> m) & 1) << 2;
+                    if (bits == 7) {
+                        if (a[m] != (a[m - 1] ^ k[m])) {
+                            pruned.increment();
+                            return;
+                        }
+                    }
+                    else if (bits == 3) {
+                        k[m] = a[m] ^ a[m - 1];
+                        knownK |= 1 << m;
+                        changed = true;
+                    }
+                    else if (bits == 5) {
+                        a[m] = a[m - 1] ^ k[m];
+                        knownA |= 1 << m;
+                        changed = true;
+                    }
+                    else if (bits == 6) {
+                        a[m - 1] = a[m] ^ k[m];
+                        knownA |= 1 << (m - 1);
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        // Keep the Row Once Every Byte is Known.
+        if (knownK == 15 && knownA == 15) {
+            solutions.add(new long[] { (k[0] | k[1] << 8 | k[2] << 16 | (long) k[3] << 24), a[0] ^ k[0] });
+            return;
+        }
+
+        // Otherwise Branch on the First Unknown Key Byte.
+        int m = Integer.numberOfTrailingZeros(~knownK);
+        for (int v = 0; v < 256; v++) {
+            int[] nextK = k.clone();
+            int[] nextA = a.clone();
+            nextK[m] = v;
+            determineRow(plain, cipher, column, nextK, nextA, knownK | 1 << m, knownA, solutions, guesses, pruned);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Recovering Every Original Key of
+     *  Two Round AES-128 That Matches the Parameter Pairs, Given Some of
+     *  the Bytes of the Round 2 Key. The Unknown Bytes are Enumerated in
+     *  Parallel.
+     *
+     *  @param plaintexts   The 16 Byte Known Plaintexts.
+     *
+     *  @param ciphertexts  The Matching 16 Byte Ciphertexts.
+     *
+     *  @param partialKey   The Round 2 Key With the Known Bytes Filled.
+     *
+     *  @param knownMask    Bit i is Set When Byte i of the Partial
+     *                      Key is Known.
+     *
+     *  @return             The Search Result.
+     */
+    public static Result solveTwoRounds(byte[][] plaintexts, byte[][] ciphertexts, byte[] partialKey, int knownMask) {
+        try {
+            // Search Without a Checkpoint File.
+            return solveTwoRounds(plaintexts, ciphertexts, partialKey, knownMask, null);
+        }
+        catch (IOException e) {
+            // Nothing is Read or Written Without a File.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Recovering Every Original Key of
+     *  Two Round AES-128 That Matches the Parameter Pairs, Given Some of
+     *  the Bytes of the Round 2 Key, Saving Progress to a Checkpoint
+     *  File. A Search Restarted With the Same Pairs and Partial Key Skips
+     *  Every Block of Guesses Already Finished.
+     *
+     *  @param plaintexts       The 16 Byte Known Plaintexts.
+     *
+     *  @param ciphertexts      The Matching 16 Byte Ciphertexts.
+     *
+     *  @param partialKey       The Round 2 Key With the Known Bytes Filled.
+     *
+     *  @param knownMask        Bit i is Set When Byte i of the Partial
+     *                          Key is Known.
+     *
+     *  @param checkpointFile   The Checkpoint File, or Null For None.
+     *
+     *  @return                 The Search Result, Including Keys Found
+     *                          Before a Resume.
+     *
+     *  @throws IOException     When the Checkpoint Can Not be Read or
+     *                          Written.
+     */
+    public static Result solveTwoRounds(byte[][] plaintexts, byte[][] ciphertexts, byte[] partialKey, int knownMask, Path checkpointFile) throws IOException {
+        // Make Sure the Pairs Line Up.
+        checkPairs(plaintexts, ciphertexts);
+
+        // Find the Unknown Byte Positions.
+        int[] unknown = new int[Integer.bitCount(~knownMask & 0xFFFF)];
+        for (int i = 0, n = 0; i < 16; i++) {
+            if ((knownMask & 1 << i) == 0) {
+                unknown[n++] = i;
+            }
+        }
+        if (unknown.length > MAX_UNKNOWN_BYTES) {
+            throw new IllegalArgumentException("Too Many Unknown Key Bytes: " + unknown.length + " (At Most " + MAX_UNKNOWN_BYTES + ")");
+        }
+
+        // Keep the First Pair, Used to Prune Guesses.
+        byte[] firstPlain = plaintexts[0];
+        byte[] firstCipher = ciphertexts[0];
+        long total = 1L << (8 * unknown.length);
+        long start = System.nanoTime();
+
+        // Open the Checkpoint, Counting Progress in Whole Blocks.
+        long blocks = Math.max(1, total >>> 16);
+        SearchCheckpoint progress = SearchCheckpoint.open(checkpointFile, identity(plaintexts, ciphertexts, partialKey, knownMask), blocks, SearchCheckpoint.DEFAULT_INTERVAL_MILLIS);
+
+        // Enumerate the Unfinished Guesses in Parallel Blocks of 2^16.
+        LongAdder guesses = new LongAdder();
+        LongAdder pruned = new LongAdder();
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        LongStream.range(0, blocks).parallel().filter(block -> !progress.isFinished(block)).forEach(block -> {
+            // Create the Scratch Buffers Once Per Block.
+            byte[] guess = partialKey.clone();
+            byte[] original = new byte[16];
+            int[] words = new int[12];
+
+            long end = Math.min(total, (block + 1) << 16);
+            for (long value = block << 16; value < end; value++) {
+                // Fill the Unknown Bytes From the Guess Value.
+                for (int j = 0; j < unknown.length; j++) {
+                    guess[unknown[j]] = (byte) (value >>> (8 * j));
+                }
+
+                // Undo the Last Round on the Four Ciphertext Bytes
+                // That Come From the First Middle Column.
+                int middle = AesCore.INV_SBOX[(firstCipher[0] ^ guess[0]) & 0xFF] << 24
+                        | AesCore.INV_SBOX[(firstCipher[13] ^ guess[13]) & 0xFF] << 16
+                        | AesCore.INV_SBOX[(firstCipher[10] ^ guess[10]) & 0xFF] << 8
+                        | AesCore.INV_SBOX[(firstCipher[7] ^ guess[7]) & 0xFF];
+
+                // Push the Guess Back to the Original Key.
+                KeySchedule.recoverOriginalKey(guess, 0, original, 0, 2);
+                KeySchedule.expandKeyWords(original, 0, words, 2);
+
+                // Drop the Guess as Soon as the Column Reached From the
+                // Plaintext Disagrees, Before Encrypting Anything Whole.
+                if (AesCore.firstRoundColumn(words, firstPlain, 0) != middle || !matchesAll(original, 2, plaintexts, ciphertexts)) {
+                    pruned.increment();
+                    continue;
+                }
+                progress.addCandidate(original);
+            }
+            guesses.add(end - (block << 16));
+
+            // Record the Block, Then Save Progress When it is Due.
+            progress.complete(block, block + 1);
+            try {
+                progress.saveIfDue();
+            }
+            catch (IOException e) {
+                failures.add(e);
+            }
+        });
+        if (!failures.isEmpty()) {
+            throw failures.get(0);
+        }
+
+        // Save the Final Progress and Return the Keys and Statistics.
+        progress.save();
+        return new Result(progress.getCandidates(), guesses.sum(), pruned.sum(), System.nanoTime() - start);
+    }
+
+    /**
+     *  This Method is Used to Describe a Two Round Search, so a
+     *  Checkpoint is Only Reused For the Same Pairs and Partial Key.
+     *
+     *  @param plaintexts   The Known Plaintexts.
+     *
+     *  @param ciphertexts  The Matching Ciphertexts.
+     *
+     *  @param partialKey   The Partial Round 2 Key.
+     *
+     *  @param knownMask    The Known Byte Mask.
+     *
+     *  @return             The Search Identity.
+     */
+    private static String identity(byte[][] plaintexts, byte[][] ciphertexts, byte[] partialKey, int knownMask) {
+        // Join Every Input in Hex.
+        StringBuilder identity = new StringBuilder("two-round:");
+        identity.append(Block128.toHex(partialKey, 0)).append('/').append(Integer.toHexString(knownMask));
+        for (int i = 0; i < plaintexts.length; i++) {
+            identity.append(':').append(Block128.toHex(plaintexts[i], 0)).append('/').append(Block128.toHex(ciphertexts[i], 0));
+        }
+        return identity.toString();
+    }
+
+    /**
+     *  This Method is Used to Check an Original Key Against Every Pair.
+     *
+     *  @param key          The Original Key.
+     *
+     *  @param rounds       The Number of Rounds.
+     *
+     *  @param plaintexts   The Known Plaintexts.
+     *
+     *  @param ciphertexts  The Matching Ciphertexts.
+     *
+     *  @return             True if Every Pair Matches.
+     */
+    private static boolean matchesAll(byte[] key, int rounds, byte[][] plaintexts, byte[][] ciphertexts) {
+        // Expand the Key and Encrypt Each Plaintext.
+        int[] words = new int[4 * (rounds + 1)];
+        KeySchedule.expandKeyWords(key, 0, words, rounds);
+        byte[] out = new byte[16];
+        for (int i = 0; i < plaintexts.length; i++) {
+            AesCore.encryptBlock(words, rounds, plaintexts[i], 0, out, 0);
+            if (Block128.high(out, 0) != Block128.high(ciphertexts[i], 0) || Block128.low(out, 0) != Block128.low(ciphertexts[i], 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *  This Method is Used to Make Sure the Pairs are Usable.
+     *
+     *  @param plaintexts   The Known Plaintexts.
+     *
+     *  @param ciphertexts  The Matching Ciphertexts.
+     */
+    private static void checkPairs(byte[][] plaintexts, byte[][] ciphertexts) {
+        // At Least One Whole Pair is Needed.
+        if (plaintexts.length == 0 || plaintexts.length != ciphertexts.length) {
+            throw new IllegalArgumentException("Need Matching Plaintexts and Ciphertexts");
+        }
+        for (int i = 0; i < plaintexts.length; i++) {
+            if (plaintexts[i].length != 16 || ciphertexts[i].length != 16) {
+                throw new IllegalArgumentException("Pair " + i + " is Not 16 Bytes");
+            }
+        }
+    }
+
+    /**
+     *  Main Method That Reads Known Pairs From a Text File and Prints the
+     *  Recovered Keys and Search Statistics. Each Line Holds a Plaintext
+     *  Followed by its Ciphertext. For Two Rounds the Partial Round 2 Key
+     *  is Given as 32 Hex Characters With "??" in Place of Unknown Bytes.
+     *
+     *  @param args     The Round Count (1 or 2), the Pair File and, For
+     *                  Two Rounds, the Partial Round 2 Key and an
+     *                  Optional Checkpoint File.
+     *
+     *  @throws IOException When the Pair File Can Not be Read.
+     */
+    public static void main(String[] args) throws IOException {
+        // Make Sure the Required Arguments Were Given.
+        if (args.length < 2 || (args[0].equals("2") && args.length < 3)) {
+            System.err.println("Usage: java GuessAndDetermine 1 <pair file>");
+            System.err.println("       java GuessAndDetermine 2 <pair file> <partial round 2 key> [checkpoint file]");
+            System.exit(2);
+        }
+
+        // Read the Pairs.
+        List<byte[]> plain = new ArrayList<>();
+        List<byte[]> cipher = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String compact = InverseKeyGeneration.formatInputString(line);
+                if (compact.isEmpty() || compact.charAt(0) == '#') {
+                    continue;
+                }
+                byte[] p = new byte[16];
+                byte[] c = new byte[16];
+                if (compact.length() != 64 || !Block128.parseHex(compact, 0, p, 0) || !Block128.parseHex(compact, 32, c, 0)) {
+                    throw new IOException("Invalid Pair: " + line);
+                }
+                plain.add(p);
+                cipher.add(c);
+            }
+        }
+        byte[][] plaintexts = plain.toArray(new byte[0][]);
+        byte[][] ciphertexts = cipher.toArray(new byte[0][]);
+
+        // Run the Search For the Requested Round Count.
+        Result result;
+        if (args[0].equals("1")) {
+            result = solveOneRound(plaintexts, ciphertexts);
+        }
+        else {
+            // Parse the Partial Key, Byte by Byte.
+            String pattern = InverseKeyGeneration.formatInputString(args[2]);
+            if (pattern.length() != 32) {
+                throw new IllegalArgumentException("Partial Key Must Have 32 Characters");
+            }
+            byte[] partial = new byte[16];
+            int mask = 0;
+            for (int i = 0; i < 16; i++) {
+                String pair = pattern.substring(2 * i, 2 * i + 2);
+                if (!pair.equals("??")) {
+                    partial[i] = (byte) Integer.parseInt(pair, 16);
+                    mask |= 1 << i;
+                }
+            }
+            result = solveTwoRounds(plaintexts, ciphertexts, partial, mask, args.length > 3 ? Paths.get(args[3]) : null);
+        }
+
+        // Print the Keys and Statistics.
+        for (byte[] key : result.getKeys()) {
+            System.out.println("Original Key:\t" + Block128.toHex(key, 0));
+        }
+        System.out.println("Keys Found:\t" + result.getKeys().size());
+        System.out.println("Guesses:\t" + result.getGuesses());
+        System.out.printf("Guesses/Second:\t%.0f%n", result.getGuessesPerSecond());
+        System.out.printf("Pruning Ratio:\t%.6f%n", result.getPruningRatio());
+    }
+}
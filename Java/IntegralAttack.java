@@ -0,0 +1,302 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ *  This Class is Responsible for Recovering the Last Round Key of
+ *  Reduced Round AES-128 Using the Square (Integral) Attack. A Lambda Set
+ *  is 256 Chosen Plaintexts That Take Every Value in One Byte and Are
+ *  Constant Everywhere Else. After Three Rounds Every State Byte of Such
+ *  a Set XORs to Zero, so For a Four Round Cipher a Guess k of Last Round
+ *  Key Byte i is Only Kept if the XOR of INVERSE_SUBSITUTION_BOX[C[i] ^ k]
+ *  Over the Whole Set is Zero. Each Further Lambda Set Leaves About One
+ *  Wrong Guess in 256, so Two or Three Sets Fix the Whole Key.
+ *
+ *  Five Round Ciphers are Attacked the Same Way Using 2^32 Plaintexts
+ *  That Take Every Value on One Diagonal. The First Round Turns Those
+ *  Into Every Value of One Column, Which is Balanced Three Rounds Later,
+ *  so the Last Round Key is Again Tested One Byte at a Time.
+ *
+ *  Ciphertexts are Folded Into a 256 Bit Parity Table per Byte Position
+ *  as They Arrive (Values Seen an Even Number of Times Cancel Out of the
+ *  Sum), so Sets of Any Size Can be Streamed, and the Sixteen Positions
+ *  are Then Tested in Parallel Without Creating Any Objects.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class IntegralAttack {
+
+    // The Number of Ciphertexts in a Lambda Set
+    // For Four and Five Round Ciphers.
+    public static final long SET_SIZE_4_ROUNDS = 1L << 8;
+    public static final long SET_SIZE_5_ROUNDS = 1L << 32;
+    // The Largest Number of Full Key Candidates
+    // That Will be Enumerated and Inverted.
+    public static final int MAX_KEY_CANDIDATES = 1 << 16;
+
+    // The Inverse Substitution Box as Unsigned Integers.
+    private static final int[] INV_SBOX = new int[256];
+
+    static {
+        // Copy the Inverse Substitution Box.
+        for (int i = 0; i < 256; i++) {
+            INV_SBOX[i] = InverseKeyGeneration.INVERSE_SUBSITUTION_BOX[i] & 0xFF;
+        }
+    }
+
+    // The Number of Rounds of the Attacked Cipher. (The
+    // Final Round is Assumed to Skip MixColumns.)
+    private final int rounds;
+    // The Number of Ciphertexts in Each Lambda Set.
+    private final long setSize;
+    // The Parity Tables of Every Completed Lambda Set,
+    // Each Indexed by [Byte Position][Word].
+    private final List<long[][]> parities = new ArrayList<>();
+    // The Parity Table of the Set Being Filled and the
+    // Number of Ciphertexts Added to it so Far.
+    private long[][] open = new long[16][4];
+    private long filled;
+
+    /**
+     *  Constructor Method That is Used to Create a New Attack.
+     *
+     *  @param rounds       The Number of Rounds of the Cipher the
+     *                      Ciphertexts Came From (4 or 5).
+     */
+    public IntegralAttack(int rounds) {
+        // Only Four and Five Rounds are Covered by the
+        // Distinguisher Plus One Guessed Round.
+        if (rounds != 4 && rounds != 5) {
+            throw new IllegalArgumentException("Only Four or Five Round Ciphertexts Are Supported: " + rounds);
+        }
+        // Set Round Count
+        this.rounds = rounds;
+        // Set Lambda Set Size
+        this.setSize = rounds == 4 ? SET_SIZE_4_ROUNDS : SET_SIZE_5_ROUNDS;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Ciphertexts in Each Lambda Set.
+     *
+     *  @return             The Lambda Set Size.
+     */
+    public long getSetSize() {
+        // Return Set Size
+        return this.setSize;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Completed Lambda Sets.
+     *
+     *  @return             The Lambda Set Count.
+     */
+    public synchronized int getSetCount() {
+        // Return Set Count
+        return this.parities.size();
+    }
+
+    /**
+     *  This Method is Responsible for Adding Ciphertexts of the Lambda
+     *  Set Being Filled. Ciphertexts Must Arrive Set by Set, and a Set is
+     *  Completed as Soon as it Holds getSetSize() Ciphertexts.
+     *
+     *  @param ciphertexts  The Ciphertexts, Stored Back to Back.
+     *
+     *  @param offset       The Index of the First Ciphertext Byte.
+     *
+     *  @param count        The Number of Ciphertexts to Add.
+     */
+    public synchronized void addCiphertexts(byte[] ciphertexts, int offset, int count) {
+        // Make Sure Every Ciphertext is Present.
+        if (offset < 0 || count < 0 || offset + 16L * count > ciphertexts.length) {
+            throw new IllegalArgumentException("Ciphertexts Do Not Fit In Source Array");
+        }
+
+        for (int c = 0; c < count; c++) {
+            // Flip the Parity Bit of the Value Seen
+            // at Every Byte Position.
+            int base = offset + 16 * c;
+            for (int i = 0; i < 16; i++) {
+                int v = ciphertexts[base + i] & 0xFF;
+                this.open[i][v >>> 6] ^= 1L << v;
+            }
+
+            // Keep the Parity Tables Once the Set is Complete.
+            if (++this.filled == this.setSize) {
+                this.parities.add(this.open);
+                this.open = new long[16][4];
+                this.filled = 0;
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Finding the Key Byte Guesses That
+     *  Balance Every Lambda Set, For All Sixteen Byte Positions.
+     *
+     *  @return             A 256 Bit Set of Surviving Guesses For
+     *                      Each Byte Position.
+     */
+    public synchronized long[][] candidates() {
+        // Create the Candidate Sets.
+        long[][] candidates = new long[16][4];
+
+        // Test Each Byte Position in Parallel.
+        IntStream.range(0, 16).parallel().forEach(i -> {
+            for (int k = 0; k < 256; k++) {
+                if (balanced(i, k)) {
+                    candidates[i][k >>> 6] |= 1L << k;
+                }
+            }
+        });
+
+        // Return the Candidate Sets.
+        return candidates;
+    }
+
+    /**
+     *  This Method is Used to Check Whether a Key Byte Guess Balances
+     *  Every Lambda Set at a Byte Position.
+     *
+     *  @param position     The Ciphertext Byte Position.
+     *
+     *  @param k            The Key Byte Guess.
+     *
+     *  @return             True if Every Set Sums to Zero.
+     */
+    private boolean balanced(int position, int k) {
+        // Check Each Lambda Set in Turn.
+        for (long[][] parity : this.parities) {
+            // XOR the Partly Decrypted Values of Every
+            // Ciphertext Byte Seen an Odd Number of Times.
+            int sum = 0;
+            long[] odd = parity[position];
+            for (int w = 0; w < 4; w++) {
+                for (long bits = odd[w]; bits != 0; bits &= bits - 1) {
+                    sum ^= INV_SBOX[((w << 6) + Long.numberOfTrailingZeros(bits)) ^ k];
+                }
+            }
+            if (sum != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *  This Method is Responsible for Building Every Last Round Key the
+     *  Surviving Guesses Allow. Nothing is Returned Until the Guesses Allow
+     *  at Most MAX_KEY_CANDIDATES Keys.
+     *
+     *  @return             The 16 Byte Last Round Keys.
+     */
+    public List<byte[]> lastRoundKeys() {
+        // Find the Surviving Guesses.
+        long[][] candidates = candidates();
+        List<byte[]> keys = new ArrayList<>();
+
+        // Count the Keys They Allow.
+        long total = 1;
+        for (int i = 0; i < 16 && total <= MAX_KEY_CANDIDATES; i++) {
+            total *= Long.bitCount(candidates[i][0]) + Long.bitCount(candidates[i][1]) + Long.bitCount(candidates[i][2]) + Long.bitCount(candidates[i][3]);
+        }
+        if (total == 0 || total > MAX_KEY_CANDIDATES) {
+            return keys;
+        }
+
+        // Expand Every Combination One Position at a Time.
+        keys.add(new byte[16]);
+        for (int i = 0; i < 16; i++) {
+            List<byte[]> next = new ArrayList<>();
+            for (byte[] key : keys) {
+                for (int k = 0; k < 256; k++) {
+                    if ((candidates[i][k >>> 6] & 1L << k) != 0) {
+                        byte[] copy = key.clone();
+                        copy[i] = (byte) k;
+                        next.add(copy);
+                    }
+                }
+            }
+            keys = next;
+        }
+
+        // Return the Keys.
+        return keys;
+    }
+
+    /**
+     *  This Method is Responsible for Inverting Every Surviving Last Round
+     *  Key Through the Configured Number of Rounds.
+     *
+     *  @return             The 16 Byte Original Keys.
+     */
+    public List<byte[]> recoverOriginalKeys() {
+        // Invert Each Last Round Key.
+        List<byte[]> originals = new ArrayList<>();
+        for (byte[] key : lastRoundKeys()) {
+            byte[] original = new byte[16];
+            KeySchedule.recoverOriginalKey(key, 0, original, 0, this.rounds);
+            originals.add(original);
+        }
+        return originals;
+    }
+
+    /**
+     *  Main Method That Reads Lambda Sets From a Binary File and Prints
+     *  the Recovered Keys. The File Holds Whole Lambda Sets One After
+     *  Another, 16 Bytes per Ciphertext.
+     *
+     *  @param args     The Path of the Ciphertext File and Optionally
+     *                  the Number of Rounds.
+     *
+     *  @throws IOException When the File Can Not be Read.
+     */
+    public static void main(String[] args) throws IOException {
+        // Make Sure a Ciphertext File Was Given.
+        if (args.length < 1) {
+            System.err.println("Usage: java IntegralAttack <ciphertext file> [rounds]");
+            System.exit(2);
+        }
+
+        // Make Sure the File Holds Whole Lambda Sets.
+        IntegralAttack attack = new IntegralAttack(args.length > 1 ? Integer.parseInt(args[1]) : 4);
+        Path file = Paths.get(args[0]);
+        long size = Files.size(file);
+        if (size == 0 || size % (16 * attack.setSize) != 0) {
+            throw new IOException("File Does Not Hold Whole Lambda Sets: " + size + " Bytes");
+        }
+
+        // Stream the Ciphertexts Through the Parity Tables.
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            byte[] buffer = new byte[16 * 65536];
+            int length;
+            int carried = 0;
+            while ((length = in.read(buffer, carried, buffer.length - carried)) > 0) {
+                int total = carried + length;
+                attack.addCiphertexts(buffer, 0, total / 16);
+                carried = total % 16;
+                System.arraycopy(buffer, total - carried, buffer, 0, carried);
+            }
+        }
+
+        // Print the Recovered Keys.
+        List<byte[]> lastKeys = attack.lastRoundKeys();
+        System.out.println("Lambda Sets:\t" + attack.getSetCount());
+        System.out.println("Key Candidates:\t" + lastKeys.size());
+        for (byte[] key : lastKeys) {
+            byte[] original = new byte[16];
+            KeySchedule.recoverOriginalKey(key, 0, original, 0, attack.rounds);
+            System.out.println("\nRound Key [" + attack.rounds + "]:\t" + Block128.toHex(key, 0));
+            System.out.println("Original Key:\t" + Block128.toHex(original, 0));
+        }
+    }
+}
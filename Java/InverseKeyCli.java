@@ -0,0 +1,644 @@
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.Set;
+import javax.crypto.Cipher;
+
+/**
+ *  This Class is Responsible for the Non Interactive Command Line Mode of
+ *  the Inverse Key Generation Process. Last Round Keys are Read One per
+ *  Line From Standard Input or a File Through a Large Byte Buffer, Each
+ *  is Inverted (and Optionally Used to Decrypt a Ciphertext), and One
+ *  Record per Key is Written in NDJSON, CSV or Plain Text. Every Buffer is
+ *  Reused, so Memory Stays Constant However Many Keys Pass Through, and
+ *  the Exit Code Tells Scripts How the Run Went:
+ *
+ *      0   Every Line Was Processed.
+ *      1   At Least One Line Was Not a Valid Key.
+ *      2   The Arguments Were Not Usable.
+ *      3   Reading or Writing Failed.
+ *
+ *  Keys May be Written as 32 Hex Digits With Any Spaces, Tabs, Commas or
+ *  "0x" Prefixes in Between (so the Interactive Output Can be Fed Back
+ *  in). Blank Lines and Lines Starting With '#' are Skipped.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class InverseKeyCli {
+
+    // The Exit Codes.
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_INVALID_INPUT = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int EXIT_IO = 3;
+
+    // The Options That Take a Value.
+    private static final Set<String> VALUE_OPTIONS = Set.of("--input", "--output", "--format", "--ciphertext", "--ciphertext-file", "--store", "--case");
+
+    // The Size of the Input and Output Buffers.
+    private static final int BUFFER_SIZE = 1 << 20;
+    // The Longest Line Kept. Longer Lines are Invalid.
+    private static final int MAX_LINE = 4096;
+    // The Digits Used When Writing Hex.
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes();
+
+    /**
+     *  The Output Formats.
+     */
+    private enum Format {
+        NDJSON,
+        CSV,
+        TEXT
+    }
+
+    /**
+     *  This Class Reads Lines of Key Text Through a Large Byte Buffer Into
+     *  a Reused Line Buffer, Creating No Objects per Line.
+     */
+    static final class LineReader {
+
+        // The Input.
+        private final InputStream in;
+        // The Input Buffer.
+        private final byte[] input = new byte[BUFFER_SIZE];
+        private int inputPosition;
+        private int inputLimit;
+        // The Current Line.
+        private final byte[] line = new byte[MAX_LINE];
+        private int lineLength;
+        private boolean lineTooLong;
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving Whether the
+         *  Current Line Was Longer Than the Line Buffer.
+         *
+         *  @return             True if it Was Cut Short.
+         */
+        boolean isTooLong() {
+            return this.lineTooLong;
+        }
+
+        /**
+         *  This Method is Responsible for Reading the Next Line Into the Line
+         *  Buffer, Without Creating Any Objects.
+         *
+         *  @return             False Once the Input Has Ended.
+         *
+         *  @throws IOException When Reading Fails.
+         */
+        boolean next() throws IOException {
+            this.lineLength = 0;
+            this.lineTooLong = false;
+            boolean any = false;
+            while (true) {
+                // Refill the Buffer When it is Empty.
+                if (this.inputPosition == this.inputLimit) {
+                    this.inputLimit = this.in.read(this.input, 0, this.input.length);
+                    this.inputPosition = 0;
+                    if (this.inputLimit <= 0) {
+                        this.inputLimit = 0;
+                        return any;
+                    }
+                }
+
+                // Copy Bytes Up to the End of the Line.
+                any = true;
+                byte b = this.input[this.inputPosition++];
+                if (b == '\n') {
+                    return true;
+                }
+                if (this.lineLength < MAX_LINE) {
+                    this.line[this.lineLength++] = b;
+                }
+                else {
+                    this.lineTooLong = true;
+                }
+            }
+        }
+
+        /**
+         *  This Method is Used to Check Whether the Current Line is Blank or
+         *  a Comment.
+         *
+         *  @return             True if the Line Should be Skipped.
+         */
+        boolean isSkippable() {
+            // Look at the First Byte That is Not White Space.
+            for (int i = 0; i < this.lineLength; i++) {
+                byte b = this.line[i];
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    return b == '#';
+                }
+            }
+            return true;
+        }
+
+        /**
+         *  This Method is Responsible for Parsing the Current Line as a Key.
+         *  Hex Digits May be Separated by Spaces, Tabs, Commas or "0x".
+         *
+         *  @param dest         The 16 Byte Array the Key is Written to.
+         *
+         *  @return             True if the Line Held Exactly 32 Hex Digits.
+         */
+        boolean parseKey(byte[] dest) {
+            // Collect Hex Digits, Skipping Separators and "0x" Prefixes.
+            int digits = 0;
+            for (int i = 0; i < this.lineLength; i++) {
+                byte b = this.line[i];
+                if (b == ' ' || b == '\t' || b == '\r' || b == ',') {
+                    continue;
+                }
+                if (b == '0' && i + 1 < this.lineLength && (this.line[i + 1] == 'x' || this.line[i + 1] == 'X')) {
+                    i++;
+                    continue;
+                }
+                int value = InverseKeyGeneration.getCharIntValue((char) b);
+                if (value < 0 || digits == 32) {
+                    return false;
+                }
+                if ((digits & 1) == 0) {
+                    dest[digits >> 1] = (byte) (value << 4);
+                }
+                else {
+                    dest[digits >> 1] |= (byte) value;
+                }
+                digits++;
+            }
+            return digits == 32;
+        }
+    }
+
+    // The Options.
+    private Format format = Format.NDJSON;
+    private boolean schedule;
+    private boolean strict;
+    private boolean stats;
+    private boolean metrics;
+    private byte[] ciphertext;
+    private String storeName;
+    private String caseName = "";
+    // The Store Every Schedule is Kept in, or Null.
+    private ScheduleStore store;
+
+    // The Record Being Written.
+    private byte[] record = new byte[1024];
+    private int recordLength;
+
+    /**
+     *  Private Constructor Used by the Run Method.
+     */
+    private InverseKeyCli() {
+    }
+
+    /**
+     *  This Method is Responsible for Running the Command Line Mode.
+     *
+     *  @param args     [--input FILE|-] [--output FILE|-]
+     *                  [--format ndjson|csv|text] [--schedule]
+     *                  [--ciphertext HEX | --ciphertext-file FILE]
+     *                  [--strict] [--stats] [--metrics]
+     *                  [--store DIR [--case NAME]]
+     *
+     *  @return         The Exit Code.
+     */
+    public static int run(String[] args) {
+        // Read the Options.
+        InverseKeyCli cli = new InverseKeyCli();
+        String inputName = "-";
+        String outputName = "-";
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--schedule":
+                        cli.schedule = true;
+                        continue;
+                    case "--strict":
+                        cli.strict = true;
+                        continue;
+                    case "--stats":
+                        cli.stats = true;
+                        continue;
+                    case "--metrics":
+                        cli.metrics = true;
+                        continue;
+                    default:
+                        break;
+                }
+                if (!VALUE_OPTIONS.contains(args[i])) {
+                    return usage("Unknown Option " + args[i]);
+                }
+                if (i + 1 >= args.length) {
+                    return usage("Missing Value For " + args[i]);
+                }
+                String value = args[++i];
+                switch (args[i - 1]) {
+                    case "--input":
+                        inputName = value;
+                        break;
+                    case "--output":
+                        outputName = value;
+                        break;
+                    case "--format":
+                        cli.format = Format.valueOf(value.toUpperCase());
+                        break;
+                    case "--ciphertext":
+                        cli.ciphertext = parseHex(InverseKeyGeneration.formatInputString(value));
+                        break;
+                    case "--ciphertext-file":
+                        cli.ciphertext = Files.readAllBytes(Paths.get(value));
+                        break;
+                    case "--store":
+                        cli.storeName = value;
+                        break;
+                    case "--case":
+                        cli.caseName = value;
+                        break;
+                    default:
+                        return usage("Unknown Option " + args[i - 1]);
+                }
+            }
+        }
+        catch (IllegalArgumentException e) {
+            return usage(e.getMessage());
+        }
+        catch (IOException e) {
+            System.err.println("Error: " + e);
+            return EXIT_IO;
+        }
+        if (cli.ciphertext != null && (cli.ciphertext.length == 0 || cli.ciphertext.length % 16 != 0)) {
+            return usage("Ciphertext Must be a Non Empty Multiple of 16 Bytes");
+        }
+        if (cli.ciphertext != null) {
+            // Load (or Measure Once) the Decryption Engine Choice.
+            EngineSelector.initialize();
+        }
+
+        // Open the Streams and Process Every Line.
+        try (InputStream in = inputName.equals("-") ? System.in : Files.newInputStream(Paths.get(inputName));
+             OutputStream out = new BufferedOutputStream(outputName.equals("-") ? System.out : Files.newOutputStream(Paths.get(outputName)), BUFFER_SIZE);
+             ScheduleStore store = cli.storeName == null ? null : ScheduleStore.open(Paths.get(cli.storeName))) {
+            cli.store = store;
+            return cli.process(in, out);
+        }
+        catch (NoSuchFileException | FileNotFoundException e) {
+            System.err.println("Error: No Such File: " + e.getMessage());
+            return EXIT_IO;
+        }
+        catch (IOException e) {
+            System.err.println("Error: " + e);
+            return EXIT_IO;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Processing Every Line of the Input.
+     *
+     *  @param in           The Input.
+     *
+     *  @param out          The Output.
+     *
+     *  @return             The Exit Code.
+     *
+     *  @throws IOException When Reading or Writing Fails.
+     */
+    private int process(InputStream in, OutputStream out) throws IOException {
+        // Create the Buffers Reused For Every Key.
+        byte[] lastRoundKey = new byte[16];
+        byte[] keys = new byte[16 * (KeySchedule.ROUNDS + 1)];
+        byte[] original = new byte[16];
+        byte[] plaintext = this.ciphertext == null ? null : new byte[this.ciphertext.length];
+        Cipher cipher = this.ciphertext != null && EngineSelector.get().decryptionEngine(this.ciphertext.length / 16) == EngineSelector.DecryptionEngine.JCE
+                ? EngineSelector.jceCipher() : null;
+
+        // Write the CSV Header.
+        if (this.format == Format.CSV) {
+            text("line,last_round_key,original_key");
+            if (this.schedule) {
+                text(",schedule");
+            }
+            if (this.ciphertext != null) {
+                text(",plaintext");
+            }
+            text(",error\n");
+            flushRecord(out);
+        }
+
+        // Read Until the Input Ends, Timing a Sample of Each Step
+        // and Giving Each Step a Flight Recorder Event, Reused
+        // For Every Key.
+        long number = 0;
+        long processed = 0;
+        long invalid = 0;
+        long start = System.nanoTime();
+        Metrics.Tally parseTally = new Metrics.Tally(Metrics.PARSE, Metrics.KEYS_PARSED);
+        Metrics.Tally inversionTally = new Metrics.Tally(Metrics.INVERSION, Metrics.KEYS_INVERTED);
+        Metrics.Tally decryptionTally = new Metrics.Tally(Metrics.DECRYPTION, Metrics.BLOCKS_DECRYPTED);
+        Metrics.Tally outputTally = new Metrics.Tally(Metrics.OUTPUT, Metrics.BYTES_WRITTEN);
+        Metrics.Tally[] tallies = {parseTally, inversionTally, decryptionTally, outputTally};
+        StageEvents.Probe parseProbe = StageEvents.probe("parse");
+        StageEvents.Probe inversionProbe = StageEvents.probe("invert");
+        StageEvents.Probe decryptionProbe = StageEvents.probe("decrypt");
+        StageEvents.Probe outputProbe = StageEvents.probe("write");
+        EngineSelector selector = EngineSelector.get();
+        String inversionEngine = selector.inversionEngine(1).name();
+        String decryptionEngine = (cipher != null ? EngineSelector.DecryptionEngine.JCE : EngineSelector.DecryptionEngine.TABLE).name();
+        LineReader reader = new LineReader(in);
+        while (reader.next()) {
+            number++;
+            if (reader.isSkippable()) {
+                continue;
+            }
+
+            // Report a Line That is Not a Key.
+            parseProbe.start();
+            long began = parseTally.start();
+            boolean parsed = !reader.isTooLong() && reader.parseKey(lastRoundKey);
+            parseTally.stop(began, parsed ? 1 : 0);
+            parseProbe.finish(1, StageEvents.NO_ENGINE, number);
+            if (!parsed) {
+                invalid++;
+                Metrics.INVALID_LINES.increment();
+                error(number, reader.isTooLong());
+                Metrics.BYTES_WRITTEN.add(this.recordLength);
+                flushRecord(out);
+                if (this.strict) {
+                    out.flush();
+                    flush(tallies);
+                    return EXIT_INVALID_INPUT;
+                }
+                continue;
+            }
+
+            // Invert the Key, Decrypt if Asked, and Write the Record.
+            inversionProbe.start();
+            began = inversionTally.start();
+            selector.recoverSchedule(lastRoundKey, 0, keys, 0);
+            inversionTally.stop(began, 1);
+            inversionProbe.finish(1, inversionEngine, number);
+            if (plaintext != null) {
+                decryptionProbe.start();
+                began = decryptionTally.start();
+                System.arraycopy(keys, 0, original, 0, 16);
+                if (cipher != null) {
+                    EngineSelector.decryptJce(cipher, original, this.ciphertext, 0, this.ciphertext.length, plaintext, 0);
+                }
+                else {
+                    EngineSelector.decryptTable(original, this.ciphertext, 0, this.ciphertext.length, plaintext, 0);
+                }
+                decryptionTally.stop(began, this.ciphertext.length / 16);
+                decryptionProbe.finish(1, decryptionEngine, number);
+            }
+            if (this.store != null) {
+                this.store.append(keys, this.caseName);
+            }
+            outputProbe.start();
+            began = outputTally.start();
+            result(number, keys, plaintext);
+            int length = this.recordLength;
+            flushRecord(out);
+            outputTally.stop(began, length);
+            outputProbe.finish(1, StageEvents.NO_ENGINE, number);
+            processed++;
+        }
+        out.flush();
+        flush(tallies);
+
+        // Report the Totals, if Asked.
+        if (this.stats) {
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.err.printf("Processed %d Keys (%d Invalid Lines) in %.3f s, %.0f Keys/Second%n", processed, invalid, seconds, seconds == 0 ? 0 : processed / seconds);
+        }
+        if (this.metrics) {
+            System.err.print(Metrics.prometheus());
+        }
+        return invalid == 0 ? EXIT_OK : EXIT_INVALID_INPUT;
+    }
+
+    /**
+     *  This Method is Used to Add Every Tally to the Metrics.
+     *
+     *  @param tallies      The Tallies.
+     */
+    private static void flush(Metrics.Tally[] tallies) {
+        for (Metrics.Tally tally : tallies) {
+            tally.flush();
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Writing the Record of a Key.
+     *
+     *  @param number       The Line Number.
+     *
+     *  @param keys         The Full Key Schedule, Original Key First.
+     *
+     *  @param plaintext    The Decrypted Ciphertext, or Null.
+     */
+    private void result(long number, byte[] keys, byte[] plaintext) {
+        int last = 16 * KeySchedule.ROUNDS;
+        switch (this.format) {
+            case NDJSON:
+                text("{\"line\":").number(number);
+                text(",\"lastRoundKey\":\"").hex(keys, last, 16);
+                text("\",\"originalKey\":\"").hex(keys, 0, 16).text("\"");
+                if (this.schedule) {
+                    text(",\"schedule\":[");
+                    for (int r = 0; r <= KeySchedule.ROUNDS; r++) {
+                        text(r == 0 ? "\"" : ",\"").hex(keys, 16 * r, 16).text("\"");
+                    }
+                    text("]");
+                }
+                if (plaintext != null) {
+                    text(",\"plaintext\":\"").hex(plaintext, 0, plaintext.length).text("\"");
+                }
+                text("}\n");
+                break;
+            case CSV:
+                number(number).text(",").hex(keys, last, 16).text(",").hex(keys, 0, 16);
+                if (this.schedule) {
+                    text(",");
+                    for (int r = 0; r <= KeySchedule.ROUNDS; r++) {
+                        text(r == 0 ? "" : " ").hex(keys, 16 * r, 16);
+                    }
+                }
+                if (plaintext != null) {
+                    text(",").hex(plaintext, 0, plaintext.length);
+                }
+                text(",\n");
+                break;
+            default:
+                hex(keys, 0, 16);
+                if (this.schedule) {
+                    for (int r = 1; r <= KeySchedule.ROUNDS; r++) {
+                        text(" ").hex(keys, 16 * r, 16);
+                    }
+                }
+                if (plaintext != null) {
+                    text("\t").hex(plaintext, 0, plaintext.length);
+                }
+                text("\n");
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Writing the Record of a Line That
+     *  Was Not a Valid Key. NDJSON and CSV Records Carry the Reason in an
+     *  Error Field; Text Output Reports it on Standard Error.
+     *
+     *  @param number       The Line Number.
+     *
+     *  @param tooLong      Whether the Line Was Too Long.
+     */
+    private void error(long number, boolean tooLong) {
+        // Explain Why the Line Was Rejected.
+        String reason = tooLong ? "Line Too Long" : "Expected 32 Hex Digits";
+        switch (this.format) {
+            case NDJSON:
+                text("{\"line\":").number(number).text(",\"error\":\"").text(reason).text("\"}\n");
+                break;
+            case CSV:
+                number(number).text(",,").text(this.schedule ? "," : "").text(this.ciphertext != null ? "," : "").text(",").text(reason).text("\n");
+                break;
+            default:
+                System.err.println("Line " + number + ": " + reason);
+        }
+    }
+
+    /**
+     *  This Method is Used to Append ASCII Text to the Record.
+     *
+     *  @param value        The Text.
+     *
+     *  @return             This Object, For Chaining.
+     */
+    private InverseKeyCli text(String value) {
+        // Copy Each Character as a Byte.
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            this.record[this.recordLength++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     *  This Method is Used to Append a Number to the Record.
+     *
+     *  @param value        The Number.
+     *
+     *  @return             This Object, For Chaining.
+     */
+    private InverseKeyCli number(long value) {
+        // Write the Digits Backwards, Then in Order.
+        ensure(20);
+        int start = this.recordLength;
+        do {
+            this.record[this.recordLength++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = this.recordLength - 1; i < j; i++, j--) {
+            byte swap = this.record[i];
+            this.record[i] = this.record[j];
+            this.record[j] = swap;
+        }
+        return this;
+    }
+
+    /**
+     *  This Method is Used to Append Bytes in Hex to the Record.
+     *
+     *  @param value        The Bytes.
+     *
+     *  @param offset       The Index of the First Byte.
+     *
+     *  @param length       The Number of Bytes.
+     *
+     *  @return             This Object, For Chaining.
+     */
+    private InverseKeyCli hex(byte[] value, int offset, int length) {
+        // Write Two Digits per Byte.
+        ensure(2 * length);
+        for (int i = 0; i < length; i++) {
+            this.record[this.recordLength++] = DIGITS[(value[offset + i] >> 4) & 0x0F];
+            this.record[this.recordLength++] = DIGITS[value[offset + i] & 0x0F];
+        }
+        return this;
+    }
+
+    /**
+     *  This Method is Used to Make Room in the Record.
+     *
+     *  @param extra        The Number of Bytes About to be Appended.
+     */
+    private void ensure(int extra) {
+        // Grow the Record When Needed. (It Only Grows to the Size of
+        // the Longest Record, so Memory Stays Constant.)
+        if (this.recordLength + extra > this.record.length) {
+            this.record = java.util.Arrays.copyOf(this.record, Math.max(2 * this.record.length, this.recordLength + extra));
+        }
+    }
+
+    /**
+     *  This Method is Used to Hand the Record to the Buffered Output.
+     *
+     *  @param out          The Output.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private void flushRecord(OutputStream out) throws IOException {
+        // Write and Reset the Record.
+        out.write(this.record, 0, this.recordLength);
+        this.recordLength = 0;
+    }
+
+    /**
+     *  This Method is Used to Parse a Hex String of Any Even Length.
+     *
+     *  @param value        The Hex Text, Without Separators.
+     *
+     *  @return             The Bytes.
+     */
+    private static byte[] parseHex(String value) {
+        // Convert Each Pair of Digits.
+        if (value.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex Must Have an Even Number of Digits");
+        }
+        byte[] bytes = new byte[value.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = InverseKeyGeneration.getCharIntValue(value.charAt(2 * i));
+            int low = InverseKeyGeneration.getCharIntValue(value.charAt(2 * i + 1));
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid Hex: " + value);
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+    /**
+     *  This Method Prints the Command Line Usage.
+     *
+     *  @param problem      What Was Wrong With the Arguments.
+     *
+     *  @return             The Usage Exit Code.
+     */
+    private static int usage(String problem) {
+        System.err.println("Error: " + problem);
+        System.err.println("Usage: java InverseKeyGeneration [--input FILE|-] [--output FILE|-]");
+        System.err.println("           [--format ndjson|csv|text] [--schedule]");
+        System.err.println("           [--ciphertext HEX | --ciphertext-file FILE] [--strict] [--stats] [--metrics]");
+        System.err.println("           [--store DIR [--case NAME]]");
+        System.err.println("       java InverseKeyGeneration            (Interactive, One Key)");
+        return EXIT_USAGE;
+    }
+}
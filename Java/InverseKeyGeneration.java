@@ -296,6 +296,12 @@ public class InverseKeyGeneration {
     // Last Round Key.
     public static String ROUNDKEY_STRING = "";
 
+    // The Sampled Timings of Single Rounds and S-Box Substitutions,
+    // Gathered per Thread so the Hot Paths Only Read the Clock For One
+    // Call in Sixteen and Never Touch a Shared Counter Between Flushes.
+    private static final ThreadLocal<Metrics.Tally> ROUND_TALLY = ThreadLocal.withInitial(() -> new Metrics.Tally(Metrics.INVERSION_ROUND, null));
+    private static final ThreadLocal<Metrics.Tally> SBOX_TALLY = ThreadLocal.withInitial(() -> new Metrics.Tally(Metrics.SBOX, null));
+
     /**
      *  Basic Constructor That is Used to Add the Char 
      *  Map Byte Array Values to the Global ArrayList 
@@ -385,6 +391,40 @@ public class InverseKeyGeneration {
      */
     public static byte[] inverseRoundKey(byte[] value) {
 
+        // Time a Sample of the Calls.
+        Metrics.Tally tally = ROUND_TALLY.get();
+        long start = tally.start();
+
+        // Use the Fused Word Based Round When Calibration
+        // Found it Faster on This Platform.
+        byte[] previousKey;
+        if (ROUND_NUMBER >= 1 && EngineSelector.get().inversionEngine(1) != EngineSelector.InversionEngine.BYTEWISE) {
+            previousKey = new byte[16];
+            KeySchedule.inverseRound(value, 0, previousKey, 0, ROUND_NUMBER);
+        }
+        else {
+            // Otherwise Undo the Round Byte by Byte.
+            previousKey = inverseRoundKeyBytewise(value, ROUND_NUMBER);
+        }
+        tally.stop(start, 0);
+        return previousKey;
+    }
+
+    /**
+     * This Method is Responsible for Performing the Inverse Key Generation
+     * Process Byte by Byte For the Parameter Round Number, Without Reading
+     * the Global Round Number. It is the Byte Wise Engine Timed by the
+     * EngineSelector.
+     *
+     * @param value         The Current Round Key Byte Array.
+     *
+     * @param round         The Round Number of the Current Round Key.
+     *
+     * @return              The Byte Array Containing All the
+     *                      Bytes From the Previous Round Key.
+     */
+    static byte[] inverseRoundKeyBytewise(byte[] value, int round) {
+
         // In these Next Steps, We will create
         // Eight Byte Array Variables which will
         // be used to Divide the Parameter Round
@@ -639,7 +679,7 @@ public class InverseKeyGeneration {
         // Addition Step. Set the Returned
         // Array Value as the New Key
         // Expansion Byte Array G_w3.
-        G_w3 = addRoundConstant(G_w3);
+        G_w3 = addRoundConstant(G_w3, round);
         
         // In the Next Step, We will Retrieve
         // the First Four Byte Segement of the
@@ -755,140 +795,30 @@ public class InverseKeyGeneration {
      */
     public static byte[] substituteBytes(byte[] value) {
         
+        // Note When the Substitution Began, For a Sample of Calls.
+        Metrics.Tally tally = SBOX_TALLY.get();
+        long start = tally.start();
+        
         // Create new Array Value to Hold the
         // Final Array Result after the Subsitution
         // Process Has been Finished.
         byte[] subArray = new byte[4];
         
-        // Create New Array to Hold the String
-        // Converted HEXIDECIMAL Bytes in the
-        // Parameter Byte Array.
-        String[] sa = new String[4];
-        
-        // Format the Byte at Index 0 to Appear
-        // as a HEXIDECIMAL String Value before Storing
-        // it in the String Array.
-        sa[0] = String.format("%02X ", value[0]);
-        // Format the Byte at Index 1 to Appear
-        // as a HEXIDECIMAL String Value before Storing
-        // it in the String Array.
-        sa[1] = String.format("%02X ", value[1]);
-        // Format the Byte at Index 2 to Appear
-        // as a HEXIDECIMAL String Value before Storing
-        // it in the String Array.
-        sa[2] = String.format("%02X ", value[2]);
-        // Format the Byte at Index 3 to Appear
-        // as a HEXIDECIMAL String Value before Storing
-        // it in the String Array.
-        sa[3] = String.format("%02X ", value[3]);
-        
-        // Create a new Array Which will be
-        // Responsible for Storing the Individual
-        // HEXIDECIMAL Char Values From The
-        // Current Four Entry Byte Array.
-        char[] chars = new char[8];
-        
-        // Get the First Char of the
-        // the First Byte in the Array.
-        chars[0] = sa[0].charAt(0);
-        // Get the Second Char of the
-        // the First Byte in the Array.
-        chars[1] = sa[0].charAt(1);
-        // Get the First Char of the
-        // the Second Byte in the Array.
-        chars[2] = sa[1].charAt(0);
-        // Get the Second Char of the
-        // the Second Byte in the Array.
-        chars[3] = sa[1].charAt(1);
-        // Get the First Char of the
-        // the Third Byte in the Array.
-        chars[4] = sa[2].charAt(0);
-        // Get the Second Char of the
-        // the Third Byte in the Array.
-        chars[5] = sa[2].charAt(1);
-        // Get the First Char of the
-        // the Forth Byte in the Array.
-        chars[6] = sa[3].charAt(0);
-        // Get the Second Char of the
-        // the Forth Byte in the Array.
-        chars[7] = sa[3].charAt(1);
-        
-        // Create New Array to Hold the Integer
-        // Values that each Individual Char Maps
-        // To. These Values Will be used to
-        // Calculate the Index Position in the
-        // the Subsitution Box Where our Desired
-        // Subsitute Byte is Located at.
-        int[] charValues = new int[8];
-        
-        // Get the Integer Value Associated With
-        // the First Character of the First Byte.
-        charValues[0] = getCharIntValue(chars[0]);
-        // Get the Integer Value Associated With
-        // the Second Character of the First Byte.
-        charValues[1] = getCharIntValue(chars[1]);
-        // Get the Integer Value Associated With
-        // the First Character of the Second Byte.
-        charValues[2] = getCharIntValue(chars[2]);
-        // Get the Integer Value Associated With
-        // the Second Character of the Second Byte.
-        charValues[3] = getCharIntValue(chars[3]);
-        // Get the Integer Value Associated With
-        // the First Character of the Third Byte.
-        charValues[4] = getCharIntValue(chars[4]);
-        // Get the Integer Value Associated With
-        // the Second Character of the Third Byte.
-        charValues[5] = getCharIntValue(chars[5]);
-        // Get the Integer Value Associated With
-        // the First Character of the Forth Byte.
-        charValues[6] = getCharIntValue(chars[6]);
-        // Get the Integer Value Associated With
-        // the Second Character of the Forth Byte.
-        charValues[7] = getCharIntValue(chars[7]);
-        
-        // Create New Array Used to Hold the
-        // Calculated Indexes of the Byte Values
-        // We will Use in the Subsitution Step
-        // of the Reverse Key Generation Process.
-        int[] subIndex = new int[4];
-        
-        // Calculate the Index of the Desired Byte Present
-        // Within the Subsitution Box that Will be Subsituted
-        // in Place of the First Byte in the Parameter Array.
-        subIndex[0] = ((charValues[0] * 16) + charValues[1]);
-        // Calculate the Index of the Desired Byte Present
-        // Within the Subsitution Box that Will be Subsituted
-        // in Place of the Second Byte in the Parameter Array.
-        subIndex[1] = ((charValues[2] * 16) + charValues[3]);
-        // Calculate the Index of the Desired Byte Present
-        // Within the Subsitution Box that Will be Subsituted
-        // in Place of the Third Byte in the Parameter Array.
-        subIndex[2] = ((charValues[4] * 16) + charValues[5]);
-        // Calculate the Index of the Desired Byte Present
-        // Within the Subsitution Box that Will be Subsituted
-        // in Place of the Forth Byte in the Parameter Array.
-        subIndex[3] = ((charValues[6] * 16) + charValues[7]);
-        
-        // Finally, We Retrieve the HEXIDECIMAL Byte Values
-        // Located At the Calculated Indexes Within the
-        // Subsitution Box.
-        
-        // Retrieve the HEXIDECIMAL Subsitution Byte Value
-        // For the First Byte in the Parameter Array.
-        subArray[0] = (byte) SUBSITUTION_BOX[subIndex[0]];
-        // Retrieve the HEXIDECIMAL Subsitution Byte Value
-        // For the Second Byte in the Parameter Array.
-        subArray[1] = (byte) SUBSITUTION_BOX[subIndex[1]];
-        // Retrieve the HEXIDECIMAL Subsitution Byte Value
-        // For the Third Byte in the Parameter Array.
-        subArray[2] = (byte) SUBSITUTION_BOX[subIndex[2]];
-        // Retrieve the HEXIDECIMAL Subsitution Byte Value
-        // For the Forth Byte in the Parameter Array.
-        subArray[3] = (byte) SUBSITUTION_BOX[subIndex[3]];
+        // Use Each Unsigned Byte Value Directly as its
+        // Index Into the Substitution Box. (The Two
+        // HEXIDECIMAL Digits of a Byte are its High
+        // and Low Four Bits, so Formatting the Byte as
+        // Text and Reading the Digits Back Gives the
+        // Same Index Without Creating Any Strings.)
+        subArray[0] = SUBSITUTION_BOX[value[0] & 0xFF];
+        subArray[1] = SUBSITUTION_BOX[value[1] & 0xFF];
+        subArray[2] = SUBSITUTION_BOX[value[2] & 0xFF];
+        subArray[3] = SUBSITUTION_BOX[value[3] & 0xFF];
         
         // Return the Byte Array
         // Value Containing the
         // Subsituted Byte Values.
+        tally.stop(start, 0);
         return subArray;
     }
     
@@ -909,6 +839,27 @@ public class InverseKeyGeneration {
      */
     public static byte[] addRoundConstant(byte[] value) {
         
+        // Use the Global Round Number.
+        return addRoundConstant(value, ROUND_NUMBER);
+    }
+
+    /**
+     *  This Method is Responsible for Retrieving the
+     *  Round Constant Byte Value Associated With the
+     *  Parameter Round and XORing the Value with the
+     *  Bytes Present in the Parameter Byte Array.
+     * 
+     *  @param value            The Key Expansion Four
+     *                          Byte Value Array.
+     * 
+     *  @param round            The Round Number.
+     * 
+     *  @return                 The New Byte Array Value
+     *                          Result After the Round Constant
+     *                          Addition Step has been performed.
+     */
+    public static byte[] addRoundConstant(byte[] value, int round) {
+        
         // Create New Byte Array Value Used to
         // Hold the Results of the Round Constant
         // Addition Process.
@@ -927,7 +878,7 @@ public class InverseKeyGeneration {
         //
         // XOR the Round Constant Value with the First Value
         // of the Parameter Byte Array.
-        rconArray[0] = (byte) (value[0] ^ ROUND_CONSTANT_BOX[ROUND_NUMBER]);
+        rconArray[0] = (byte) (value[0] ^ ROUND_CONSTANT_BOX[round]);
         // XOR the Default Zero Byte Value with the Second Value
         // of the Parameter Byte Array.
         rconArray[1] = (byte) (value[1] ^ (byte) 0x00);
@@ -1275,6 +1226,15 @@ public class InverseKeyGeneration {
         return conversion;
     }
     
+    /**
+     *  This Method is Used to Add the Round and S-Box Timings the Calling
+     *  Thread Has Sampled to the Metrics, as at the End of a Key.
+     */
+    public static void flushMetrics() {
+        ROUND_TALLY.get().flush();
+        SBOX_TALLY.get().flush();
+    }
+
     /**
      *  This method is responsible for Attempting to Decode the
      *  the Users Inputted Encrypted Message using the Advanced Encryption
@@ -1293,6 +1253,20 @@ public class InverseKeyGeneration {
      */
     public static String decryptECBBlockCipher(byte[] key, byte[] message) {
         
+        // Note When the Decryption Began.
+        long start = System.nanoTime();
+        
+        // Use the Table Driven Engine When Calibration Found it
+        // Faster For Messages of This Length on This Platform.
+        if (key.length == 16 && message.length % 16 == 0
+                && EngineSelector.get().decryptionEngine(message.length / 16) == EngineSelector.DecryptionEngine.TABLE) {
+            byte[] decrypt = new byte[message.length];
+            EngineSelector.decryptTable(key, message, 0, message.length, decrypt, 0);
+            Metrics.DECRYPTION.since(start);
+            Metrics.BLOCKS_DECRYPTED.add(message.length / 16);
+            return new String(decrypt);
+        }
+
         // Create New String Variable which will be responsible for holding
         // the final result of our Decryption Process.
         String result;
@@ -1370,18 +1344,124 @@ public class InverseKeyGeneration {
             result = ("Error");
         }
         
-        // Return the Decryption Process
-        // Result String.
+        // Record the Time Taken, Then Return the
+        // Decryption Process Result String.
+        Metrics.DECRYPTION.since(start);
+        Metrics.BLOCKS_DECRYPTED.add(message.length / 16);
         return result;
     }
 
+    /**
+     *  This Method is Responsible for Running the Inverse Key Generation
+     *  Process on Every Last Round Key in the Parameter Array and Writing
+     *  the Results Directly into the Parameter Sink. Should the Sink Hold
+     *  16 Byte Records, Only the Original Key is Written. Should it Hold
+     *  176 Byte Records, the Full Key Schedule is Written in Round Order
+     *  (Original Key First, Last Round Key Last). No RoundKey Objects or
+     *  Strings are Created Along the Way.
+     *
+     *  @param keys         The Array of 16 Byte Last Round Keys.
+     *
+     *  @param sink         The Destination the Results are Written to.
+     */
+    public static void invertAll(byte[][] keys, KeySink sink) {
+
+        // Get the Width of the Records
+        // the Sink Expects to Receive.
+        int width = sink.getRecordWidth();
+
+        // Make Sure the Sink Accepts Either Original
+        // Keys or Full Key Schedules.
+        if (width != 16 && width != 176) {
+            throw new IllegalArgumentException("Unsupported Record Width: " + width);
+        }
+
+        // Create a Single Record Buffer Which
+        // Will be Reused For Every Key.
+        byte[] record = new byte[width];
+
+        // Loop Through Every Last Round Key
+        // in the Parameter Array.
+        for (int k = 0; k < keys.length; k++) {
+            // Run the Fused Inverse Rounds, Writing Either
+            // the Original Key or the Full Key Schedule
+            // Straight Into the Record Buffer.
+            if (width == 16) {
+                KeySchedule.recoverOriginalKey(keys[k], 0, record, 0, 10);
+            }
+            else {
+                KeySchedule.recoverSchedule(keys[k], 0, record, 0, 10);
+            }
+
+            // Hand the Finished Record to the Sink.
+            sink.accept(record, 0);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running the Inverse Key Generation
+     *  Process Only Once For Each Unique Last Round Key in the Parameter
+     *  Array. Duplicate Keys are Detected Using a Primitive 128 Bit Map,
+     *  so No Strings or Boxed Values are Created. The Returned Map Holds
+     *  the Original Key For Every Unique Last Round Key, Allowing the
+     *  Caller to Fan the Results Back out to Every Duplicate Input Using
+     *  KeyMap128.get().
+     *
+     *  @param keys         The Array of 16 Byte Last Round Keys.
+     *
+     *  @param offHeap      True to Build the Map Outside of
+     *                      the Java Heap.
+     *
+     *  @return             The Map From Each Unique Last Round
+     *                      Key to its Original Key.
+     */
+    public static KeyMap128 invertUnique(byte[][] keys, boolean offHeap) {
+
+        // Create a Map Large Enough to Hold Every Key.
+        KeyMap128 originals = new KeyMap128(keys.length, offHeap);
+        // Create a Single Buffer Which Will Hold
+        // Each Recovered Original Key in Turn.
+        byte[] original = new byte[16];
+
+        // Loop Through Every Last Round Key
+        // in the Parameter Array.
+        for (int k = 0; k < keys.length; k++) {
+            // Read the Key as Two Long Values.
+            long high = Block128.high(keys[k], 0);
+            long low = Block128.low(keys[k], 0);
+
+            // Skip Keys That Have Already Been Inverted.
+            if (originals.containsKey(high, low)) {
+                continue;
+            }
+
+            // Invert All Ten Rounds to Find the Original
+            // Key Using the Fused Word Based Rounds.
+            KeySchedule.recoverOriginalKey(keys[k], 0, original, 0, 10);
+
+            // Map the Last Round Key to its Original Key.
+            originals.put(high, low, Block128.high(original, 0), Block128.low(original, 0));
+        }
+
+        // Return the Map of Original Keys.
+        return originals;
+    }
+
     /**
      *  Main Method that Takes the Users Input
      *  and Performed the Necessary Operations.
      * 
-     *  @param args     Parameter Arguments (NULL)
+     *  @param args     Parameter Arguments. With None the Key is Asked For
+     *                  Interactively; Otherwise They are the Options of the
+     *                  Streaming Command Line Mode (See InverseKeyCli).
      */
     public static void main(String[] args) {
+        // Hand Any Arguments to the Streaming Command Line
+        // Mode and Exit With its Status.
+        if (args.length > 0) {
+            System.exit(InverseKeyCli.run(args));
+        }
+
         // Initialize the Global HEX Value ArrayList
         InverseKeyGeneration inverseSecurityKey = new InverseKeyGeneration();
         
@@ -1444,6 +1524,7 @@ public class InverseKeyGeneration {
         // Continously Loop Until All Ten Rounds Have Been
         // Iterated Through and All Ten Previous Round Keys
         // Have Been Found.
+        long keyStart = System.nanoTime();
         for (int i = 0; i < NUMBER_OF_ROUNDS; i++) {
             // If this is the First Found Key We
             // Are Trying to Find After the Recieving
@@ -1478,6 +1559,12 @@ public class InverseKeyGeneration {
             // Round Number Integer
             ROUND_NUMBER--;
         }
+
+        // Time the Whole Key, and Add the Sampled
+        // Round and S-Box Timings to the Metrics.
+        Metrics.INVERSION.since(keyStart);
+        Metrics.KEYS_INVERTED.increment();
+        flushMetrics();
         
         // Loop through the Global ArrayList of our Generated 
         // Round Key Objects and Convert them into Strings For
@@ -0,0 +1,405 @@
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Cipher;
+
+/**
+ *  This Class is Responsible for Keeping a Warmed Up Inversion Engine
+ *  Resident Behind a Unix Domain Socket, so Scripts Pay the JVM Start and
+ *  the Cold JIT Once Instead of Once per Key. Every Message is a Binary
+ *  Frame With a Nine Byte Header, Big Endian:
+ *
+ *      Request     op (1)      id (4)  length (4)  payload
+ *      Response    status (1)  id (4)  length (4)  payload
+ *
+ *      op  PING        Empty               -> Empty
+ *          INVERT      Last Round Key (16) -> Original Key (16)
+ *          SCHEDULE    Last Round Key (16) -> Every Round Key (176)
+ *          DECRYPT     Last Round Key (16)
+ *                      + Ciphertext (16n)  -> Plaintext (16n)
+ *
+ *  A Failed Request Gets the ERROR Status and a UTF-8 Message. Requests
+ *  May be Pipelined: Each Connection Answers in Order, and Responses are
+ *  Only Written Once Every Request Already Received Has Been Handled, so
+ *  a Client Sending Many Requests Ahead Gets Them Back in a Few Writes.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class KeyDaemon implements AutoCloseable {
+
+    // The Request Operations.
+    public static final byte OP_PING = 0;
+    public static final byte OP_INVERT = 1;
+    public static final byte OP_SCHEDULE = 2;
+    public static final byte OP_DECRYPT = 3;
+    // The Response Statuses.
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+    // The Size of a Frame Header.
+    public static final int HEADER = 9;
+    // The Largest Payload a Request May Carry.
+    public static final int MAX_PAYLOAD = 1 << 20;
+    // The Number of Keys Inverted to Warm Up the JIT.
+    private static final int WARM_UP_KEYS = 200_000;
+
+    // The Socket File.
+    private final Path path;
+    // The Listening Channel.
+    private final ServerSocketChannel server;
+    // The Number of Requests Answered.
+    private final AtomicLong requests = new AtomicLong();
+    // The Number of Connections Accepted.
+    private final AtomicLong connections = new AtomicLong();
+
+    /**
+     *  Constructor That Binds the Socket and Warms Up the Engines. A Stale
+     *  Socket File Left by an Earlier Daemon is Replaced.
+     *
+     *  @param path         The Socket File.
+     *
+     *  @throws IOException When the Socket Can Not be Bound.
+     */
+    public KeyDaemon(Path path) throws IOException {
+        // Warm Up Before Accepting Anyone.
+        warmUp();
+
+        // Bind the Socket.
+        this.path = path;
+        Files.deleteIfExists(path);
+        this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        this.server.bind(UnixDomainSocketAddress.of(path));
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Socket File.
+     *
+     *  @return             The Socket File.
+     */
+    public Path getPath() {
+        return this.path;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Requests Answered So Far.
+     *
+     *  @return             The Number of Requests.
+     */
+    public long getRequests() {
+        return this.requests.get();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Connections Accepted So Far.
+     *
+     *  @return             The Number of Connections.
+     */
+    public long getConnections() {
+        return this.connections.get();
+    }
+
+    /**
+     *  This Method is Responsible for Accepting Connections Until the
+     *  Daemon is Closed. Each Connection is Served on its Own Thread.
+     *
+     *  @throws IOException When Accepting Fails For a Reason Other Than
+     *                      the Daemon Being Closed.
+     */
+    public void serve() throws IOException {
+        try {
+            // Hand Each Connection to a Thread.
+            while (true) {
+                SocketChannel channel = this.server.accept();
+                this.connections.incrementAndGet();
+                Thread thread = new Thread(() -> handle(channel), "key-daemon-" + this.connections.get());
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+        catch (ClosedChannelException e) {
+            // The Daemon Was Closed.
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Starting to Serve on a Background
+     *  Thread.
+     *
+     *  @return             The Thread.
+     */
+    public Thread start() {
+        // Serve on a Daemon Thread.
+        Thread thread = new Thread(() -> {
+            try {
+                serve();
+            }
+            catch (IOException e) {
+                System.err.println("Key Daemon Stopped: " + e);
+            }
+        }, "key-daemon");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     *  This Method is Responsible for Closing the Socket and Removing its
+     *  File. Open Connections Finish Their Current Requests.
+     *
+     *  @throws IOException When Closing Fails.
+     */
+    @Override
+    public void close() throws IOException {
+        this.server.close();
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     *  This Method is Responsible for Serving One Connection. Every
+     *  Complete Request in the Input Buffer is Answered Before the
+     *  Responses are Written, Which is What Makes Pipelining Cheap.
+     *
+     *  @param channel      The Connection.
+     */
+    private void handle(SocketChannel channel) {
+        // Create the Buffers and Scratch Arrays Used For Every Request.
+        ByteBuffer in = ByteBuffer.allocate(HEADER + MAX_PAYLOAD);
+        ByteBuffer out = ByteBuffer.allocate(HEADER + MAX_PAYLOAD);
+        byte[] key = new byte[16];
+        byte[] keys = new byte[16 * (KeySchedule.ROUNDS + 1)];
+        byte[] data = new byte[MAX_PAYLOAD];
+        Cipher cipher = EngineSelector.jceCipher();
+
+        try (SocketChannel c = channel) {
+            while (c.read(in) >= 0) {
+                // Answer Every Complete Request.
+                in.flip();
+                while (in.remaining() >= HEADER) {
+                    int start = in.position();
+                    byte op = in.get(start);
+                    int id = in.getInt(start + 1);
+                    int length = in.getInt(start + 5);
+                    if (length < 0 || length > MAX_PAYLOAD - 16) {
+                        // The Frame Can Not be Skipped Safely, so Refuse
+                        // it and Drop the Connection.
+                        error(c, out, id, "Payload Too Large: " + length);
+                        flush(c, out);
+                        return;
+                    }
+                    if (in.remaining() < HEADER + length) {
+                        break;
+                    }
+                    in.position(start + HEADER);
+                    answer(c, op, id, length, in, out, key, keys, data, cipher);
+                    in.position(start + HEADER + length);
+                }
+                in.compact();
+
+                // Write the Responses Once the Input is Drained.
+                flush(c, out);
+            }
+        }
+        catch (IOException e) {
+            // The Client Went Away.
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Answering One Request.
+     *
+     *  @param channel      The Connection, Used When the Output Fills.
+     *
+     *  @param op           The Operation.
+     *
+     *  @param id           The Request Id.
+     *
+     *  @param length       The Payload Length.
+     *
+     *  @param in           The Input, Positioned at the Payload.
+     *
+     *  @param out          The Output.
+     *
+     *  @param key          Scratch Space For the Last Round Key.
+     *
+     *  @param keys         Scratch Space For the Schedule.
+     *
+     *  @param data         Scratch Space For Decryption.
+     *
+     *  @param cipher       The JCE Cipher, or Null.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private void answer(SocketChannel channel, byte op, int id, int length, ByteBuffer in, ByteBuffer out,
+                        byte[] key, byte[] keys, byte[] data, Cipher cipher) throws IOException {
+        this.requests.incrementAndGet();
+        if (op == OP_PING) {
+            header(channel, out, STATUS_OK, id, 0);
+            return;
+        }
+        if (op != OP_INVERT && op != OP_SCHEDULE && op != OP_DECRYPT) {
+            error(channel, out, id, "Unknown Operation: " + op);
+            return;
+        }
+        if (op == OP_DECRYPT ? length < 32 || length % 16 != 0 : length != 16) {
+            error(channel, out, id, "Bad Payload Length: " + length);
+            return;
+        }
+
+        // Recover the Schedule From the Last Round Key.
+        in.get(key);
+        long start = System.nanoTime();
+        EngineSelector.get().recoverSchedule(key, 0, keys, 0);
+        Metrics.INVERSION.since(start);
+        Metrics.KEYS_INVERTED.increment();
+        switch (op) {
+            case OP_INVERT:
+                header(channel, out, STATUS_OK, id, 16);
+                out.put(keys, 0, 16);
+                break;
+            case OP_SCHEDULE:
+                header(channel, out, STATUS_OK, id, keys.length);
+                out.put(keys);
+                break;
+            default:
+                // Decrypt With the Engine Picked For the Message Length.
+                int size = length - 16;
+                in.get(data, 0, size);
+                System.arraycopy(keys, 0, key, 0, 16);
+                start = System.nanoTime();
+                if (cipher != null && EngineSelector.get().decryptionEngine(size / 16) == EngineSelector.DecryptionEngine.JCE) {
+                    EngineSelector.decryptJce(cipher, key, data, 0, size, data, 0);
+                }
+                else {
+                    EngineSelector.decryptTable(key, data, 0, size, data, 0);
+                }
+                Metrics.DECRYPTION.since(start);
+                Metrics.BLOCKS_DECRYPTED.add(size / 16);
+                header(channel, out, STATUS_OK, id, size);
+                out.put(data, 0, size);
+        }
+    }
+
+    /**
+     *  This Method is Used to Start a Response, Writing Out Earlier
+     *  Responses First if the Output Has No Room.
+     *
+     *  @param channel      The Connection.
+     *
+     *  @param out          The Output.
+     *
+     *  @param status       The Status.
+     *
+     *  @param id           The Request Id.
+     *
+     *  @param length       The Payload Length.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private static void header(SocketChannel channel, ByteBuffer out, byte status, int id, int length) throws IOException {
+        // Make Room, Then Write the Header.
+        if (out.remaining() < HEADER + length) {
+            flush(channel, out);
+        }
+        out.put(status).putInt(id).putInt(length);
+    }
+
+    /**
+     *  This Method is Used to Write an Error Response.
+     *
+     *  @param channel      The Connection.
+     *
+     *  @param out          The Output.
+     *
+     *  @param id           The Request Id.
+     *
+     *  @param message      The Error Message.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private static void error(SocketChannel channel, ByteBuffer out, int id, String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        header(channel, out, STATUS_ERROR, id, bytes.length);
+        out.put(bytes);
+    }
+
+    /**
+     *  This Method is Used to Write Out Every Buffered Response.
+     *
+     *  @param channel      The Connection.
+     *
+     *  @param out          The Output.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private static void flush(SocketChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     *  This Method is Used to Get the Inversion and Decryption Paths
+     *  Compiled Before the First Request Arrives.
+     */
+    private static void warmUp() {
+        // Calibrate (or Load the Cached Choice), Then Run the Hot Paths.
+        EngineSelector.initialize();
+        byte[] key = new byte[16];
+        byte[] keys = new byte[16 * (KeySchedule.ROUNDS + 1)];
+        byte[] block = new byte[16];
+        for (int i = 0; i < WARM_UP_KEYS; i++) {
+            key[i & 15] ^= (byte) i;
+            EngineSelector.get().recoverSchedule(key, 0, keys, 0);
+            if ((i & 63) == 0) {
+                EngineSelector.decryptTable(keys, block, 0, 16, block, 0);
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Get the Default Socket File, in the
+     *  Temporary Directory.
+     *
+     *  @return             The Socket File.
+     */
+    public static Path defaultPath() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "aes-round-key-inverter.sock");
+    }
+
+    /**
+     *  Main Method That Runs the Daemon Until it is Killed.
+     *
+     *  @param args     Optionally the Socket File.
+     *
+     *  @throws IOException When the Socket Can Not be Bound.
+     */
+    public static void main(String[] args) throws IOException {
+        // Bind, Announce, and Serve Forever.
+        Path path = args.length > 0 ? Paths.get(args[0]) : defaultPath();
+        KeyDaemon daemon = new KeyDaemon(path);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                daemon.close();
+            }
+            catch (IOException e) {
+                // Nothing More Can be Done While Exiting.
+            }
+        }));
+        Metrics.register();
+        System.err.println("Key Daemon Listening on " + path);
+        daemon.serve();
+    }
+}
@@ -0,0 +1,306 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ *  This Class is Responsible for Talking to a KeyDaemon. Single Requests
+ *  Wait For Their Answer; Batches are Pipelined, Keeping a Window of
+ *  Requests in Flight so the Daemon Answers Many per Write.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class KeyDaemonClient implements AutoCloseable {
+
+    // The Number of Requests a Batch Keeps in Flight. Small Enough That
+    // the Requests and Responses Both Fit in the Socket Buffers.
+    public static final int WINDOW = 512;
+    // The Number of Keys the Command Line Client Reads Before Sending.
+    private static final int BATCH = 4096;
+
+    // The Connection.
+    private final SocketChannel channel;
+    // The Requests Waiting to be Sent.
+    private final ByteBuffer out = ByteBuffer.allocate(KeyDaemon.HEADER + KeyDaemon.MAX_PAYLOAD);
+    // The Responses Received But Not Yet Read.
+    private final ByteBuffer in = ByteBuffer.allocate(KeyDaemon.HEADER + KeyDaemon.MAX_PAYLOAD);
+    // The Id of the Next Request.
+    private int nextId;
+
+    /**
+     *  Constructor That Connects to a Daemon.
+     *
+     *  @param path         The Daemon's Socket File.
+     *
+     *  @throws IOException When the Daemon Can Not be Reached.
+     */
+    public KeyDaemonClient(Path path) throws IOException {
+        // Connect, and Start With an Empty Input.
+        this.channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        this.channel.connect(UnixDomainSocketAddress.of(path));
+        this.in.flip();
+    }
+
+    /**
+     *  This Method is Responsible for Checking That the Daemon Answers.
+     *
+     *  @throws IOException When it Does Not.
+     */
+    public void ping() throws IOException {
+        request(KeyDaemon.OP_PING, null, 0, 0, null, 0);
+        flush();
+        response(null, 0);
+    }
+
+    /**
+     *  This Method is Responsible for Inverting One Last Round Key.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @return             The 16 Byte Original Key.
+     *
+     *  @throws IOException When the Daemon Fails or Refuses.
+     */
+    public byte[] invert(byte[] lastRoundKey) throws IOException {
+        byte[] original = new byte[16];
+        request(KeyDaemon.OP_INVERT, lastRoundKey, 0, 16, null, 0);
+        flush();
+        response(original, 0);
+        return original;
+    }
+
+    /**
+     *  This Method is Responsible for Recovering Every Round Key From a
+     *  Last Round Key.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @return             The 176 Byte Schedule, Original Key First.
+     *
+     *  @throws IOException When the Daemon Fails or Refuses.
+     */
+    public byte[] schedule(byte[] lastRoundKey) throws IOException {
+        byte[] keys = new byte[16 * (KeySchedule.ROUNDS + 1)];
+        request(KeyDaemon.OP_SCHEDULE, lastRoundKey, 0, 16, null, 0);
+        flush();
+        response(keys, 0);
+        return keys;
+    }
+
+    /**
+     *  This Method is Responsible for Decrypting a Ciphertext With the Key
+     *  Recovered From a Last Round Key.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @param ciphertext   The Ciphertext, a Multiple of 16 Bytes.
+     *
+     *  @return             The Plaintext.
+     *
+     *  @throws IOException When the Daemon Fails or Refuses.
+     */
+    public byte[] decrypt(byte[] lastRoundKey, byte[] ciphertext) throws IOException {
+        byte[] plaintext = new byte[ciphertext.length];
+        request(KeyDaemon.OP_DECRYPT, lastRoundKey, 0, 16, ciphertext, ciphertext.length);
+        flush();
+        response(plaintext, 0);
+        return plaintext;
+    }
+
+    /**
+     *  This Method is Responsible for Inverting Many Last Round Keys,
+     *  Pipelining the Requests.
+     *
+     *  @param src          The Last Round Keys, 16 Bytes Each.
+     *
+     *  @param srcOffset    The Index of the First Key.
+     *
+     *  @param count        The Number of Keys.
+     *
+     *  @param dest         The Array the Original Keys are Written to.
+     *
+     *  @param destOffset   The Index the First Original Key is Written at.
+     *
+     *  @throws IOException When the Daemon Fails or Refuses.
+     */
+    public void invertAll(byte[] src, int srcOffset, int count, byte[] dest, int destOffset) throws IOException {
+        // Send a Window Ahead, Topping it Up Whenever Half Has Been
+        // Answered, so Each Write Carries Many Requests.
+        int sent = 0;
+        for (int received = 0; received < count; received++) {
+            if (sent < count && sent - received <= WINDOW / 2) {
+                while (sent < count && sent - received < WINDOW) {
+                    request(KeyDaemon.OP_INVERT, src, srcOffset + 16 * sent, 16, null, 0);
+                    sent++;
+                }
+                flush();
+            }
+            response(dest, destOffset + 16 * received);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Closing the Connection.
+     *
+     *  @throws IOException When Closing Fails.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     *  This Method is Used to Queue a Request.
+     *
+     *  @param op           The Operation.
+     *
+     *  @param key          The Array Holding the Key, or Null.
+     *
+     *  @param keyOffset    The Index of the Key.
+     *
+     *  @param keyLength    The Key Length, or Zero.
+     *
+     *  @param extra        Bytes Sent After the Key, or Null.
+     *
+     *  @param extraLength  The Number of Extra Bytes.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private void request(byte op, byte[] key, int keyOffset, int keyLength, byte[] extra, int extraLength) throws IOException {
+        // Make Room, Then Write the Frame.
+        int length = keyLength + extraLength;
+        if (length > KeyDaemon.MAX_PAYLOAD - 16) {
+            throw new IllegalArgumentException("Payload Too Large: " + length);
+        }
+        if (this.out.remaining() < KeyDaemon.HEADER + length) {
+            flush();
+        }
+        this.out.put(op).putInt(this.nextId++).putInt(length);
+        if (keyLength > 0) {
+            this.out.put(key, keyOffset, keyLength);
+        }
+        if (extraLength > 0) {
+            this.out.put(extra, 0, extraLength);
+        }
+    }
+
+    /**
+     *  This Method is Used to Send Every Queued Request.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private void flush() throws IOException {
+        this.out.flip();
+        while (this.out.hasRemaining()) {
+            this.channel.write(this.out);
+        }
+        this.out.clear();
+    }
+
+    /**
+     *  This Method is Used to Read the Next Response.
+     *
+     *  @param dest         The Array the Payload is Copied to, or Null.
+     *
+     *  @param destOffset   The Index the Payload is Copied at.
+     *
+     *  @throws IOException When Reading Fails or the Daemon Refused the
+     *                      Request.
+     */
+    private void response(byte[] dest, int destOffset) throws IOException {
+        // Read the Header, Then the Payload.
+        fill(KeyDaemon.HEADER);
+        byte status = this.in.get();
+        this.in.getInt();
+        int length = this.in.getInt();
+        fill(length);
+        if (status != KeyDaemon.STATUS_OK) {
+            byte[] message = new byte[length];
+            this.in.get(message);
+            throw new IOException("Daemon Refused the Request: " + new String(message, StandardCharsets.UTF_8));
+        }
+        if (dest != null) {
+            this.in.get(dest, destOffset, length);
+        }
+        else {
+            this.in.position(this.in.position() + length);
+        }
+    }
+
+    /**
+     *  This Method is Used to Read Until the Input Holds a Number of Bytes.
+     *
+     *  @param bytes        The Number of Bytes Needed.
+     *
+     *  @throws IOException When the Daemon Closes the Connection.
+     */
+    private void fill(int bytes) throws IOException {
+        while (this.in.remaining() < bytes) {
+            this.in.compact();
+            int read = this.channel.read(this.in);
+            this.in.flip();
+            if (read < 0) {
+                throw new IOException("Daemon Closed the Connection");
+            }
+        }
+    }
+
+    /**
+     *  Main Method That Inverts the Last Round Keys Read From Standard
+     *  Input (One per Line, in Hex) Through a Running Daemon, Printing One
+     *  Original Key per Line.
+     *
+     *  @param args     Optionally the Daemon's Socket File.
+     *
+     *  @throws IOException When the Daemon Can Not be Reached.
+     */
+    public static void main(String[] args) throws IOException {
+        // Connect, Then Send the Keys in Batches.
+        Path path = args.length > 0 ? Paths.get(args[0]) : KeyDaemon.defaultPath();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII), 1 << 16);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 16);
+        byte[] src = new byte[16 * BATCH];
+        byte[] originals = new byte[src.length];
+        int invalid = 0;
+        try (KeyDaemonClient client = new KeyDaemonClient(path)) {
+            int count = 0;
+            String line;
+            do {
+                line = reader.readLine();
+                if (line != null) {
+                    String hex = InverseKeyGeneration.formatInputString(line);
+                    if (hex.isEmpty() || hex.startsWith("#")) {
+                        continue;
+                    }
+                    if (hex.length() != 32 || !Block128.parseHex(hex, 0, src, 16 * count)) {
+                        System.err.println("Invalid Key: " + line);
+                        invalid++;
+                        continue;
+                    }
+                    count++;
+                }
+
+                // Invert a Full (or the Last) Batch.
+                if (count == BATCH || (line == null && count > 0)) {
+                    client.invertAll(src, 0, count, originals, 0);
+                    for (int i = 0; i < count; i++) {
+                        writer.write(Block128.toHex(originals, 16 * i));
+                        writer.newLine();
+                    }
+                    count = 0;
+                }
+            } while (line != null);
+        }
+        writer.flush();
+        System.exit(invalid == 0 ? InverseKeyCli.EXIT_OK : InverseKeyCli.EXIT_INVALID_INPUT);
+    }
+}
@@ -0,0 +1,561 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This Class is Responsible for Serving Inversion and Decryption to
+ *  Local Tools Over HTTP, Using Only the JDK's Built In Server. Each
+ *  Exchange Runs on its Own Virtual Thread When the Platform Has Them
+ *  (Java 21 and Later), Otherwise on a Cached Pool of Platform Threads.
+ *  Single Key Requests are Gathered by a MicroBatcher Into Batches For
+ *  the Bulk Engine. Nothing Here Touches the Static State of
+ *  InverseKeyGeneration, so Any Number of Requests May Run at Once.
+ *
+ *      GET  /invert?key=HEX            One Last Round Key (Micro Batched)
+ *      POST /invert/batch              A JSON Array (or Lines) of Keys
+ *      POST /decrypt?key=HEX           The Ciphertext in Hex as the Body
+ *      GET  /stats                     Counts and p50/p99 Latency
+ *      GET  /metrics                   The Metrics in Prometheus Text
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class KeyHttpService implements AutoCloseable {
+
+    // The Default Port.
+    public static final int DEFAULT_PORT = 8737;
+    // The Largest Request Body Accepted.
+    private static final int MAX_BODY = 16 << 20;
+
+    /**
+     *  This Class Keeps the Latencies of the Most Recent Requests, From
+     *  Which the Percentiles are Worked Out When Asked For.
+     */
+    static final class LatencyWindow {
+
+        // The Recent Latencies in Nanoseconds, Used as a Ring.
+        private final long[] samples;
+        // The Number of Latencies Ever Recorded.
+        private long count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        /**
+         *  This Method is Used to Record a Latency.
+         *
+         *  @param nanos        The Latency in Nanoseconds.
+         */
+        synchronized void record(long nanos) {
+            this.samples[(int) (this.count++ % this.samples.length)] = nanos;
+        }
+
+        /**
+         *  This Method is Used to Work Out Percentiles of the Window.
+         *
+         *  @param fractions    The Percentiles Wanted, as Fractions.
+         *
+         *  @return             The Latencies in Nanoseconds, or Zeros if
+         *                      Nothing Was Recorded.
+         */
+        long[] percentiles(double... fractions) {
+            // Copy the Window, Then Sort it Outside the Lock.
+            long[] copy;
+            synchronized (this) {
+                copy = Arrays.copyOf(this.samples, (int) Math.min(this.count, this.samples.length));
+            }
+            Arrays.sort(copy);
+            long[] values = new long[fractions.length];
+            for (int i = 0; i < fractions.length && copy.length > 0; i++) {
+                values[i] = copy[(int) Math.min(copy.length - 1, Math.ceil(fractions[i] * copy.length) - 1)];
+            }
+            return values;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Latencies Ever Recorded.
+         *
+         *  @return             The Number of Latencies.
+         */
+        synchronized long getCount() {
+            return this.count;
+        }
+    }
+
+    /**
+     *  This Class Marks a Request That Can Not be Served as Asked.
+     */
+    private static final class BadRequest extends Exception {
+
+        // The Serialization Version.
+        private static final long serialVersionUID = 1L;
+        // The HTTP Status to Answer With.
+        private final int status;
+
+        BadRequest(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     *  The Work Done For One Endpoint.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+
+        /**
+         *  This Method Works Out the Response Body of a Request.
+         *
+         *  @param exchange     The Request.
+         *
+         *  @return             The JSON Response Body.
+         *
+         *  @throws BadRequest  When the Request Can Not be Served.
+         *
+         *  @throws IOException When Reading the Request Fails.
+         */
+        String handle(HttpExchange exchange) throws BadRequest, IOException;
+    }
+
+    // The Server.
+    private final HttpServer server;
+    // The Executor Running the Exchanges.
+    private final ExecutorService executor;
+    // The Batcher Used For Single Keys.
+    private final MicroBatcher batcher;
+    // The Latencies of Every Endpoint.
+    private final LatencyWindow latencies = new LatencyWindow(1 << 16);
+
+    /**
+     *  Constructor That Binds the Server to the Loopback Address.
+     *
+     *  @param port             The Port, Zero For Any Free Port.
+     *
+     *  @param batcher          The Batcher Used For Single Keys.
+     *
+     *  @throws IOException     When the Port Can Not be Bound.
+     */
+    public KeyHttpService(int port, MicroBatcher batcher) throws IOException {
+        // Bind and Register the Endpoints.
+        this.batcher = batcher;
+        this.executor = executor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/invert", handler("GET", this::invert));
+        this.server.createContext("/invert/batch", handler("POST", this::invertBatch));
+        this.server.createContext("/decrypt", handler("POST", this::decrypt));
+        this.server.createContext("/stats", handler("GET", exchange -> stats()));
+        this.server.createContext("/metrics", handler("GET", "text/plain; version=0.0.4; charset=utf-8", exchange -> Metrics.prometheus()));
+    }
+
+    /**
+     *  This Method is Responsible for Starting to Serve.
+     */
+    public void start() {
+        this.server.start();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Port the
+     *  Server is Bound to.
+     *
+     *  @return             The Port.
+     */
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving Whether the
+     *  Exchanges Run on Virtual Threads.
+     *
+     *  @return             True if They Do.
+     */
+    public boolean isVirtual() {
+        return !(this.executor instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     *  This Method is Responsible for Stopping the Server and its
+     *  Executor. The Batcher Belongs to the Caller and Stays Open.
+     */
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Inverting One Key, Through the
+     *  Batcher.
+     *
+     *  @param exchange     The Request.
+     *
+     *  @return             The Response Body.
+     *
+     *  @throws BadRequest  When the Key is Missing or Invalid.
+     */
+    private String invert(HttpExchange exchange) throws BadRequest {
+        // Queue the Key and Wait For its Batch.
+        if (!exchange.getRequestURI().getPath().equals("/invert")) {
+            throw new BadRequest(404, "No Such Endpoint");
+        }
+        byte[] key = key(exchange.getRequestURI());
+        byte[] original;
+        try {
+            original = this.batcher.submit(key).join();
+        }
+        catch (CompletionException e) {
+            throw new BadRequest(503, String.valueOf(e.getCause().getMessage()));
+        }
+        return "{\"lastRoundKey\":\"" + Block128.toHex(key, 0).toLowerCase()
+                + "\",\"originalKey\":\"" + Block128.toHex(original, 0).toLowerCase() + "\"}";
+    }
+
+    /**
+     *  This Method is Responsible for Inverting Every Key in the Body With
+     *  the Bulk Engine.
+     *
+     *  @param exchange     The Request.
+     *
+     *  @return             The Response Body.
+     *
+     *  @throws BadRequest  When a Key is Invalid.
+     *
+     *  @throws IOException When Reading the Body Fails.
+     */
+    private String invertBatch(HttpExchange exchange) throws BadRequest, IOException {
+        // Split the Body Into Keys. Brackets, Quotes, Commas and White
+        // Space All Separate Keys, so JSON Arrays and Lines Both Work.
+        String body = body(exchange);
+        List<byte[]> keys = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= body.length(); i++) {
+            char c = i < body.length() ? body.charAt(i) : ' ';
+            boolean separator = c == '[' || c == ']' || c == '"' || c == ',' || Character.isWhitespace(c);
+            if (!separator && start < 0) {
+                start = i;
+            }
+            else if (separator && start >= 0) {
+                byte[] key = new byte[16];
+                if (i - start != 32 || !Block128.parseHex(body, start, key, 0)) {
+                    throw new BadRequest(400, "Key " + keys.size() + " is Not 32 Hex Digits");
+                }
+                keys.add(key);
+                start = -1;
+            }
+        }
+
+        // Invert Them All at Once and List the Original Keys in Order.
+        byte[][] src = keys.toArray(new byte[0][]);
+        byte[][] dest = new byte[src.length][16];
+        EngineSelector.get().invertAll(src, dest);
+        StringBuilder json = new StringBuilder(36 * src.length + 32).append("{\"originalKeys\":[");
+        for (int i = 0; i < dest.length; i++) {
+            json.append(i == 0 ? "\"" : ",\"").append(Block128.toHex(dest[i], 0).toLowerCase()).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     *  This Method is Responsible for Decrypting the Body With the Key
+     *  Recovered From the Last Round Key in the Query.
+     *
+     *  @param exchange     The Request.
+     *
+     *  @return             The Response Body.
+     *
+     *  @throws BadRequest  When the Key or Ciphertext is Invalid.
+     *
+     *  @throws IOException When Reading the Body Fails.
+     */
+    private String decrypt(HttpExchange exchange) throws BadRequest, IOException {
+        // Parse the Key and the Ciphertext.
+        byte[] key = key(exchange.getRequestURI());
+        String hex = InverseKeyGeneration.formatInputString(body(exchange));
+        if (hex.isEmpty() || hex.length() % 32 != 0) {
+            throw new BadRequest(400, "Ciphertext Must be a Non Empty Multiple of 16 Bytes in Hex");
+        }
+        byte[] ciphertext = new byte[hex.length() / 2];
+        for (int i = 0; i < ciphertext.length; i += 16) {
+            if (!Block128.parseHex(hex, 2 * i, ciphertext, i)) {
+                throw new BadRequest(400, "Ciphertext is Not Hex");
+            }
+        }
+
+        // Recover the Key and Decrypt.
+        byte[] original = new byte[16];
+        KeySchedule.recoverOriginalKey(key, 0, original, 0, KeySchedule.ROUNDS);
+        EngineSelector.get().decrypt(original, ciphertext, 0, ciphertext.length, ciphertext, 0);
+        StringBuilder plaintext = new StringBuilder(2 * ciphertext.length);
+        for (int i = 0; i < ciphertext.length; i += 16) {
+            plaintext.append(Block128.toHex(ciphertext, i).toLowerCase());
+        }
+        return "{\"originalKey\":\"" + Block128.toHex(original, 0).toLowerCase() + "\",\"plaintext\":\"" + plaintext + "\"}";
+    }
+
+    /**
+     *  This Method is Responsible for Reporting the Counts and Latencies.
+     *
+     *  @return             The Response Body.
+     */
+    private String stats() {
+        long[] p = this.latencies.percentiles(0.50, 0.99);
+        return String.format("{\"requests\":%d,\"p50Micros\":%.1f,\"p99Micros\":%.1f,\"batches\":%d,\"batchedKeys\":%d,\"meanBatchSize\":%.2f,\"virtualThreads\":%b}",
+                this.latencies.getCount(), p[0] / 1e3, p[1] / 1e3, this.batcher.getBatches(), this.batcher.getKeys(), this.batcher.getMeanBatchSize(), isVirtual());
+    }
+
+    /**
+     *  This Method Wraps an Endpoint With the Method Check, Error
+     *  Handling and Latency Recording Every Endpoint Shares.
+     *
+     *  @param method       The HTTP Method the Endpoint Accepts.
+     *
+     *  @param endpoint     The Endpoint.
+     *
+     *  @return             The Handler.
+     */
+    private HttpHandler handler(String method, Endpoint endpoint) {
+        return handler(method, "application/json", endpoint);
+    }
+
+    /**
+     *  This Method Wraps an Endpoint Whose Successful Responses are Not
+     *  JSON. Errors are Still Sent as JSON.
+     *
+     *  @param method       The HTTP Method the Endpoint Accepts.
+     *
+     *  @param contentType  The Content Type of a Successful Response.
+     *
+     *  @param endpoint     The Endpoint.
+     *
+     *  @return             The Handler.
+     */
+    private HttpHandler handler(String method, String contentType, Endpoint endpoint) {
+        return exchange -> {
+            long start = System.nanoTime();
+            int status = 200;
+            String body;
+            try {
+                if (!exchange.getRequestMethod().equals(method)) {
+                    throw new BadRequest(405, "Use " + method);
+                }
+                body = endpoint.handle(exchange);
+            }
+            catch (BadRequest e) {
+                status = e.status;
+                body = error(e.getMessage());
+            }
+            catch (RuntimeException e) {
+                status = 500;
+                body = error(String.valueOf(e));
+            }
+
+            // Send the Response and Record How Long it Took.
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", status == 200 ? contentType : "application/json");
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(status, bytes.length);
+                out.write(bytes);
+            }
+            finally {
+                this.latencies.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     *  This Method is Used to Read the Last Round Key From the Query.
+     *
+     *  @param uri          The Request URI.
+     *
+     *  @return             The 16 Byte Key.
+     *
+     *  @throws BadRequest  When the Key is Missing or Invalid.
+     */
+    private static byte[] key(URI uri) throws BadRequest {
+        // Find the key Parameter.
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("key=")) {
+                    byte[] key = new byte[16];
+                    String hex = parameter.substring(4);
+                    if (hex.length() != 32 || !Block128.parseHex(hex, 0, key, 0)) {
+                        throw new BadRequest(400, "key Must be 32 Hex Digits");
+                    }
+                    return key;
+                }
+            }
+        }
+        throw new BadRequest(400, "Missing key Parameter");
+    }
+
+    /**
+     *  This Method is Used to Build an Error Body, Escaping the Message as
+     *  a JSON String so Quotes, Backslashes and Control Characters From an
+     *  Exception Cannot Break the Response.
+     *
+     *  @param message      The Error Message.
+     *
+     *  @return             The Error Body.
+     */
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder(message.length() + 16).append("{\"error\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    }
+                    else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append("\"}").toString();
+    }
+
+    /**
+     *  This Method is Used to Read the Request Body, Up to the Size Limit.
+     *
+     *  @param exchange     The Request.
+     *
+     *  @return             The Body as Text.
+     *
+     *  @throws BadRequest  When the Body is Too Large.
+     *
+     *  @throws IOException When Reading Fails.
+     */
+    private static String body(HttpExchange exchange) throws BadRequest, IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY + 1);
+            if (bytes.length > MAX_BODY) {
+                throw new BadRequest(413, "Body Larger Than " + MAX_BODY + " Bytes");
+            }
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     *  This Method is Used to Get a Virtual Thread per Task Executor When
+     *  the Platform Has One, Otherwise a Cached Pool of Daemon Threads.
+     *
+     *  @return             The Executor.
+     */
+    private static ExecutorService executor() {
+        try {
+            // Looked up Reflectively so the Class Still Runs on Java 17.
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "key-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     *  Main Method That Runs the Service Until it is Killed.
+     *
+     *  @param args     [--port N] [--max-batch N] [--batch-delay-micros N]
+     *
+     *  @throws IOException When the Port Can Not be Bound.
+     */
+    public static void main(String[] args) throws IOException {
+        // Read the Options.
+        int port = DEFAULT_PORT;
+        int maxBatch = MicroBatcher.DEFAULT_MAX_BATCH;
+        long delay = MicroBatcher.DEFAULT_MAX_DELAY_MICROS;
+        for (int i = 0; i < args.length; i++) {
+            // Every Option Takes a Value.
+            String option = args[i];
+            if (!List.of("--port", "--max-batch", "--batch-delay-micros").contains(option)) {
+                usage("Unknown Option " + option);
+            }
+            if (i + 1 >= args.length) {
+                usage("Missing Value For " + option);
+            }
+            String value = args[++i];
+            try {
+                switch (option) {
+                    case "--port":
+                        port = Integer.parseInt(value);
+                        break;
+                    case "--max-batch":
+                        maxBatch = Integer.parseInt(value);
+                        break;
+                    case "--batch-delay-micros":
+                        delay = Long.parseLong(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            catch (NumberFormatException e) {
+                usage("Not a Number For " + option + ": " + value);
+            }
+        }
+
+        // Calibrate, Publish the Metrics Over JMX, Then Serve.
+        EngineSelector.initialize();
+        Metrics.register();
+        KeyHttpService service = new KeyHttpService(port, new MicroBatcher(maxBatch, delay));
+        service.start();
+        System.err.println("Key HTTP Service Listening on http://127.0.0.1:" + service.getPort()
+                + (service.isVirtual() ? " (Virtual Threads)" : " (Platform Threads)"));
+    }
+
+    /**
+     *  This Method Prints the Command Line Usage and Exits.
+     *
+     *  @param problem      What Was Wrong With the Arguments.
+     */
+    private static void usage(String problem) {
+        System.err.println("Error: " + problem);
+        System.err.println("Usage: java KeyHttpService [--port N] [--max-batch N] [--batch-delay-micros N]");
+        System.exit(InverseKeyCli.EXIT_USAGE);
+    }
+}
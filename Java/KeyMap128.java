@@ -0,0 +1,363 @@
+/**
+ *  This Class is Responsible for Mapping Unique 128 Bit Keys to 128 Bit
+ *  Values Using Only Primitive Long Values. Like the Key Set, it Uses
+ *  Open Addressing With Linear Probing and Can Optionally Keep its Slots
+ *  Outside of the Java Heap. It is Used to Map Each Unique Last Round
+ *  Key to the Original Key Recovered From it, so Duplicate Inputs Can be
+ *  Answered With a Single Lookup Instead of Another Inversion.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public class KeyMap128 {
+
+    // The Largest Fraction of Slots That
+    // May be Used Before the Table Grows.
+    private static final double MAX_LOAD = 0.75;
+
+    /**
+     *  This Interface is Used to Visit Every Entry in the Map.
+     */
+    public interface EntryVisitor {
+
+        /**
+         *  This Method is Called Once For Every Entry in the Map.
+         *
+         *  @param keyHigh      The High Long Value of the Key.
+         *
+         *  @param keyLow       The Low Long Value of the Key.
+         *
+         *  @param valueHigh    The High Long Value of the Value.
+         *
+         *  @param valueLow     The Low Long Value of the Value.
+         */
+        void visit(long keyHigh, long keyLow, long valueHigh, long valueLow);
+    }
+
+    // True When the Slots Live
+    // Outside of the Java Heap.
+    private final boolean offHeap;
+    // The Slot Storage. (Slot i Uses Longs
+    // 4i Through 4i + 3: Key Then Value.)
+    private LongStorage slots;
+    // The Number of Slots in the Table.
+    private long capacity;
+    // The Mask Used to Turn a Hash
+    // Into a Slot Index.
+    private long mask;
+    // The Number of Entries That May be Held
+    // Before the Table Has to Grow.
+    private long threshold;
+    // The Number of Entries Held in the Table.
+    // (Not Counting the All Zero Key.)
+    private long size;
+    // The All Zero Key Marks an Empty Slot,
+    // so its Entry is Tracked Seperately.
+    private boolean containsZero;
+    // The Value Mapped to the All Zero Key.
+    private long zeroHigh;
+    private long zeroLow;
+
+    /**
+     *  Constructor Method That is Used to Create a New Key Map Sized
+     *  For the Expected Number of Entries.
+     *
+     *  @param expectedSize     The Number of Entries Expected.
+     *
+     *  @param offHeap          True to Store the Slots Outside of
+     *                          the Java Heap.
+     */
+    public KeyMap128(long expectedSize, boolean offHeap) {
+        // Set Storage Type
+        this.offHeap = offHeap;
+        // Allocate the Initial Table.
+        allocate(KeySet128.capacityFor(expectedSize));
+    }
+
+    /**
+     *  This Method is Responsible for Mapping a 128 Bit Key to a 128 Bit
+     *  Value, Replacing Any Value Previously Mapped to the Key.
+     *
+     *  @param keyHigh      The High Long Value of the Key.
+     *
+     *  @param keyLow       The Low Long Value of the Key.
+     *
+     *  @param valueHigh    The High Long Value of the Value.
+     *
+     *  @param valueLow     The Low Long Value of the Value.
+     *
+     *  @return             True if the Key Was Not Already Present.
+     */
+    public boolean put(long keyHigh, long keyLow, long valueHigh, long valueLow) {
+        // Handle the All Zero Key Seperately.
+        if (keyHigh == 0 && keyLow == 0) {
+            boolean added = !this.containsZero;
+            this.containsZero = true;
+            this.zeroHigh = valueHigh;
+            this.zeroLow = valueLow;
+            return added;
+        }
+
+        // Find the Slot Holding the Key or
+        // the Empty Slot Where it Belongs.
+        long slot = find(keyHigh, keyLow);
+        boolean added = isEmpty(slot);
+
+        // Write the Key and Value Into the Slot.
+        this.slots.set(4 * slot, keyHigh);
+        this.slots.set(4 * slot + 1, keyLow);
+        this.slots.set(4 * slot + 2, valueHigh);
+        this.slots.set(4 * slot + 3, valueLow);
+
+        // Grow the Table Once it Becomes Too Full.
+        if (added && ++this.size > this.threshold) {
+            rehash(this.capacity << 1);
+        }
+
+        // Return Whether a New Entry Was Created.
+        return added;
+    }
+
+    /**
+     *  This Method is Responsible for Mapping a 16 Byte Key to a 16 Byte
+     *  Value, Replacing Any Value Previously Mapped to the Key.
+     *
+     *  @param key          The Byte Array Holding the Key.
+     *
+     *  @param value        The Byte Array Holding the Value.
+     *
+     *  @return             True if the Key Was Not Already Present.
+     */
+    public boolean put(byte[] key, byte[] value) {
+        // Store the Entry as Four Longs.
+        return put(Block128.high(key, 0), Block128.low(key, 0), Block128.high(value, 0), Block128.low(value, 0));
+    }
+
+    /**
+     *  This Method is Responsible for Checking Whether a 128 Bit Key is
+     *  Present Within the Map.
+     *
+     *  @param keyHigh      The High Long Value of the Key.
+     *
+     *  @param keyLow       The Low Long Value of the Key.
+     *
+     *  @return             True if the Key is Present.
+     */
+    public boolean containsKey(long keyHigh, long keyLow) {
+        // Handle the All Zero Key Seperately.
+        if (keyHigh == 0 && keyLow == 0) {
+            return this.containsZero;
+        }
+
+        // The Key is Present When its Slot is Occupied.
+        return !isEmpty(find(keyHigh, keyLow));
+    }
+
+    /**
+     *  This Method is Responsible for Copying the Value Mapped to a 128
+     *  Bit Key Into the Parameter Array Without Creating Any Objects.
+     *
+     *  @param keyHigh      The High Long Value of the Key.
+     *
+     *  @param keyLow       The Low Long Value of the Key.
+     *
+     *  @param dest         The Destination Byte Array.
+     *
+     *  @param offset       The Index the Value is Written at.
+     *
+     *  @return             True if the Key Was Found and the
+     *                      Value Was Written, Otherwise False.
+     */
+    public boolean get(long keyHigh, long keyLow, byte[] dest, int offset) {
+        // Handle the All Zero Key Seperately.
+        if (keyHigh == 0 && keyLow == 0) {
+            if (this.containsZero) {
+                Block128.store(this.zeroHigh, this.zeroLow, dest, offset);
+            }
+            return this.containsZero;
+        }
+
+        // Find the Slot Holding the Key.
+        long slot = find(keyHigh, keyLow);
+        if (isEmpty(slot)) {
+            return false;
+        }
+
+        // Write the Value Into the Destination.
+        Block128.store(this.slots.get(4 * slot + 2), this.slots.get(4 * slot + 3), dest, offset);
+        return true;
+    }
+
+    /**
+     *  This Method is Responsible for Copying the Value Mapped to a 16
+     *  Byte Key Into the Parameter Array.
+     *
+     *  @param key          The Byte Array Holding the Key.
+     *
+     *  @param dest         The Destination Byte Array.
+     *
+     *  @param offset       The Index the Value is Written at.
+     *
+     *  @return             True if the Key Was Found.
+     */
+    public boolean get(byte[] key, byte[] dest, int offset) {
+        // Look up the Key as Two Longs.
+        return get(Block128.high(key, 0), Block128.low(key, 0), dest, offset);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Entries Held by the Map.
+     *
+     *  @return             The Number of Entries.
+     */
+    public long size() {
+        // Count the All Zero Key if it is Present.
+        return this.size + (this.containsZero ? 1 : 0);
+    }
+
+    /**
+     *  This Method is Responsible for Visiting Every Entry in the Map.
+     *  The Visiting Order is Not Defined.
+     *
+     *  @param visitor      The Visitor Called For Each Entry.
+     */
+    public void forEach(EntryVisitor visitor) {
+        // Visit the All Zero Key First if it is Present.
+        if (this.containsZero) {
+            visitor.visit(0, 0, this.zeroHigh, this.zeroLow);
+        }
+
+        // Visit Every Occupied Slot.
+        for (long i = 0; i < this.capacity; i++) {
+            if (!isEmpty(i)) {
+                visitor.visit(this.slots.get(4 * i), this.slots.get(4 * i + 1), this.slots.get(4 * i + 2), this.slots.get(4 * i + 3));
+            }
+        }
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Slots in the Table, For Splitting a Walk Over the Map Into Ranges.
+     *
+     *  @return             The Slot Count.
+     */
+    public long getSlotCount() {
+        // Return Capacity
+        return this.capacity;
+    }
+
+    /**
+     *  This Method is Responsible for Visiting the Entries Held by a
+     *  Range of Slots. Splitting the Slots Into Ranges Allows Several
+     *  Threads to Walk the Map at Once, as Long as None of Them Changes
+     *  it. The All Zero Key is Visited With the Range That Starts at Slot
+     *  Zero.
+     *
+     *  @param fromSlot     The First Slot (Inclusive).
+     *
+     *  @param toSlot       The Last Slot (Exclusive).
+     *
+     *  @param visitor      The Visitor Called For Each Entry.
+     */
+    public void forEach(long fromSlot, long toSlot, EntryVisitor visitor) {
+        // Make Sure the Range Lies Within the Table.
+        if (fromSlot < 0 || toSlot > this.capacity || fromSlot > toSlot) {
+            throw new IndexOutOfBoundsException("Invalid Slot Range: " + fromSlot + " to " + toSlot);
+        }
+
+        // Visit the All Zero Key With the First Range.
+        if (fromSlot == 0 && this.containsZero) {
+            visitor.visit(0, 0, this.zeroHigh, this.zeroLow);
+        }
+
+        // Visit Every Occupied Slot of the Range.
+        for (long i = fromSlot; i < toSlot; i++) {
+            if (!isEmpty(i)) {
+                visitor.visit(this.slots.get(4 * i), this.slots.get(4 * i + 1), this.slots.get(4 * i + 2), this.slots.get(4 * i + 3));
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Find the Slot Holding the Parameter Key,
+     *  or the Empty Slot Where the Key Would be Placed.
+     *
+     *  @param keyHigh      The High Long Value of the Key.
+     *
+     *  @param keyLow       The Low Long Value of the Key.
+     *
+     *  @return             The Slot Index.
+     */
+    private long find(long keyHigh, long keyLow) {
+        // Probe From the Key's Home Slot Until Either
+        // the Key or an Empty Slot is Found.
+        long slot = Block128.hash(keyHigh, keyLow) & this.mask;
+        while (true) {
+            // Read the Key Held by the Current Slot.
+            long h = this.slots.get(4 * slot);
+            long l = this.slots.get(4 * slot + 1);
+
+            // Stop at the Key or at an Empty Slot.
+            if ((h == keyHigh && l == keyLow) || (h == 0 && l == 0)) {
+                return slot;
+            }
+
+            // Move on to the Next Slot.
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     *  This Method is Used to Check Whether a Slot is Empty.
+     *
+     *  @param slot         The Slot Index.
+     *
+     *  @return             True if the Slot Holds No Entry.
+     */
+    private boolean isEmpty(long slot) {
+        // A Slot is Empty When its Key is All Zero.
+        return this.slots.get(4 * slot) == 0 && this.slots.get(4 * slot + 1) == 0;
+    }
+
+    /**
+     *  This Method is Used to Allocate an Empty Table.
+     *
+     *  @param newCapacity      The Number of Slots (a Power of Two).
+     */
+    private void allocate(long newCapacity) {
+        // Allocate Four Longs Per Slot.
+        this.slots = LongStorage.allocate(newCapacity * 4, this.offHeap);
+        // Set Capacity, Mask and Growth Threshold.
+        this.capacity = newCapacity;
+        this.mask = newCapacity - 1;
+        this.threshold = (long) (newCapacity * MAX_LOAD);
+    }
+
+    /**
+     *  This Method is Used to Move Every Entry Into a Larger Table.
+     *
+     *  @param newCapacity      The New Number of Slots.
+     */
+    private void rehash(long newCapacity) {
+        // Keep a Reference to the Old Slots.
+        LongStorage old = this.slots;
+        long oldCapacity = this.capacity;
+
+        // Allocate the Larger Table.
+        allocate(newCapacity);
+
+        // Reinsert Every Occupied Slot.
+        for (long i = 0; i < oldCapacity; i++) {
+            long h = old.get(4 * i);
+            long l = old.get(4 * i + 1);
+            if (h != 0 || l != 0) {
+                long slot = find(h, l);
+                this.slots.set(4 * slot, h);
+                this.slots.set(4 * slot + 1, l);
+                this.slots.set(4 * slot + 2, old.get(4 * i + 2));
+                this.slots.set(4 * slot + 3, old.get(4 * i + 3));
+            }
+        }
+    }
+}
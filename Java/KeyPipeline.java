@@ -0,0 +1,804 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import javax.crypto.Cipher;
+
+/**
+ *  This Class is Responsible for Running Bulk Jobs as a Staged Pipeline:
+ *
+ *      parse -> invert -> verify -> [decrypt] -> write
+ *
+ *  Each Stage Runs on its Own Thread Over One Ring of Preallocated Slots,
+ *  Each Holding the Key, the Schedule and the Plaintext of One Line. A
+ *  Stage Owns a Cursor (the Number of Slots it Has Finished) and May Only
+ *  Work Up to the Cursor of the Stage Before it, While the Parse Stage May
+ *  Only Run a Ring Ahead of the Write Stage. Every Cursor Has One Writer
+ *  and One Reader, so Adjacent Stages Form Single Producer, Single
+ *  Consumer Links With No Locks, and a Slow Stage Holds Back the Stages
+ *  Before it Instead of Letting Work Pile Up. Stages Take Whatever is
+ *  Ready in Batches and Publish Their Cursor Once per Batch, so Stages of
+ *  Different Cost Overlap.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class KeyPipeline {
+
+    // The Default Number of Slots in the Ring.
+    public static final int DEFAULT_RING_SIZE = 4096;
+    // The Default Largest Number of Slots a Stage Takes at Once.
+    public static final int DEFAULT_BATCH = 256;
+    // The Spacing of the Cursors, so Each Sits on its Own Cache Line.
+    private static final int PAD = 16;
+    // The Digits Used When Writing Hex.
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes();
+
+    /**
+     *  This Class Holds the Reused State of One Line.
+     */
+    private static final class Slot {
+
+        // The Line Number.
+        private long line;
+        // Whether the Line Held a Key, and Whether it Was Too Long.
+        private boolean valid;
+        private boolean tooLong;
+        // Whether Expanding the Original Key Reproduced the Input.
+        private boolean verified;
+        // The Last Round Key.
+        private final byte[] lastRoundKey = new byte[16];
+        // The Full Schedule, Original Key First.
+        private final byte[] schedule = new byte[16 * (KeySchedule.ROUNDS + 1)];
+        // The Plaintext, or Null Without a Ciphertext.
+        private final byte[] plaintext;
+
+        Slot(int plaintextLength) {
+            this.plaintext = plaintextLength == 0 ? null : new byte[plaintextLength];
+        }
+    }
+
+    /**
+     *  This Class Holds the Measurements of One Stage.
+     */
+    public static final class StageStats {
+
+        // The Stage Name.
+        private final String name;
+        // The Number of Slots and Batches Handled.
+        private long items;
+        private long batches;
+        // The Time Spent Working, Not Waiting.
+        private long busyNanos;
+        // The Number of Slots Waiting For the Stage, Summed Over Batches,
+        // and the Most Ever Seen.
+        private long depthSum;
+        private long maxDepth;
+        // The Shared Latency Histogram of the Stage, or Null.
+        private final Metrics.Histogram histogram;
+
+        StageStats(String name) {
+            this.name = name;
+            this.histogram = Metrics.forStage(name);
+        }
+
+        /**
+         *  This Method is Used to Record One Batch.
+         *
+         *  @param depth        The Number of Slots Waiting.
+         *
+         *  @param size         The Number of Slots Taken.
+         *
+         *  @param nanos        The Time the Batch Took.
+         */
+        void record(long depth, long size, long nanos) {
+            this.items += size;
+            this.batches++;
+            this.busyNanos += nanos;
+            this.depthSum += depth;
+            this.maxDepth = Math.max(this.maxDepth, depth);
+            if (this.histogram != null && size > 0) {
+                this.histogram.record(nanos / size, size);
+            }
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Stage
+         *  Name.
+         *
+         *  @return             The Name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Slots the Stage Handled.
+         *
+         *  @return             The Number of Slots.
+         */
+        public long getItems() {
+            return this.items;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Mean
+         *  Number of Slots Taken per Batch.
+         *
+         *  @return             The Mean Batch Size.
+         */
+        public double getMeanBatch() {
+            return this.batches == 0 ? 0 : (double) this.items / this.batches;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Mean
+         *  Queue Depth in Front of the Stage.
+         *
+         *  @return             The Mean Number of Slots Waiting.
+         */
+        public double getMeanDepth() {
+            return this.batches == 0 ? 0 : (double) this.depthSum / this.batches;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Largest
+         *  Queue Depth in Front of the Stage.
+         *
+         *  @return             The Most Slots Ever Waiting.
+         */
+        public long getMaxDepth() {
+            return this.maxDepth;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Time the
+         *  Stage Spent Working.
+         *
+         *  @return             The Busy Time in Nanoseconds.
+         */
+        public long getBusyNanos() {
+            return this.busyNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s Items=%d  Mean Batch=%.1f  Mean Depth=%.1f  Max Depth=%d  Busy=%.3f s",
+                    this.name, this.items, getMeanBatch(), getMeanDepth(), this.maxDepth, this.busyNanos / 1e9);
+        }
+    }
+
+    /**
+     *  This Class Holds the Outcome of a Run.
+     */
+    public static final class Result {
+
+        // The Number of Keys Processed.
+        private final long keys;
+        // The Number of Lines That Were Not Keys.
+        private final long invalid;
+        // The Time the Run Took in Nanoseconds.
+        private final long nanos;
+        // The Measurements of Each Stage.
+        private final List<StageStats> stages;
+
+        Result(long keys, long invalid, long nanos, List<StageStats> stages) {
+            // Set Result Values
+            this.keys = keys;
+            this.invalid = invalid;
+            this.nanos = nanos;
+            this.stages = Collections.unmodifiableList(stages);
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Keys Processed.
+         *
+         *  @return             The Number of Keys.
+         */
+        public long getKeys() {
+            return this.keys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Lines That Were Not Keys.
+         *
+         *  @return             The Number of Invalid Lines.
+         */
+        public long getInvalid() {
+            return this.invalid;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Keys
+         *  Processed per Second.
+         *
+         *  @return             The Rate.
+         */
+        public double getKeysPerSecond() {
+            return this.nanos == 0 ? 0 : this.keys * 1e9 / this.nanos;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the
+         *  Measurements of Each Stage, in Order.
+         *
+         *  @return             The Stage Measurements.
+         */
+        public List<StageStats> getStages() {
+            return this.stages;
+        }
+    }
+
+    /**
+     *  The Work One Stage Does to a Slot.
+     */
+    @FunctionalInterface
+    private interface Work {
+
+        /**
+         *  This Method Handles One Slot.
+         *
+         *  @param slot         The Slot.
+         *
+         *  @throws IOException When Writing Fails.
+         */
+        void process(Slot slot) throws IOException;
+    }
+
+    // The Number of Slots in the Ring and the Mask For Indexing it.
+    private final int ringSize;
+    private final int mask;
+    // The Largest Number of Slots a Stage Takes at Once.
+    private final int batch;
+    // The Ciphertext Decrypted With Each Key, or Null.
+    private byte[] ciphertext;
+
+    // The State of the Current Run.
+    private Slot[] ring;
+    private AtomicLongArray cursors;
+    private volatile long total;
+    private volatile Throwable failure;
+
+    /**
+     *  Constructor That Sets the Ring Size and Batch Size.
+     *
+     *  @param ringSize     The Number of Slots, a Power of Two.
+     *
+     *  @param batch        The Largest Number of Slots a Stage Takes at
+     *                      Once.
+     */
+    public KeyPipeline(int ringSize, int batch) {
+        // Check and Set the Sizes.
+        if (ringSize < 2 || Integer.bitCount(ringSize) != 1 || batch < 1 || batch > ringSize) {
+            throw new IllegalArgumentException("Ring Size Must be a Power of Two No Smaller Than the Batch");
+        }
+        this.ringSize = ringSize;
+        this.mask = ringSize - 1;
+        this.batch = batch;
+    }
+
+    /**
+     *  Constructor That Uses the Default Sizes.
+     */
+    public KeyPipeline() {
+        this(DEFAULT_RING_SIZE, DEFAULT_BATCH);
+    }
+
+    /**
+     *  A Setter Method That Adds a Decrypt Stage For a Ciphertext.
+     *
+     *  @param ciphertext   The Ciphertext, a Non Empty Multiple of 16
+     *                      Bytes, or Null For No Decrypt Stage.
+     */
+    public void setCiphertext(byte[] ciphertext) {
+        if (ciphertext != null && (ciphertext.length == 0 || ciphertext.length % 16 != 0)) {
+            throw new IllegalArgumentException("Ciphertext Must be a Non Empty Multiple of 16 Bytes");
+        }
+        this.ciphertext = ciphertext == null ? null : ciphertext.clone();
+    }
+
+    /**
+     *  This Method is Responsible for Running the Pipeline Over Every Line
+     *  of the Input, Writing One NDJSON Record per Line to the Output.
+     *
+     *  @param in           The Last Round Keys, One per Line.
+     *
+     *  @param out          The Output. It is Flushed But Not Closed.
+     *
+     *  @return             The Outcome.
+     *
+     *  @throws IOException When Reading or Writing Fails.
+     */
+    public synchronized Result run(InputStream in, OutputStream out) throws IOException {
+        // Allocate the Ring Once For the Run.
+        this.ring = new Slot[this.ringSize];
+        for (int i = 0; i < this.ringSize; i++) {
+            this.ring[i] = new Slot(this.ciphertext == null ? 0 : this.ciphertext.length);
+        }
+        this.total = Long.MAX_VALUE;
+        this.failure = null;
+
+        // Lay Out the Stages After the Parse Stage.
+        List<String> names = new ArrayList<>(List.of("parse", "invert", "verify"));
+        EngineSelector selector = EngineSelector.get();
+        EngineSelector.VerificationEngine verifier = selector.verificationEngine();
+        List<String> engines = new ArrayList<>(List.of(StageEvents.NO_ENGINE, selector.inversionEngine(1).name(), verifier.name()));
+        List<Work> work = new ArrayList<>();
+        work.add(slot -> {
+            if (slot.valid) {
+                selector.recoverSchedule(slot.lastRoundKey, 0, slot.schedule, 0);
+            }
+        });
+        // The Verify Stage Has One Thread, so One Scratch Key Serves it.
+        byte[] scratch = new byte[16];
+        work.add(slot -> slot.verified = slot.valid && EngineSelector.verify(verifier, slot.schedule, 0, slot.lastRoundKey, 0, scratch));
+        if (this.ciphertext != null) {
+            names.add("decrypt");
+            engines.add(EngineSelector.get().decryptionEngine(this.ciphertext.length / 16).name());
+            work.add(decryptWork());
+        }
+        names.add("write");
+        engines.add(StageEvents.NO_ENGINE);
+        long[] counts = new long[2];
+        OutputStream buffered = new BufferedOutputStream(out, 1 << 20);
+        work.add(writeWork(buffered, counts));
+        this.cursors = new AtomicLongArray(PAD * names.size());
+
+        // Start a Thread per Stage.
+        List<StageStats> stats = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int s = 0; s < names.size(); s++) {
+            StageStats stage = new StageStats(names.get(s));
+            stats.add(stage);
+            int index = s;
+            Runnable body = s == 0 ? () -> parse(in, stage) : () -> consume(index, work.get(index - 1), engines.get(index), stage);
+            Thread thread = new Thread(() -> {
+                try {
+                    body.run();
+                }
+                catch (RuntimeException | Error e) {
+                    this.failure = e;
+                }
+            }, "pipeline-" + names.get(s));
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Wait For Every Stage.
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.failure = e;
+            }
+        }
+        Throwable error = this.failure;
+        if (error == null) {
+            buffered.flush();
+        }
+        this.ring = null;
+        if (error instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) error).getCause();
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error != null) {
+            throw new IOException("Pipeline Failed", error);
+        }
+        return new Result(counts[0], counts[1], System.nanoTime() - start, stats);
+    }
+
+    /**
+     *  This Method Runs the Parse Stage, Which Fills Free Slots With Lines.
+     *
+     *  @param in           The Input.
+     *
+     *  @param stats        The Measurements of the Stage.
+     */
+    private void parse(InputStream in, StageStats stats) {
+        InverseKeyCli.LineReader reader = new InverseKeyCli.LineReader(in);
+        int last = this.cursors.length() / PAD - 1;
+        long produced = 0;
+        long number = 0;
+        StageEvents.Probe probe = StageEvents.probe("parse");
+        try {
+            while (true) {
+                // Wait For Free Slots, Which the Write Stage Hands Back.
+                long free = awaitFree(produced, last);
+                if (free < 0) {
+                    return;
+                }
+                probe.start();
+                long began = System.nanoTime();
+                long end = Math.min(free, produced + this.batch);
+                long i = produced;
+                boolean ended = false;
+                while (i < end) {
+                    if (!reader.next()) {
+                        ended = true;
+                        break;
+                    }
+                    number++;
+                    if (reader.isSkippable()) {
+                        continue;
+                    }
+                    Slot slot = this.ring[(int) (i & this.mask)];
+                    slot.line = number;
+                    slot.tooLong = reader.isTooLong();
+                    slot.valid = !slot.tooLong && reader.parseKey(slot.lastRoundKey);
+                    i++;
+                }
+
+                // Publish the Batch, Then Mark the End.
+                stats.record(produced - this.cursors.get(PAD * last), i - produced, System.nanoTime() - began);
+                probe.finish((int) (i - produced), StageEvents.NO_ENGINE, i > produced ? this.ring[(int) (produced & this.mask)].line : number);
+                produced = i;
+                this.cursors.lazySet(0, produced);
+                if (ended) {
+                    this.total = produced;
+                    return;
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     *  This Method Runs a Stage That Follows Another.
+     *
+     *  @param stage        The Index of the Stage.
+     *
+     *  @param work         The Work Done to Each Slot.
+     *
+     *  @param engine       The Engine the Work Uses, For the Stage Events.
+     *
+     *  @param stats        The Measurements of the Stage.
+     */
+    private void consume(int stage, Work work, String engine, StageStats stats) {
+        long done = 0;
+        StageEvents.Probe probe = StageEvents.probe(stats.getName());
+        try {
+            while (true) {
+                // Wait For Slots the Previous Stage Has Finished.
+                long ready = awaitReady(done, stage - 1);
+                if (ready < 0) {
+                    return;
+                }
+
+                // Take a Batch and Publish it.
+                probe.start();
+                long began = System.nanoTime();
+                long end = Math.min(ready, done + this.batch);
+                for (long i = done; i < end; i++) {
+                    work.process(this.ring[(int) (i & this.mask)]);
+                }
+                stats.record(ready - done, end - done, System.nanoTime() - began);
+                probe.finish((int) (end - done), engine, this.ring[(int) (done & this.mask)].line);
+                done = end;
+                this.cursors.lazySet(PAD * stage, done);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     *  This Method is Used to Wait Until the Previous Stage Has Finished
+     *  More Slots.
+     *
+     *  @param done         The Number of Slots This Stage Has Finished.
+     *
+     *  @param previous     The Index of the Previous Stage.
+     *
+     *  @return             The Previous Stage's Cursor, or -1 Once Every
+     *                      Slot is Finished or Another Stage Failed.
+     */
+    private long awaitReady(long done, int previous) {
+        for (int idle = 0; ; idle++) {
+            long ready = this.cursors.get(PAD * previous);
+            if (ready > done) {
+                return ready;
+            }
+            if (done >= this.total || this.failure != null) {
+                return -1;
+            }
+            backoff(idle);
+        }
+    }
+
+    /**
+     *  This Method is Used to Wait Until the Write Stage Has Handed Back
+     *  Slots.
+     *
+     *  @param produced     The Number of Slots Filled So Far.
+     *
+     *  @param last         The Index of the Write Stage.
+     *
+     *  @return             The Position Up to Which Slots are Free, or -1
+     *                      if Another Stage Failed.
+     */
+    private long awaitFree(long produced, int last) {
+        for (int idle = 0; ; idle++) {
+            long free = this.cursors.get(PAD * last) + this.ringSize;
+            if (free > produced) {
+                return free;
+            }
+            if (this.failure != null) {
+                return -1;
+            }
+            backoff(idle);
+        }
+    }
+
+    /**
+     *  This Method is Used to Wait a Little Longer Each Time a Stage Finds
+     *  Nothing to do: Spinning at First, Then Yielding, Then Parking.
+     *
+     *  @param idle         The Number of Times it Has Waited.
+     */
+    private static void backoff(int idle) {
+        if (idle < 64) {
+            Thread.onSpinWait();
+        }
+        else if (idle < 128) {
+            Thread.yield();
+        }
+        else {
+            LockSupport.parkNanos(20_000);
+        }
+    }
+
+    /**
+     *  This Method Builds the Work of the Decrypt Stage.
+     *
+     *  @return             The Work.
+     */
+    private Work decryptWork() {
+        // Use the Engine Picked For the Message Length.
+        byte[] message = this.ciphertext;
+        byte[] original = new byte[16];
+        Cipher cipher = EngineSelector.get().decryptionEngine(message.length / 16) == EngineSelector.DecryptionEngine.JCE
+                ? EngineSelector.jceCipher() : null;
+        return slot -> {
+            if (!slot.valid) {
+                return;
+            }
+            System.arraycopy(slot.schedule, 0, original, 0, 16);
+            if (cipher != null) {
+                EngineSelector.decryptJce(cipher, original, message, 0, message.length, slot.plaintext, 0);
+            }
+            else {
+                EngineSelector.decryptTable(original, message, 0, message.length, slot.plaintext, 0);
+            }
+            Metrics.BLOCKS_DECRYPTED.add(message.length / 16);
+        };
+    }
+
+    /**
+     *  This Method Builds the Work of the Write Stage, Which Formats Each
+     *  Slot as an NDJSON Record in a Reused Buffer.
+     *
+     *  @param out          The Buffered Output.
+     *
+     *  @param counts       Where the Numbers of Keys and Invalid Lines are
+     *                      Counted.
+     *
+     *  @return             The Work.
+     */
+    private Work writeWork(OutputStream out, long[] counts) {
+        byte[] record = new byte[256 + 2 * (this.ciphertext == null ? 0 : this.ciphertext.length)];
+        int last = 16 * KeySchedule.ROUNDS;
+        return slot -> {
+            int at = ascii(record, 0, "{\"line\":");
+            at = number(slot.line, record, at);
+            if (!slot.valid) {
+                at = ascii(record, at, slot.tooLong ? ",\"error\":\"Line Too Long\"}\n" : ",\"error\":\"Expected 32 Hex Digits\"}\n");
+                counts[1]++;
+                Metrics.INVALID_LINES.increment();
+            }
+            else {
+                at = ascii(record, at, ",\"lastRoundKey\":\"");
+                at = hex(slot.schedule, last, 16, record, at);
+                at = ascii(record, at, "\",\"originalKey\":\"");
+                at = hex(slot.schedule, 0, 16, record, at);
+                at = ascii(record, at, slot.verified ? "\",\"verified\":true" : "\",\"verified\":false");
+                if (slot.plaintext != null) {
+                    at = ascii(record, at, ",\"plaintext\":\"");
+                    at = hex(slot.plaintext, 0, slot.plaintext.length, record, at);
+                    at = ascii(record, at, "\"");
+                }
+                at = ascii(record, at, "}\n");
+                counts[0]++;
+                Metrics.KEYS_PARSED.increment();
+                Metrics.KEYS_INVERTED.increment();
+            }
+            Metrics.BYTES_WRITTEN.add(at);
+            out.write(record, 0, at);
+        };
+    }
+
+    /**
+     *  This Method is Used to Copy ASCII Text Into a Record.
+     *
+     *  @param dest         The Record.
+     *
+     *  @param at           The Index to Write at.
+     *
+     *  @param value        The Text.
+     *
+     *  @return             The Index After the Text.
+     */
+    private static int ascii(byte[] dest, int at, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            dest[at++] = (byte) value.charAt(i);
+        }
+        return at;
+    }
+
+    /**
+     *  This Method is Used to Write a Number Into a Record.
+     *
+     *  @param value        The Number, Not Negative.
+     *
+     *  @param dest         The Record.
+     *
+     *  @param at           The Index to Write at.
+     *
+     *  @return             The Index After the Number.
+     */
+    private static int number(long value, byte[] dest, int at) {
+        // Count the Digits, Then Fill Them in From the Right.
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = at + digits - 1; i >= at; i--) {
+            dest[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return at + digits;
+    }
+
+    /**
+     *  This Method is Used to Write Bytes as Hex Into a Record.
+     *
+     *  @param src          The Bytes.
+     *
+     *  @param offset       The Index of the First Byte.
+     *
+     *  @param length       The Number of Bytes.
+     *
+     *  @param dest         The Record.
+     *
+     *  @param at           The Index to Write at.
+     *
+     *  @return             The Index After the Hex.
+     */
+    private static int hex(byte[] src, int offset, int length, byte[] dest, int at) {
+        for (int i = offset; i < offset + length; i++) {
+            dest[at++] = DIGITS[(src[i] >> 4) & 0x0F];
+            dest[at++] = DIGITS[src[i] & 0x0F];
+        }
+        return at;
+    }
+
+    /**
+     *  Main Method That Runs the Pipeline on a File or Standard Input and
+     *  Prints the Stage Measurements to Standard Error.
+     *
+     *  @param args     [--input FILE] [--output FILE] [--ciphertext HEX]
+     *                  [--ring N] [--batch N]
+     *
+     *  @throws IOException When Reading or Writing Fails.
+     */
+    public static void main(String[] args) throws IOException {
+        // Read the Options.
+        String input = "-";
+        String output = "-";
+        String ciphertext = null;
+        int ring = DEFAULT_RING_SIZE;
+        int batch = DEFAULT_BATCH;
+        for (int i = 0; i < args.length; i++) {
+            // Every Option Takes a Value.
+            String option = args[i];
+            if (!List.of("--input", "--output", "--ciphertext", "--ring", "--batch").contains(option)) {
+                usage("Unknown Option " + option);
+            }
+            if (i + 1 >= args.length) {
+                usage("Missing Value For " + option);
+            }
+            String value = args[++i];
+            try {
+                switch (option) {
+                    case "--input":
+                        input = value;
+                        break;
+                    case "--output":
+                        output = value;
+                        break;
+                    case "--ciphertext":
+                        ciphertext = InverseKeyGeneration.formatInputString(value);
+                        break;
+                    case "--ring":
+                        ring = Integer.parseInt(value);
+                        break;
+                    case "--batch":
+                        batch = Integer.parseInt(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            catch (NumberFormatException e) {
+                usage("Not a Number For " + option + ": " + value);
+            }
+        }
+
+        // Check the Ciphertext is Whole Blocks of Hex Before Anything Runs.
+        byte[] bytes = null;
+        if (ciphertext != null) {
+            if (ciphertext.isEmpty() || ciphertext.length() % 32 != 0) {
+                usage("Ciphertext Must be Whole 16 Byte Blocks in Hex");
+            }
+            bytes = new byte[ciphertext.length() / 2];
+            for (int i = 0; i < bytes.length; i += 16) {
+                if (!Block128.parseHex(ciphertext, 2 * i, bytes, i)) {
+                    usage("Ciphertext Must be Whole 16 Byte Blocks in Hex");
+                }
+            }
+        }
+
+        // Load (or Measure Once) the Engine Choices, Then
+        // Build the Pipeline.
+        EngineSelector.initialize();
+        KeyPipeline pipeline = null;
+        try {
+            pipeline = new KeyPipeline(ring, batch);
+            pipeline.setCiphertext(bytes);
+        }
+        catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+        }
+
+        // Run it and Report Each Stage.
+        try (InputStream in = input.equals("-") ? System.in : Files.newInputStream(Paths.get(input));
+             OutputStream out = output.equals("-") ? System.out : Files.newOutputStream(Paths.get(output))) {
+            Result result = pipeline.run(in, out);
+            System.err.printf("Keys: %d  Invalid Lines: %d  Keys/Second: %.0f%n", result.getKeys(), result.getInvalid(), result.getKeysPerSecond());
+            for (StageStats stage : result.getStages()) {
+                System.err.println("  " + stage);
+            }
+            System.exit(result.getInvalid() == 0 ? InverseKeyCli.EXIT_OK : InverseKeyCli.EXIT_INVALID_INPUT);
+        }
+    }
+
+    /**
+     *  This Method Prints the Command Line Usage and Exits.
+     *
+     *  @param problem      What Was Wrong With the Arguments.
+     */
+    private static void usage(String problem) {
+        System.err.println("Error: " + problem);
+        System.err.println("Usage: java KeyPipeline [--input FILE] [--output FILE] [--ciphertext HEX] [--ring N] [--batch N]");
+        System.exit(InverseKeyCli.EXIT_USAGE);
+    }
+}
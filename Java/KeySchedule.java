@@ -0,0 +1,422 @@
+/**
+ *  This Class is Responsible for Running the AES-128 Key Schedule Using
+ *  Four 32 Bit Words Instead of Byte Arrays. The Rotate Word, Substitute
+ *  Word and Round Constant Steps of the Key Expansion Function are Fused
+ *  Into Four Precomputed Lookup Tables, so a Whole Round of the Schedule
+ *  Costs Four Table Reads and a Handful of XOR Operations. Unlike the
+ *  Original Inverse Round Key Method, Nothing Here Reads or Writes the
+ *  Global Round Number, so Every Method is Safe to Call From Many
+ *  Threads at Once and None of Them Create Any Objects.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class KeySchedule {
+
+    // The Number of Rounds in AES-128.
+    public static final int ROUNDS = 10;
+
+    // The Fused Substitution Tables. For a Word w the Combined Rotate
+    // and Substitute Step is:
+    //
+    //     T3[(w >>> 16) & 0xFF] ^ T2[(w >>> 8) & 0xFF] ^ T1[w & 0xFF] ^ T0[w >>> 24]
+    //
+    // Each Table Holds the Substitution Box Entry Already Shifted Into
+    // the Byte Position it Lands in After the Rotation.
+    static final int[] T0 = new int[256];
+    static final int[] T1 = new int[256];
+    static final int[] T2 = new int[256];
+    static final int[] T3 = new int[256];
+
+    // The Round Constants Already Shifted Into
+    // the Most Significant Byte of a Word.
+    static final int[] RCON = new int[32];
+
+    static {
+        // Fill the Four Fused Tables From
+        // the Substitution Box.
+        for (int i = 0; i < 256; i++) {
+            int s = InverseKeyGeneration.SUBSITUTION_BOX[i] & 0xFF;
+            T0[i] = s;
+            T1[i] = s << 8;
+            T2[i] = s << 16;
+            T3[i] = s << 24;
+        }
+        // Fill the Shifted Round Constants.
+        for (int i = 0; i < RCON.length; i++) {
+            RCON[i] = (InverseKeyGeneration.ROUND_CONSTANT_BOX[i] & 0xFF) << 24;
+        }
+    }
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper
+     *  Class From Being Created.
+     */
+    private KeySchedule() {
+    }
+
+    /**
+     *  This Method is Responsible for the Fused Rotate Word, Substitute
+     *  Word and Round Constant Addition Steps of the Key Expansion.
+     *
+     *  @param w            The Last Word of the Previous Round Key.
+     *
+     *  @param round        The Round Whose Constant is Added.
+     *
+     *  @return             The Transformed Word.
+     */
+    static int g(int w, int round) {
+        // Look up Each Byte in its Fused Table
+        // and Add the Round Constant.
+        return T3[(w >>> 16) & 0xFF] ^ T2[(w >>> 8) & 0xFF] ^ T1[w & 0xFF] ^ T0[w >>> 24] ^ RCON[round];
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Original Key From
+     *  the Last Round Key of AES-128. All Ten Inverse Rounds Run on Local
+     *  Word Variables and Only the Original Key is Produced.
+     *
+     *  @param lastRoundKey     The 16 Byte Last Round Key.
+     *
+     *  @return                 The 16 Byte Original Key.
+     */
+    public static byte[] recoverOriginalKey(byte[] lastRoundKey) {
+        // Create the Result Array.
+        byte[] original = new byte[16];
+        // Invert All Ten Rounds Into it.
+        recoverOriginalKey(lastRoundKey, 0, original, 0, ROUNDS);
+        // Return the Original Key.
+        return original;
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Original Key From
+     *  the Last Round Key of a Schedule With Any Number of Rounds. The
+     *  Inverse Rounds Run on Local Word Variables, so Nothing is Created
+     *  and the Source and Destination May Even be the Same Array.
+     *
+     *  @param src          The Array Holding the Last Round Key.
+     *
+     *  @param srcOffset    The Index of the First Key Byte.
+     *
+     *  @param dest         The Array the Original Key is Written to.
+     *
+     *  @param destOffset   The Index the Original Key is Written at.
+     *
+     *  @param rounds       The Round Number of the Parameter Key.
+     *                      (10 For Full AES-128.)
+     */
+    public static void recoverOriginalKey(byte[] src, int srcOffset, byte[] dest, int destOffset, int rounds) {
+        // Make Sure the Round Constant Box
+        // Has an Entry For Every Round.
+        checkRounds(rounds);
+
+        // Load the Four Words of the Last Round Key.
+        int w0 = readWord(src, srcOffset);
+        int w1 = readWord(src, srcOffset + 4);
+        int w2 = readWord(src, srcOffset + 8);
+        int w3 = readWord(src, srcOffset + 12);
+
+        // Undo One Round of the Schedule at a Time,
+        // Starting From the Last Round.
+        for (int round = rounds; round > 0; round--) {
+            // Each of the Last Three Words of the Previous Key
+            // is the XOR of Two Neighbouring Current Words.
+            w3 ^= w2;
+            w2 ^= w1;
+            w1 ^= w0;
+            // The First Word Needs the Fused Expansion
+            // of the Previous Key's Last Word.
+            w0 ^= g(w3, round);
+        }
+
+        // Store the Four Words of the Original Key.
+        writeWord(w0, dest, destOffset);
+        writeWord(w1, dest, destOffset + 4);
+        writeWord(w2, dest, destOffset + 8);
+        writeWord(w3, dest, destOffset + 12);
+    }
+
+    /**
+     *  This Method is Responsible for Recovering the Whole Key Schedule
+     *  From the Last Round Key. The Round Keys are Written in Round Order,
+     *  so the Original Key Comes First and the Parameter Key Comes Last.
+     *
+     *  @param src          The Array Holding the Last Round Key.
+     *
+     *  @param srcOffset    The Index of the First Key Byte.
+     *
+     *  @param dest         The Array the Schedule is Written to.
+     *                      It Needs 16 * (rounds + 1) Bytes.
+     *
+     *  @param destOffset   The Index the Schedule is Written at.
+     *
+     *  @param rounds       The Round Number of the Parameter Key.
+     */
+    public static void recoverSchedule(byte[] src, int srcOffset, byte[] dest, int destOffset, int rounds) {
+        // Make Sure the Round Constant Box
+        // Has an Entry For Every Round.
+        checkRounds(rounds);
+
+        // Load the Four Words of the Last Round Key.
+        int w0 = readWord(src, srcOffset);
+        int w1 = readWord(src, srcOffset + 4);
+        int w2 = readWord(src, srcOffset + 8);
+        int w3 = readWord(src, srcOffset + 12);
+
+        // Undo One Round at a Time, Storing
+        // Each Round Key at its Position.
+        for (int round = rounds; ; round--) {
+            // Store the Current Round Key.
+            int at = destOffset + 16 * round;
+            writeWord(w0, dest, at);
+            writeWord(w1, dest, at + 4);
+            writeWord(w2, dest, at + 8);
+            writeWord(w3, dest, at + 12);
+
+            // Stop Once the Original Key is Stored.
+            if (round == 0) {
+                break;
+            }
+
+            // Find the Previous Round Key.
+            w3 ^= w2;
+            w2 ^= w1;
+            w1 ^= w0;
+            w0 ^= g(w3, round);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running the Forward AES-128 Key
+     *  Expansion on an Original Key.
+     *
+     *  @param originalKey      The 16 Byte Original Key.
+     *
+     *  @return                 The 176 Byte Key Schedule (Original
+     *                          Key First, Last Round Key Last).
+     */
+    public static byte[] expandKey(byte[] originalKey) {
+        // Create the Result Array.
+        byte[] schedule = new byte[16 * (ROUNDS + 1)];
+        // Expand All Ten Rounds Into it.
+        expandKey(originalKey, 0, schedule, 0, ROUNDS);
+        // Return the Key Schedule.
+        return schedule;
+    }
+
+    /**
+     *  This Method is Responsible for Running the Forward Key Expansion
+     *  For Any Number of Rounds Using the Same Fused Tables as the
+     *  Inverse Process. Every Round Key is Written in Round Order.
+     *
+     *  @param src          The Array Holding the Original Key.
+     *
+     *  @param srcOffset    The Index of the First Key Byte.
+     *
+     *  @param dest         The Array the Schedule is Written to.
+     *                      It Needs 16 * (rounds + 1) Bytes.
+     *
+     *  @param destOffset   The Index the Schedule is Written at.
+     *
+     *  @param rounds       The Number of Rounds to Expand.
+     */
+    public static void expandKey(byte[] src, int srcOffset, byte[] dest, int destOffset, int rounds) {
+        // Make Sure the Round Constant Box
+        // Has an Entry For Every Round.
+        checkRounds(rounds);
+
+        // Load the Four Words of the Original Key.
+        int w0 = readWord(src, srcOffset);
+        int w1 = readWord(src, srcOffset + 4);
+        int w2 = readWord(src, srcOffset + 8);
+        int w3 = readWord(src, srcOffset + 12);
+
+        // Expand One Round at a Time, Storing
+        // Each Round Key at its Position.
+        for (int round = 0; ; round++) {
+            // Store the Current Round Key.
+            int at = destOffset + 16 * round;
+            writeWord(w0, dest, at);
+            writeWord(w1, dest, at + 4);
+            writeWord(w2, dest, at + 8);
+            writeWord(w3, dest, at + 12);
+
+            // Stop Once the Last Round Key is Stored.
+            if (round == rounds) {
+                break;
+            }
+
+            // Find the Next Round Key.
+            w0 ^= g(w3, round + 1);
+            w1 ^= w0;
+            w2 ^= w1;
+            w3 ^= w2;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running the Forward Key Expansion
+     *  Into an Array of Words, Which is the Form the Block Cipher Rounds
+     *  Use. Word 4r Through 4r + 3 Hold Round Key r.
+     *
+     *  @param src          The Array Holding the Original Key.
+     *
+     *  @param srcOffset    The Index of the First Key Byte.
+     *
+     *  @param words        The Array the Words are Written to.
+     *                      It Needs 4 * (rounds + 1) Entries.
+     *
+     *  @param rounds       The Number of Rounds to Expand.
+     */
+    public static void expandKeyWords(byte[] src, int srcOffset, int[] words, int rounds) {
+        // Make Sure the Round Constant Box
+        // Has an Entry For Every Round.
+        checkRounds(rounds);
+
+        // Load the Four Words of the Original Key.
+        words[0] = readWord(src, srcOffset);
+        words[1] = readWord(src, srcOffset + 4);
+        words[2] = readWord(src, srcOffset + 8);
+        words[3] = readWord(src, srcOffset + 12);
+
+        // Each New Word Depends on the Word Four
+        // Positions Back and the Word Just Before it.
+        for (int i = 4; i < 4 * (rounds + 1); i += 4) {
+            words[i] = words[i - 4] ^ g(words[i - 1], i >>> 2);
+            words[i + 1] = words[i - 3] ^ words[i];
+            words[i + 2] = words[i - 2] ^ words[i + 1];
+            words[i + 3] = words[i - 1] ^ words[i + 2];
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Expanding an Original Key Forward
+     *  and Comparing the Result With an Expected Last Round Key. Only
+     *  Four Local Words are Used, so Nothing is Created.
+     *
+     *  @param original         The Array Holding the Original Key.
+     *
+     *  @param originalOffset   The Index of the First Key Byte.
+     *
+     *  @param expected         The Array Holding the Expected Last
+     *                          Round Key.
+     *
+     *  @param expectedOffset   The Index of the First Expected Byte.
+     *
+     *  @param rounds           The Number of Rounds to Expand.
+     *
+     *  @return                 True if the Expansion Reproduces the
+     *                          Expected Last Round Key.
+     */
+    public static boolean expandsTo(byte[] original, int originalOffset, byte[] expected, int expectedOffset, int rounds) {
+        // Make Sure the Round Constant Box
+        // Has an Entry For Every Round.
+        checkRounds(rounds);
+
+        // Load the Four Words of the Original Key.
+        int w0 = readWord(original, originalOffset);
+        int w1 = readWord(original, originalOffset + 4);
+        int w2 = readWord(original, originalOffset + 8);
+        int w3 = readWord(original, originalOffset + 12);
+
+        // Expand Every Round Without Storing Anything.
+        for (int round = 1; round <= rounds; round++) {
+            w0 ^= g(w3, round);
+            w1 ^= w0;
+            w2 ^= w1;
+            w3 ^= w2;
+        }
+
+        // Compare the Final Words With the Expected Key.
+        return w0 == readWord(expected, expectedOffset)
+                && w1 == readWord(expected, expectedOffset + 4)
+                && w2 == readWord(expected, expectedOffset + 8)
+                && w3 == readWord(expected, expectedOffset + 12);
+    }
+
+    /**
+     *  This Method is Responsible for Finding the Previous Round Key of
+     *  a Single Round Without Using the Global Round Number.
+     *
+     *  @param src          The Array Holding the Current Round Key.
+     *
+     *  @param srcOffset    The Index of the First Key Byte.
+     *
+     *  @param dest         The Array the Previous Key is Written to.
+     *
+     *  @param destOffset   The Index the Previous Key is Written at.
+     *
+     *  @param round        The Round Number of the Current Key.
+     */
+    public static void inverseRound(byte[] src, int srcOffset, byte[] dest, int destOffset, int round) {
+        // Make Sure the Round Has a Constant.
+        if (round < 1 || round >= RCON.length) {
+            throw new IllegalArgumentException("Unsupported Round Number: " + round);
+        }
+
+        // Load the Four Words of the Current Round Key.
+        int w0 = readWord(src, srcOffset);
+        int w1 = readWord(src, srcOffset + 4);
+        int w2 = readWord(src, srcOffset + 8);
+        int w3 = readWord(src, srcOffset + 12);
+
+        // Undo Exactly One Round.
+        w3 ^= w2;
+        w2 ^= w1;
+        w1 ^= w0;
+        w0 ^= g(w3, round);
+
+        // Store the Four Words of the Previous Round Key.
+        writeWord(w0, dest, destOffset);
+        writeWord(w1, dest, destOffset + 4);
+        writeWord(w2, dest, destOffset + 8);
+        writeWord(w3, dest, destOffset + 12);
+    }
+
+    /**
+     *  This Method is Used to Read Four Bytes as a Big Endian Word.
+     *
+     *  @param value        The Byte Array to Read From.
+     *
+     *  @param offset       The Index of the First Byte.
+     *
+     *  @return             The Word.
+     */
+    static int readWord(byte[] value, int offset) {
+        // Combine the Four Bytes, Most
+        // Significant Byte First.
+        return (value[offset] & 0xFF) << 24 | (value[offset + 1] & 0xFF) << 16 | (value[offset + 2] & 0xFF) << 8 | (value[offset + 3] & 0xFF);
+    }
+
+    /**
+     *  This Method is Used to Write a Word as Four Big Endian Bytes.
+     *
+     *  @param w            The Word to Write.
+     *
+     *  @param dest         The Byte Array to Write Into.
+     *
+     *  @param offset       The Index of the First Byte.
+     */
+    static void writeWord(int w, byte[] dest, int offset) {
+        // Write the Four Bytes, Most
+        // Significant Byte First.
+        dest[offset] = (byte) (w >>> 24);
+        dest[offset + 1] = (byte) (w >>> 16);
+        dest[offset + 2] = (byte) (w >>> 8);
+        dest[offset + 3] = (byte) w;
+    }
+
+    /**
+     *  This Method is Used to Make Sure a Round Count Can be Used With
+     *  the Round Constant Box.
+     *
+     *  @param rounds       The Round Count to Check.
+     */
+    static void checkRounds(int rounds) {
+        // Reject Counts Outside of the Table.
+        if (rounds < 0 || rounds >= RCON.length) {
+            throw new IllegalArgumentException("Unsupported Round Count: " + rounds);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+import java.util.Arrays;
+
+/**
+ *  This Class is Responsible for Holding a Set of Unique 128 Bit Keys
+ *  Stored as Pairs of Primitive Long Values. The Set Uses Open
+ *  Addressing With Linear Probing, so Adding or Looking up a Key Never
+ *  Creates an Object, and the Slots Can Optionally Live Outside of the
+ *  Java Heap. It is Mainly Used to Remove Duplicate Round Keys From the
+ *  Input Before Running the Inverse Key Generation Process.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public class KeySet128 {
+
+    // The Largest Fraction of Slots That
+    // May be Used Before the Table Grows.
+    private static final double MAX_LOAD = 0.75;
+    // The Smallest Number of Slots
+    // the Table Will Use.
+    private static final long MIN_CAPACITY = 16;
+
+    // True When the Slots Live
+    // Outside of the Java Heap.
+    private final boolean offHeap;
+    // The Slot Storage. (Slot i Uses
+    // Longs 2i and 2i + 1.)
+    private LongStorage slots;
+    // The Number of Slots in the Table.
+    private long capacity;
+    // The Mask Used to Turn a Hash
+    // Into a Slot Index.
+    private long mask;
+    // The Number of Keys That May be Held
+    // Before the Table Has to Grow.
+    private long threshold;
+    // The Number of Keys Held in the Table.
+    // (Not Counting the All Zero Key.)
+    private long size;
+    // The All Zero Key Marks an Empty Slot,
+    // so it is Tracked Seperately.
+    private boolean containsZero;
+
+    /**
+     *  Constructor Method That is Used to Create a New Key Set Sized
+     *  For the Expected Number of Keys.
+     *
+     *  @param expectedSize     The Number of Keys Expected.
+     *
+     *  @param offHeap          True to Store the Slots Outside of
+     *                          the Java Heap.
+     */
+    public KeySet128(long expectedSize, boolean offHeap) {
+        // Set Storage Type
+        this.offHeap = offHeap;
+        // Allocate the Initial Table.
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     *  Constructor Method That is Used to Create a Small On Heap Key
+     *  Set Which Grows as Keys Are Added.
+     */
+    public KeySet128() {
+        // Create an On Heap Set.
+        this(MIN_CAPACITY, false);
+    }
+
+    /**
+     *  This Method is Responsible for Adding a 128 Bit Key to the Set.
+     *
+     *  @param high         The High Long Value of the Key.
+     *
+     *  @param low          The Low Long Value of the Key.
+     *
+     *  @return             True if the Key Was Not Already
+     *                      Present, Otherwise False.
+     */
+    public boolean add(long high, long low) {
+        // Handle the All Zero Key Seperately.
+        if (high == 0 && low == 0) {
+            boolean added = !this.containsZero;
+            this.containsZero = true;
+            return added;
+        }
+
+        // Probe From the Key's Home Slot Until Either
+        // the Key or an Empty Slot is Found.
+        long slot = Block128.hash(high, low) & this.mask;
+        while (true) {
+            // Read the Key Held by the Current Slot.
+            long h = this.slots.get(2 * slot);
+            long l = this.slots.get(2 * slot + 1);
+
+            // Stop if the Key is Already Present.
+            if (h == high && l == low) {
+                return false;
+            }
+            // Claim the Slot if it is Empty.
+            if (h == 0 && l == 0) {
+                this.slots.set(2 * slot, high);
+                this.slots.set(2 * slot + 1, low);
+                // Grow the Table Once it
+                // Becomes Too Full.
+                if (++this.size > this.threshold) {
+                    rehash(this.capacity << 1);
+                }
+                return true;
+            }
+
+            // Move on to the Next Slot.
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Adding a 16 Byte Key to the Set.
+     *
+     *  @param value        The Byte Array Holding the Key.
+     *
+     *  @param offset       The Index of the First Key Byte.
+     *
+     *  @return             True if the Key Was Not Already
+     *                      Present, Otherwise False.
+     */
+    public boolean add(byte[] value, int offset) {
+        // Add the Key as Two Longs.
+        return add(Block128.high(value, offset), Block128.low(value, offset));
+    }
+
+    /**
+     *  This Method is Responsible for Checking Whether a 128 Bit Key is
+     *  Present Within the Set.
+     *
+     *  @param high         The High Long Value of the Key.
+     *
+     *  @param low          The Low Long Value of the Key.
+     *
+     *  @return             True if the Key is Present.
+     */
+    public boolean contains(long high, long low) {
+        // Handle the All Zero Key Seperately.
+        if (high == 0 && low == 0) {
+            return this.containsZero;
+        }
+
+        // Probe From the Key's Home Slot Until Either
+        // the Key or an Empty Slot is Found.
+        long slot = Block128.hash(high, low) & this.mask;
+        while (true) {
+            // Read the Key Held by the Current Slot.
+            long h = this.slots.get(2 * slot);
+            long l = this.slots.get(2 * slot + 1);
+
+            // Stop if the Key Has Been Found.
+            if (h == high && l == low) {
+                return true;
+            }
+            // Stop if an Empty Slot Has Been Found.
+            if (h == 0 && l == 0) {
+                return false;
+            }
+
+            // Move on to the Next Slot.
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Checking Whether a 16 Byte Key is
+     *  Present Within the Set.
+     *
+     *  @param value        The Byte Array Holding the Key.
+     *
+     *  @param offset       The Index of the First Key Byte.
+     *
+     *  @return             True if the Key is Present.
+     */
+    public boolean contains(byte[] value, int offset) {
+        // Look up the Key as Two Longs.
+        return contains(Block128.high(value, offset), Block128.low(value, offset));
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Unique Keys Held by the Set.
+     *
+     *  @return             The Number of Keys.
+     */
+    public long size() {
+        // Count the All Zero Key if it is Present.
+        return this.size + (this.containsZero ? 1 : 0);
+    }
+
+    /**
+     *  This Method is Responsible for Removing Every Duplicate Key From
+     *  the Parameter Array. The Order of First Appearance is Kept.
+     *
+     *  @param keys         The Array of 16 Byte Keys.
+     *
+     *  @param offHeap      True to Build the Temporary Set
+     *                      Outside of the Java Heap.
+     *
+     *  @return             The Array of Unique Keys.
+     */
+    public static byte[][] deduplicate(byte[][] keys, boolean offHeap) {
+        // Create a Set Large Enough to Hold Every Key.
+        KeySet128 seen = new KeySet128(keys.length, offHeap);
+
+        // Create an Array to Hold the Unique Keys
+        // and a Count of How Many Were Found.
+        byte[][] unique = new byte[keys.length][];
+        int count = 0;
+
+        // Keep Each Key the First Time it is Seen.
+        for (int i = 0; i < keys.length; i++) {
+            if (seen.add(keys[i], 0)) {
+                unique[count++] = keys[i];
+            }
+        }
+
+        // Return the Unique Keys Trimmed to Size.
+        return Arrays.copyOf(unique, count);
+    }
+
+    /**
+     *  This Method is Used to Find the Table Capacity Needed to Hold
+     *  the Parameter Number of Keys Without Growing.
+     *
+     *  @param expectedSize     The Number of Keys Expected.
+     *
+     *  @return                 A Power of Two Capacity.
+     */
+    static long capacityFor(long expectedSize) {
+        // Find the Number of Slots Needed
+        // at the Maximum Load Factor.
+        long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / MAX_LOAD) + 1);
+        // Round Up to the Next Power of Two.
+        return Long.highestOneBit(needed - 1) << 1;
+    }
+
+    /**
+     *  This Method is Used to Allocate an Empty Table.
+     *
+     *  @param newCapacity      The Number of Slots (a Power of Two).
+     */
+    private void allocate(long newCapacity) {
+        // Allocate Two Longs Per Slot.
+        this.slots = LongStorage.allocate(newCapacity * 2, this.offHeap);
+        // Set Capacity, Mask and Growth Threshold.
+        this.capacity = newCapacity;
+        this.mask = newCapacity - 1;
+        this.threshold = (long) (newCapacity * MAX_LOAD);
+    }
+
+    /**
+     *  This Method is Used to Move Every Key Into a Larger Table.
+     *
+     *  @param newCapacity      The New Number of Slots.
+     */
+    private void rehash(long newCapacity) {
+        // Keep a Reference to the Old Slots.
+        LongStorage old = this.slots;
+        long oldCapacity = this.capacity;
+
+        // Allocate the Larger Table.
+        allocate(newCapacity);
+
+        // Reinsert Every Occupied Slot.
+        for (long i = 0; i < oldCapacity; i++) {
+            long h = old.get(2 * i);
+            long l = old.get(2 * i + 1);
+            if (h != 0 || l != 0) {
+                long slot = Block128.hash(h, l) & this.mask;
+                while (this.slots.get(2 * slot) != 0 || this.slots.get(2 * slot + 1) != 0) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.slots.set(2 * slot, h);
+                this.slots.set(2 * slot + 1, l);
+            }
+        }
+    }
+}
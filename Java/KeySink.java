@@ -0,0 +1,34 @@
+/**
+ *  This Interface Describes Any Destination That Fixed Width Key
+ *  Records Can be Written to by the Inverse Key Generation Process.
+ *  A Sink Either Accepts 16 Byte Original Keys or Full 176 Byte Key
+ *  Schedules (Round Key 0 Through Round Key 10 in Order) Depending on
+ *  the Record Width it Reports.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public interface KeySink {
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving
+     *  the Number of Bytes Every Record Written to This
+     *  Sink Must Contain.
+     *
+     *  @return             The Fixed Record Width in Bytes.
+     */
+    int getRecordWidth();
+
+    /**
+     *  This Method is Responsible for Accepting a Single
+     *  Record From the Calling Method. Exactly One Record
+     *  Width of Bytes is Read From the Parameter Array
+     *  Starting at the Parameter Offset.
+     *
+     *  @param value        The Byte Array Holding the Record.
+     *
+     *  @param offset       The Index of the First Record Byte
+     *                      Within the Parameter Array.
+     */
+    void accept(byte[] value, int offset);
+}
@@ -0,0 +1,40 @@
+/**
+ *  This Interface Describes a Finite, Ordered Set of Candidate Original
+ *  Keys. Every Key Has a Fixed Index, so a Search Can Split the Space
+ *  Into Index Ranges That Run in Parallel and Can Record How Far it Has
+ *  Got as a Single Number.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public interface KeySpace {
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Keys in the Space.
+     *
+     *  @return             The Key Count.
+     */
+    long size();
+
+    /**
+     *  This Method is Responsible for Writing the Key at an Index.
+     *
+     *  @param index        The Index of the Key (0 to size() - 1).
+     *
+     *  @param dest         The Array the 16 Byte Key is Written to.
+     *
+     *  @param offset       The Index the Key is Written at.
+     */
+    void keyAt(long index, byte[] dest, int offset);
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving a Description
+     *  of the Space. Two Spaces With the Same Description Must Hold the
+     *  Same Keys in the Same Order, so Saved Progress Can be Matched to
+     *  the Space it Came From.
+     *
+     *  @return             The Description.
+     */
+    String describe();
+}
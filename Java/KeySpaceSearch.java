@@ -0,0 +1,471 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import javax.crypto.Cipher;
+
+/**
+ *  This Class is Responsible for Searching a Constrained Space of Original
+ *  Keys (a Mask, a Word List, or a Word List With a Suffix Mask) When No
+ *  Round Key Was Captured at All. Each Candidate is Expanded Forward With
+ *  the Word Based Key Schedule and Used to Decrypt a Known Ciphertext
+ *  Block With AesCore, Reusing the Same Round Key Arrays For Every Key
+ *  (or With a JCE Cipher, if the EngineSelector Found That Faster).
+ *  A Candidate Matches When the Block Decrypts to the Known Plaintext, or
+ *  to Printable ASCII When No Plaintext is Known.
+ *
+ *  The Unfinished Ranges of a SearchCheckpoint are Run on an
+ *  AdaptiveScheduler, Which Sizes Chunks to the Measured Cost of a Key
+ *  and Steals Work Between Threads. Each Chunk Records the Exact Range it
+ *  Tested (Including the Part of a Chunk Cut Short), so a Restarted
+ *  Search Skips Precisely the Keys Already Tried.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class KeySpaceSearch {
+
+    /**
+     *  This Class Holds the Outcome of a Search.
+     */
+    public static final class Result {
+
+        // The Keys That Matched.
+        private final List<byte[]> keys;
+        // The Number of Keys Tested in This Run.
+        private final long tested;
+        // The Number of Keys Already Finished When the Run Started.
+        private final long alreadyFinished;
+        // The Time the Run Took in Nanoseconds.
+        private final long nanos;
+        // The Scheduler Statistics, or Null if Nothing Was Run.
+        private final AdaptiveScheduler.Stats stats;
+
+        Result(List<byte[]> keys, long tested, long alreadyFinished, long nanos, AdaptiveScheduler.Stats stats) {
+            // Set Result Values
+            this.keys = keys;
+            this.tested = tested;
+            this.alreadyFinished = alreadyFinished;
+            this.nanos = nanos;
+            this.stats = stats;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving Every Key
+         *  That Matched, Including Keys Found Before a Resume.
+         *
+         *  @return             The 16 Byte Original Keys.
+         */
+        public List<byte[]> getKeys() {
+            // Return Keys
+            return this.keys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Keys Tested in This Run.
+         *
+         *  @return             The Tested Count.
+         */
+        public long getTested() {
+            // Return Tested Count
+            return this.tested;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Keys a Checkpoint Had Already Finished When This Run
+         *  Started.
+         *
+         *  @return             The Already Finished Count.
+         */
+        public long getAlreadyFinished() {
+            // Return Already Finished Count
+            return this.alreadyFinished;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Rate
+         *  Keys Were Tested at.
+         *
+         *  @return             The Keys per Second.
+         */
+        public double getKeysPerSecond() {
+            // Avoid Dividing by Zero.
+            return this.nanos == 0 ? 0 : this.tested * 1e9 / this.nanos;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the
+         *  Scheduler Statistics, Including the Utilization of Each
+         *  Thread.
+         *
+         *  @return             The Statistics, or Null if the Run Ended
+         *                      Before Searching Anything.
+         */
+        public AdaptiveScheduler.Stats getSchedulerStats() {
+            // Return Scheduler Statistics
+            return this.stats;
+        }
+    }
+
+    // The Space Being Searched.
+    private final KeySpace space;
+    // The Known Ciphertext Block.
+    private final byte[] ciphertext;
+    // The Known Plaintext Block, or Null to Accept
+    // Any Printable ASCII Plaintext.
+    private final byte[] plaintext;
+
+    // The Checkpoint File, or Null.
+    private Path checkpoint;
+    // The Time Between Checkpoints in Milliseconds.
+    private long checkpointMillis = SearchCheckpoint.DEFAULT_INTERVAL_MILLIS;
+    // Whether the Search Stops at the First Match.
+    private boolean stopOnFirstMatch = true;
+
+    /**
+     *  Constructor Method That is Used to Create a New Search.
+     *
+     *  @param space        The Space of Original Keys.
+     *
+     *  @param ciphertext   The Known 16 Byte Ciphertext Block.
+     *
+     *  @param plaintext    The Known 16 Byte Plaintext Block, or Null
+     *                      to Accept Any Printable ASCII Plaintext.
+     */
+    public KeySpaceSearch(KeySpace space, byte[] ciphertext, byte[] plaintext) {
+        // Make Sure the Blocks Have the Right Size.
+        if (ciphertext.length != 16 || (plaintext != null && plaintext.length != 16)) {
+            throw new IllegalArgumentException("Blocks Must Be 16 Bytes");
+        }
+        // Set Search Values
+        this.space = space;
+        this.ciphertext = ciphertext.clone();
+        this.plaintext = plaintext == null ? null : plaintext.clone();
+    }
+
+    /**
+     *  A Setter Method that is Responsible for Setting the Checkpoint
+     *  File and How Often it is Written.
+     *
+     *  @param file         The Checkpoint File, or Null For None.
+     *
+     *  @param millis       The Time Between Checkpoints.
+     */
+    public void setCheckpoint(Path file, long millis) {
+        // Set Checkpoint Values
+        this.checkpoint = file;
+        this.checkpointMillis = millis;
+    }
+
+    /**
+     *  A Setter Method that is Responsible for Setting Whether the
+     *  Search Stops at the First Match.
+     *
+     *  @param stop         True to Stop at the First Match.
+     */
+    public void setStopOnFirstMatch(boolean stop) {
+        // Set Stop Flag
+        this.stopOnFirstMatch = stop;
+    }
+
+    /**
+     *  This Method is Responsible for Running the Search on a Number of
+     *  Worker Threads, in a Pool Kept For This One Search, Resuming From
+     *  the Checkpoint File if One Exists For the Same Space.
+     *
+     *  @param threads      The Number of Worker Threads.
+     *
+     *  @return             The Search Result.
+     *
+     *  @throws IOException When the Checkpoint Can Not be Read or
+     *                      Written.
+     */
+    public Result run(int threads) throws IOException {
+        // Run the One Search on a Pool of its Own.
+        try (AdaptiveScheduler scheduler = new AdaptiveScheduler(threads)) {
+            return run(scheduler);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running the Search on a Scheduler
+     *  the Caller Keeps, Resuming From the Checkpoint File if One Exists
+     *  For the Same Space.
+     *
+     *  @param scheduler    The Scheduler Running the Search.
+     *
+     *  @return             The Search Result.
+     *
+     *  @throws IOException When the Checkpoint Can Not be Read or
+     *                      Written.
+     */
+    public Result run(AdaptiveScheduler scheduler) throws IOException {
+        // Resume From the Checkpoint, if Any.
+        SearchCheckpoint progress = SearchCheckpoint.open(this.checkpoint, identity(), this.space.size(), this.checkpointMillis);
+        return run(scheduler, progress, 0);
+    }
+
+    /**
+     *  This Method is Responsible for Running the Search Over the Ranges
+     *  a Checkpoint Has Not Finished, Where Checkpoint Index i Stands For Key
+     *  Index Offset + i. This Lets a Caller Search Just Part of the Space,
+     *  Such as a Range Leased From a SearchCoordinator, and Learn Exactly
+     *  Which Parts of it Were Finished. The Scheduler is Only Borrowed,
+     *  so a Caller Running Many Ranges Keeps One Pool For All of Them,
+     *  and a First Match Cancels Only This Search's Workload.
+     *
+     *  @param scheduler    The Scheduler Running the Search.
+     *
+     *  @param progress     The Checkpoint Tracking the Range.
+     *
+     *  @param offset       The Key Index of Checkpoint Index Zero.
+     *
+     *  @return             The Search Result.
+     *
+     *  @throws IOException When the Checkpoint Can Not be Written.
+     */
+    public Result run(AdaptiveScheduler scheduler, SearchCheckpoint progress, long offset) throws IOException {
+        // Stop at Once if a Match is Already Known.
+        long alreadyFinished = progress.getFinishedCount();
+        if (this.stopOnFirstMatch && !progress.getCandidates().isEmpty()) {
+            return new Result(progress.getCandidates(), 0, alreadyFinished, 0, null);
+        }
+
+        // Create the Scratch Buffers Once Per Pool Thread.
+        int threads = scheduler.getThreadCount();
+        byte[][] keys = new byte[threads][16];
+        byte[][] outs = new byte[threads][16];
+        int[][] words = new int[threads][4 * (KeySchedule.ROUNDS + 1)];
+        int[][] decryptions = new int[threads][4 * (KeySchedule.ROUNDS + 1)];
+
+        // Test With JCE Ciphers Instead When Calibration Found
+        // Them Faster For Single Blocks.
+        Cipher[] ciphers = new Cipher[threads];
+        if (EngineSelector.get().decryptionEngine(1) == EngineSelector.DecryptionEngine.JCE) {
+            for (int w = 0; w < threads; w++) {
+                ciphers[w] = EngineSelector.jceCipher();
+            }
+        }
+        List<IOException> failures = new ArrayList<>();
+        long began = System.nanoTime();
+
+        // Search the Unfinished Ranges, Letting the Scheduler Size
+        // the Chunks and Balance Them Across the Threads.
+        AdaptiveScheduler.Stats stats = scheduler.execute(progress.getUnfinishedRanges(), (from, to, worker) -> {
+            // Test Every Key of the Chunk.
+            byte[] key = keys[worker];
+            byte[] out = outs[worker];
+            long index = from;
+            for (; index < to && !scheduler.isCancelled(); index++) {
+                this.space.keyAt(offset + index, key, 0);
+                if (ciphers[worker] != null) {
+                    EngineSelector.decryptJce(ciphers[worker], key, this.ciphertext, 0, 16, out, 0);
+                }
+                else {
+                    KeySchedule.expandKeyWords(key, 0, words[worker], KeySchedule.ROUNDS);
+                    AesCore.decryptionWords(words[worker], KeySchedule.ROUNDS, decryptions[worker]);
+                    AesCore.decryptBlock(decryptions[worker], KeySchedule.ROUNDS, this.ciphertext, 0, out, 0);
+                }
+                if (matches(out)) {
+                    progress.addCandidate(key);
+                    if (this.stopOnFirstMatch) {
+                        scheduler.cancel();
+                    }
+                }
+            }
+
+            // Record Exactly the Part of the Chunk That Was
+            // Tested, Then Save Progress When it is Due.
+            progress.complete(from, index);
+            try {
+                progress.saveIfDue();
+            }
+            catch (IOException e) {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+                scheduler.cancel();
+            }
+        });
+        if (!failures.isEmpty()) {
+            throw failures.get(0);
+        }
+
+        // Save the Final Progress.
+        progress.save();
+        return new Result(progress.getCandidates(), progress.getTested(), alreadyFinished, System.nanoTime() - began, stats);
+    }
+
+    /**
+     *  This Method is Used to Check Whether a Decrypted Block is a Match.
+     *
+     *  @param out          The Decrypted Block.
+     *
+     *  @return             True if it Matches.
+     */
+    private boolean matches(byte[] out) {
+        // Compare Against the Known Plaintext.
+        if (this.plaintext != null) {
+            return Block128.high(out, 0) == Block128.high(this.plaintext, 0) && Block128.low(out, 0) == Block128.low(this.plaintext, 0);
+        }
+        // Otherwise Accept Printable ASCII.
+        for (byte b : out) {
+            if (b < 0x20 || b > 0x7E) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *  This Method is Used to Describe the Search, so a Checkpoint is
+     *  Only Reused For the Same Space and Blocks.
+     *
+     *  @return             The Search Identity.
+     */
+    String identity() {
+        // Join the Space and the Target.
+        return this.space.describe() + "|" + target();
+    }
+
+    /**
+     *  This Method is Used to Describe What the Search is Looking For,
+     *  so a Checkpoint is Only Reused For the Same Blocks.
+     *
+     *  @return             The Target Description.
+     */
+    private String target() {
+        // Join the Two Blocks.
+        return Block128.toHex(this.ciphertext, 0) + "/" + (this.plaintext == null ? "printable" : Block128.toHex(this.plaintext, 0));
+    }
+
+    /**
+     *  Main Method That Runs a Search From the Command Line.
+     *
+     *  @param args     --ciphertext HEX [--plaintext HEX]
+     *                  (--mask MASK | --wordlist FILE [--suffix MASK])
+     *                  [--checkpoint FILE] [--threads N] [--all]
+     *
+     *  @throws IOException When a File Can Not be Read or Written.
+     */
+    public static void main(String[] args) throws IOException {
+        // Read the Options.
+        byte[] ciphertext = null;
+        byte[] plaintext = null;
+        String mask = null;
+        String wordlist = null;
+        String suffix = null;
+        Path checkpoint = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean all = false;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--all")) {
+                all = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                usage();
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--ciphertext":
+                    ciphertext = parseBlock(value);
+                    break;
+                case "--plaintext":
+                    plaintext = parseBlock(value);
+                    break;
+                case "--mask":
+                    mask = value;
+                    break;
+                case "--wordlist":
+                    wordlist = value;
+                    break;
+                case "--suffix":
+                    suffix = value;
+                    break;
+                case "--checkpoint":
+                    checkpoint = Paths.get(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                default:
+                    usage();
+            }
+        }
+        if (ciphertext == null || (mask == null) == (wordlist == null)) {
+            usage();
+        }
+
+        // Load the Engine Choices, Build the Space and Run the Search.
+        EngineSelector.initialize();
+        KeySpace space = space(mask, wordlist, suffix);
+        KeySpaceSearch search = new KeySpaceSearch(space, ciphertext, plaintext);
+        search.setCheckpoint(checkpoint, SearchCheckpoint.DEFAULT_INTERVAL_MILLIS);
+        search.setStopOnFirstMatch(!all);
+        Result result = search.run(threads);
+
+        // Print the Matches and Statistics.
+        for (byte[] key : result.getKeys()) {
+            System.out.println("Original Key:\t" + Block128.toHex(key, 0));
+        }
+        System.out.println("Space Size:\t" + space.size());
+        System.out.println("Already Done:\t" + result.getAlreadyFinished());
+        System.out.println("Keys Tested:\t" + result.getTested());
+        System.out.printf("Keys/Second:\t%.0f%n", result.getKeysPerSecond());
+        if (result.getSchedulerStats() != null) {
+            System.out.println("Scheduler:\t" + result.getSchedulerStats());
+        }
+    }
+
+    /**
+     *  This Method is Used to Build the Space Named by the Command Line
+     *  Options.
+     *
+     *  @param mask         The Mask, or Null.
+     *
+     *  @param wordlist     The Word List File, Used When There is No
+     *                      Mask.
+     *
+     *  @param suffix       The Mask Appended to Each Word, or Null.
+     *
+     *  @return             The Key Space.
+     *
+     *  @throws IOException When the Word List Can Not be Read.
+     */
+    static KeySpace space(String mask, String wordlist, String suffix) throws IOException {
+        // Prefer the Mask.
+        return mask != null ? new MaskKeySpace(mask) : WordlistKeySpace.read(Paths.get(wordlist), suffix);
+    }
+
+    /**
+     *  This Method is Used to Parse a 16 Byte Block Given in Hex.
+     *
+     *  @param value        The Hex Text.
+     *
+     *  @return             The Block.
+     */
+    static byte[] parseBlock(String value) {
+        // Parse All 32 Characters.
+        byte[] block = new byte[16];
+        String compact = InverseKeyGeneration.formatInputString(value);
+        if (compact.length() != 32 || !Block128.parseHex(compact, 0, block, 0)) {
+            throw new IllegalArgumentException("Invalid Block: " + value);
+        }
+        return block;
+    }
+
+    /**
+     *  This Method Prints the Command Line Usage and Exits.
+     */
+    private static void usage() {
+        System.err.println("Usage: java KeySpaceSearch --ciphertext HEX [--plaintext HEX]");
+        System.err.println("           (--mask MASK | --wordlist FILE [--suffix MASK])");
+        System.err.println("           [--checkpoint FILE] [--threads N] [--all]");
+        System.exit(2);
+    }
+}
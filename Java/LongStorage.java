@@ -0,0 +1,178 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ *  This Class Provides a Large Fixed Length Array of Long Values Which
+ *  Can Either Live on the Java Heap or Outside of it in Direct Memory.
+ *  The Values are Split Across Several Chunks so the Total Length is
+ *  Not Limited by the Maximum Size of a Single Java Array or Buffer.
+ *  It is Used as the Backing Storage of the Primitive 128 Bit Key
+ *  Tables.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+abstract class LongStorage {
+
+    // The Number of Bits Used to Address
+    // a Value Within a Single Chunk.
+    static final int CHUNK_SHIFT = 27;
+    // The Number of Long Values Held
+    // by a Single Chunk (1 GB).
+    static final int CHUNK_LENGTH = 1 << CHUNK_SHIFT;
+    // The Mask Used to Find the Index
+    // of a Value Within its Chunk.
+    static final long CHUNK_MASK = CHUNK_LENGTH - 1;
+
+    // The Total Number of Long
+    // Values in the Storage.
+    final long length;
+
+    /**
+     *  Constructor Method That is Used by the Two Storage Types.
+     *
+     *  @param length       The Total Number of Long Values.
+     */
+    LongStorage(long length) {
+        // Set Length
+        this.length = length;
+    }
+
+    /**
+     *  This Method is Responsible for Creating a New Zero Filled
+     *  Storage Instance of the Requested Type.
+     *
+     *  @param length       The Total Number of Long Values.
+     *
+     *  @param offHeap      True to Place the Values in Direct
+     *                      Memory, False to Keep Them on the Heap.
+     *
+     *  @return             The New Storage Instance.
+     */
+    static LongStorage allocate(long length, boolean offHeap) {
+        // Create the Requested Storage Type.
+        return offHeap ? new Direct(length) : new Heap(length);
+    }
+
+    /**
+     *  This Method is Responsible for Reading a Single Value.
+     *
+     *  @param index        The Index of the Value.
+     *
+     *  @return             The Long Value at the Index.
+     */
+    abstract long get(long index);
+
+    /**
+     *  This Method is Responsible for Writing a Single Value.
+     *
+     *  @param index        The Index of the Value.
+     *
+     *  @param value        The New Long Value.
+     */
+    abstract void set(long index, long value);
+
+    /**
+     *  This Method is Used to Find the Number of Chunks Needed to Hold
+     *  the Parameter Number of Values.
+     *
+     *  @param length       The Total Number of Long Values.
+     *
+     *  @return             The Number of Chunks.
+     */
+    static int chunkCount(long length) {
+        // Round Up to a Whole Number of Chunks.
+        return (int) ((length + CHUNK_LENGTH - 1) >>> CHUNK_SHIFT);
+    }
+
+    /**
+     *  This Method is Used to Find the Length of a Single Chunk. Every
+     *  Chunk is Full Except the Last One.
+     *
+     *  @param length       The Total Number of Long Values.
+     *
+     *  @param chunk        The Index of the Chunk.
+     *
+     *  @return             The Number of Values in the Chunk.
+     */
+    static int chunkLength(long length, int chunk) {
+        // Return the Remainder For the Last
+        // Chunk and a Full Chunk Otherwise.
+        return (int) Math.min(CHUNK_LENGTH, length - ((long) chunk << CHUNK_SHIFT));
+    }
+
+    /**
+     *  Storage Implementation Backed by Plain Long Arrays on the Heap.
+     */
+    static final class Heap extends LongStorage {
+
+        // The Chunk Arrays.
+        private final long[][] chunks;
+
+        /**
+         *  Constructor Method That Allocates the Heap Chunks.
+         *
+         *  @param length       The Total Number of Long Values.
+         */
+        Heap(long length) {
+            // Set Length
+            super(length);
+            // Allocate Each Chunk.
+            this.chunks = new long[chunkCount(length)][];
+            for (int i = 0; i < this.chunks.length; i++) {
+                this.chunks[i] = new long[chunkLength(length, i)];
+            }
+        }
+
+        @Override
+        long get(long index) {
+            // Read From the Owning Chunk.
+            return this.chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+        }
+
+        @Override
+        void set(long index, long value) {
+            // Write Into the Owning Chunk.
+            this.chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+        }
+    }
+
+    /**
+     *  Storage Implementation Backed by Direct Memory Outside the Heap.
+     */
+    static final class Direct extends LongStorage {
+
+        // The Chunk Buffers.
+        private final LongBuffer[] chunks;
+
+        /**
+         *  Constructor Method That Allocates the Direct Chunks. Newly
+         *  Allocated Direct Memory is Always Zero Filled.
+         *
+         *  @param length       The Total Number of Long Values.
+         */
+        Direct(long length) {
+            // Set Length
+            super(length);
+            // Allocate Each Chunk Using the Native Byte
+            // Order so Reads Need No Byte Swapping.
+            this.chunks = new LongBuffer[chunkCount(length)];
+            for (int i = 0; i < this.chunks.length; i++) {
+                this.chunks[i] = ByteBuffer.allocateDirect(chunkLength(length, i) * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+        }
+
+        @Override
+        long get(long index) {
+            // Read From the Owning Chunk.
+            return this.chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+        }
+
+        @Override
+        void set(long index, long value) {
+            // Write Into the Owning Chunk.
+            this.chunks[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  This Class is Responsible for Describing a Key Space by a Mask, One
+ *  Token per Key Byte. Literal Characters Fix a Byte, and Each of the
+ *  Tokens Below Lets a Byte Take Any Value of a Character Class:
+ *
+ *      ?l  Lower Case Letters      ?u  Upper Case Letters
+ *      ?d  Digits                  ?h  Lower Case Hex Digits
+ *      ?s  Printable Symbols       ?a  Any Printable Character
+ *      ?b  Any Byte                ??  A Literal '?'
+ *      \xHH  A Literal Byte Given in Hex
+ *
+ *  Keys Shorter Than 16 Bytes are Padded With a Fixed Byte, Which Matches
+ *  the Common Habit of Copying an ASCII Password Into a Zero Filled Key.
+ *  The Last Mask Position Changes Fastest as the Index Grows.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class MaskKeySpace implements KeySpace {
+
+    // The Mask Text.
+    private final String mask;
+    // The Byte Padding Positions Past the Mask.
+    private final byte padding;
+    // The Allowed Values of Each Mask Position.
+    private final byte[][] charsets;
+    // The Number of Keys Covered by Each Position and Every Position
+    // After it. (Entry i is the Product of the Charset Sizes From
+    // Position i + 1 Onwards.)
+    private final long[] stride;
+    // The Number of Keys in the Space.
+    private final long size;
+
+    /**
+     *  Constructor Method That is Used to Create a Space From a Mask,
+     *  Padding Short Keys With Zero Bytes.
+     *
+     *  @param mask         The Mask.
+     */
+    public MaskKeySpace(String mask) {
+        // Pad With Zero Bytes.
+        this(mask, (byte) 0);
+    }
+
+    /**
+     *  Constructor Method That is Used to Create a Space From a Mask.
+     *
+     *  @param mask         The Mask.
+     *
+     *  @param padding      The Byte Used Past the End of the Mask.
+     */
+    public MaskKeySpace(String mask, byte padding) {
+        // Set Mask and Padding
+        this.mask = mask;
+        this.padding = padding;
+
+        // Parse One Charset per Key Byte.
+        List<byte[]> parsed = parse(mask);
+        if (parsed.size() > 16) {
+            throw new IllegalArgumentException("Mask Describes More Than 16 Bytes: " + mask);
+        }
+        this.charsets = parsed.toArray(new byte[0][]);
+
+        // Work Out the Strides From the Last Position Back,
+        // Refusing Spaces Too Large to Index With a Long.
+        this.stride = new long[this.charsets.length];
+        long product = 1;
+        for (int i = this.charsets.length - 1; i >= 0; i--) {
+            this.stride[i] = product;
+            if (product > Long.MAX_VALUE / this.charsets[i].length) {
+                throw new IllegalArgumentException("Mask Describes More Than 2^63 Keys: " + mask);
+            }
+            product *= this.charsets[i].length;
+        }
+        this.size = product;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Key Bytes the Mask Describes.
+     *
+     *  @return             The Mask Length in Bytes.
+     */
+    public int length() {
+        // Return Mask Length
+        return this.charsets.length;
+    }
+
+    @Override
+    public long size() {
+        // Return Key Count
+        return this.size;
+    }
+
+    @Override
+    public void keyAt(long index, byte[] dest, int offset) {
+        // Make Sure the Index Lies in the Space.
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Key Index: " + index + ", Size: " + this.size);
+        }
+
+        // Pick Each Byte From its Charset.
+        for (int i = 0; i < this.charsets.length; i++) {
+            byte[] charset = this.charsets[i];
+            dest[offset + i] = charset[(int) ((index / this.stride[i]) % charset.length)];
+        }
+
+        // Pad the Rest of the Key.
+        for (int i = this.charsets.length; i < 16; i++) {
+            dest[offset + i] = this.padding;
+        }
+    }
+
+    @Override
+    public String describe() {
+        // Describe the Mask and the Padding Byte.
+        return "mask:" + this.mask + ":pad=" + (this.padding & 0xFF);
+    }
+
+    /**
+     *  This Method is Responsible for Turning a Mask Into One Charset per
+     *  Key Byte.
+     *
+     *  @param mask         The Mask.
+     *
+     *  @return             The Charset of Each Position.
+     */
+    private static List<byte[]> parse(String mask) {
+        // Walk the Mask One Token at a Time.
+        List<byte[]> charsets = new ArrayList<>();
+        int i = 0;
+        while (i < mask.length()) {
+            char ch = mask.charAt(i);
+            if (ch == '?' && i + 1 < mask.length()) {
+                // A Character Class Token.
+                charsets.add(charset(mask.charAt(i + 1), mask));
+                i += 2;
+            }
+            else if (ch == '\\' && i + 3 < mask.length() && mask.charAt(i + 1) == 'x') {
+                // A Literal Byte in Hex.
+                int high = InverseKeyGeneration.getCharIntValue(mask.charAt(i + 2));
+                int low = InverseKeyGeneration.getCharIntValue(mask.charAt(i + 3));
+                if (high < 0 || low < 0) {
+                    throw new IllegalArgumentException("Invalid Hex Byte in Mask: " + mask.substring(i, i + 4));
+                }
+                charsets.add(new byte[] { (byte) (high << 4 | low) });
+                i += 4;
+            }
+            else if (ch < 0x20 || ch > 0x7E) {
+                // Only Printable ASCII May Appear Literally.
+                throw new IllegalArgumentException("Invalid Character in Mask: " + ch);
+            }
+            else {
+                // A Literal Character.
+                charsets.add(new byte[] { (byte) ch });
+                i++;
+            }
+        }
+        return charsets;
+    }
+
+    /**
+     *  This Method is Used to Build the Charset of a Class Token.
+     *
+     *  @param token        The Character After the '?'.
+     *
+     *  @param mask         The Whole Mask, For Error Messages.
+     *
+     *  @return             The Charset.
+     */
+    private static byte[] charset(char token, String mask) {
+        // Collect the Values the Token Allows.
+        StringBuilder values = new StringBuilder();
+        switch (token) {
+            case 'l':
+                range(values, 'a', 'z');
+                break;
+            case 'u':
+                range(values, 'A', 'Z');
+                break;
+            case 'd':
+                range(values, '0', '9');
+                break;
+            case 'h':
+                range(values, '0', '9');
+                range(values, 'a', 'f');
+                break;
+            case 's':
+                for (char c = 0x20; c <= 0x7E; c++) {
+                    if (!Character.isLetterOrDigit(c)) {
+                        values.append(c);
+                    }
+                }
+                break;
+            case 'a':
+                range(values, (char) 0x20, (char) 0x7E);
+                break;
+            case 'b':
+                range(values, (char) 0x00, (char) 0xFF);
+                break;
+            case '?':
+                values.append('?');
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown Mask Token ?" + token + " in " + mask);
+        }
+
+        // Convert the Values to Bytes.
+        byte[] charset = new byte[values.length()];
+        for (int i = 0; i < charset.length; i++) {
+            charset[i] = (byte) values.charAt(i);
+        }
+        return charset;
+    }
+
+    /**
+     *  This Method is Used to Append a Range of Characters.
+     *
+     *  @param values       The Builder to Append to.
+     *
+     *  @param from         The First Character (Inclusive).
+     *
+     *  @param to           The Last Character (Inclusive).
+     */
+    private static void range(StringBuilder values, char from, char to) {
+        // Append Each Character in Turn.
+        for (char c = from; c <= to; c++) {
+            values.append(c);
+        }
+    }
+}
@@ -0,0 +1,610 @@
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ *  This Class is Responsible for Holding the Metrics of the Hot Paths:
+ *  Throughput Counters Striped Over LongAdders, and Latency Histograms in
+ *  the HDR Style (Sixteen Linear Buckets per Power of Two, So Every
+ *  Recorded Value is Kept to Within About 6%) For Parsing, Inversion (of
+ *  Whole Keys, and Separately of the Single Rounds the Legacy Path
+ *  Times), S-Box Work, Verification, Decryption and Output. Recording Only Adds
+ *  to Preallocated Counters, So it Never Allocates, and Each Histogram is
+ *  Striped by Thread Like the LongAdders, So Threads Recording at Once Do
+ *  Not Contend For the Same Bucket or Maximum. The Metrics are
+ *  Exposed Over JMX as AESRoundKeyInverter:type=Metrics and as a
+ *  Prometheus Text Dump.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class Metrics {
+
+    /**
+     *  This Class Holds One Throughput Counter.
+     */
+    public static final class Counter {
+
+        // The Metric Name and Description.
+        private final String name;
+        private final String help;
+        // The Striped Count.
+        private final LongAdder count = new LongAdder();
+
+        Counter(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+
+        /**
+         *  This Method is Used to Count One Event.
+         */
+        public void increment() {
+            this.count.increment();
+        }
+
+        /**
+         *  This Method is Used to Count Several Events.
+         *
+         *  @param n            The Number of Events.
+         */
+        public void add(long n) {
+            this.count.add(n);
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Metric
+         *  Name.
+         *
+         *  @return             The Name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Count.
+         *
+         *  @return             The Count.
+         */
+        public long getCount() {
+            return this.count.sum();
+        }
+    }
+
+    /**
+     *  This Class Holds One Latency Histogram in Nanoseconds. The Buckets
+     *  and Maximum are Kept Once per Stripe, and Each Thread Records Into
+     *  the Stripe its Identity Hash Picks, so Readers Add the Stripes Up.
+     */
+    public static final class Histogram {
+
+        // The Number of Linear Buckets per Power of Two.
+        private static final int SUB_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        // Enough Buckets to Hold Any Non Negative Long.
+        private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+        // The Number of Stripes: the Processor Count Rounded Up to a
+        // Power of Two, at Most Sixteen.
+        private static final int STRIPES = Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+        // The Spacing of the Maximums, so Each Has its Own Cache Line.
+        private static final int MAX_SPACING = 8;
+
+        // The Metric Name and Description.
+        private final String name;
+        private final String help;
+        // The Bucket Counts of Every Stripe, One Stripe After Another.
+        private final AtomicLongArray buckets = new AtomicLongArray(STRIPES * BUCKETS);
+        // The Number and Sum of Values, and the Largest of Each Stripe.
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLongArray max = new AtomicLongArray(STRIPES * MAX_SPACING);
+
+        Histogram(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+
+        /**
+         *  This Method is Used to Record One Value.
+         *
+         *  @param nanos        The Value in Nanoseconds.
+         */
+        public void record(long nanos) {
+            record(nanos, 1);
+        }
+
+        /**
+         *  This Method is Used to Record the Same Value Several Times, as
+         *  When a Batch is Timed as a Whole and Each Item Gets the Mean.
+         *
+         *  @param nanos        The Value in Nanoseconds.
+         *
+         *  @param n            The Number of Times.
+         */
+        public void record(long nanos, long n) {
+            if (n <= 0) {
+                return;
+            }
+            long value = Math.max(0, nanos);
+            int stripe = stripe();
+            this.buckets.getAndAdd(stripe * BUCKETS + bucketOf(value), n);
+            this.count.add(n);
+            this.sum.add(value * n);
+            int at = stripe * MAX_SPACING;
+            long seen = this.max.get(at);
+            while (value > seen && !this.max.compareAndSet(at, seen, value)) {
+                seen = this.max.get(at);
+            }
+        }
+
+        /**
+         *  This Method is Used to Pick the Stripe of the Current Thread.
+         *
+         *  @return             The Stripe.
+         */
+        private static int stripe() {
+            // Spread the Identity Hash, Which Never Changes For a Thread.
+            int h = System.identityHashCode(Thread.currentThread());
+            return (h ^ h >>> 16) & (STRIPES - 1);
+        }
+
+        /**
+         *  This Method is Used to Record the Time Since a Start.
+         *
+         *  @param start        The Start From System.nanoTime.
+         */
+        public void since(long start) {
+            record(System.nanoTime() - start, 1);
+        }
+
+        /**
+         *  This Method is Used to Find the Bucket of a Value.
+         *
+         *  @param value        The Value, Not Negative.
+         *
+         *  @return             The Bucket.
+         */
+        static int bucketOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        /**
+         *  This Method is Used to Find the Largest Value a Bucket Holds.
+         *
+         *  @param bucket       The Bucket.
+         *
+         *  @return             The Largest Value.
+         */
+        static long highestOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = bucket / SUB_BUCKETS - 1;
+            long low = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            return low + (1L << shift) - 1;
+        }
+
+        /**
+         *  This Method is Used to Estimate a Percentile.
+         *
+         *  @param percentile   The Percentile, From 0 to 100.
+         *
+         *  @return             The Value in Nanoseconds, Never More Than
+         *                      the Largest Recorded, or 0 When Empty.
+         */
+        public long getPercentile(double percentile) {
+            long total = this.count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+            long seen = 0;
+            long largest = getMax();
+            for (int i = 0; i < BUCKETS; i++) {
+                for (int stripe = 0; stripe < STRIPES; stripe++) {
+                    seen += this.buckets.get(stripe * BUCKETS + i);
+                }
+                if (seen >= rank) {
+                    return Math.min(highestOf(i), largest);
+                }
+            }
+            return largest;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Metric
+         *  Name.
+         *
+         *  @return             The Name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Values Recorded.
+         *
+         *  @return             The Count.
+         */
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Sum of
+         *  the Values Recorded.
+         *
+         *  @return             The Sum in Nanoseconds.
+         */
+        public long getSum() {
+            return this.sum.sum();
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Mean.
+         *
+         *  @return             The Mean in Nanoseconds, or 0 When Empty.
+         */
+        public double getMean() {
+            long total = this.count.sum();
+            return total == 0 ? 0 : (double) this.sum.sum() / total;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Largest
+         *  Value Recorded.
+         *
+         *  @return             The Largest Value in Nanoseconds.
+         */
+        public long getMax() {
+            long largest = 0;
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                largest = Math.max(largest, this.max.get(stripe * MAX_SPACING));
+            }
+            return largest;
+        }
+    }
+
+    /**
+     *  This Class Gathers the Timings of One Thread's Loop. Only One Item
+     *  in Sixteen is Timed, Since Reading the Clock Around Every Step of
+     *  Every Key Would Slow the Loop by Over a Tenth, and the Timings are
+     *  Added to the Histogram a Few Hundred at a Time, Every Item at the
+     *  Mean, so a Tight Loop Pays For a Few Plain Additions per Item
+     *  Rather Than Several Atomic Ones. The Counter Still Gets Every
+     *  Item's Units. It is Not Thread Safe.
+     */
+    public static final class Tally {
+
+        // One Item in This Many is Timed.
+        private static final int SAMPLE_EVERY = 16;
+        // The Number of Timed Items Gathered Before They are Added.
+        private static final int FLUSH_EVERY = 256;
+        // The Start Given to an Item That is Not Timed.
+        private static final long UNTIMED = Long.MIN_VALUE;
+
+        // Where the Items are Added.
+        private final Histogram histogram;
+        private final Counter counter;
+        // The Number of Items Started.
+        private long started;
+        // The Items Gathered So Far, and How Many Were Timed.
+        private long items;
+        private long units;
+        private long nanos;
+        private int timed;
+
+        /**
+         *  Constructor That Creates an Empty Tally.
+         *
+         *  @param histogram        The Histogram the Timings are Added to.
+         *
+         *  @param counter          The Counter the Units are Added to, or
+         *                          Null.
+         */
+        public Tally(Histogram histogram, Counter counter) {
+            this.histogram = histogram;
+            this.counter = counter;
+        }
+
+        /**
+         *  This Method is Used to Start an Item.
+         *
+         *  @return             The Start, to be Handed to the Stop Method.
+         */
+        public long start() {
+            return this.started++ % SAMPLE_EVERY == 0 ? System.nanoTime() : UNTIMED;
+        }
+
+        /**
+         *  This Method is Used to Finish an Item.
+         *
+         *  @param start        The Start the Start Method Gave.
+         *
+         *  @param units        What the Item Adds to the Counter.
+         */
+        public void stop(long start, long units) {
+            this.items++;
+            this.units += units;
+            if (start != UNTIMED) {
+                this.nanos += System.nanoTime() - start;
+                if (++this.timed == FLUSH_EVERY) {
+                    flush();
+                }
+            }
+        }
+
+        /**
+         *  This Method is Responsible for Adding the Gathered Items Now,
+         *  as at the End of a Loop.
+         */
+        public void flush() {
+            if (this.timed > 0) {
+                this.histogram.record(this.nanos / this.timed, this.items);
+            }
+            if (this.counter != null && this.units > 0) {
+                this.counter.add(this.units);
+            }
+            this.items = 0;
+            this.units = 0;
+            this.nanos = 0;
+            this.timed = 0;
+        }
+    }
+
+    // The Throughput Counters.
+    public static final Counter KEYS_PARSED = new Counter("aes_keys_parsed", "Last Round Keys Parsed From Input");
+    public static final Counter INVALID_LINES = new Counter("aes_invalid_lines", "Input Lines That Were Not Keys");
+    public static final Counter KEYS_INVERTED = new Counter("aes_keys_inverted", "Last Round Keys Inverted");
+    public static final Counter BLOCKS_DECRYPTED = new Counter("aes_blocks_decrypted", "Sixteen Byte Blocks Decrypted");
+    public static final Counter BYTES_WRITTEN = new Counter("aes_output_bytes", "Bytes of Output Written");
+
+    // The Latency Histograms.
+    public static final Histogram PARSE = new Histogram("aes_parse_seconds", "Time to Parse One Key");
+    public static final Histogram INVERSION = new Histogram("aes_inversion_seconds", "Time to Invert One Key (All Ten Rounds)");
+    public static final Histogram INVERSION_ROUND = new Histogram("aes_inversion_round_seconds", "Time to Invert One Round in inverseRoundKey");
+    public static final Histogram SBOX = new Histogram("aes_sbox_seconds", "Time to Substitute One Word");
+    public static final Histogram VERIFICATION = new Histogram("aes_verification_seconds", "Time to Verify One Key");
+    public static final Histogram DECRYPTION = new Histogram("aes_decryption_seconds", "Time to Decrypt One Message");
+    public static final Histogram OUTPUT = new Histogram("aes_output_seconds", "Time to Write One Record");
+
+    // Every Counter and Histogram.
+    private static final List<Counter> COUNTERS = List.of(KEYS_PARSED, INVALID_LINES, KEYS_INVERTED, BLOCKS_DECRYPTED, BYTES_WRITTEN);
+    private static final List<Histogram> HISTOGRAMS = List.of(PARSE, INVERSION, INVERSION_ROUND, SBOX, VERIFICATION, DECRYPTION, OUTPUT);
+
+    // The Percentiles Reported.
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    // The JMX Name.
+    public static final String OBJECT_NAME = "AESRoundKeyInverter:type=Metrics";
+    // Whether the MBean Has Been Registered.
+    private static boolean registered;
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper Class
+     *  From Being Created.
+     */
+    private Metrics() {
+    }
+
+    /**
+     *  This Method is Used to Find the Histogram of a Processing Stage.
+     *
+     *  @param stage        The Stage: parse, invert, verify, decrypt or
+     *                      write.
+     *
+     *  @return             The Histogram, or Null For an Unknown Stage.
+     */
+    public static Histogram forStage(String stage) {
+        switch (stage) {
+            case "parse":
+                return PARSE;
+            case "invert":
+                return INVERSION;
+            case "verify":
+                return VERIFICATION;
+            case "decrypt":
+                return DECRYPTION;
+            case "write":
+                return OUTPUT;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Writing Every Metric in the
+     *  Prometheus Text Format, With the Histograms as Summaries in Seconds.
+     *
+     *  @return             The Text.
+     */
+    public static String prometheus() {
+        StringBuilder text = new StringBuilder(4096);
+        for (Counter counter : COUNTERS) {
+            text.append("# HELP ").append(counter.name).append("_total ").append(counter.help).append('\n');
+            text.append("# TYPE ").append(counter.name).append("_total counter\n");
+            text.append(counter.name).append("_total ").append(counter.getCount()).append('\n');
+        }
+        for (Histogram histogram : HISTOGRAMS) {
+            text.append("# HELP ").append(histogram.name).append(' ').append(histogram.help).append('\n');
+            text.append("# TYPE ").append(histogram.name).append(" summary\n");
+            for (double quantile : QUANTILES) {
+                text.append(histogram.name).append("{quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(histogram.getPercentile(quantile * 100))).append('\n');
+            }
+            text.append(histogram.name).append("_sum ").append(seconds(histogram.getSum())).append('\n');
+            text.append(histogram.name).append("_count ").append(histogram.getCount()).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     *  This Method is Used to Write Nanoseconds as Seconds.
+     *
+     *  @param nanos        The Nanoseconds.
+     *
+     *  @return             The Seconds.
+     */
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+
+    /**
+     *  This Method is Responsible for Registering the Metrics With the
+     *  Platform MBean Server. Calling it Again Does Nothing.
+     */
+    public static synchronized void register() {
+        if (registered) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new Bean(), name);
+            }
+            registered = true;
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Could Not Register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     *  This Class Exposes the Metrics as Read Only JMX Attributes: Each
+     *  Counter by Name, and For Each Histogram its Count, Mean, Max and
+     *  Percentiles in Nanoseconds.
+     */
+    private static final class Bean implements DynamicMBean {
+
+        // The Attribute Names, in Order.
+        private final String[] names;
+
+        Bean() {
+            int per = 4 + QUANTILES.length;
+            this.names = new String[COUNTERS.size() + HISTOGRAMS.size() * per];
+            int n = 0;
+            for (Counter counter : COUNTERS) {
+                this.names[n++] = counter.name + "_total";
+            }
+            for (Histogram histogram : HISTOGRAMS) {
+                this.names[n++] = histogram.name + "_count";
+                this.names[n++] = histogram.name + "_mean_nanos";
+                this.names[n++] = histogram.name + "_max_nanos";
+                this.names[n++] = histogram.name + "_sum_nanos";
+                for (double quantile : QUANTILES) {
+                    this.names[n++] = histogram.name + "_p" + label(quantile) + "_nanos";
+                }
+            }
+        }
+
+        /**
+         *  This Method is Used to Name a Quantile in an Attribute, So 0.999
+         *  Becomes 99_9.
+         *
+         *  @param quantile     The Quantile.
+         *
+         *  @return             The Label.
+         */
+        private static String label(double quantile) {
+            String percent = String.valueOf(quantile * 100);
+            if (percent.endsWith(".0")) {
+                percent = percent.substring(0, percent.length() - 2);
+            }
+            return percent.replace('.', '_');
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            for (Counter counter : COUNTERS) {
+                if (attribute.equals(counter.name + "_total")) {
+                    return counter.getCount();
+                }
+            }
+            for (Histogram histogram : HISTOGRAMS) {
+                if (!attribute.startsWith(histogram.name + "_")) {
+                    continue;
+                }
+                String rest = attribute.substring(histogram.name.length() + 1);
+                switch (rest) {
+                    case "count":
+                        return histogram.getCount();
+                    case "mean_nanos":
+                        return histogram.getMean();
+                    case "max_nanos":
+                        return histogram.getMax();
+                    case "sum_nanos":
+                        return histogram.getSum();
+                    default:
+                        break;
+                }
+                for (double quantile : QUANTILES) {
+                    if (rest.equals("p" + label(quantile) + "_nanos")) {
+                        return histogram.getPercentile(quantile * 100);
+                    }
+                }
+            }
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                try {
+                    list.add(new Attribute(attribute, getAttribute(attribute)));
+                }
+                catch (AttributeNotFoundException e) {
+                    // Leave Unknown Attributes Out, as the Interface Asks.
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are Read Only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String action, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException(action);
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[this.names.length];
+            for (int i = 0; i < this.names.length; i++) {
+                String type = this.names[i].endsWith("_mean_nanos") ? "double" : "long";
+                attributes[i] = new MBeanAttributeInfo(this.names[i], type, this.names[i], true, false, false);
+            }
+            return new MBeanInfo(Metrics.class.getName(), "AES Round Key Inverter Hot Path Metrics",
+                    attributes, null, new MBeanOperationInfo[0], null);
+        }
+    }
+}
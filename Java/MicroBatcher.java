@@ -0,0 +1,227 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  This Class is Responsible for Gathering Single Key Inversions Made
+ *  Concurrently by Many Callers Into Batches For the Bulk Engine. One
+ *  Thread Takes Whatever is Waiting (Holding the Batch Open For a Short
+ *  Delay if it is Not Yet Full), Inverts it With EngineSelector and
+ *  Completes Every Caller's Future. Under Light Load a Batch is a Single
+ *  Key; Under Heavy Load Batches Grow to the Maximum on Their Own While
+ *  the Previous One Runs.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class MicroBatcher implements AutoCloseable {
+
+    // The Default Largest Batch.
+    public static final int DEFAULT_MAX_BATCH = 4096;
+    // The Default Time a Partial Batch is Held Open.
+    public static final long DEFAULT_MAX_DELAY_MICROS = 50;
+
+    /**
+     *  This Class Holds One Waiting Inversion.
+     */
+    private static final class Pending {
+
+        // The Last Round Key.
+        private final byte[] key;
+        // The Future Completed With the Original Key.
+        private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+
+        Pending(byte[] key) {
+            this.key = key;
+        }
+    }
+
+    // The Largest Batch.
+    private final int maxBatch;
+    // The Time a Partial Batch is Held Open.
+    private final long maxDelayNanos;
+    // The Waiting Inversions.
+    private final LinkedBlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    // The Thread Running the Batches.
+    private final Thread thread;
+    // Whether the Batcher Has Been Closed.
+    private volatile boolean closed;
+    // The Number of Batches and Keys Run.
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong keys = new AtomicLong();
+
+    /**
+     *  Constructor That Starts the Batching Thread.
+     *
+     *  @param maxBatch         The Largest Batch.
+     *
+     *  @param maxDelayMicros   The Time a Partial Batch is Held Open,
+     *                          Zero to Run Whatever is Waiting at Once.
+     */
+    public MicroBatcher(int maxBatch, long maxDelayMicros) {
+        // Check and Set the Limits.
+        if (maxBatch < 1 || maxDelayMicros < 0) {
+            throw new IllegalArgumentException("Invalid Batch Limits: " + maxBatch + ", " + maxDelayMicros);
+        }
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+
+        // Start the Batching Thread.
+        this.thread = new Thread(this::loop, "micro-batcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     *  Constructor That Uses the Default Limits.
+     */
+    public MicroBatcher() {
+        this(DEFAULT_MAX_BATCH, DEFAULT_MAX_DELAY_MICROS);
+    }
+
+    /**
+     *  This Method is Responsible for Queueing One Inversion.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key. It Must Not Change
+     *                      Until the Future Completes.
+     *
+     *  @return             A Future Completed With the Original Key.
+     */
+    public CompletableFuture<byte[]> submit(byte[] lastRoundKey) {
+        // Refuse Work Once Closed.
+        Pending pending = new Pending(lastRoundKey);
+        if (this.closed) {
+            pending.future.completeExceptionally(new IllegalStateException("Micro Batcher is Closed"));
+            return pending.future;
+        }
+        this.queue.add(pending);
+
+        // A Close That Raced the Add May Have Drained the Queue Already,
+        // so Take the Request Back and Fail it. (If the Drain Got There
+        // First the Remove Fails and the Drain Has Failed it Instead.)
+        if (this.closed && this.queue.remove(pending)) {
+            pending.future.completeExceptionally(new IllegalStateException("Micro Batcher is Closed"));
+        }
+        return pending.future;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Batches Run.
+     *
+     *  @return             The Number of Batches.
+     */
+    public long getBatches() {
+        return this.batches.get();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Keys Inverted.
+     *
+     *  @return             The Number of Keys.
+     */
+    public long getKeys() {
+        return this.keys.get();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Mean Number
+     *  of Keys per Batch.
+     *
+     *  @return             The Mean Batch Size.
+     */
+    public double getMeanBatchSize() {
+        long count = this.batches.get();
+        return count == 0 ? 0 : (double) this.keys.get() / count;
+    }
+
+    /**
+     *  This Method is Responsible for Stopping the Batching Thread. Keys
+     *  Still Waiting Fail With an IllegalStateException.
+     */
+    @Override
+    public void close() {
+        // Stop the Thread, Then Fail Whatever Was Left.
+        this.closed = true;
+        this.thread.interrupt();
+        try {
+            this.thread.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Pending pending;
+        while ((pending = this.queue.poll()) != null) {
+            pending.future.completeExceptionally(new IllegalStateException("Micro Batcher is Closed"));
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running Batches Until Closed.
+     */
+    private void loop() {
+        List<Pending> batch = new ArrayList<>(this.maxBatch);
+        while (!this.closed) {
+            try {
+                // Wait For the First Key, Then Take Everything Waiting and
+                // Hold the Batch Open Until it is Full or the Delay Ends.
+                batch.add(this.queue.take());
+                this.queue.drainTo(batch, this.maxBatch - batch.size());
+                long deadline = System.nanoTime() + this.maxDelayNanos;
+                while (batch.size() < this.maxBatch) {
+                    long left = deadline - System.nanoTime();
+                    Pending next = left > 0 ? this.queue.poll(left, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    this.queue.drainTo(batch, this.maxBatch - batch.size());
+                }
+            }
+            catch (InterruptedException e) {
+                // Closing. Run What Was Already Taken.
+            }
+            run(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Inverting One Batch and Completing
+     *  its Futures.
+     *
+     *  @param batch        The Waiting Inversions.
+     */
+    private void run(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Invert the Batch With the Engine Chosen For its Size.
+        byte[][] src = new byte[batch.size()][];
+        byte[][] dest = new byte[batch.size()][16];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = batch.get(i).key;
+        }
+        try {
+            EngineSelector.get().invertAll(src, dest);
+        }
+        catch (RuntimeException e) {
+            for (Pending pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+            return;
+        }
+        this.batches.incrementAndGet();
+        this.keys.addAndGet(src.length);
+
+        // Hand Each Caller its Key.
+        for (int i = 0; i < src.length; i++) {
+            batch.get(i).future.complete(dest[i]);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ *  This Class is Responsible for Storing Very Large Numbers of Fixed
+ *  Width Key Records Outside of the Java Heap. Records are Packed Back
+ *  to Back Inside of Direct Byte Buffer Chunks so that Hundreds of
+ *  Millions of Recovered Keys Can be Held Without Adding Any Objects
+ *  for the Garbage Collector to Trace. The Store Supports Appending,
+ *  Random Access by Record Index and Bulk Iteration, and it can be
+ *  Passed Directly to the Inverse Key Generation Process as its Output
+ *  Sink.
+ *
+ *  Appends are Serialized, and Any Number of Threads May Read While One
+ *  Appends: a Reader Sees Every Record Counted by the Size it Read, Since
+ *  the Chunk Table is Published Before the Size That Covers it. Clearing
+ *  or Closing the Store Must Not Overlap Reads or Appends; a Read That
+ *  Races a Close Fails With an Exception Instead of Touching a Released
+ *  Chunk.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public class OffHeapKeyStore implements KeySink, AutoCloseable {
+
+    // The Width of a Single Original
+    // Key Record in Bytes.
+    public static final int KEY_WIDTH = 16;
+    // The Width of a Full AES-128 Key
+    // Schedule Record (Eleven Round Keys)
+    // in Bytes.
+    public static final int SCHEDULE_WIDTH = 176;
+
+    // The Largest Number of Bytes a Single
+    // Direct Buffer Chunk is Allowed to Hold.
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+    // The Number of Bytes a Chunk Holds When No
+    // Explicit Chunk Size is Given. (Chunks are
+    // Allocated Whole, so This Also Bounds the
+    // Memory Used by a Nearly Empty Store.)
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 26;
+
+    /**
+     *  This Interface is Used to Visit Every Record Present Within the
+     *  Store Without Copying it onto the Heap. The Visitor Receives the
+     *  Chunk Holding the Record Together With the Absolute Position of
+     *  the Record's First Byte.
+     */
+    public interface RecordVisitor {
+
+        /**
+         *  This Method is Called Once For Every Record in the Store.
+         *
+         *  @param index        The Index of the Current Record.
+         *
+         *  @param chunk        The Direct Buffer Holding the Record.
+         *                      (Note: The Buffer Must Only be Read
+         *                      Using Absolute Get Methods.)
+         *
+         *  @param position     The Absolute Position of the First
+         *                      Record Byte Within the Chunk.
+         */
+        void visit(long index, ByteBuffer chunk, int position);
+    }
+
+    // The Width of Every Record
+    // Held by This Store.
+    private final int recordWidth;
+    // The Number of Records That
+    // Fit Inside of a Single Chunk.
+    private final int recordsPerChunk;
+    // The Allocated Direct Buffer Chunks.
+    // The Table is Replaced, Never Changed
+    // in Place, so Readers Can Use it
+    // Without Taking the Lock.
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    // The Number of Records That Have
+    // Been Appended to the Store.
+    private volatile long size;
+
+    /**
+     *  Constructor Method That is Used to Create a New Off Heap Store
+     *  Using the Default Chunk Size.
+     *
+     *  @param recordWidth      The Width of Each Record in Bytes.
+     *                          (Usually KEY_WIDTH or SCHEDULE_WIDTH.)
+     */
+    public OffHeapKeyStore(int recordWidth) {
+        // Use the Default Chunk Size Rounded Down
+        // to a Whole Number of Records.
+        this(recordWidth, Math.max(1, DEFAULT_CHUNK_BYTES / recordWidth));
+    }
+
+    /**
+     *  Constructor Method That is Used to Create a New Off Heap Store
+     *  With an Explicit Number of Records per Chunk.
+     *
+     *  @param recordWidth      The Width of Each Record in Bytes.
+     *
+     *  @param recordsPerChunk  The Number of Records Each Direct
+     *                          Buffer Chunk Will Hold.
+     */
+    public OffHeapKeyStore(int recordWidth, int recordsPerChunk) {
+        // Make Sure the Record Width is Usable.
+        if (recordWidth <= 0) {
+            throw new IllegalArgumentException("Record Width Must Be Positive: " + recordWidth);
+        }
+        // Make Sure a Chunk Holds at Least One Record
+        // and Never Exceeds the Maximum Chunk Size.
+        if (recordsPerChunk <= 0 || (long) recordsPerChunk * recordWidth > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("Invalid Records Per Chunk: " + recordsPerChunk);
+        }
+        // Set Record Width
+        this.recordWidth = recordWidth;
+        // Set Records Per Chunk
+        this.recordsPerChunk = recordsPerChunk;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Width of
+     *  Each Record Held by the Store.
+     *
+     *  @return             The Record Width in Bytes.
+     */
+    @Override
+    public int getRecordWidth() {
+        // Return Record Width
+        return this.recordWidth;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Records Currently Held by the Store.
+     *
+     *  @return             The Number of Records.
+     */
+    public long size() {
+        // Return Record Count
+        return this.size;
+    }
+
+    /**
+     *  This Method is Responsible for Appending a Single Record to the
+     *  End of the Store.
+     *
+     *  @param value        The Byte Array Holding the Record.
+     *
+     *  @return             The Index the Record Was Stored at.
+     */
+    public long append(byte[] value) {
+        // Append the Record Starting
+        // at the First Array Index.
+        return append(value, 0);
+    }
+
+    /**
+     *  This Method is Responsible for Appending a Single Record to the
+     *  End of the Store. Exactly One Record Width of Bytes is Copied
+     *  From the Parameter Array.
+     *
+     *  @param value        The Byte Array Holding the Record.
+     *
+     *  @param offset       The Index of the First Record Byte.
+     *
+     *  @return             The Index the Record Was Stored at.
+     */
+    public synchronized long append(byte[] value, int offset) {
+        // Make Sure the Parameter Array Holds
+        // a Whole Record at the Offset.
+        if (offset < 0 || offset + this.recordWidth > value.length) {
+            throw new IllegalArgumentException("Record Does Not Fit In Source Array");
+        }
+
+        // Find the Index of the New Record
+        // and the Chunk it Belongs to.
+        long index = this.size;
+        int chunkIndex = (int) (index / this.recordsPerChunk);
+
+        // Allocate a New Chunk Whenever
+        // the Last One Has Been Filled.
+        ByteBuffer[] table = this.chunks;
+        if (chunkIndex == table.length) {
+            // Allocate the Direct Buffer Outside of the
+            // Java Heap and Publish a Grown Table.
+            table = Arrays.copyOf(table, chunkIndex + 1);
+            table[chunkIndex] = ByteBuffer.allocateDirect(this.recordsPerChunk * this.recordWidth).order(ByteOrder.BIG_ENDIAN);
+            this.chunks = table;
+        }
+
+        // Get the Chunk and the Absolute
+        // Position of the New Record.
+        ByteBuffer chunk = table[chunkIndex];
+        int position = (int) (index % this.recordsPerChunk) * this.recordWidth;
+
+        // Copy the Record Bytes into the
+        // Chunk With One Absolute Bulk Put.
+        chunk.put(position, value, offset, this.recordWidth);
+
+        // Publish the New Record Count.
+        this.size = index + 1;
+
+        // Return the Record Index.
+        return index;
+    }
+
+    /**
+     *  This Method Allows the Store to be Used as the Output Sink of
+     *  the Inverse Key Generation Process.
+     *
+     *  @param value        The Byte Array Holding the Record.
+     *
+     *  @param offset       The Index of the First Record Byte.
+     */
+    @Override
+    public void accept(byte[] value, int offset) {
+        // Append the Record.
+        append(value, offset);
+    }
+
+    /**
+     *  This Method is Responsible for Copying a Single Record From the
+     *  Store Into the Parameter Array.
+     *
+     *  @param index        The Index of the Record to Read.
+     *
+     *  @param dest         The Destination Byte Array.
+     *
+     *  @param offset       The Index in the Destination Array
+     *                      Where the First Byte Will be Written.
+     */
+    public void get(long index, byte[] dest, int offset) {
+        // Get the Chunk and Position
+        // of the Requested Record.
+        ByteBuffer chunk = chunkOf(index);
+        int position = (int) (index % this.recordsPerChunk) * this.recordWidth;
+
+        // Copy the Record Bytes out of the Chunk
+        // With One Absolute Bulk Get.
+        chunk.get(position, dest, offset, this.recordWidth);
+    }
+
+    /**
+     *  This Method is Responsible for Returning a Copy of a Single
+     *  Record as a New Byte Array.
+     *
+     *  @param index        The Index of the Record to Read.
+     *
+     *  @return             The Record Bytes.
+     */
+    public byte[] get(long index) {
+        // Create the Result Array.
+        byte[] record = new byte[this.recordWidth];
+        // Copy the Record Into it.
+        get(index, record, 0);
+        // Return the Record.
+        return record;
+    }
+
+    /**
+     *  This Method is Responsible for Reading Eight Bytes of a Record
+     *  as a Single Big Endian Long Value. This is Mainly Used to Compare
+     *  or Hash 128 Bit Keys Without Copying Them Onto the Heap.
+     *
+     *  @param index        The Index of the Record.
+     *
+     *  @param byteOffset   The Offset Within the Record to Read From.
+     *
+     *  @return             The Big Endian Long Value.
+     */
+    public long getLong(long index, int byteOffset) {
+        // Get the Chunk and Position
+        // of the Requested Record.
+        ByteBuffer chunk = chunkOf(index);
+        int position = (int) (index % this.recordsPerChunk) * this.recordWidth;
+
+        // Read the Value Directly From the Chunk.
+        return chunk.getLong(position + byteOffset);
+    }
+
+    /**
+     *  This Method is Responsible for Visiting Every Record in the
+     *  Store in Index Order Without Copying Any of Them.
+     *
+     *  @param visitor      The Visitor Called For Each Record.
+     */
+    public void forEach(RecordVisitor visitor) {
+        // Visit Every Record That Was Present
+        // When the Iteration Started.
+        forEach(0, this.size, visitor);
+    }
+
+    /**
+     *  This Method is Responsible for Visiting a Range of Records in
+     *  the Store in Index Order Without Copying Any of Them. Splitting
+     *  the Store Into Ranges Allows Several Threads to Walk it at Once.
+     *
+     *  @param from         The First Record Index (Inclusive).
+     *
+     *  @param to           The Last Record Index (Exclusive).
+     *
+     *  @param visitor      The Visitor Called For Each Record.
+     */
+    public void forEach(long from, long to, RecordVisitor visitor) {
+        // Make Sure the Range Lies Within the Store.
+        if (from < 0 || to > this.size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid Range: " + from + " to " + to);
+        }
+        // Read the Chunk Table After the Size, so
+        // it Covers Every Record in the Range
+        // Unless the Store Was Closed Meanwhile.
+        ByteBuffer[] table = this.chunks;
+        if (to > from && (to - 1) / this.recordsPerChunk >= table.length) {
+            throw new IllegalStateException("The Store Was Closed While Being Read");
+        }
+
+        // Walk the Range One Record at a Time,
+        // Moving to the Next Chunk When Needed.
+        long index = from;
+        while (index < to) {
+            // Get the Current Chunk and the Position
+            // of the Current Record Inside of it.
+            int chunkIndex = (int) (index / this.recordsPerChunk);
+            ByteBuffer chunk = table[chunkIndex];
+            int slot = (int) (index % this.recordsPerChunk);
+
+            // Find How Many Records of the Range
+            // Live Inside of the Current Chunk.
+            long end = Math.min(to, (long) (chunkIndex + 1) * this.recordsPerChunk);
+
+            // Visit Each of Those Records.
+            for (; index < end; index++, slot++) {
+                visitor.visit(index, chunk, slot * this.recordWidth);
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Removing All Records From the
+     *  Store While Keeping the Allocated Chunks for Reuse. It Must Not
+     *  be Called While Other Threads Read or Append.
+     */
+    public synchronized void clear() {
+        // Reset the Record Count.
+        this.size = 0;
+    }
+
+    /**
+     *  This Method Releases All of the Chunks Held by the Store. The
+     *  Direct Memory is Returned Once the Buffers Become Unreachable. It
+     *  Must Not be Called While Other Threads Read or Append.
+     */
+    @Override
+    public synchronized void close() {
+        // Reset the Record Count.
+        this.size = 0;
+        // Drop the Chunk References.
+        this.chunks = new ByteBuffer[0];
+    }
+
+    /**
+     *  This Method is Used to Find the Chunk Holding a Record. The Size
+     *  is Checked Before the Chunk Table is Read Once, so the Table
+     *  Covers the Record Unless the Store Was Closed Meanwhile.
+     *
+     *  @param index        The Record Index.
+     *
+     *  @return             The Chunk.
+     */
+    private ByteBuffer chunkOf(long index) {
+        // Make Sure the Record Exists.
+        checkIndex(index);
+
+        // Look it Up in One Read of the Table.
+        ByteBuffer[] table = this.chunks;
+        int chunkIndex = (int) (index / this.recordsPerChunk);
+        if (chunkIndex >= table.length) {
+            throw new IllegalStateException("The Store Was Closed While Being Read");
+        }
+        return table[chunkIndex];
+    }
+
+    /**
+     *  This Method is Used to Make Sure the Parameter Record Index
+     *  Refers to a Record That Has Been Appended to the Store.
+     *
+     *  @param index        The Record Index to Check.
+     */
+    private void checkIndex(long index) {
+        // Throw an Exception For Any Index
+        // Outside of the Current Record Range.
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Record Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
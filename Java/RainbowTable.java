@@ -0,0 +1,513 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ *  This Class is Responsible for a Rainbow Table Time Memory Trade Off
+ *  Over a Reduced Key Space Under a Fixed Known Plaintext. A Chain Starts
+ *  at a Key Index, Encrypts the Plaintext Under That Key and Reduces the
+ *  Ciphertext Back to a Key Index With a Function That is Different For
+ *  Every Step of the Chain. Only the Start and End of Each Chain are
+ *  Kept, Sorted by End and Stored in a File That is Memory Mapped When
+ *  the Table is Opened.
+ *
+ *  A Lookup Reduces the Target Ciphertext at Every Possible Chain
+ *  Position, Walks Each of Those to the End of the Chain, Finds Matching
+ *  Ends by Binary Search and Regenerates Those Chains From Their Starts to
+ *  Find the Key. The Positions are Tried in Parallel. A Key That is Found
+ *  is Expanded Into its Full Schedule by the Word Based Key Schedule.
+ *
+ *  File Layout (Big Endian): the Magic Value, the Table Number, the
+ *  Chain Length, the Chain Count, the Known Plaintext, the Key Space
+ *  Description, Then Sixteen Byte (End, Start) Records Sorted by End.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class RainbowTable implements AutoCloseable {
+
+    // The Value the File Starts With.
+    private static final long MAGIC = 0x4145535254424C31L;
+    // The Width of a Single Chain Record.
+    private static final int RECORD_WIDTH = 16;
+    // The Number of Records Mapped by a Single Buffer.
+    private static final int RECORDS_PER_SEGMENT = 1 << 26;
+
+    // The Key Space the Table Covers.
+    private final KeySpace space;
+    // The Known Plaintext.
+    private final byte[] plaintext;
+    // The Table Number, Which Selects the Reduction Functions.
+    private final int table;
+    // The Number of Steps in Each Chain.
+    private final int chainLength;
+    // The Number of Chains Stored.
+    private final long chains;
+    // The Open File and its Mapped Segments.
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    // The File Position of the First Record.
+    private final long recordsStart;
+
+    /**
+     *  Private Constructor Used by the Open Method.
+     */
+    private RainbowTable(KeySpace space, byte[] plaintext, int table, int chainLength, long chains, FileChannel channel, long recordsStart) throws IOException {
+        // Set Table Values
+        this.space = space;
+        this.plaintext = plaintext;
+        this.table = table;
+        this.chainLength = chainLength;
+        this.chains = chains;
+        this.channel = channel;
+        this.recordsStart = recordsStart;
+
+        // Map the Records One Segment at a Time.
+        int count = (int) ((chains + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+        this.segments = new MappedByteBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long first = (long) s * RECORDS_PER_SEGMENT;
+            long records = Math.min(RECORDS_PER_SEGMENT, chains - first);
+            this.segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, recordsStart + first * RECORD_WIDTH, records * RECORD_WIDTH);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Building a Table and Writing it to
+     *  a File. Chains are Walked in Parallel, Sorted by Their End, and
+     *  Chains That Merge Into an End Already Present are Dropped.
+     *
+     *  @param space        The Key Space to Cover.
+     *
+     *  @param plaintext    The Known 16 Byte Plaintext.
+     *
+     *  @param table        The Table Number. (Tables With Different
+     *                      Numbers Cover the Space Independently.)
+     *
+     *  @param chainLength  The Number of Steps in Each Chain.
+     *
+     *  @param chains       The Number of Chains to Walk.
+     *
+     *  @param file         The Path of the Table File.
+     *
+     *  @return             The Number of Chains Written.
+     *
+     *  @throws IOException When the File Can Not be Written.
+     */
+    public static long generate(KeySpace space, byte[] plaintext, int table, int chainLength, long chains, Path file) throws IOException {
+        // Make Sure Every Chain Fits in the Sort Key.
+        long size = space.size();
+        if (chainLength <= 0 || chains <= 0 || chains > size || chains > Integer.MAX_VALUE - 8 || size > Long.MAX_VALUE / chains) {
+            throw new IllegalArgumentException("Unsupported Table Shape: " + chains + " Chains of " + chainLength + " Over " + size + " Keys");
+        }
+
+        // Walk Every Chain in Parallel. Chain j Starts at Key Index j, so
+        // Packing end * chains + j Lets a Single Sort Order the Chains.
+        long[] packed = new long[(int) chains];
+        long segmentCount = (chains + 4095) / 4096;
+        LongStream.range(0, segmentCount).parallel().forEach(segment -> {
+            Walker walker = new Walker(space, plaintext, table);
+            long end = Math.min(chains, (segment + 1) * 4096);
+            for (long j = segment * 4096; j < end; j++) {
+                long x = j;
+                for (int i = 0; i < chainLength; i++) {
+                    x = walker.step(x, i);
+                }
+                packed[(int) j] = x * chains + j;
+            }
+        });
+        Arrays.parallelSort(packed);
+
+        // Write the Header and Every Chain With a New End to a Temporary
+        // File, Then Move it Into Place.
+        byte[] description = space.describe().getBytes(StandardCharsets.UTF_8);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long written = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 20))) {
+            // Count the Distinct Ends First.
+            long distinct = 0;
+            for (int k = 0; k < packed.length; k++) {
+                if (k == 0 || packed[k] / chains != packed[k - 1] / chains) {
+                    distinct++;
+                }
+            }
+
+            // Write the Header, Padded to a Whole Record.
+            out.writeLong(MAGIC);
+            out.writeInt(table);
+            out.writeInt(chainLength);
+            out.writeLong(distinct);
+            out.write(plaintext);
+            out.writeInt(description.length);
+            out.write(description);
+            int header = 8 + 4 + 4 + 8 + 16 + 4 + description.length;
+            for (int pad = header; pad % RECORD_WIDTH != 0; pad++) {
+                out.write(0);
+            }
+
+            // Write One Record per Distinct End.
+            for (int k = 0; k < packed.length; k++) {
+                long end = packed[k] / chains;
+                if (k > 0 && end == packed[k - 1] / chains) {
+                    continue;
+                }
+                out.writeLong(end);
+                out.writeLong(packed[k] % chains);
+                written++;
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    /**
+     *  This Method is Responsible for Opening a Table File.
+     *
+     *  @param file         The Path of the Table File.
+     *
+     *  @param space        The Key Space the Table Was Built For.
+     *
+     *  @return             The Open Table.
+     *
+     *  @throws IOException When the File Can Not be Read or Was
+     *                      Built For a Different Key Space.
+     */
+    public static RainbowTable open(Path file, KeySpace space) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            // Read the Fixed Part of the Header.
+            ByteBuffer header = ByteBuffer.allocate(44);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < 44 || header.getLong() != MAGIC) {
+                throw new IOException("Not a Rainbow Table: " + file);
+            }
+            int table = header.getInt();
+            int chainLength = header.getInt();
+            long chains = header.getLong();
+            byte[] plaintext = new byte[16];
+            header.get(plaintext);
+            int length = header.getInt();
+
+            // Make Sure the Table Covers the Same Space.
+            ByteBuffer description = ByteBuffer.allocate(length);
+            channel.read(description, 44);
+            if (!space.describe().equals(new String(description.array(), StandardCharsets.UTF_8))) {
+                throw new IOException("Table Was Built For a Different Key Space: " + file);
+            }
+            long recordsStart = (44 + length + RECORD_WIDTH - 1) / RECORD_WIDTH * RECORD_WIDTH;
+            if (channel.size() != recordsStart + chains * RECORD_WIDTH) {
+                throw new IOException("Table File is Truncated: " + file);
+            }
+            return new RainbowTable(space, plaintext, table, chainLength, chains, channel, recordsStart);
+        }
+        catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Chains in the Table.
+     *
+     *  @return             The Chain Count.
+     */
+    public long getChainCount() {
+        // Return Chain Count
+        return this.chains;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Steps in Each Chain.
+     *
+     *  @return             The Chain Length.
+     */
+    public int getChainLength() {
+        // Return Chain Length
+        return this.chainLength;
+    }
+
+    /**
+     *  This Method is Responsible for Finding the Original Key That
+     *  Encrypts the Table's Plaintext to the Parameter Ciphertext.
+     *
+     *  @param ciphertext   The 16 Byte Ciphertext.
+     *
+     *  @return             The 16 Byte Original Key, or Null if the
+     *                      Table Does Not Cover it.
+     */
+    public byte[] lookup(byte[] ciphertext) {
+        // Reduce the Ciphertext at Every Chain Position in Parallel.
+        long high = Block128.high(ciphertext, 0);
+        long low = Block128.low(ciphertext, 0);
+        OptionalLong found = IntStream.range(0, this.chainLength).parallel()
+                .mapToLong(position -> search(position, high, low))
+                .filter(index -> index >= 0)
+                .findAny();
+
+        // Turn the Key Index Into the Key.
+        if (!found.isPresent()) {
+            return null;
+        }
+        byte[] key = new byte[16];
+        this.space.keyAt(found.getAsLong(), key, 0);
+        return key;
+    }
+
+    /**
+     *  This Method is Responsible for Finding the Key Like lookup and
+     *  Expanding it Into its Full Schedule.
+     *
+     *  @param ciphertext   The 16 Byte Ciphertext.
+     *
+     *  @return             The 176 Byte Schedule (Round Key 0 First),
+     *                      or Null if the Table Does Not Cover it.
+     */
+    public byte[] lookupSchedule(byte[] ciphertext) {
+        // Expand the Key if One Was Found.
+        byte[] key = lookup(ciphertext);
+        return key == null ? null : KeySchedule.expandKey(key);
+    }
+
+    /**
+     *  This Method is Used to Test a Single Chain Position. The Target is
+     *  Assumed to be the Ciphertext Produced at That Step, is Walked to
+     *  the End of the Chain, and Any Chain Ending There is Regenerated to
+     *  Rule Out a False Alarm.
+     *
+     *  @param position     The Assumed Step.
+     *
+     *  @param high         The High Half of the Ciphertext.
+     *
+     *  @param low          The Low Half of the Ciphertext.
+     *
+     *  @return             The Key Index, or -1.
+     */
+    private long search(int position, long high, long low) {
+        // Walk From the Assumed Step to the End.
+        Walker walker = new Walker(this.space, this.plaintext, this.table);
+        long x = walker.reduce(high, low, position);
+        for (int i = position + 1; i < this.chainLength; i++) {
+            x = walker.step(x, i);
+        }
+
+        // Find a Chain With That End.
+        long record = find(x);
+        if (record < 0) {
+            return -1;
+        }
+
+        // Regenerate the Chain Up to the Assumed Step.
+        long candidate = startOf(record);
+        for (int i = 0; i < position; i++) {
+            candidate = walker.step(candidate, i);
+        }
+        walker.encrypt(candidate);
+        return walker.high == high && walker.low == low ? candidate : -1;
+    }
+
+    /**
+     *  This Method is Used to Binary Search the Records For an End.
+     *
+     *  @param end          The Chain End.
+     *
+     *  @return             The Record Index, or -1.
+     */
+    private long find(long end) {
+        // Search the Sorted Ends.
+        long lo = 0;
+        long hi = this.chains - 1;
+        while (lo <= hi) {
+            long mid = (lo + hi) >>> 1;
+            long value = endOf(mid);
+            if (value < end) {
+                lo = mid + 1;
+            }
+            else if (value > end) {
+                hi = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     *  This Method is Used to Read the End of a Record.
+     *
+     *  @param record       The Record Index.
+     *
+     *  @return             The Chain End.
+     */
+    private long endOf(long record) {
+        // Read the First Long of the Record.
+        return this.segments[(int) (record / RECORDS_PER_SEGMENT)].getLong((int) (record % RECORDS_PER_SEGMENT) * RECORD_WIDTH);
+    }
+
+    /**
+     *  This Method is Used to Read the Start of a Record.
+     *
+     *  @param record       The Record Index.
+     *
+     *  @return             The Chain Start.
+     */
+    private long startOf(long record) {
+        // Read the Second Long of the Record.
+        return this.segments[(int) (record / RECORDS_PER_SEGMENT)].getLong((int) (record % RECORDS_PER_SEGMENT) * RECORD_WIDTH + 8);
+    }
+
+    /**
+     *  This Method Closes the Table File. The Mapped Segments are
+     *  Released Once They Become Unreachable.
+     *
+     *  @throws IOException When the File Can Not be Closed.
+     */
+    @Override
+    public void close() throws IOException {
+        // Close the Channel.
+        this.channel.close();
+    }
+
+    /**
+     *  This Class Walks Chain Steps With its Own Scratch Buffers, so Each
+     *  Thread Uses One Walker and Nothing is Created per Step.
+     */
+    private static final class Walker {
+
+        // The Key Space, Plaintext and Table Salt.
+        private final KeySpace space;
+        private final byte[] plaintext;
+        private final long salt;
+        // The Scratch Buffers.
+        private final byte[] key = new byte[16];
+        private final byte[] out = new byte[16];
+        private final int[] words = new int[4 * (KeySchedule.ROUNDS + 1)];
+        // The Last Ciphertext Produced.
+        long high;
+        long low;
+
+        Walker(KeySpace space, byte[] plaintext, int table) {
+            // Set Walker Values
+            this.space = space;
+            this.plaintext = plaintext;
+            this.salt = Block128.hash(table, 0x5DEECE66DL);
+        }
+
+        /**
+         *  This Method Encrypts the Plaintext Under the Key at an Index.
+         *
+         *  @param index        The Key Index.
+         */
+        void encrypt(long index) {
+            // Expand the Key and Encrypt.
+            this.space.keyAt(index, this.key, 0);
+            KeySchedule.expandKeyWords(this.key, 0, this.words, KeySchedule.ROUNDS);
+            AesCore.encryptBlock(this.words, KeySchedule.ROUNDS, this.plaintext, 0, this.out, 0);
+            this.high = Block128.high(this.out, 0);
+            this.low = Block128.low(this.out, 0);
+        }
+
+        /**
+         *  This Method Reduces a Ciphertext to a Key Index For a Step.
+         *
+         *  @param high         The High Half of the Ciphertext.
+         *
+         *  @param low          The Low Half of the Ciphertext.
+         *
+         *  @param position     The Step Number.
+         *
+         *  @return             The Key Index.
+         */
+        long reduce(long high, long low, int position) {
+            // Mix in the Table Salt and Offset by the Step.
+            return Long.remainderUnsigned(Block128.hash(high ^ this.salt, low) + position, this.space.size());
+        }
+
+        /**
+         *  This Method Runs One Full Chain Step.
+         *
+         *  @param index        The Current Key Index.
+         *
+         *  @param position     The Step Number.
+         *
+         *  @return             The Next Key Index.
+         */
+        long step(long index, int position) {
+            // Encrypt, Then Reduce.
+            encrypt(index);
+            return reduce(this.high, this.low, position);
+        }
+    }
+
+    /**
+     *  Main Method That Builds or Searches Tables From the Command Line.
+     *
+     *  @param args     generate MASK PLAINTEXT TABLE CHAIN_LENGTH CHAINS FILE
+     *                  or lookup MASK CIPHERTEXT FILE...
+     *
+     *  @throws IOException When a Table File Can Not be Used.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 7 && args[0].equals("generate")) {
+            // Build a Table.
+            byte[] plaintext = new byte[16];
+            if (!Block128.parseHex(args[2], 0, plaintext, 0)) {
+                throw new IllegalArgumentException("Invalid Plaintext: " + args[2]);
+            }
+            long start = System.nanoTime();
+            long written = generate(new MaskKeySpace(args[1]), plaintext, Integer.parseInt(args[3]), Integer.parseInt(args[4]), Long.parseLong(args[5]), Paths.get(args[6]));
+            System.out.printf("Wrote %d Chains in %.1f s%n", written, (System.nanoTime() - start) / 1e9);
+        }
+        else if (args.length >= 4 && args[0].equals("lookup")) {
+            // Search Each Table in Turn.
+            byte[] ciphertext = new byte[16];
+            if (!Block128.parseHex(args[2], 0, ciphertext, 0)) {
+                throw new IllegalArgumentException("Invalid Ciphertext: " + args[2]);
+            }
+            MaskKeySpace space = new MaskKeySpace(args[1]);
+            List<Path> files = new ArrayList<>();
+            for (int i = 3; i < args.length; i++) {
+                files.add(Paths.get(args[i]));
+            }
+            for (Path file : files) {
+                try (RainbowTable table = open(file, space)) {
+                    long start = System.nanoTime();
+                    byte[] schedule = table.lookupSchedule(ciphertext);
+                    double millis = (System.nanoTime() - start) / 1e6;
+                    if (schedule != null) {
+                        System.out.printf("Found in %s (%.1f ms)%n", file, millis);
+                        for (int round = 0; round <= KeySchedule.ROUNDS; round++) {
+                            System.out.println("Round Key [" + round + "]:\t" + Block128.toHex(schedule, 16 * round));
+                        }
+                        return;
+                    }
+                    System.out.printf("Not in %s (%.1f ms)%n", file, millis);
+                }
+            }
+            System.exit(1);
+        }
+        else {
+            System.err.println("Usage: java RainbowTable generate <mask> <plaintext> <table> <chain length> <chains> <file>");
+            System.err.println("       java RainbowTable lookup <mask> <ciphertext> <file>...");
+            System.exit(2);
+        }
+    }
+}
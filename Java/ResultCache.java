@@ -0,0 +1,557 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ *  This Class is Responsible for Caching the Results of the Inverse Key
+ *  Generation and Decryption Processes When They Are Run as a Long Lived
+ *  Service. Entries are Keyed by a 128 Bit Key Plus an Optional 128 Bit
+ *  Ciphertext Digest. The Cache is Split Into Independently Locked
+ *  Segments, Each Kept in Least Recently Used Order, and Both the Number
+ *  of Entries and Their Total Weight are Bounded so Memory Stays Fixed
+ *  However Long the JVM Runs. A Small Frequency Sketch (TinyLFU) Decides
+ *  Whether a New Entry is Worth Evicting an Older One For, Which Stops a
+ *  Burst of One Time Keys From Flushing the Keys That Keep Coming Back.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public class ResultCache<V> {
+
+    /**
+     *  This Interface is Used to Find the Weight (Approximate Size in
+     *  Bytes) of a Cached Value.
+     */
+    public interface Weigher<V> {
+
+        /**
+         *  This Method Returns the Weight of the Parameter Value.
+         *
+         *  @param value        The Cached Value.
+         *
+         *  @return             The Weight of the Value.
+         */
+        int weigh(V value);
+    }
+
+    /**
+     *  This Class Holds the 128 Bit Key (and Optional 128 Bit Digest)
+     *  That a Cached Result is Stored Under.
+     */
+    public static final class Key {
+
+        // The High and Low Long
+        // Values of the Key.
+        final long high;
+        final long low;
+        // The High and Low Long Values
+        // of the Ciphertext Digest.
+        // (Zero When Not Used.)
+        final long digestHigh;
+        final long digestLow;
+        // The Precomputed Hash Value.
+        final long hash;
+
+        /**
+         *  Constructor Method That is Used to Create a New Cache Key.
+         *
+         *  @param high         The High Long Value of the Key.
+         *
+         *  @param low          The Low Long Value of the Key.
+         *
+         *  @param digestHigh   The High Long Value of the Digest.
+         *
+         *  @param digestLow    The Low Long Value of the Digest.
+         */
+        public Key(long high, long low, long digestHigh, long digestLow) {
+            // Set Key and Digest Values
+            this.high = high;
+            this.low = low;
+            this.digestHigh = digestHigh;
+            this.digestLow = digestLow;
+            // Mix All Four Values Into One Hash.
+            this.hash = Block128.hash(Block128.hash(high, low) ^ digestHigh, digestLow);
+        }
+
+        /**
+         *  Constructor Method That is Used to Create a New Cache Key
+         *  From a 16 Byte Key Without a Digest.
+         *
+         *  @param key          The Byte Array Holding the Key.
+         */
+        public Key(byte[] key) {
+            // Use a Zero Digest.
+            this(Block128.high(key, 0), Block128.low(key, 0), 0, 0);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // Compare All Four Values.
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) other;
+            return this.high == k.high && this.low == k.low && this.digestHigh == k.digestHigh && this.digestLow == k.digestLow;
+        }
+
+        @Override
+        public int hashCode() {
+            // Fold the Precomputed Hash Into an Integer.
+            return (int) (this.hash ^ (this.hash >>> 32));
+        }
+    }
+
+    // The Segments the Entries are Spread Over.
+    private final Segment<V>[] segments;
+    // The Mask Used to Pick a Segment.
+    private final int segmentMask;
+    // The Sketch Estimating How Often
+    // Each Key Has Been Requested.
+    private final FrequencySketch sketch;
+    // The Weigher Used For Every Value.
+    private final Weigher<V> weigher;
+
+    // The Counters Exposed as Metrics.
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     *  Constructor Method That is Used to Create a New Result Cache.
+     *
+     *  @param maximumSize      The Largest Number of Entries Held.
+     *
+     *  @param maximumWeight    The Largest Total Weight Held.
+     *
+     *  @param weigher          The Weigher Used For Every Value.
+     */
+    @SuppressWarnings("unchecked")
+    public ResultCache(int maximumSize, long maximumWeight, Weigher<V> weigher) {
+        // Make Sure Both Bounds Are Usable.
+        if (maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException("Cache Bounds Must Be Positive");
+        }
+
+        // Use Up to Sixteen Segments, But Never So
+        // Many That a Segment Would Hold No Entries.
+        int count = Math.min(16, Integer.highestOneBit(maximumSize));
+
+        // Create the Segments, Splitting
+        // Both Bounds Evenly Between Them.
+        this.segments = (Segment<V>[]) new Segment<?>[count];
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment<>(maximumSize / count, Math.max(1, maximumWeight / count));
+        }
+        this.segmentMask = count - 1;
+
+        // Create the Frequency Sketch and Set Weigher.
+        this.sketch = new FrequencySketch(maximumSize);
+        this.weigher = weigher;
+    }
+
+    /**
+     *  This Method is Responsible for Retrieving a Cached Value.
+     *
+     *  @param key          The Key the Value is Stored Under.
+     *
+     *  @return             The Cached Value, or Null if There
+     *                      is No Value For the Key.
+     */
+    public V get(Key key) {
+        // Record the Request in the Sketch.
+        this.sketch.increment(key.hash);
+
+        // Look up the Value in its Segment.
+        V value = segmentFor(key).get(key);
+
+        // Update the Hit or Miss Counter.
+        if (value != null) {
+            this.hits.increment();
+        }
+        else {
+            this.misses.increment();
+        }
+
+        // Return the Value.
+        return value;
+    }
+
+    /**
+     *  This Method is Responsible for Storing a Value in the Cache. The
+     *  Value May be Rejected if the Cache is Full and the Key Has Been
+     *  Requested Less Often Than the Entry it Would Replace.
+     *
+     *  @param key          The Key to Store the Value Under.
+     *
+     *  @param value        The Value to Store.
+     */
+    public void put(Key key, V value) {
+        // Add the Value to its Segment.
+        segmentFor(key).put(key, value, this.weigher.weigh(value), this);
+    }
+
+    /**
+     *  This Method is Responsible for Retrieving a Cached Value, or
+     *  Computing and Storing it if it is Not Present. The Computation
+     *  Runs Outside of Any Lock, so Two Threads Missing on the Same Key
+     *  at Once May Both Compute it.
+     *
+     *  @param key          The Key the Value is Stored Under.
+     *
+     *  @param loader       The Function Used to Compute a
+     *                      Missing Value.
+     *
+     *  @return             The Cached or Computed Value.
+     */
+    public V get(Key key, Function<Key, V> loader) {
+        // Return the Cached Value if Present.
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        // Otherwise Compute the Value and Store it.
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+
+        // Return the Computed Value.
+        return value;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Entries Currently Held by the Cache.
+     *
+     *  @return             The Number of Entries.
+     */
+    public long size() {
+        // Add Up the Size of Every Segment.
+        long total = 0;
+        for (Segment<V> segment : this.segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Total
+     *  Weight of the Entries Currently Held by the Cache.
+     *
+     *  @return             The Total Weight.
+     */
+    public long weight() {
+        // Add Up the Weight of Every Segment.
+        long total = 0;
+        for (Segment<V> segment : this.segments) {
+            total += segment.weight.get();
+        }
+        return total;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Requests That Found a Cached Value.
+     *
+     *  @return             The Hit Count.
+     */
+    public long hitCount() {
+        // Return Hit Count
+        return this.hits.sum();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Requests That Did Not Find a Cached Value.
+     *
+     *  @return             The Miss Count.
+     */
+    public long missCount() {
+        // Return Miss Count
+        return this.misses.sum();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Entries Evicted to Make Room For Newer Entries.
+     *
+     *  @return             The Eviction Count.
+     */
+    public long evictionCount() {
+        // Return Eviction Count
+        return this.evictions.sum();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  New Entries the Frequency Sketch Refused to Admit.
+     *
+     *  @return             The Rejection Count.
+     */
+    public long rejectionCount() {
+        // Return Rejection Count
+        return this.rejections.sum();
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Fraction of
+     *  Requests That Found a Cached Value.
+     *
+     *  @return             The Hit Rate Between 0 and 1.
+     */
+    public double hitRate() {
+        // Read Both Counters Once.
+        long h = this.hits.sum();
+        long total = h + this.misses.sum();
+        // Avoid Dividing by Zero.
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     *  This Method is Responsible for Formatting the Cache Metrics as a
+     *  Single Line of Text.
+     *
+     *  @return             The Metrics String.
+     */
+    public String stats() {
+        // Build the Metrics String.
+        return String.format("size=%d weight=%d hits=%d misses=%d hitRate=%.4f evictions=%d rejections=%d",
+                size(), weight(), hitCount(), missCount(), hitRate(), evictionCount(), rejectionCount());
+    }
+
+    /**
+     *  This Method Removes Every Entry From the Cache. The Metrics are
+     *  Kept.
+     */
+    public void clear() {
+        // Clear Every Segment.
+        for (Segment<V> segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     *  This Method is Used to Find the Segment Owning a Key.
+     *
+     *  @param key          The Cache Key.
+     *
+     *  @return             The Owning Segment.
+     */
+    private Segment<V> segmentFor(Key key) {
+        // Use the High Bits of the Hash so Segment Choice
+        // is Independent of the Bucket Choice.
+        return this.segments[(int) (key.hash >>> 58) & this.segmentMask];
+    }
+
+    /**
+     *  This Class Holds One Independently Locked Part of the Cache.
+     */
+    private static final class Segment<V> {
+
+        // The Entries in Least Recently Used Order.
+        private final LinkedHashMap<Key, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        // The Bounds of This Segment.
+        private final int maximumSize;
+        private final long maximumWeight;
+        // The Total Weight of This Segment.
+        private final AtomicLong weight = new AtomicLong();
+
+        /**
+         *  Constructor Method That is Used to Create a New Segment.
+         *
+         *  @param maximumSize      The Largest Number of Entries.
+         *
+         *  @param maximumWeight    The Largest Total Weight.
+         */
+        Segment(int maximumSize, long maximumWeight) {
+            // Set Bounds
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+        }
+
+        synchronized V get(Key key) {
+            // Look up the Entry, Moving it to
+            // the Most Recently Used Position.
+            Entry<V> entry = this.map.get(key);
+            return entry == null ? null : entry.value;
+        }
+
+        synchronized int size() {
+            // Return Entry Count
+            return this.map.size();
+        }
+
+        synchronized void clear() {
+            // Remove Every Entry.
+            this.map.clear();
+            this.weight.set(0);
+        }
+
+        synchronized void put(Key key, V value, int entryWeight, ResultCache<V> cache) {
+            // Never Admit an Entry Heavier
+            // Than the Whole Segment.
+            if (entryWeight > this.maximumWeight) {
+                cache.rejections.increment();
+                return;
+            }
+
+            // Insert the Entry, Replacing
+            // Any Previous Value.
+            Entry<V> previous = this.map.put(key, new Entry<>(value, entryWeight));
+            this.weight.addAndGet(entryWeight - (previous == null ? 0 : previous.weight));
+
+            // Evict Entries Until Both Bounds Hold Again.
+            while (this.map.size() > this.maximumSize || this.weight.get() > this.maximumWeight) {
+                // Find the Least Recently Used Entry.
+                Iterator<Map.Entry<Key, Entry<V>>> it = this.map.entrySet().iterator();
+                Map.Entry<Key, Entry<V>> victim = it.next();
+
+                // Skip Over the New Entry Itself.
+                if (victim.getKey().equals(key)) {
+                    victim = it.next();
+                }
+
+                // Keep the Victim if it Has Been Requested More
+                // Often Than the New Entry, Dropping the New
+                // Entry Instead.
+                if (previous == null && cache.sketch.frequency(victim.getKey().hash) > cache.sketch.frequency(key.hash)) {
+                    Entry<V> removed = this.map.remove(key);
+                    this.weight.addAndGet(-removed.weight);
+                    cache.rejections.increment();
+                    return;
+                }
+
+                // Otherwise Evict the Victim.
+                it.remove();
+                this.weight.addAndGet(-victim.getValue().weight);
+                cache.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     *  This Class Holds a Cached Value Together With its Weight.
+     */
+    private static final class Entry<V> {
+
+        // The Cached Value.
+        final V value;
+        // The Weight of the Value.
+        final int weight;
+
+        Entry(V value, int weight) {
+            // Set Value and Weight
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     *  This Class is a Count Min Sketch of Small Saturating Counters Used
+     *  to Estimate How Often Each Key Has Been Requested. Every Counter
+     *  is Halved After a Fixed Number of Increments so Old Popularity
+     *  Fades Away and the Sketch Itself Never Grows. The Four Bit Counters
+     *  are Packed Sixteen to a Long and Updated by Compare and Set, so
+     *  Threads From Every Segment Can Share the Sketch Without a Lock.
+     */
+    private static final class FrequencySketch {
+
+        // The Largest Value a Counter Can Reach.
+        private static final int MAX_COUNT = 15;
+        // The Number of Rows in the Sketch.
+        private static final int DEPTH = 4;
+        // The Seeds Used to Remix the Hash
+        // For Each Row.
+        private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+        // The Mask That Keeps the Low Three Bits
+        // of Every Counter When Halving.
+        private static final long HALF_MASK = 0x7777777777777777L;
+
+        // The Packed Counters of Every Row,
+        // One Row After Another.
+        private final AtomicLongArray table;
+        // The Number of Longs in One Row.
+        private final int rowLongs;
+        // The Mask Used to Pick a Counter.
+        private final int mask;
+        // The Number of Increments Before Aging.
+        private final int sampleSize;
+        // The Increments Since the Last Aging.
+        private final AtomicLong additions = new AtomicLong();
+
+        /**
+         *  Constructor Method That is Used to Create a Sketch Sized For
+         *  the Parameter Number of Cache Entries.
+         *
+         *  @param maximumSize      The Largest Number of Cache Entries.
+         */
+        FrequencySketch(int maximumSize) {
+            // Use a Power of Two Width Large
+            // Enough to Keep Collisions Rare.
+            int width = Integer.highestOneBit(Math.max(16, Math.min(1 << 24, maximumSize)) - 1) << 1;
+            this.rowLongs = width >>> 4;
+            this.table = new AtomicLongArray(DEPTH * this.rowLongs);
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(long hash) {
+            // Increment One Counter in Each Row,
+            // Leaving Counters That are Already
+            // Saturated Alone.
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                int slot = i * this.rowLongs + (index >>> 4);
+                int shift = (index & 15) << 2;
+                long current = this.table.get(slot);
+                while (((current >>> shift) & MAX_COUNT) < MAX_COUNT) {
+                    long witness = this.table.compareAndExchange(slot, current, current + (1L << shift));
+                    if (witness == current) {
+                        break;
+                    }
+                    current = witness;
+                }
+            }
+
+            // Age the Sketch Once Enough
+            // Increments Have Been Seen.
+            if (this.additions.incrementAndGet() == this.sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(long hash) {
+            // The Estimate is the Smallest
+            // Counter Across All Rows.
+            int min = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                long word = this.table.get(i * this.rowLongs + (index >>> 4));
+                min = Math.min(min, (int) (word >>> ((index & 15) << 2)) & MAX_COUNT);
+            }
+            return min;
+        }
+
+        private synchronized void reset() {
+            // Halve Every Counter, Sixteen at a Time.
+            for (int j = 0; j < this.table.length(); j++) {
+                this.table.getAndUpdate(j, word -> (word >>> 1) & HALF_MASK);
+            }
+            // Start Counting Again.
+            this.additions.set(0);
+        }
+
+        private int index(long hash, int row) {
+            // Remix the Hash With a Different
+            // Seed For Each Row.
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            return (int) (h >>> 32) & this.mask;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *  This Class is Responsible for Lazily Producing the Previous Round Keys
+ *  of a Last Round Key, One at a Time, in the Same Order the Main Method
+ *  Adds Them to the Round Key List (The Round Before the Last Round Key
+ *  First and the Original Key Last). Each Round Key is Only Computed When
+ *  it is Asked For, so a Caller That Stops After a Few Rounds Never Pays
+ *  For the Rest, and Nothing is Formatted as a String.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public class RoundKeyIterator implements Iterator<RoundKey> {
+
+    // The Four Words of the
+    // Most Recent Round Key.
+    private int w0;
+    private int w1;
+    private int w2;
+    private int w3;
+    // The Round Number of the
+    // Most Recent Round Key.
+    private int round;
+
+    /**
+     *  Constructor Method That is Used to Create a New Iterator Over the
+     *  Previous Round Keys of an AES-128 Last Round Key.
+     *
+     *  @param lastRoundKey     The 16 Byte Last Round Key.
+     */
+    public RoundKeyIterator(byte[] lastRoundKey) {
+        // Start From the Tenth Round.
+        this(lastRoundKey, KeySchedule.ROUNDS);
+    }
+
+    /**
+     *  Constructor Method That is Used to Create a New Iterator Over the
+     *  Previous Round Keys of a Round Key From Any Round.
+     *
+     *  @param roundKey         The 16 Byte Round Key.
+     *
+     *  @param round            The Round Number of the Parameter Key.
+     */
+    public RoundKeyIterator(byte[] roundKey, int round) {
+        // Make Sure the Round Has a Constant.
+        KeySchedule.checkRounds(round);
+
+        // Load the Four Words of the Round Key.
+        this.w0 = KeySchedule.readWord(roundKey, 0);
+        this.w1 = KeySchedule.readWord(roundKey, 4);
+        this.w2 = KeySchedule.readWord(roundKey, 8);
+        this.w3 = KeySchedule.readWord(roundKey, 12);
+        // Set Round Number
+        this.round = round;
+    }
+
+    /**
+     *  This Method is Used to Check Whether Any Previous Round Keys are
+     *  Left to Produce.
+     *
+     *  @return             True Until the Original Key Has
+     *                      Been Produced.
+     */
+    @Override
+    public boolean hasNext() {
+        // Stop Once Round Zero Has Been Reached.
+        return this.round > 0;
+    }
+
+    /**
+     *  This Method is Responsible for Producing the Next (Previous)
+     *  Round Key in the Sequence.
+     *
+     *  @return             The Previous Round Key.
+     */
+    @Override
+    public RoundKey next() {
+        // Make Sure There is a Round Left.
+        if (this.round == 0) {
+            throw new NoSuchElementException();
+        }
+
+        // Undo One Round of the Schedule.
+        this.w3 ^= this.w2;
+        this.w2 ^= this.w1;
+        this.w1 ^= this.w0;
+        this.w0 ^= KeySchedule.g(this.w3, this.round);
+        this.round--;
+
+        // Copy the Words Into a New Round Key Object.
+        byte[] key = new byte[16];
+        KeySchedule.writeWord(this.w0, key, 0);
+        KeySchedule.writeWord(this.w1, key, 4);
+        KeySchedule.writeWord(this.w2, key, 8);
+        KeySchedule.writeWord(this.w3, key, 12);
+
+        // Return the Round Key.
+        return new RoundKey(this.round, key);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Round Keys Left to Produce.
+     *
+     *  @return             The Number of Remaining Round Keys.
+     */
+    public int remaining() {
+        // One Key is Left For Every Round.
+        return this.round;
+    }
+
+    /**
+     *  This Method is Responsible for Creating an Ordered, Sized
+     *  Spliterator Over the Previous Round Keys of an AES-128 Last Round
+     *  Key.
+     *
+     *  @param lastRoundKey     The 16 Byte Last Round Key.
+     *
+     *  @return                 The Spliterator.
+     */
+    public static Spliterator<RoundKey> spliterator(byte[] lastRoundKey) {
+        // Wrap a New Iterator, Reporting its Exact Size.
+        RoundKeyIterator it = new RoundKeyIterator(lastRoundKey);
+        return Spliterators.spliterator(it, it.remaining(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     *  This Method is Responsible for Creating a Sequential Stream Over
+     *  the Previous Round Keys of an AES-128 Last Round Key. Operations
+     *  Like limit() or filter() Only Compute the Rounds They Reach.
+     *
+     *  @param lastRoundKey     The 16 Byte Last Round Key.
+     *
+     *  @return                 The Stream of Round Keys.
+     */
+    public static Stream<RoundKey> stream(byte[] lastRoundKey) {
+        // Build the Stream From the Spliterator.
+        return StreamSupport.stream(spliterator(lastRoundKey), false);
+    }
+}
@@ -0,0 +1,846 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+/**
+ *  This Class is Responsible for Keeping Every Recovered Key Schedule, So
+ *  it Can be Found Again by Any One of its Eleven Round Keys. It Keeps
+ *  Two Files in a Directory:
+ *
+ *      schedules.log   An Append Only Log of Records:
+ *                          length (4) crc (4) previous (8) time (8)
+ *                          schedule (176) metadata (UTF-8)
+ *                      The CRC-32C Covers Everything After it, and
+ *                      previous is the Offset of the Last Earlier Record
+ *                      of the Same Schedule (or -1), so Every Case That
+ *                      Ever Saw a Schedule Can be Listed.
+ *
+ *      schedules.idx   A Memory Mapped Open Addressing Hash Table From
+ *                      Each 128 Bit Round Key and its Round to the Offset
+ *                      of the Newest Record Holding it, With Linear
+ *                      Probing and 24 Byte Slots, Doubled Whenever it is
+ *                      Half Full. A Round Key and its Round Fix the Whole
+ *                      Schedule, so a Value Found in Several Schedules
+ *                      (at Different Rounds) Gets a Slot For Each, and a
+ *                      Lookup Finds Every One of Them.
+ *
+ *  Appends are Safe From Any Number of Threads: They are Ordered by a
+ *  Lock, and Lookups Only Wait Out the Short Index Update of Each One,
+ *  Never the Log Write. The Index Header Records Whether it Was Closed
+ *  Cleanly and How Much of the Log it Covers; After a Crash the Log is
+ *  Cut Back to its Last Whole Record (by Length and CRC) and the Index is
+ *  Rebuilt From it, so a Torn Write Never Leaves an Index Entry Pointing
+ *  at Garbage. A Lookup is a Few Probes in the Mapped Index and One Read
+ *  From the Log.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class ScheduleStore implements Closeable {
+
+    // The File Names.
+    public static final String LOG = "schedules.log";
+    public static final String INDEX = "schedules.idx";
+    // The Longest Metadata Kept With a Record.
+    public static final int MAX_METADATA = 1 << 16;
+
+    // The Size of a Schedule.
+    private static final int SCHEDULE = 16 * (KeySchedule.ROUNDS + 1);
+    // The Layout of the Log.
+    private static final long LOG_MAGIC = 0x4145534C4F473031L;
+    private static final int LOG_HEADER = 8;
+    private static final int RECORD_HEADER = 24;
+    // The Layout of the Index.
+    private static final long INDEX_MAGIC = 0x4145534944583032L;
+    private static final int INDEX_HEADER = 64;
+    private static final int SLOT = 24;
+    // The Slot Value Holds the Record Offset Plus One in its Low Bits and
+    // the Round Above Them.
+    private static final int ROUND_SHIFT = 56;
+    private static final long OFFSET_MASK = (1L << ROUND_SHIFT) - 1;
+    private static final long INITIAL_CAPACITY = 1 << 15;
+    // The Largest Index a Single Mapping Can Hold.
+    private static final long MAX_CAPACITY = (Integer.MAX_VALUE - INDEX_HEADER) / SLOT;
+
+    /**
+     *  This Class Holds One Record Read Back From the Log.
+     */
+    public static final class Entry {
+
+        // The Offset of the Record in the Log.
+        private final long offset;
+        // The Offset of the Last Earlier Record of the Same Schedule.
+        private final long previous;
+        // The Time the Record Was Appended.
+        private final long time;
+        // The Full Schedule, Original Key First.
+        private final byte[] schedule;
+        // The Metadata Stored With it.
+        private final String metadata;
+
+        Entry(long offset, long previous, long time, byte[] schedule, String metadata) {
+            // Set Entry Values
+            this.offset = offset;
+            this.previous = previous;
+            this.time = time;
+            this.schedule = schedule;
+            this.metadata = metadata;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Offset
+         *  of the Record in the Log.
+         *
+         *  @return             The Offset.
+         */
+        public long getOffset() {
+            return this.offset;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Offset
+         *  of the Last Earlier Record of the Same Schedule.
+         *
+         *  @return             The Offset, or -1 if This is the First.
+         */
+        public long getPreviousOffset() {
+            return this.previous;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Time the
+         *  Record Was Appended.
+         *
+         *  @return             The Time in Milliseconds Since the Epoch.
+         */
+        public long getTime() {
+            return this.time;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Schedule.
+         *
+         *  @return             A Copy of the 176 Byte Schedule.
+         */
+        public byte[] getSchedule() {
+            return this.schedule.clone();
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving a Round Key.
+         *
+         *  @param round        The Round, 0 For the Original Key.
+         *
+         *  @return             A Copy of the Round Key.
+         */
+        public byte[] getRoundKey(int round) {
+            return Arrays.copyOfRange(this.schedule, 16 * round, 16 * round + 16);
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Metadata.
+         *
+         *  @return             The Metadata.
+         */
+        public String getMetadata() {
+            return this.metadata;
+        }
+
+        /**
+         *  This Method is Used to Find Which Round a Key Belongs to.
+         *
+         *  @param roundKey     The 16 Byte Round Key.
+         *
+         *  @return             The Round, or -1 if it is Not in the
+         *                      Schedule.
+         */
+        public int roundOf(byte[] roundKey) {
+            for (int round = 0; round <= KeySchedule.ROUNDS; round++) {
+                if (Arrays.equals(this.schedule, 16 * round, 16 * round + 16, roundKey, 0, 16)) {
+                    return round;
+                }
+            }
+            return -1;
+        }
+    }
+
+    // The Directory and Files.
+    private final Path directory;
+    private final FileChannel log;
+    private FileChannel indexChannel;
+    // The Mapped Index and its Capacity in Slots.
+    private MappedByteBuffer index;
+    private long capacity;
+    private long count;
+    // The End of the Log.
+    private long end;
+    // Guards the Index: Lookups Share it, Inserts and Growth Own it.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Orders Appends to the Log.
+    private final Object appendLock = new Object();
+
+    /**
+     *  Constructor That Opens the Files. Use the Open Method.
+     *
+     *  @param directory    The Directory.
+     *
+     *  @param log          The Log.
+     *
+     *  @param index        The Index.
+     */
+    private ScheduleStore(Path directory, FileChannel log, FileChannel index) {
+        this.directory = directory;
+        this.log = log;
+        this.indexChannel = index;
+    }
+
+    /**
+     *  This Method is Responsible for Opening (or Creating) a Store,
+     *  Recovering From a Crash if the Last Run Did Not Close it.
+     *
+     *  @param directory    The Directory Holding the Files.
+     *
+     *  @return             The Store.
+     *
+     *  @throws IOException When the Files Can Not be Used.
+     */
+    public static ScheduleStore open(Path directory) throws IOException {
+        // Open Both Files.
+        Files.createDirectories(directory);
+        FileChannel log = FileChannel.open(directory.resolve(LOG), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(INDEX), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ScheduleStore store = new ScheduleStore(directory, log, index);
+        try {
+            store.recover();
+        }
+        catch (IOException | RuntimeException e) {
+            log.close();
+            index.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     *  This Method is Responsible for Storing a Schedule.
+     *
+     *  @param schedule     The 176 Byte Schedule, Original Key First.
+     *
+     *  @param metadata     The Case Metadata, Such as a Case Name.
+     *
+     *  @return             The Offset of the Record.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    public long append(byte[] schedule, String metadata) throws IOException {
+        // Refuse a Schedule That Does Not Hold Together.
+        if (schedule.length != SCHEDULE || !KeySchedule.expandsTo(schedule, 0, schedule, SCHEDULE - 16, KeySchedule.ROUNDS)) {
+            throw new IllegalArgumentException("Not a Valid AES-128 Key Schedule");
+        }
+        byte[] meta = metadata == null ? new byte[0] : metadata.getBytes(StandardCharsets.UTF_8);
+        if (meta.length > MAX_METADATA) {
+            throw new IllegalArgumentException("Metadata Longer Than " + MAX_METADATA + " Bytes");
+        }
+
+        // Write the Record, Linked to the Last One With the Same Schedule,
+        // Then Index All Eleven Round Keys.
+        synchronized (this.appendLock) {
+            long previous = find(schedule, SCHEDULE - 16, KeySchedule.ROUNDS);
+            long offset = this.end;
+            ByteBuffer record = record(previous, System.currentTimeMillis(), schedule, meta);
+            for (long at = offset; record.hasRemaining(); ) {
+                at += this.log.write(record, at);
+            }
+            this.end = offset + record.limit();
+            insertAll(schedule, offset, this.end);
+            return offset;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Storing the Schedule Recovered From
+     *  a Last Round Key.
+     *
+     *  @param lastRoundKey The 16 Byte Last Round Key.
+     *
+     *  @param metadata     The Case Metadata.
+     *
+     *  @return             The Offset of the Record.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    public long appendLastRoundKey(byte[] lastRoundKey, String metadata) throws IOException {
+        checkKey(lastRoundKey);
+        byte[] schedule = new byte[SCHEDULE];
+        KeySchedule.recoverSchedule(lastRoundKey, 0, schedule, 0, KeySchedule.ROUNDS);
+        return append(schedule, metadata);
+    }
+
+    /**
+     *  This Method is Responsible for Finding Every Record of the Schedule
+     *  That Holds a Round Key.
+     *
+     *  @param roundKey     The 16 Byte Round Key, From Any Round.
+     *
+     *  @return             The Records, Newest First, or an Empty List.
+     *                      (Records of Different Schedules Holding the
+     *                      Key at Different Rounds are All Listed.)
+     *
+     *  @throws IOException When Reading Fails.
+     */
+    public List<Entry> lookup(byte[] roundKey) throws IOException {
+        // Follow the Chain of Records of Each Schedule From its Newest.
+        checkKey(roundKey);
+        List<Entry> entries = new ArrayList<>();
+        for (long newest : findAll(roundKey)) {
+            for (long offset = newest; offset >= 0; ) {
+                Entry entry = read(offset);
+                entries.add(entry);
+                offset = entry.getPreviousOffset();
+            }
+        }
+        entries.sort((a, b) -> Long.compare(b.getOffset(), a.getOffset()));
+        return entries;
+    }
+
+    /**
+     *  This Method is Responsible for Finding the Newest Record of the
+     *  Schedule That Holds a Round Key.
+     *
+     *  @param roundKey     The 16 Byte Round Key, From Any Round.
+     *
+     *  @return             The Record, or Null.
+     *
+     *  @throws IOException When Reading Fails.
+     */
+    public Entry lookupLatest(byte[] roundKey) throws IOException {
+        // Take the Newest of the Schedules Holding it.
+        checkKey(roundKey);
+        long offset = -1;
+        for (long newest : findAll(roundKey)) {
+            offset = Math.max(offset, newest);
+        }
+        return offset < 0 ? null : read(offset);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Round Keys Indexed.
+     *
+     *  @return             The Number of Keys.
+     */
+    public long getIndexedKeys() {
+        this.lock.readLock().lock();
+        try {
+            return this.count;
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Size of the
+     *  Log.
+     *
+     *  @return             The Size in Bytes.
+     */
+    public long getLogSize() {
+        synchronized (this.appendLock) {
+            return this.end;
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Forcing Both Files to the Disk.
+     *
+     *  @throws IOException When Forcing Fails.
+     */
+    public void sync() throws IOException {
+        synchronized (this.appendLock) {
+            this.log.force(false);
+            this.lock.writeLock().lock();
+            try {
+                header(false);
+                this.index.force();
+            }
+            finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Closing the Store, Marking the Index
+     *  as Clean so the Next Open Trusts it.
+     *
+     *  @throws IOException When Closing Fails.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this.appendLock) {
+            this.log.force(false);
+            this.lock.writeLock().lock();
+            try {
+                header(true);
+                this.index.force();
+            }
+            finally {
+                this.lock.writeLock().unlock();
+                this.log.close();
+                this.indexChannel.close();
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Checking the Log and Loading or
+     *  Rebuilding the Index When Opening.
+     *
+     *  @throws IOException When the Files Can Not be Used.
+     */
+    private void recover() throws IOException {
+        // Start a New Log, or Check the Magic of an Existing One.
+        ByteBuffer magic = ByteBuffer.allocate(LOG_HEADER);
+        if (this.log.size() < LOG_HEADER) {
+            this.log.truncate(0);
+            this.log.write(magic.putLong(0, LOG_MAGIC), 0);
+        }
+        else {
+            this.log.read(magic, 0);
+            if (magic.getLong(0) != LOG_MAGIC) {
+                throw new IOException("Not a Schedule Log: " + this.directory.resolve(LOG));
+            }
+        }
+
+        // Trust the Index Only if it Was Closed Cleanly Over Exactly This
+        // Log; Then the Log Needs No Checking Either.
+        long size = this.log.size();
+        boolean clean = false;
+        if (this.indexChannel.size() >= INDEX_HEADER) {
+            map(this.indexChannel, this.indexChannel.size());
+            clean = this.index.getLong(0) == INDEX_MAGIC && this.index.getInt(32) == 1 && this.index.getLong(24) == size
+                    && this.indexChannel.size() == INDEX_HEADER + SLOT * this.index.getLong(8);
+        }
+        if (clean) {
+            this.capacity = this.index.getLong(8);
+            this.count = this.index.getLong(16);
+            this.end = size;
+            header(false);
+            return;
+        }
+
+        // Otherwise Walk the Log, Cutting it at the First Record That is
+        // Not Whole, and Rebuild the Index From What is Left.
+        long valid = LOG_HEADER;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+        while (valid + RECORD_HEADER + SCHEDULE <= size) {
+            header.clear();
+            this.log.read(header, valid);
+            int length = header.getInt(0);
+            if (length < RECORD_HEADER + SCHEDULE || length > RECORD_HEADER + SCHEDULE + MAX_METADATA || valid + length > size
+                    || !checksum(valid, length, header.getInt(4))) {
+                break;
+            }
+            valid += length;
+        }
+        if (valid < size) {
+            this.log.truncate(valid);
+            this.log.force(false);
+        }
+        this.end = valid;
+        rebuild();
+        header(false);
+    }
+
+    /**
+     *  This Method is Responsible for Rebuilding the Index From the Log.
+     *
+     *  @throws IOException When Reading or Writing Fails.
+     */
+    private void rebuild() throws IOException {
+        // Start Empty, Then Index Every Record in Log Order, so Each Key
+        // Ends up Pointing at its Newest Record.
+        this.indexChannel.truncate(0);
+        this.capacity = INITIAL_CAPACITY;
+        this.count = 0;
+        map(this.indexChannel, INDEX_HEADER + SLOT * this.capacity);
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER + SCHEDULE);
+        byte[] schedule = new byte[SCHEDULE];
+        for (long offset = LOG_HEADER; offset < this.end; ) {
+            header.clear();
+            this.log.read(header, offset);
+            header.get(RECORD_HEADER, schedule);
+            long next = offset + header.getInt(0);
+            insertAll(schedule, offset, next);
+            offset = next;
+        }
+    }
+
+    /**
+     *  This Method is Used to Index the Eleven Round Keys of a Record.
+     *
+     *  @param schedule     The Schedule.
+     *
+     *  @param offset       The Offset of the Record.
+     *
+     *  @param end          The End of the Log Once the Record is in.
+     *
+     *  @throws IOException When the Index Must Grow and Can Not.
+     */
+    private void insertAll(byte[] schedule, long offset, long end) throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            // Grow First if the Keys Would Fill Over Half the Table.
+            if (2 * (this.count + KeySchedule.ROUNDS + 1) > this.capacity) {
+                grow();
+            }
+            for (int round = 0; round <= KeySchedule.ROUNDS; round++) {
+                put(readLong(schedule, 16 * round), readLong(schedule, 16 * round + 8), round, offset);
+            }
+            this.index.putLong(24, end);
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     *  This Method is Used to Point a Key at One of its Rounds at a
+     *  Record, Adding the Key and Round if They are New.
+     *
+     *  @param high         The First Eight Bytes of the Key.
+     *
+     *  @param low          The Last Eight Bytes of the Key.
+     *
+     *  @param round        The Round the Key Belongs to.
+     *
+     *  @param offset       The Offset of the Record.
+     */
+    private void put(long high, long low, int round, long offset) {
+        long mask = this.capacity - 1;
+        long entry = (long) round << ROUND_SHIFT | (offset + 1);
+        for (long slot = hash(high, low) & mask; ; slot = (slot + 1) & mask) {
+            int position = (int) (INDEX_HEADER + SLOT * slot);
+            long value = this.index.getLong(position + 16);
+            if (value == 0) {
+                this.index.putLong(position, high);
+                this.index.putLong(position + 8, low);
+                this.index.putLong(position + 16, entry);
+                this.count++;
+                return;
+            }
+            if (this.index.getLong(position) == high && this.index.getLong(position + 8) == low && value >>> ROUND_SHIFT == round) {
+                this.index.putLong(position + 16, entry);
+                return;
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Find the Newest Record Holding a Key at a
+     *  Given Round.
+     *
+     *  @param key          The Array Holding the Key.
+     *
+     *  @param at           The Index of the Key.
+     *
+     *  @param round        The Round.
+     *
+     *  @return             The Offset of the Record, or -1.
+     */
+    private long find(byte[] key, int at, int round) {
+        long high = readLong(key, at);
+        long low = readLong(key, at + 8);
+        this.lock.readLock().lock();
+        try {
+            long mask = this.capacity - 1;
+            for (long slot = hash(high, low) & mask; ; slot = (slot + 1) & mask) {
+                int position = (int) (INDEX_HEADER + SLOT * slot);
+                long value = this.index.getLong(position + 16);
+                if (value == 0) {
+                    return -1;
+                }
+                if (this.index.getLong(position) == high && this.index.getLong(position + 8) == low && value >>> ROUND_SHIFT == round) {
+                    return (value & OFFSET_MASK) - 1;
+                }
+            }
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     *  This Method is Used to Find the Newest Record of Every Schedule
+     *  Holding a Key, at Any Round.
+     *
+     *  @param key          The 16 Byte Key.
+     *
+     *  @return             The Offsets of the Records.
+     */
+    private List<Long> findAll(byte[] key) {
+        long high = readLong(key, 0);
+        long low = readLong(key, 8);
+        List<Long> offsets = new ArrayList<>(1);
+        this.lock.readLock().lock();
+        try {
+            long mask = this.capacity - 1;
+            for (long slot = hash(high, low) & mask; ; slot = (slot + 1) & mask) {
+                int position = (int) (INDEX_HEADER + SLOT * slot);
+                long value = this.index.getLong(position + 16);
+                if (value == 0) {
+                    return offsets;
+                }
+                if (this.index.getLong(position) == high && this.index.getLong(position + 8) == low) {
+                    offsets.add((value & OFFSET_MASK) - 1);
+                }
+            }
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     *  This Method is Used to Double the Index, Writing the Larger Table to
+     *  a New File and Moving it Into Place.
+     *
+     *  @throws IOException When Writing Fails.
+     */
+    private void grow() throws IOException {
+        // Size the New Table.
+        long larger = this.capacity * 2;
+        if (larger > MAX_CAPACITY) {
+            throw new IOException("Schedule Index Can Not Grow Past " + MAX_CAPACITY + " Slots");
+        }
+
+        // Copy Every Key Into it.
+        Path temporary = this.directory.resolve(INDEX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer old = this.index;
+            long oldCapacity = this.capacity;
+            long covered = old.getLong(24);
+            map(channel, INDEX_HEADER + SLOT * larger);
+            this.capacity = larger;
+            this.count = 0;
+            for (long slot = 0; slot < oldCapacity; slot++) {
+                int position = (int) (INDEX_HEADER + SLOT * slot);
+                long value = old.getLong(position + 16);
+                if (value != 0) {
+                    put(old.getLong(position), old.getLong(position + 8), (int) (value >>> ROUND_SHIFT), (value & OFFSET_MASK) - 1);
+                }
+            }
+            header(false);
+            this.index.putLong(24, covered);
+            this.index.force();
+        }
+
+        // Move the New File Into Place. Its Mapping Stays Valid Through
+        // the Rename; Only the Channel is Reopened.
+        Files.move(temporary, this.directory.resolve(INDEX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.indexChannel.close();
+        this.indexChannel = FileChannel.open(this.directory.resolve(INDEX), StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     *  This Method is Used to Map an Index File at a Size.
+     *
+     *  @param channel      The Index File.
+     *
+     *  @param size         The Size in Bytes.
+     *
+     *  @throws IOException When Mapping Fails.
+     */
+    private void map(FileChannel channel, long size) throws IOException {
+        this.index = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     *  This Method is Used to Write the Index Header.
+     *
+     *  @param clean        Whether the Index is Being Closed Cleanly.
+     */
+    private void header(boolean clean) {
+        this.index.putLong(0, INDEX_MAGIC);
+        this.index.putLong(8, this.capacity);
+        this.index.putLong(16, this.count);
+        this.index.putLong(24, this.end);
+        this.index.putInt(32, clean ? 1 : 0);
+    }
+
+    /**
+     *  This Method is Used to Read a Record From the Log.
+     *
+     *  @param offset       The Offset of the Record.
+     *
+     *  @return             The Record.
+     *
+     *  @throws IOException When Reading Fails.
+     */
+    private Entry read(long offset) throws IOException {
+        // Read the Fixed Part, Then the Metadata.
+        ByteBuffer fixed = ByteBuffer.allocate(RECORD_HEADER + SCHEDULE);
+        this.log.read(fixed, offset);
+        int length = fixed.getInt(0);
+        byte[] schedule = new byte[SCHEDULE];
+        fixed.get(RECORD_HEADER, schedule);
+        ByteBuffer meta = ByteBuffer.allocate(length - RECORD_HEADER - SCHEDULE);
+        this.log.read(meta, offset + RECORD_HEADER + SCHEDULE);
+        return new Entry(offset, fixed.getLong(8), fixed.getLong(16), schedule, new String(meta.array(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     *  This Method is Used to Build a Record.
+     *
+     *  @param previous     The Offset of the Last Record of the Schedule.
+     *
+     *  @param time         The Time of the Append.
+     *
+     *  @param schedule     The Schedule.
+     *
+     *  @param meta         The Metadata.
+     *
+     *  @return             The Record, Ready to Write.
+     */
+    private static ByteBuffer record(long previous, long time, byte[] schedule, byte[] meta) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + SCHEDULE + meta.length);
+        record.putInt(record.capacity()).putInt(0).putLong(previous).putLong(time).put(schedule).put(meta);
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), 8, record.capacity() - 8);
+        record.putInt(4, (int) crc.getValue());
+        return record.flip();
+    }
+
+    /**
+     *  This Method is Used to Check the CRC of a Record in the Log.
+     *
+     *  @param offset       The Offset of the Record.
+     *
+     *  @param length       The Length of the Record.
+     *
+     *  @param expected     The CRC Stored in the Record.
+     *
+     *  @return             True if it Matches.
+     *
+     *  @throws IOException When Reading Fails.
+     */
+    private boolean checksum(long offset, int length, int expected) throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(length - 8);
+        this.log.read(body, offset + 8);
+        if (body.hasRemaining()) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(body.array());
+        return (int) crc.getValue() == expected;
+    }
+
+    /**
+     *  This Method is Used to Spread a Key Over the Table.
+     *
+     *  @param high         The First Eight Bytes of the Key.
+     *
+     *  @param low          The Last Eight Bytes of the Key.
+     *
+     *  @return             The Hash.
+     */
+    private static long hash(long high, long low) {
+        // Round Keys are Already Uniform; One Mixing Step Suffices.
+        long h = high ^ Long.rotateLeft(low, 31);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     *  This Method is Used to Read Eight Bytes as a Big Endian Long.
+     *
+     *  @param src          The Array.
+     *
+     *  @param at           The Index of the First Byte.
+     *
+     *  @return             The Long.
+     */
+    private static long readLong(byte[] src, int at) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = value << 8 | (src[at + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     *  This Method is Used to Check That a Key is 16 Bytes.
+     *
+     *  @param key          The Key.
+     */
+    private static void checkKey(byte[] key) {
+        if (key == null || key.length != 16) {
+            throw new IllegalArgumentException("Round Keys Must be 16 Bytes");
+        }
+    }
+
+    /**
+     *  Main Method That Looks Up Round Keys in a Store, or Adds the
+     *  Schedules of Last Round Keys to it.
+     *
+     *  @param args     The Directory, Then "lookup KEY..." or
+     *                  "add CASE KEY..." or "stats".
+     *
+     *  @throws IOException When the Store Can Not be Used.
+     */
+    public static void main(String[] args) throws IOException {
+        // Check the Command.
+        if (args.length < 2 || !(args[1].equals("lookup") || args[1].equals("add") && args.length >= 3 || args[1].equals("stats"))) {
+            System.err.println("Usage: java ScheduleStore <directory> lookup <round key>...");
+            System.err.println("       java ScheduleStore <directory> add <case> <last round key>...");
+            System.err.println("       java ScheduleStore <directory> stats");
+            System.exit(InverseKeyCli.EXIT_USAGE);
+        }
+
+        // Run it.
+        int status = InverseKeyCli.EXIT_OK;
+        try (ScheduleStore store = open(Paths.get(args[0]))) {
+            byte[] key = new byte[16];
+            for (int i = args[1].equals("add") ? 3 : 2; i < args.length; i++) {
+                String hex = InverseKeyGeneration.formatInputString(args[i]);
+                if (hex.length() != 32 || !Block128.parseHex(hex, 0, key, 0)) {
+                    System.err.println("Invalid Key: " + args[i]);
+                    status = InverseKeyCli.EXIT_INVALID_INPUT;
+                    continue;
+                }
+                if (args[1].equals("add")) {
+                    System.out.println(hex + "\tOffset " + store.appendLastRoundKey(key, args[2]));
+                    continue;
+                }
+                List<Entry> entries = store.lookup(key);
+                if (entries.isEmpty()) {
+                    System.out.println(hex + "\tNot Found");
+                    status = InverseKeyCli.EXIT_INVALID_INPUT;
+                }
+                for (Entry entry : entries) {
+                    System.out.println(hex + "\tRound " + entry.roundOf(key) + "\tOriginal " + Block128.toHex(entry.getRoundKey(0), 0)
+                            + "\tCase " + entry.getMetadata() + "\t" + java.time.Instant.ofEpochMilli(entry.getTime()));
+                }
+            }
+            System.err.printf("Log: %d Bytes, Index: %d Round Keys%n", store.getLogSize(), store.getIndexedKeys());
+        }
+        System.exit(status);
+    }
+}
@@ -0,0 +1,348 @@
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ *  This Class is Responsible for Checking the Results of the Inverse Key
+ *  Generation Process in Bulk. Every Recovered Original Key is Checked
+ *  Against the Last Round Key it Was Recovered From With the Verification
+ *  Engine the EngineSelector Chose (Expanding Forward, or Inverting
+ *  Again). The Work Runs on the Shared
+ *  AdaptiveScheduler, Which Sizes Chunks to the Measured Cost of a Check,
+ *  and Each Thread Reuses a Single Scratch Buffer, so Every Result Can be
+ *  Validated in Production at Very Little Cost.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class ScheduleVerifier {
+
+    /**
+     *  This Class Holds the Outcome of a Bulk Verification.
+     */
+    public static final class Report {
+
+        // The Number of Results Checked.
+        private final long checked;
+        // The Sorted Indexes of Every
+        // Result That Did Not Match.
+        private final long[] mismatches;
+        // The 16 Byte Last Round Keys Whose
+        // Results Did Not Match, When the
+        // Results Have No Index.
+        private final byte[][] mismatchedKeys;
+
+        /**
+         *  Constructor Method That is Used to Create a New Report.
+         *
+         *  @param checked      The Number of Results Checked.
+         *
+         *  @param mismatches   The Indexes That Did Not Match.
+         */
+        Report(long checked, long[] mismatches) {
+            // Report Indexes Only.
+            this(checked, mismatches, new byte[0][]);
+        }
+
+        /**
+         *  Constructor Method That is Used to Create a New Report of
+         *  Results That Have No Index.
+         *
+         *  @param checked          The Number of Results Checked.
+         *
+         *  @param mismatches       The Indexes That Did Not Match.
+         *
+         *  @param mismatchedKeys   The Last Round Keys That Did Not
+         *                          Match.
+         */
+        Report(long checked, long[] mismatches, byte[][] mismatchedKeys) {
+            // Set Checked Count
+            this.checked = checked;
+            // Set Sorted Mismatch Indexes
+            Arrays.sort(mismatches);
+            this.mismatches = mismatches;
+            // Set Mismatched Keys
+            this.mismatchedKeys = mismatchedKeys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Results Checked.
+         *
+         *  @return             The Checked Count.
+         */
+        public long getChecked() {
+            // Return Checked Count
+            return this.checked;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Indexes
+         *  of Every Result That Did Not Match, in Ascending Order.
+         *
+         *  @return             The Mismatch Indexes.
+         */
+        public long[] getMismatches() {
+            // Return a Copy of the Indexes.
+            return this.mismatches.clone();
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Last
+         *  Round Keys Whose Results Did Not Match, For Results Checked
+         *  Without an Index (Such as the Entries of a Map).
+         *
+         *  @return             The 16 Byte Last Round Keys.
+         */
+        public byte[][] getMismatchedKeys() {
+            // Return a Copy of Each Key.
+            byte[][] keys = new byte[this.mismatchedKeys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = this.mismatchedKeys[i].clone();
+            }
+            return keys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Results That Did Not Match.
+         *
+         *  @return             The Mismatch Count.
+         */
+        public int getMismatchCount() {
+            // Count Both Kinds of Mismatch.
+            return this.mismatches.length + this.mismatchedKeys.length;
+        }
+
+        /**
+         *  This Method is Used to Check Whether Every Result Matched.
+         *
+         *  @return             True if There Were No Mismatches.
+         */
+        public boolean isClean() {
+            // The Report is Clean With No Mismatches.
+            return getMismatchCount() == 0;
+        }
+
+        @Override
+        public String toString() {
+            // Show the Counts and the First Few Indexes or Keys.
+            StringBuilder text = new StringBuilder("checked=" + this.checked + " mismatches=" + getMismatchCount());
+            if (this.mismatches.length > 0) {
+                text.append(" first=").append(Arrays.toString(Arrays.copyOf(this.mismatches, Math.min(10, this.mismatches.length))));
+            }
+            for (int i = 0; i < Math.min(10, this.mismatchedKeys.length); i++) {
+                text.append(i == 0 ? " keys=" : ",").append(Block128.toHex(this.mismatchedKeys[i], 0));
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper
+     *  Class From Being Created.
+     */
+    private ScheduleVerifier() {
+    }
+
+    /**
+     *  This Method is Responsible for Checking That Each Original Key
+     *  Expands Back to the Last Round Key at the Same Index.
+     *
+     *  @param originals        The Recovered 16 Byte Original Keys.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys the
+     *                          Originals Were Recovered From.
+     *
+     *  @return                 The Verification Report.
+     */
+    public static Report verify(byte[][] originals, byte[][] lastRoundKeys) {
+        // Both Arrays Must Line Up One to One.
+        if (originals.length != lastRoundKeys.length) {
+            throw new IllegalArgumentException("Array Lengths Differ: " + originals.length + " vs " + lastRoundKeys.length);
+        }
+
+        // Collect Mismatches From Every Task.
+        ConcurrentLinkedQueue<Long> mismatches = new ConcurrentLinkedQueue<>();
+
+        // Create the Scratch Buffers Once Per Pool Thread.
+        AdaptiveScheduler scheduler = AdaptiveScheduler.common();
+        EngineSelector.VerificationEngine engine = EngineSelector.get().verificationEngine();
+        byte[][] scratches = new byte[scheduler.getThreadCount()][16];
+
+        // Check the Keys in Parallel, in Chunks Sized by the Scheduler.
+        scheduler.execute(0, originals.length, (from, to, worker) -> {
+            StageEvents.Probe probe = StageEvents.probe("verify");
+            probe.start();
+            long start = System.nanoTime();
+            for (int i = (int) from; i < to; i++) {
+                if (!EngineSelector.verify(engine, originals[i], 0, lastRoundKeys[i], 0, scratches[worker])) {
+                    mismatches.add((long) i);
+                }
+            }
+            record(probe, start, to - from, engine.name(), from);
+        });
+
+        // Build the Report.
+        return new Report(originals.length, toArray(mismatches));
+    }
+
+    /**
+     *  This Method is Responsible for Checking the Records of an Off Heap
+     *  Store Written by the Inverse Key Generation Process. Stores of
+     *  Original Keys are Checked Against the Last Round Key at the Same
+     *  Index. Stores of Full Schedules are Checked by Expanding the First
+     *  Round Key and Comparing the Whole 176 Byte Record, Which Also
+     *  Catches Damage to the Intermediate Round Keys.
+     *
+     *  @param store            The Store of Recovered Results.
+     *
+     *  @param lastRoundKeys    The 16 Byte Last Round Keys the
+     *                          Results Were Recovered From.
+     *
+     *  @return                 The Verification Report.
+     */
+    public static Report verify(OffHeapKeyStore store, byte[][] lastRoundKeys) {
+        // Both Inputs Must Line Up One to One.
+        if (store.size() != lastRoundKeys.length) {
+            throw new IllegalArgumentException("Sizes Differ: " + store.size() + " vs " + lastRoundKeys.length);
+        }
+
+        // Get the Record Width of the Store.
+        int width = store.getRecordWidth();
+        if (width != OffHeapKeyStore.KEY_WIDTH && width != OffHeapKeyStore.SCHEDULE_WIDTH) {
+            throw new IllegalArgumentException("Unsupported Record Width: " + width);
+        }
+
+        // Collect Mismatches From Every Task.
+        ConcurrentLinkedQueue<Long> mismatches = new ConcurrentLinkedQueue<>();
+
+        // Create the Scratch Buffers Once Per Pool Thread.
+        AdaptiveScheduler scheduler = AdaptiveScheduler.common();
+        byte[][] records = new byte[scheduler.getThreadCount()][width];
+        byte[][] expansions = new byte[scheduler.getThreadCount()][OffHeapKeyStore.SCHEDULE_WIDTH];
+        EngineSelector.VerificationEngine engine = EngineSelector.get().verificationEngine();
+
+        // Check the Records in Parallel, in Chunks Sized by the Scheduler.
+        scheduler.execute(0, lastRoundKeys.length, (from, to, worker) -> {
+            byte[] record = records[worker];
+            byte[] expanded = expansions[worker];
+            StageEvents.Probe probe = StageEvents.probe("verify");
+            probe.start();
+            long start = System.nanoTime();
+            for (int i = (int) from; i < to; i++) {
+                // Copy the Record Out of the Store.
+                store.get(i, record, 0);
+
+                // Compare the Record With the Expansion.
+                boolean match;
+                if (width == OffHeapKeyStore.KEY_WIDTH) {
+                    match = EngineSelector.verify(engine, record, 0, lastRoundKeys[i], 0, expanded);
+                }
+                else {
+                    KeySchedule.expandKey(record, 0, expanded, 0, KeySchedule.ROUNDS);
+                    match = Arrays.equals(record, expanded)
+                            && Block128.high(record, 160) == Block128.high(lastRoundKeys[i], 0) && Block128.low(record, 160) == Block128.low(lastRoundKeys[i], 0);
+                }
+
+                // Record Any Mismatch.
+                if (!match) {
+                    mismatches.add((long) i);
+                }
+            }
+            record(probe, start, to - from, width == OffHeapKeyStore.KEY_WIDTH ? engine.name() : EngineSelector.VerificationEngine.EXPAND.name(), from);
+        });
+
+        // Build the Report.
+        return new Report(lastRoundKeys.length, toArray(mismatches));
+    }
+
+    /**
+     *  This Method is Responsible for Checking Every Entry of a Map
+     *  Built by the Unique Inversion Process, Where Each Last Round Key
+     *  is Mapped to its Original Key. The Map's Slots are Split Across
+     *  the Shared Scheduler Like the Indexes of an Array, and the Map
+     *  Must Not Change Until the Check Returns.
+     *
+     *  @param originals        The Map of Original Keys.
+     *
+     *  @return                 The Verification Report. (Mismatches
+     *                          are Reported as the Last Round Keys
+     *                          Whose Entries Did Not Match.)
+     */
+    public static Report verify(KeyMap128 originals) {
+        // Collect Mismatching Keys From Every Task.
+        ConcurrentLinkedQueue<byte[]> mismatches = new ConcurrentLinkedQueue<>();
+
+        // Create the Scratch Buffers Once Per Pool Thread.
+        AdaptiveScheduler scheduler = AdaptiveScheduler.common();
+        byte[][] keys = new byte[scheduler.getThreadCount()][16];
+        byte[][] values = new byte[scheduler.getThreadCount()][16];
+        long[][] visited = new long[scheduler.getThreadCount()][1];
+        byte[][] scratches = new byte[scheduler.getThreadCount()][16];
+        EngineSelector.VerificationEngine engine = EngineSelector.get().verificationEngine();
+
+        // Check the Slots in Parallel, in Chunks Sized by the Scheduler.
+        scheduler.execute(0, originals.getSlotCount(), (from, to, worker) -> {
+            byte[] expected = keys[worker];
+            byte[] original = values[worker];
+            long[] entries = visited[worker];
+            StageEvents.Probe probe = StageEvents.probe("verify");
+            probe.start();
+            long start = System.nanoTime();
+            entries[0] = 0;
+            originals.forEach(from, to, (keyHigh, keyLow, valueHigh, valueLow) -> {
+                Block128.store(valueHigh, valueLow, original, 0);
+                Block128.store(keyHigh, keyLow, expected, 0);
+                if (!EngineSelector.verify(engine, original, 0, expected, 0, scratches[worker])) {
+                    mismatches.add(expected.clone());
+                }
+                entries[0]++;
+            });
+            record(probe, start, entries[0], engine.name(), from);
+        });
+
+        // Build the Report.
+        return new Report(originals.size(), new long[0], mismatches.toArray(new byte[0][]));
+    }
+
+    /**
+     *  This Method is Used to Add the Checks of One Chunk to the
+     *  Verification Metrics, Each at the Mean Time, and End the Chunk's
+     *  Verification Event.
+     *
+     *  @param probe        The Chunk's Probe, Started Before the Chunk.
+     *
+     *  @param start        The Start of the Chunk From System.nanoTime.
+     *
+     *  @param checked      The Number of Results Checked.
+     *
+     *  @param engine       The Name of the Engine That Checked Them.
+     *
+     *  @param first        The Index or Slot the Chunk Started at.
+     */
+    private static void record(StageEvents.Probe probe, long start, long checked, String engine, long first) {
+        if (checked > 0) {
+            Metrics.VERIFICATION.record((System.nanoTime() - start) / checked, checked);
+        }
+        probe.finish((int) checked, engine, first);
+    }
+
+    /**
+     *  This Method is Used to Copy the Collected Mismatch Indexes Into a
+     *  Primitive Array.
+     *
+     *  @param values       The Collected Indexes.
+     *
+     *  @return             The Primitive Array.
+     */
+    private static long[] toArray(ConcurrentLinkedQueue<Long> values) {
+        // Unbox Each Index. (Mismatches are Rare,
+        // so This Costs Nothing on Clean Batches.)
+        long[] result = new long[values.size()];
+        int i = 0;
+        for (Long value : values) {
+            result[i++] = value;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,442 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  This Class is Responsible for Recording the Progress of a Long Running
+ *  Search Over an Indexed Candidate Space So it Can Survive a Restart.
+ *  It Tracks Exactly Which Index Ranges Are Finished, the Candidates
+ *  Found so Far and the Work and Time Spent Across Every Run, and Writes
+ *  Them to a Local File Beside the Target Before Moving it Into Place, so
+ *  a Crash Never Leaves a Half Written File.
+ *
+ *  Workers Claim Blocks From the Checkpoint, Which Only Hands Out Indexes
+ *  That Are Not Finished Yet, and Report Each Block (or the Part of it
+ *  They Got Through) When They are Done. Saving is Driven by Time, So the
+ *  Cost is a Few Microseconds per Block Plus One Small File Write Every
+ *  Interval, Far Below One Percent of a Search.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class SearchCheckpoint {
+
+    // The Default Time Between Saves in Milliseconds.
+    public static final long DEFAULT_INTERVAL_MILLIS = 30_000;
+
+    // The File Progress is Saved to, or Null to Keep it in Memory.
+    private final Path file;
+    // What is Being Searched. A Saved File is Only Used
+    // When it Was Written For the Same Identity.
+    private final String identity;
+    // The Number of Indexes in the Space.
+    private final long total;
+    // The Time Between Saves in Milliseconds.
+    private final long intervalMillis;
+
+    // The Finished Ranges, Mapping Each Start to its End (Exclusive).
+    // Touching Ranges are Always Merged.
+    private final TreeMap<Long, Long> finished = new TreeMap<>();
+    // The Candidates Found so Far.
+    private final List<byte[]> candidates = new ArrayList<>();
+    // The Number of Indexes Tested and the Time Spent by Earlier Runs.
+    private long testedBefore;
+    private long nanosBefore;
+    // The Number of Indexes Tested by This Run.
+    private long tested;
+    // The Time This Run Started.
+    private final long started = System.nanoTime();
+    // The Next Index to Consider When Claiming a Block.
+    private long cursor;
+    // The Time the Next Save is Due.
+    private final AtomicLong nextSave;
+    // The Lock Held While Writing the File, so Two
+    // Saves Never Share the Temporary File.
+    private final Object saveLock = new Object();
+
+    /**
+     *  Private Constructor Used by the Open Method.
+     */
+    private SearchCheckpoint(Path file, String identity, long total, long intervalMillis) {
+        // Set Checkpoint Values
+        this.file = file;
+        this.identity = identity;
+        this.total = total;
+        this.intervalMillis = intervalMillis;
+        this.nextSave = new AtomicLong(System.currentTimeMillis() + intervalMillis);
+    }
+
+    /**
+     *  This Method is Responsible for Opening the Checkpoint of a Search.
+     *  Saved Progress is Restored When the File Exists and Was Written For
+     *  the Same Identity and Size. Otherwise the Search Starts Fresh.
+     *
+     *  @param file             The Checkpoint File, or Null to Only
+     *                          Track Progress in Memory.
+     *
+     *  @param identity         A Description of the Search.
+     *
+     *  @param total            The Number of Indexes in the Space.
+     *
+     *  @param intervalMillis   The Time Between Saves.
+     *
+     *  @return                 The Checkpoint.
+     *
+     *  @throws IOException     When an Existing File Can Not be Read.
+     */
+    public static SearchCheckpoint open(Path file, String identity, long total, long intervalMillis) throws IOException {
+        // Create the Checkpoint.
+        SearchCheckpoint checkpoint = new SearchCheckpoint(file, identity, total, intervalMillis);
+        if (file == null || !Files.exists(file)) {
+            return checkpoint;
+        }
+
+        // Read the Saved State.
+        Properties state = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            state.load(in);
+        }
+        if (!identity.equals(state.getProperty("identity")) || !Long.toString(total).equals(state.getProperty("total"))) {
+            return checkpoint;
+        }
+
+        // Restore the Finished Ranges.
+        for (String range : state.getProperty("finished", "").split(",")) {
+            int dash = range.indexOf('-');
+            if (dash > 0) {
+                checkpoint.markFinished(Long.parseLong(range.substring(0, dash)), Long.parseLong(range.substring(dash + 1)));
+            }
+        }
+
+        // Restore the Candidates.
+        for (String hex : state.getProperty("candidates", "").split(",")) {
+            byte[] key = new byte[16];
+            if (Block128.parseHex(hex, 0, key, 0)) {
+                checkpoint.candidates.add(key);
+            }
+        }
+
+        // Restore the Totals of the Earlier Runs.
+        checkpoint.testedBefore = Long.parseLong(state.getProperty("tested", "0"));
+        checkpoint.nanosBefore = Long.parseLong(state.getProperty("nanos", "0"));
+        return checkpoint;
+    }
+
+    /**
+     *  This Method is Responsible for Claiming the Next Block of Indexes
+     *  That is Not Finished Yet. A Block Never Crosses Into a Finished
+     *  Range, so Resumed Work Skips Finished Indexes Exactly.
+     *
+     *  @param blockSize    The Largest Number of Indexes to Claim.
+     *
+     *  @return             The Block as {From, To}, or Null When
+     *                      Nothing is Left.
+     */
+    public synchronized long[] claim(long blockSize) {
+        // Skip Any Finished Range at the Cursor.
+        Map.Entry<Long, Long> range = this.finished.floorEntry(this.cursor);
+        if (range != null && range.getValue() > this.cursor) {
+            this.cursor = range.getValue();
+        }
+        if (this.cursor >= this.total) {
+            return null;
+        }
+
+        // Stop the Block at the Next Finished Range.
+        Long next = this.finished.higherKey(this.cursor);
+        long end = Math.min(this.total, this.cursor + blockSize);
+        if (next != null) {
+            end = Math.min(end, next);
+        }
+        long[] block = { this.cursor, end };
+        this.cursor = end;
+        return block;
+    }
+
+    /**
+     *  This Method is Used to Check Whether an Index is Finished, For
+     *  Searches That Walk Their Own Indexes Instead of Claiming Blocks.
+     *
+     *  @param index        The Index.
+     *
+     *  @return             True if the Index Was Already Tested.
+     */
+    public synchronized boolean isFinished(long index) {
+        // Look at the Range Starting at or Before the Index.
+        Map.Entry<Long, Long> range = this.finished.floorEntry(index);
+        return range != null && range.getValue() > index;
+    }
+
+    /**
+     *  This Method is Responsible for Recording That a Range of Indexes
+     *  Has Been Tested.
+     *
+     *  @param from         The First Index (Inclusive).
+     *
+     *  @param to           The Last Index (Exclusive).
+     */
+    public synchronized void complete(long from, long to) {
+        // Ignore Empty Ranges.
+        if (from >= to) {
+            return;
+        }
+        markFinished(from, to);
+        this.tested += to - from;
+    }
+
+    /**
+     *  This Method is Responsible for Recording a Candidate. A Candidate
+     *  Already Recorded (For Example by a Range That Was Tested Twice) is
+     *  Not Added Again.
+     *
+     *  @param key          The 16 Byte Candidate.
+     */
+    public synchronized void addCandidate(byte[] key) {
+        // Skip Candidates Already Known.
+        for (byte[] known : this.candidates) {
+            if (Arrays.equals(known, key)) {
+                return;
+            }
+        }
+        // Keep a Copy of the Candidate.
+        this.candidates.add(key.clone());
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving Every Candidate
+     *  Found, Including Those of Earlier Runs.
+     *
+     *  @return             Copies of the Candidates.
+     */
+    public synchronized List<byte[]> getCandidates() {
+        // Copy the List.
+        return new ArrayList<>(this.candidates);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Indexes Tested by This Run.
+     *
+     *  @return             The Tested Count.
+     */
+    public synchronized long getTested() {
+        // Return Tested Count
+        return this.tested;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Indexes Tested Across Every Run.
+     *
+     *  @return             The Total Tested Count.
+     */
+    public synchronized long getTotalTested() {
+        // Add the Earlier Runs.
+        return this.testedBefore + this.tested;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Number of
+     *  Indexes That Are Finished.
+     *
+     *  @return             The Finished Count.
+     */
+    public synchronized long getFinishedCount() {
+        // Add Up the Finished Ranges.
+        long count = 0;
+        for (Map.Entry<Long, Long> range : this.finished.entrySet()) {
+            count += range.getValue() - range.getKey();
+        }
+        return count;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Finished
+     *  Ranges in Order.
+     *
+     *  @return             Each Range as {From, To}.
+     */
+    public synchronized List<long[]> getFinishedRanges() {
+        // Copy Each Range.
+        List<long[]> ranges = new ArrayList<>();
+        for (Map.Entry<Long, Long> range : this.finished.entrySet()) {
+            ranges.add(new long[] { range.getKey(), range.getValue() });
+        }
+        return ranges;
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Ranges That
+     *  are Not Finished Yet, in Order.
+     *
+     *  @return             Each Gap as {From, To}.
+     */
+    public synchronized List<long[]> getUnfinishedRanges() {
+        // Walk the Finished Ranges, Collecting the Gaps Between Them.
+        List<long[]> gaps = new ArrayList<>();
+        long next = 0;
+        for (Map.Entry<Long, Long> range : this.finished.entrySet()) {
+            if (range.getKey() > next) {
+                gaps.add(new long[] { next, Math.min(range.getKey(), this.total) });
+            }
+            next = Math.max(next, range.getValue());
+        }
+        if (next < this.total) {
+            gaps.add(new long[] { next, this.total });
+        }
+        return gaps;
+    }
+
+    /**
+     *  This Method is Used to Check Whether Every Index is Finished.
+     *
+     *  @return             True if the Whole Space is Finished.
+     */
+    public synchronized boolean isComplete() {
+        // A Single Range Covering Everything Means Done.
+        Map.Entry<Long, Long> first = this.finished.firstEntry();
+        return this.total == 0 || (first != null && first.getKey() == 0 && first.getValue() >= this.total);
+    }
+
+    /**
+     *  A Getter Method that is Responsible for Retrieving the Rate of
+     *  This Run.
+     *
+     *  @return             The Indexes Tested per Second.
+     */
+    public synchronized double getRate() {
+        // Divide by the Time Since the Run Started.
+        long nanos = System.nanoTime() - this.started;
+        return nanos == 0 ? 0 : this.tested * 1e9 / nanos;
+    }
+
+    /**
+     *  This Method is Responsible for Saving the Checkpoint if the Save
+     *  Interval Has Passed. Only One Caller Saves Each Interval, and the
+     *  Others Return at Once.
+     *
+     *  @throws IOException When the File Can Not be Written.
+     */
+    public void saveIfDue() throws IOException {
+        // Claim the Save, if it is Due.
+        long now = System.currentTimeMillis();
+        long due = this.nextSave.get();
+        if (this.file != null && now >= due && this.nextSave.compareAndSet(due, now + this.intervalMillis)) {
+            save();
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Writing the Checkpoint File. The
+     *  State is Copied Under the Lock and Written Outside of it, so
+     *  Workers are Only Held up For the Copy.
+     *
+     *  @throws IOException When the File Can Not be Written.
+     */
+    public void save() throws IOException {
+        // Nothing is Saved Without a File.
+        if (this.file == null) {
+            return;
+        }
+
+        // Copy the State.
+        Properties state = new Properties();
+        synchronized (this) {
+            state.setProperty("identity", this.identity);
+            state.setProperty("total", Long.toString(this.total));
+            StringBuilder ranges = new StringBuilder();
+            for (Map.Entry<Long, Long> range : this.finished.entrySet()) {
+                ranges.append(ranges.length() == 0 ? "" : ",").append(range.getKey()).append('-').append(range.getValue());
+            }
+            state.setProperty("finished", ranges.toString());
+            StringBuilder keys = new StringBuilder();
+            for (byte[] key : this.candidates) {
+                keys.append(keys.length() == 0 ? "" : ",").append(Block128.toHex(key, 0));
+            }
+            state.setProperty("candidates", keys.toString());
+            long nanos = System.nanoTime() - this.started;
+            state.setProperty("tested", Long.toString(this.testedBefore + this.tested));
+            state.setProperty("nanos", Long.toString(this.nanosBefore + nanos));
+            state.setProperty("rate", String.format("%.0f", nanos == 0 ? 0 : this.tested * 1e9 / nanos));
+        }
+
+        // Write it Beside the Target and Force it to the Disk, Then
+        // Swap it in and Force the Directory, so a Crash Leaves Either
+        // the Old Checkpoint or the Whole New One.
+        synchronized (this.saveLock) {
+            Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                state.store(out, "Search Checkpoint");
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory(this.file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     *  This Method is Used to Force a Directory's Entries to the Disk,
+     *  so a Rename Inside it Survives a Crash.
+     *
+     *  @param directory    The Directory.
+     *
+     *  @throws IOException When the Directory Can Not be Forced.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+        catch (IOException e) {
+            // Windows Can Not Open a Directory as a Channel, so There
+            // the Rename is Left to the File System.
+            if (!System.getProperty("os.name", "").startsWith("Windows")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Add a Finished Range, Merging it With Any
+     *  Range it Touches or Overlaps.
+     *
+     *  @param from         The First Index (Inclusive).
+     *
+     *  @param to           The Last Index (Exclusive).
+     */
+    private void markFinished(long from, long to) {
+        // Absorb a Range Ending at or After the Start.
+        Map.Entry<Long, Long> before = this.finished.floorEntry(from);
+        if (before != null && before.getValue() >= from) {
+            from = before.getKey();
+            to = Math.max(to, before.getValue());
+            this.finished.remove(before.getKey());
+        }
+
+        // Absorb Every Range Starting Inside the New One.
+        Map.Entry<Long, Long> after = this.finished.ceilingEntry(from);
+        while (after != null && after.getKey() <= to) {
+            to = Math.max(to, after.getValue());
+            this.finished.remove(after.getKey());
+            after = this.finished.ceilingEntry(from);
+        }
+        this.finished.put(from, to);
+    }
+}
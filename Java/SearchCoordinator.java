@@ -0,0 +1,826 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ *  This Class is Responsible for Spreading a Key Space Search Across
+ *  Several Worker Processes, on This Machine or Others. The Coordinator
+ *  Splits the Space Into Leased Ranges and Hands Them to SearchWorker
+ *  Processes Over TCP, or Over a Unix Domain Socket When Every Worker is
+ *  on the Same Machine, One Line of Text per Message:
+ *
+ *      Worker                          Coordinator
+ *      HELLO name threads      ->
+ *                              <-      The Search, Then END
+ *      NEXT                    ->
+ *                              <-      LEASE id from to | WAIT millis | DONE
+ *      FOUND key               ->      (Once per Match)
+ *      RANGE from to           ->      (As Parts of the Lease Finish)
+ *      RESULT id tested nanos  ->
+ *
+ *  A Lease Whose Worker Disconnects, or Which is Not Reported Within the
+ *  Lease Time, is Put Back and Handed to the Next Worker That Asks. Only
+ *  the Parts Not Reported Finished are Put Back, so a Lost Lease Costs
+ *  Little More Than the Time Since its Worker Last Reported. The
+ *  Finished Ranges, Matches and Throughput are Gathered in a
+ *  SearchCheckpoint, so the Coordinator Itself Can Also Resume After a
+ *  Restart. The Protocol Has No Authentication and is Meant For a Trusted
+ *  Network.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class SearchCoordinator {
+
+    // The Default Port the Coordinator Listens on.
+    public static final int DEFAULT_PORT = 7537;
+    // The Default Number of Keys in a Lease.
+    public static final long DEFAULT_LEASE_SIZE = 1L << 24;
+    // The Default Time a Worker Has to Report a Lease.
+    public static final long DEFAULT_LEASE_MILLIS = 300_000;
+    // The Time a Worker Waits Before Asking Again When
+    // Every Remaining Range is Leased.
+    private static final long WAIT_MILLIS = 500;
+
+    /**
+     *  This Class Holds the Outcome of a Distributed Search.
+     */
+    public static final class Result {
+
+        // The Keys That Matched.
+        private final List<byte[]> keys;
+        // The Number of Keys Tested in This Run.
+        private final long tested;
+        // The Number of Keys Already Finished When the Run Started.
+        private final long alreadyFinished;
+        // The Time the Run Took in Nanoseconds.
+        private final long nanos;
+        // The Number of Leases Handed Out Again.
+        private final long reassigned;
+        // The Keys per Second of Each Worker.
+        private final Map<String, Double> workerRates;
+
+        Result(List<byte[]> keys, long tested, long alreadyFinished, long nanos, long reassigned, Map<String, Double> workerRates) {
+            // Set Result Values
+            this.keys = keys;
+            this.tested = tested;
+            this.alreadyFinished = alreadyFinished;
+            this.nanos = nanos;
+            this.reassigned = reassigned;
+            this.workerRates = workerRates;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving Every Key
+         *  That Matched, Including Keys Found Before a Resume.
+         *
+         *  @return             The 16 Byte Original Keys.
+         */
+        public List<byte[]> getKeys() {
+            // Return Keys
+            return this.keys;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Keys Tested in This Run by Every Worker Together.
+         *
+         *  @return             The Tested Count.
+         */
+        public long getTested() {
+            // Return Tested Count
+            return this.tested;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Keys a Checkpoint Had Already Finished When This Run
+         *  Started.
+         *
+         *  @return             The Already Finished Count.
+         */
+        public long getAlreadyFinished() {
+            // Return Already Finished Count
+            return this.alreadyFinished;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Number
+         *  of Leases That Were Handed Out Again After a Worker Died or
+         *  Ran Out of Time.
+         *
+         *  @return             The Reassigned Lease Count.
+         */
+        public long getReassigned() {
+            // Return Reassigned Lease Count
+            return this.reassigned;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Rate
+         *  Keys Were Tested at by Every Worker Together.
+         *
+         *  @return             The Keys per Second.
+         */
+        public double getKeysPerSecond() {
+            // Avoid Dividing by Zero.
+            return this.nanos == 0 ? 0 : this.tested * 1e9 / this.nanos;
+        }
+
+        /**
+         *  A Getter Method that is Responsible for Retrieving the Rate of
+         *  Each Worker While it Was Searching.
+         *
+         *  @return             The Keys per Second by Worker Name.
+         */
+        public Map<String, Double> getWorkerRates() {
+            // Return Worker Rates
+            return this.workerRates;
+        }
+    }
+
+    /**
+     *  This Class Holds a Range Handed to a Worker.
+     */
+    private static final class Lease {
+
+        // The First Key Index (Inclusive).
+        final long from;
+        // The Last Key Index (Exclusive).
+        final long to;
+        // The Worker Holding the Lease.
+        final String worker;
+        // The Time the Lease Runs Out.
+        final long deadline;
+
+        Lease(long from, long to, String worker, long deadline) {
+            // Set Lease Values
+            this.from = from;
+            this.to = to;
+            this.worker = worker;
+            this.deadline = deadline;
+        }
+    }
+
+    // The Options Workers Use to Build the Space.
+    private final String mask;
+    private final String wordlist;
+    private final String suffix;
+    // The Space Being Searched.
+    private final KeySpace space;
+    // The Search Checked by Every Worker.
+    private final KeySpaceSearch search;
+    // The Known Blocks, as Sent to the Workers.
+    private final byte[] ciphertext;
+    private final byte[] plaintext;
+
+    // The Number of Keys in a Lease.
+    private long leaseSize = DEFAULT_LEASE_SIZE;
+    // The Time a Worker Has to Report a Lease.
+    private long leaseMillis = DEFAULT_LEASE_MILLIS;
+    // The Checkpoint File, or Null.
+    private Path checkpoint;
+    // The Time Between Checkpoints in Milliseconds.
+    private long checkpointMillis = SearchCheckpoint.DEFAULT_INTERVAL_MILLIS;
+    // Whether the Search Stops at the First Match.
+    private boolean stopOnFirstMatch = true;
+
+    // The Shared Progress of the Running Search.
+    private SearchCheckpoint progress;
+    // Ranges Taken Back From Workers, Handed Out Before New Ones.
+    private final ArrayDeque<long[]> returned = new ArrayDeque<>();
+    // The Leases Currently Held, by Lease Number.
+    private final Map<Long, Lease> leases = new HashMap<>();
+    // The Keys Tested and Nanoseconds Spent by Each Worker.
+    private final Map<String, long[]> workers = new TreeMap<>();
+    // The Next Lease Number and Worker Number.
+    private long nextLease;
+    private int nextWorker;
+    // The Number of Leases Handed Out Again.
+    private long reassigned;
+    // Whether a Match Has Stopped the Search.
+    private boolean stopped;
+
+    /**
+     *  Constructor Method That is Used to Create a New Coordinator. The
+     *  Space is Given by the Same Options as KeySpaceSearch, and a Word
+     *  List Must be Readable at the Same Path by Every Worker.
+     *
+     *  @param mask         The Mask, or Null.
+     *
+     *  @param wordlist     The Word List File, Used When There is No
+     *                      Mask.
+     *
+     *  @param suffix       The Mask Appended to Each Word, or Null.
+     *
+     *  @param ciphertext   The Known 16 Byte Ciphertext Block.
+     *
+     *  @param plaintext    The Known 16 Byte Plaintext Block, or Null
+     *                      to Accept Any Printable ASCII Plaintext.
+     *
+     *  @throws IOException When the Word List Can Not be Read.
+     */
+    public SearchCoordinator(String mask, String wordlist, String suffix, byte[] ciphertext, byte[] plaintext) throws IOException {
+        // Set Coordinator Values
+        this.mask = mask;
+        this.wordlist = wordlist == null ? null : new File(wordlist).getAbsolutePath();
+        this.suffix = suffix;
+        this.space = KeySpaceSearch.space(mask, this.wordlist, suffix);
+        this.search = new KeySpaceSearch(this.space, ciphertext, plaintext);
+        this.ciphertext = ciphertext.clone();
+        this.plaintext = plaintext == null ? null : plaintext.clone();
+    }
+
+    /**
+     *  A Setter Method that is Responsible for Setting the Size of Each
+     *  Lease and How Long a Worker Has to Report it.
+     *
+     *  @param size         The Number of Keys in a Lease.
+     *
+     *  @param millis       The Time a Worker Has per Lease.
+     */
+    public void setLease(long size, long millis) {
+        // Set Lease Values
+        this.leaseSize = size;
+        this.leaseMillis = millis;
+    }
+
+    /**
+     *  A Setter Method that is Responsible for Setting the Checkpoint
+     *  File and How Often it is Written.
+     *
+     *  @param file         The Checkpoint File, or Null For None.
+     *
+     *  @param millis       The Time Between Checkpoints.
+     */
+    public void setCheckpoint(Path file, long millis) {
+        // Set Checkpoint Values
+        this.checkpoint = file;
+        this.checkpointMillis = millis;
+    }
+
+    /**
+     *  A Setter Method that is Responsible for Setting Whether the
+     *  Search Stops at the First Match.
+     *
+     *  @param stop         True to Stop at the First Match.
+     */
+    public void setStopOnFirstMatch(boolean stop) {
+        // Set Stop Flag
+        this.stopOnFirstMatch = stop;
+    }
+
+    /**
+     *  This Method is Responsible for Running the Search, Accepting
+     *  Workers on the Parameter Socket Until Every Key is Finished (or a
+     *  Match Stops the Search). The Caller Owns and Closes the Socket.
+     *
+     *  @param server       The Socket Workers Connect to.
+     *
+     *  @return             The Search Result.
+     *
+     *  @throws IOException When the Checkpoint Can Not be Read or
+     *                      Written.
+     */
+    public Result run(ServerSocket server) throws IOException {
+        // Resume From the Checkpoint, if Any.
+        long began = System.nanoTime();
+        long alreadyFinished = resume();
+
+        // Accept Workers, Waking Each Second to Take Back Late
+        // Leases and Save Progress.
+        server.setSoTimeout(1000);
+        while (!finished()) {
+            try {
+                Socket socket = server.accept();
+                start(socket.getInputStream(), socket.getOutputStream(), socket);
+            }
+            catch (SocketTimeoutException e) {
+                // No Worker Connected This Second.
+            }
+            expireLeases();
+            this.progress.saveIfDue();
+        }
+        return finish(began, alreadyFinished);
+    }
+
+    /**
+     *  This Method is Responsible for Running the Search, Accepting
+     *  Workers on the Parameter Channel (Such as a Unix Domain Socket)
+     *  Until Every Key is Finished (or a Match Stops the Search). The
+     *  Caller Owns and Closes the Channel.
+     *
+     *  @param server       The Channel Workers Connect to.
+     *
+     *  @return             The Search Result.
+     *
+     *  @throws IOException When the Checkpoint Can Not be Read or
+     *                      Written.
+     */
+    public Result run(ServerSocketChannel server) throws IOException {
+        // Resume From the Checkpoint, if Any.
+        long began = System.nanoTime();
+        long alreadyFinished = resume();
+
+        // Accept Workers, Waking Each Second to Take Back Late
+        // Leases and Save Progress.
+        try (Selector selector = Selector.open()) {
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            while (!finished()) {
+                selector.select(1000);
+                selector.selectedKeys().clear();
+                SocketChannel channel;
+                while ((channel = server.accept()) != null) {
+                    channel.configureBlocking(true);
+                    start(Channels.newInputStream(channel), Channels.newOutputStream(channel), channel);
+                }
+                expireLeases();
+                this.progress.saveIfDue();
+            }
+        }
+        return finish(began, alreadyFinished);
+    }
+
+    /**
+     *  This Method is Used to Open the Checkpoint Before Accepting
+     *  Workers.
+     *
+     *  @return             The Number of Keys Finished by Earlier Runs.
+     *
+     *  @throws IOException When the Checkpoint Can Not be Read.
+     */
+    private long resume() throws IOException {
+        // Resume From the Checkpoint, if Any.
+        synchronized (this) {
+            this.progress = SearchCheckpoint.open(this.checkpoint, this.search.identity(), this.space.size(), this.checkpointMillis);
+            this.stopped = this.stopOnFirstMatch && !this.progress.getCandidates().isEmpty();
+        }
+        return this.progress.getFinishedCount();
+    }
+
+    /**
+     *  This Method is Used to Serve a Newly Connected Worker on its Own
+     *  Thread.
+     *
+     *  @param in           The Stream Read From the Worker.
+     *
+     *  @param out          The Stream Written to the Worker.
+     *
+     *  @param connection   The Connection, Closed When the Worker Leaves.
+     */
+    private void start(InputStream in, OutputStream out, Closeable connection) {
+        Thread handler = new Thread(() -> serve(in, out, connection), "search-coordinator-connection");
+        handler.setDaemon(true);
+        handler.start();
+    }
+
+    /**
+     *  This Method is Used to Save the Final Progress and Build the
+     *  Result Once the Search is Over.
+     *
+     *  @param began            When the Run Started.
+     *
+     *  @param alreadyFinished  The Keys Finished by Earlier Runs.
+     *
+     *  @return                 The Search Result.
+     *
+     *  @throws IOException     When the Checkpoint Can Not be Written.
+     */
+    private Result finish(long began, long alreadyFinished) throws IOException {
+        // Save the Final Progress and Gather the Worker Rates.
+        this.progress.save();
+        Map<String, Double> rates = new TreeMap<>();
+        synchronized (this) {
+            for (Map.Entry<String, long[]> worker : this.workers.entrySet()) {
+                long[] stats = worker.getValue();
+                rates.put(worker.getKey(), stats[1] == 0 ? 0 : stats[0] * 1e9 / stats[1]);
+            }
+            return new Result(this.progress.getCandidates(), this.progress.getTested(), alreadyFinished, System.nanoTime() - began, this.reassigned, rates);
+        }
+    }
+
+    /**
+     *  This Method is Used to Check Whether the Search is Over.
+     *
+     *  @return             True Once Every Key is Finished or a Match
+     *                      Has Stopped the Search.
+     */
+    private synchronized boolean finished() {
+        // Outstanding Leases No Longer Matter Once Stopped.
+        return this.stopped || this.progress.isComplete();
+    }
+
+    /**
+     *  This Method is Responsible for Talking to One Worker Until it
+     *  Disconnects or the Search Ends. Any Lease the Worker Still Holds
+     *  When it Goes Away is Put Back.
+     *
+     *  @param input        The Stream Read From the Worker.
+     *
+     *  @param output       The Stream Written to the Worker.
+     *
+     *  @param connection   The Worker's Connection.
+     */
+    private void serve(InputStream input, OutputStream output, Closeable connection) {
+        String name = null;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), true)) {
+            // Greet the Worker and Describe the Search.
+            String hello = in.readLine();
+            if (hello == null || !hello.startsWith("HELLO ")) {
+                return;
+            }
+            synchronized (this) {
+                name = hello.split(" ")[1] + "#" + this.nextWorker++;
+                this.workers.put(name, new long[2]);
+            }
+            describe(out);
+
+            // Answer Requests Until the Worker Leaves.
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.split(" ");
+                switch (parts[0]) {
+                    case "NEXT":
+                        out.println(grant(name));
+                        break;
+                    case "FOUND":
+                        found(parts[1]);
+                        break;
+                    case "RANGE":
+                        this.progress.complete(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                        break;
+                    case "RESULT":
+                        report(name, Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+                        break;
+                    default:
+                        return;
+                }
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            // A Broken Connection is Treated Like a Dead Worker.
+        }
+        finally {
+            try {
+                connection.close();
+            }
+            catch (IOException e) {
+                // The Worker is Gone Either Way.
+            }
+            if (name != null) {
+                release(name);
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Send the Search to a Worker.
+     *
+     *  @param out          The Worker's Connection.
+     */
+    private void describe(PrintWriter out) {
+        // One Option per Line, Then the Space the Worker Should End Up With.
+        out.println("CIPHERTEXT " + Block128.toHex(this.ciphertext, 0));
+        out.println("PLAINTEXT " + (this.plaintext == null ? "printable" : Block128.toHex(this.plaintext, 0)));
+        if (this.mask != null) {
+            out.println("MASK " + this.mask);
+        }
+        else {
+            out.println("WORDLIST " + this.wordlist);
+            if (this.suffix != null) {
+                out.println("SUFFIX " + this.suffix);
+            }
+        }
+        out.println("FIRST " + this.stopOnFirstMatch);
+        out.println("IDENTITY " + this.search.identity());
+        out.println("END");
+    }
+
+    /**
+     *  This Method is Responsible for Choosing the Next Range For a
+     *  Worker. Ranges Taken Back From Other Workers Go First.
+     *
+     *  @param worker       The Worker Asking.
+     *
+     *  @return             The Reply to Send.
+     */
+    private synchronized String grant(String worker) {
+        // Nothing is Handed Out Once the Search is Over.
+        if (finished()) {
+            return "DONE";
+        }
+
+        // Take What is Still Unfinished of a Returned Range, Keeping the
+        // Rest of it For Later, or Claim a New One.
+        long[] range = null;
+        long[] returned;
+        while (range == null && (returned = this.returned.poll()) != null) {
+            List<long[]> parts = unfinished(returned[0], returned[1]);
+            for (int i = parts.size() - 1; i > 0; i--) {
+                this.returned.addFirst(parts.get(i));
+            }
+            range = parts.isEmpty() ? null : parts.get(0);
+        }
+        if (range == null) {
+            range = this.progress.claim(this.leaseSize);
+        }
+        if (range == null) {
+            // Everything Left is Leased, but a Lease May Still Come Back.
+            return "WAIT " + WAIT_MILLIS;
+        }
+
+        // Record the Lease.
+        long id = this.nextLease++;
+        this.leases.put(id, new Lease(range[0], range[1], worker, System.currentTimeMillis() + this.leaseMillis));
+        return "LEASE " + id + " " + range[0] + " " + range[1];
+    }
+
+    /**
+     *  This Method is Used to Record a Match Reported by a Worker.
+     *
+     *  @param hex          The Key in Hex.
+     */
+    private synchronized void found(String hex) {
+        // Keep the Key and Stop if One is Enough.
+        byte[] key = new byte[16];
+        if (Block128.parseHex(hex, 0, key, 0)) {
+            this.progress.addCandidate(key);
+            this.stopped |= this.stopOnFirstMatch;
+        }
+    }
+
+    /**
+     *  This Method is Used to Close a Lease a Worker Has Reported. Its
+     *  Finished Ranges Were Already Recorded From the RANGE Lines.
+     *
+     *  @param worker       The Worker Reporting.
+     *
+     *  @param id           The Lease Number.
+     *
+     *  @param tested       The Keys the Worker Tested.
+     *
+     *  @param nanos        The Time the Worker Took.
+     */
+    private synchronized void report(String worker, long id, long tested, long nanos) {
+        // Drop the Lease and Add to the Worker's Totals. (A Lease That
+        // Ran Out Was Already Put Back, so What its Worker Had Not
+        // Reported Yet May be Tested Twice, Which Costs Time But Changes
+        // No Result.)
+        this.leases.remove(id);
+        long[] stats = this.workers.get(worker);
+        stats[0] += tested;
+        stats[1] += nanos;
+    }
+
+    /**
+     *  This Method is Used to Put Back Every Lease a Worker Holds.
+     *
+     *  @param worker       The Worker That Went Away.
+     */
+    private synchronized void release(String worker) {
+        // Return Each of the Worker's Leases.
+        Iterator<Lease> it = this.leases.values().iterator();
+        while (it.hasNext()) {
+            Lease lease = it.next();
+            if (lease.worker.equals(worker)) {
+                putBack(lease);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Put Back Every Lease That Has Run Out.
+     */
+    private synchronized void expireLeases() {
+        // Return Each Late Lease.
+        long now = System.currentTimeMillis();
+        Iterator<Lease> it = this.leases.values().iterator();
+        while (it.hasNext()) {
+            Lease lease = it.next();
+            if (now > lease.deadline) {
+                putBack(lease);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     *  This Method is Used to Put Back the Parts of a Lease That are Not
+     *  Finished. A Lease That Was Fully Reported Puts Nothing Back.
+     *
+     *  @param lease        The Lease Taken From its Worker.
+     */
+    private void putBack(Lease lease) {
+        // Queue Each Unfinished Part, Counting the Lease Once.
+        List<long[]> parts = unfinished(lease.from, lease.to);
+        this.returned.addAll(parts);
+        if (!parts.isEmpty()) {
+            this.reassigned++;
+        }
+    }
+
+    /**
+     *  This Method is Used to Find the Parts of a Range That are Not
+     *  Finished Yet.
+     *
+     *  @param from         The First Index (Inclusive).
+     *
+     *  @param to           The Last Index (Exclusive).
+     *
+     *  @return             Each Unfinished Part as {From, To}, in Order.
+     */
+    private List<long[]> unfinished(long from, long to) {
+        // Clip Each Gap of the Search to the Range.
+        List<long[]> parts = new ArrayList<>();
+        for (long[] gap : this.progress.getUnfinishedRanges()) {
+            long start = Math.max(gap[0], from);
+            long end = Math.min(gap[1], to);
+            if (start < end) {
+                parts.add(new long[] { start, end });
+            }
+        }
+        return parts;
+    }
+
+    /**
+     *  Main Method That Runs a Coordinator From the Command Line,
+     *  Optionally Starting Local Worker Processes.
+     *
+     *  @param args     --ciphertext HEX [--plaintext HEX]
+     *                  (--mask MASK | --wordlist FILE [--suffix MASK])
+     *                  [--port N | --unix PATH] [--spawn N] [--threads N]
+     *                  [--lease-size N] [--lease-seconds N]
+     *                  [--checkpoint FILE] [--all]
+     *
+     *  @throws IOException When a File or the Socket Can Not be Used.
+     */
+    public static void main(String[] args) throws IOException {
+        // Read the Options.
+        byte[] ciphertext = null;
+        byte[] plaintext = null;
+        String mask = null;
+        String wordlist = null;
+        String suffix = null;
+        Path checkpoint = null;
+        int port = DEFAULT_PORT;
+        Path unix = null;
+        int spawn = 0;
+        int threads = 1;
+        long leaseSize = DEFAULT_LEASE_SIZE;
+        long leaseMillis = DEFAULT_LEASE_MILLIS;
+        boolean all = false;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--all")) {
+                all = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                usage();
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--ciphertext":
+                    ciphertext = KeySpaceSearch.parseBlock(value);
+                    break;
+                case "--plaintext":
+                    plaintext = KeySpaceSearch.parseBlock(value);
+                    break;
+                case "--mask":
+                    mask = value;
+                    break;
+                case "--wordlist":
+                    wordlist = value;
+                    break;
+                case "--suffix":
+                    suffix = value;
+                    break;
+                case "--checkpoint":
+                    checkpoint = Paths.get(value);
+                    break;
+                case "--port":
+                    port = Integer.parseInt(value);
+                    break;
+                case "--unix":
+                    unix = Paths.get(value);
+                    break;
+                case "--spawn":
+                    spawn = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--lease-size":
+                    leaseSize = Long.parseLong(value);
+                    break;
+                case "--lease-seconds":
+                    leaseMillis = Long.parseLong(value) * 1000;
+                    break;
+                default:
+                    usage();
+            }
+        }
+        if (ciphertext == null || (mask == null) == (wordlist == null)) {
+            usage();
+        }
+
+        // Set Up the Coordinator.
+        SearchCoordinator coordinator = new SearchCoordinator(mask, wordlist, suffix, ciphertext, plaintext);
+        coordinator.setLease(leaseSize, leaseMillis);
+        coordinator.setCheckpoint(checkpoint, SearchCheckpoint.DEFAULT_INTERVAL_MILLIS);
+        coordinator.setStopOnFirstMatch(!all);
+
+        // Listen, Start Any Local Workers, and Run the Search. (A
+        // Stale Socket File Left by an Earlier Coordinator is Replaced.)
+        List<Process> local = new ArrayList<>();
+        Result result;
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        if (unix != null) {
+            Files.deleteIfExists(unix);
+            try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+                server.bind(UnixDomainSocketAddress.of(unix));
+                for (int w = 0; w < spawn; w++) {
+                    ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                            "SearchWorker", "--unix", unix.toString(), Integer.toString(threads), "local-" + w);
+                    local.add(builder.inheritIO().start());
+                }
+                result = coordinator.run(server);
+            }
+            finally {
+                for (Process process : local) {
+                    process.destroy();
+                }
+                Files.deleteIfExists(unix);
+            }
+        }
+        else {
+            try (ServerSocket server = new ServerSocket(port)) {
+                for (int w = 0; w < spawn; w++) {
+                    ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                            "SearchWorker", "127.0.0.1", Integer.toString(server.getLocalPort()), Integer.toString(threads), "local-" + w);
+                    local.add(builder.inheritIO().start());
+                }
+                result = coordinator.run(server);
+            }
+            finally {
+                for (Process process : local) {
+                    process.destroy();
+                }
+            }
+        }
+
+        // Print the Matches and Statistics.
+        for (byte[] key : result.getKeys()) {
+            System.out.println("Original Key:\t" + Block128.toHex(key, 0));
+        }
+        System.out.println("Space Size:\t" + coordinator.space.size());
+        System.out.println("Already Done:\t" + result.getAlreadyFinished());
+        System.out.println("Keys Tested:\t" + result.getTested());
+        System.out.println("Reassigned:\t" + result.getReassigned());
+        System.out.printf("Keys/Second:\t%.0f%n", result.getKeysPerSecond());
+        for (Map.Entry<String, Double> worker : result.getWorkerRates().entrySet()) {
+            System.out.printf("  %s:\t%.0f Keys/Second%n", worker.getKey(), worker.getValue());
+        }
+    }
+
+    /**
+     *  This Method Prints the Command Line Usage and Exits.
+     */
+    private static void usage() {
+        System.err.println("Usage: java SearchCoordinator --ciphertext HEX [--plaintext HEX]");
+        System.err.println("           (--mask MASK | --wordlist FILE [--suffix MASK])");
+        System.err.println("           [--port N | --unix PATH] [--spawn N] [--threads N] [--lease-size N]");
+        System.err.println("           [--lease-seconds N] [--checkpoint FILE] [--all]");
+        System.exit(2);
+    }
+}
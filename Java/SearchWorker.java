@@ -0,0 +1,342 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This Class is Responsible for Running Leased Ranges of a Key Space
+ *  Search For a SearchCoordinator. The Worker Connects, Builds the Same
+ *  Space and Search the Coordinator Describes (Refusing to Work if They
+ *  Come Out Different), Then Searches One Leased Range at a Time on its
+ *  Own Threads and Reports the Matches and the Exact Finished Ranges.
+ *  Finished Ranges are Reported While a Lease Runs, so the Coordinator
+ *  Only Re-Leases the Untested Part of a Lease That is Lost.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class SearchWorker {
+
+    // The Time Between Reports of the Ranges Finished so Far.
+    private static final long REPORT_MILLIS = 1_000;
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper Class
+     *  From Being Created.
+     */
+    private SearchWorker() {
+    }
+
+    /**
+     *  This Method is Responsible for Working For a Coordinator Until it
+     *  Says the Search is Done or the Connection Closes.
+     *
+     *  @param host         The Coordinator's Host.
+     *
+     *  @param port         The Coordinator's Port.
+     *
+     *  @param threads      The Number of Search Threads.
+     *
+     *  @param name         The Name Reported to the Coordinator.
+     *
+     *  @return             The Number of Keys This Worker Tested.
+     *
+     *  @throws IOException When the Connection Fails or the Search
+     *                      Can Not be Built.
+     */
+    public static long work(String host, int port, int threads, String name) throws IOException {
+        // Talk to the Coordinator Over TCP.
+        try (Socket socket = new Socket(host, port)) {
+            return work(socket.getInputStream(), socket.getOutputStream(), threads, name);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Working For a Coordinator on This
+     *  Machine, Listening on a Unix Domain Socket, Until it Says the
+     *  Search is Done or the Connection Closes.
+     *
+     *  @param socket       The Coordinator's Socket File.
+     *
+     *  @param threads      The Number of Search Threads.
+     *
+     *  @param name         The Name Reported to the Coordinator.
+     *
+     *  @return             The Number of Keys This Worker Tested.
+     *
+     *  @throws IOException When the Connection Fails or the Search
+     *                      Can Not be Built.
+     */
+    public static long work(Path socket, int threads, String name) throws IOException {
+        // Talk to the Coordinator Over the Socket File.
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            return work(Channels.newInputStream(channel), Channels.newOutputStream(channel), threads, name);
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Running the Worker's Side of the
+     *  Protocol Over an Open Connection.
+     *
+     *  @param input        The Stream Read From the Coordinator.
+     *
+     *  @param output       The Stream Written to the Coordinator.
+     *
+     *  @param threads      The Number of Search Threads.
+     *
+     *  @param name         The Name Reported to the Coordinator.
+     *
+     *  @return             The Number of Keys This Worker Tested.
+     *
+     *  @throws IOException When the Connection Fails or the Search
+     *                      Can Not be Built.
+     */
+    private static long work(InputStream input, OutputStream output, int threads, String name) throws IOException {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), false)) {
+            // Introduce the Worker.
+            out.println("HELLO " + name + " " + threads);
+            out.flush();
+
+            // Read the Search, One Option per Line.
+            byte[] ciphertext = null;
+            byte[] plaintext = null;
+            String mask = null;
+            String wordlist = null;
+            String suffix = null;
+            String identity = null;
+            boolean first = true;
+            String line;
+            while ((line = in.readLine()) != null && !line.equals("END")) {
+                int space = line.indexOf(' ');
+                String key = space < 0 ? line : line.substring(0, space);
+                String value = space < 0 ? "" : line.substring(space + 1);
+                switch (key) {
+                    case "CIPHERTEXT":
+                        ciphertext = KeySpaceSearch.parseBlock(value);
+                        break;
+                    case "PLAINTEXT":
+                        plaintext = value.equals("printable") ? null : KeySpaceSearch.parseBlock(value);
+                        break;
+                    case "MASK":
+                        mask = value;
+                        break;
+                    case "WORDLIST":
+                        wordlist = value;
+                        break;
+                    case "SUFFIX":
+                        suffix = value;
+                        break;
+                    case "FIRST":
+                        first = Boolean.parseBoolean(value);
+                        break;
+                    case "IDENTITY":
+                        identity = value;
+                        break;
+                    default:
+                        throw new IOException("Unknown Search Option: " + line);
+                }
+            }
+            if (line == null || ciphertext == null) {
+                throw new IOException("Coordinator Closed the Connection Before Describing the Search");
+            }
+
+            // Build the Search and Make Sure it is the Same One.
+            KeySpace keys = KeySpaceSearch.space(mask, wordlist, suffix);
+            KeySpaceSearch search = new KeySpaceSearch(keys, ciphertext, plaintext);
+            search.setStopOnFirstMatch(first);
+            if (!search.identity().equals(identity)) {
+                throw new IOException("Search Differs From the Coordinator's: " + search.identity());
+            }
+
+            // Work Through Leases Until Told to Stop, Keeping One Pool of
+            // Search Threads Shared by Every Lease.
+            return lease(in, out, search, new AdaptiveScheduler(threads));
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Searching Leased Ranges on One Pool
+     *  Until the Coordinator Says the Search is Done, Then Closing the
+     *  Pool.
+     *
+     *  @param in           The Coordinator's Replies.
+     *
+     *  @param out          The Requests and Reports to the Coordinator.
+     *
+     *  @param search       The Search.
+     *
+     *  @param scheduler    The Pool the Leases are Searched on.
+     *
+     *  @return             The Number of Keys This Worker Tested.
+     *
+     *  @throws IOException When the Connection Fails.
+     */
+    private static long lease(BufferedReader in, PrintWriter out, KeySpaceSearch search, AdaptiveScheduler scheduler) throws IOException {
+        try (scheduler) {
+            long tested = 0;
+            while (true) {
+                out.println("NEXT");
+                out.flush();
+                String reply = in.readLine();
+                if (reply == null || reply.equals("DONE")) {
+                    return tested;
+                }
+                String[] parts = reply.split(" ");
+                if (parts[0].equals("WAIT")) {
+                    pause(Long.parseLong(parts[1]));
+                    continue;
+                }
+
+                // Search the Leased Range.
+                long id = Long.parseLong(parts[1]);
+                long from = Long.parseLong(parts[2]);
+                long to = Long.parseLong(parts[3]);
+                long began = System.nanoTime();
+                SearchCheckpoint lease = SearchCheckpoint.open(null, "lease", to - from, SearchCheckpoint.DEFAULT_INTERVAL_MILLIS);
+                SearchCheckpoint sent = SearchCheckpoint.open(null, "sent", to - from, SearchCheckpoint.DEFAULT_INTERVAL_MILLIS);
+                CountDownLatch over = new CountDownLatch(1);
+                Thread reporter = new Thread(() -> {
+                    // Report the Ranges Finished so Far Until the Lease is Over.
+                    try {
+                        while (!over.await(REPORT_MILLIS, TimeUnit.MILLISECONDS)) {
+                            report(out, lease, sent, from);
+                        }
+                    }
+                    catch (InterruptedException e) {
+                        // Nothing Interrupts the Reporter; the Lease Reports the Rest.
+                    }
+                }, "search-worker-report");
+                reporter.setDaemon(true);
+                reporter.start();
+                KeySpaceSearch.Result result;
+                try {
+                    result = search.run(scheduler, lease, from);
+                }
+                finally {
+                    over.countDown();
+                    join(reporter);
+                }
+                long nanos = System.nanoTime() - began;
+
+                // Report What Was Not Reported Yet, Then the Totals.
+                report(out, lease, sent, from);
+                out.println("RESULT " + id + " " + result.getTested() + " " + nanos);
+                tested += result.getTested();
+            }
+        }
+    }
+
+    /**
+     *  This Method is Responsible for Sending the Matches and the Parts of
+     *  a Lease That Were Found or Finished Since the Last Report, so No
+     *  Index is Counted Twice by the Coordinator.
+     *
+     *  @param out          The Reports to the Coordinator.
+     *
+     *  @param lease        The Progress of the Lease.
+     *
+     *  @param sent         The Matches and Parts of the Lease Already
+     *                      Reported.
+     *
+     *  @param from         The First Key Index of the Lease.
+     */
+    private static void report(PrintWriter out, SearchCheckpoint lease, SearchCheckpoint sent, long from) {
+        synchronized (out) {
+            // Take the Finished Ranges Before the Matches. A Chunk Records
+            // its Matches Before its Range, so Every Match in a Range Sent
+            // Here is Sent Too.
+            List<long[]> finished = lease.getFinishedRanges();
+            List<byte[]> matches = lease.getCandidates();
+            for (byte[] match : matches.subList(sent.getCandidates().size(), matches.size())) {
+                out.println("FOUND " + Block128.toHex(match, 0));
+                sent.addCandidate(match);
+            }
+
+            // Send Each Finished Range Less What Was Already Sent.
+            for (long[] done : finished) {
+                for (long[] gap : sent.getUnfinishedRanges()) {
+                    long start = Math.max(done[0], gap[0]);
+                    long end = Math.min(done[1], gap[1]);
+                    if (start < end) {
+                        out.println("RANGE " + (from + start) + " " + (from + end));
+                        sent.complete(start, end);
+                    }
+                }
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     *  This Method is Used to Wait For the Reporter of a Lease to Finish.
+     *
+     *  @param reporter     The Reporter Thread.
+     */
+    private static void join(Thread reporter) {
+        try {
+            // The Reporter Ends Right After its Current Report.
+            reporter.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     *  This Method is Used to Wait Before Asking For Work Again.
+     *
+     *  @param millis       The Time to Wait.
+     */
+    private static void pause(long millis) {
+        try {
+            // Sleep For the Time the Coordinator Asked.
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     *  Main Method That Runs a Worker From the Command Line.
+     *
+     *  @param args     The Coordinator's Host and Port (or --unix and its
+     *                  Socket File), and Optionally the Thread Count and
+     *                  Worker Name.
+     *
+     *  @throws IOException When the Connection Fails.
+     */
+    public static void main(String[] args) throws IOException {
+        // Make Sure the Coordinator Was Given.
+        if (args.length < 2) {
+            System.err.println("Usage: java SearchWorker (<host> <port> | --unix <path>) [threads] [name]");
+            System.exit(2);
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        String name = args.length > 3 ? args[3] : InetAddress.getLocalHost().getHostName();
+
+        // Load the Engine Choices, Then Work Until the Search is Done.
+        EngineSelector.initialize();
+        long tested = args[0].equals("--unix")
+                ? work(Paths.get(args[1]), threads, name)
+                : work(args[0], Integer.parseInt(args[1]), threads, name);
+        System.err.println(name + " Tested " + tested + " Keys");
+    }
+}
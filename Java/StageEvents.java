@@ -0,0 +1,228 @@
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ *  This Class is Responsible for Defining the Java Flight Recorder Events
+ *  of the Processing Stages: Key Parse, Inversion, Verification,
+ *  Decryption and Output. Each Event Carries the Batch Size, the Engine
+ *  Used and the Input Line (or Index) of the First Item, Along With the
+ *  Duration and Thread JFR Records For Every Event, so a Slow Batch Can be
+ *  Lined Up With GC and I/O Events in the Same Recording.
+ *
+ *  The Events are Off Unless a Recording Turns Them On, as StageEvents.jfc
+ *  Does:
+ *
+ *      java -XX:StartFlightRecording:settings=StageEvents.jfc,filename=run.jfr ...
+ *
+ *  While They are Off, start and finish Only Read a Flag, Without Even
+ *  Reading the Clock. The Loops Create Their Events Once and Reuse Them
+ *  For Every Key or Batch, so the Instrumented Paths Cost Nothing While
+ *  the Events are Off and Allocate Nothing While They are On.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class StageEvents {
+
+    // The Engine Named by Stages That Have Only One Way of Working.
+    public static final String NO_ENGINE = "";
+    // The Names of the Stages.
+    private static final List<String> STAGES = List.of("parse", "invert", "verify", "decrypt", "write");
+
+    /**
+     *  This Class Holds the Fields Every Stage Event Shares.
+     */
+    @Category({"AES Round Key Inverter", "Stages"})
+    @StackTrace(false)
+    @Enabled(false)
+    @Threshold("0 ms")
+    public abstract static class StageEvent extends Event {
+
+        @Label("Batch Size")
+        @Description("The Number of Keys, Lines or Messages Handled")
+        public int batchSize;
+
+        @Label("Engine")
+        @Description("The Engine That Did the Work")
+        public String engine;
+
+        @Label("First Item")
+        @Description("The Input Line, or Array Index, of the First Item in the Batch")
+        public long firstItem;
+    }
+
+    /**
+     *  The Parsing of Last Round Keys From Input Lines.
+     */
+    @Name("aes.KeyParse")
+    @Label("Key Parse")
+    public static final class Parse extends StageEvent {
+    }
+
+    /**
+     *  The Inversion of Last Round Keys.
+     */
+    @Name("aes.Inversion")
+    @Label("Inversion")
+    public static final class Inversion extends StageEvent {
+    }
+
+    /**
+     *  The Forward Expansion That Checks Recovered Keys.
+     */
+    @Name("aes.Verification")
+    @Label("Verification")
+    public static final class Verification extends StageEvent {
+    }
+
+    /**
+     *  The Decryption of a Ciphertext With Recovered Keys.
+     */
+    @Name("aes.Decryption")
+    @Label("Decryption")
+    public static final class Decryption extends StageEvent {
+    }
+
+    /**
+     *  The Formatting and Writing of Result Records.
+     */
+    @Name("aes.Output")
+    @Label("Output")
+    public static final class Output extends StageEvent {
+    }
+
+    /**
+     *  This Class Creates the Events. It is Kept Apart From the Probe
+     *  Because Checking its Bytecode Loads Every Event Class, Which Must
+     *  Wait Until a Flight Recorder Exists.
+     */
+    private static final class Factory {
+
+        /**
+         *  Private Constructor Used to Prevent Instances of This Helper
+         *  Class From Being Created.
+         */
+        private Factory() {
+        }
+
+        /**
+         *  This Method is Used to Create the Event of a Named Processing
+         *  Stage.
+         *
+         *  @param stage        The Stage: parse, invert, verify, decrypt or
+         *                      write.
+         *
+         *  @return             The Event.
+         */
+        static StageEvent create(String stage) {
+            switch (stage) {
+                case "parse":
+                    return new Parse();
+                case "invert":
+                    return new Inversion();
+                case "verify":
+                    return new Verification();
+                case "decrypt":
+                    return new Decryption();
+                case "write":
+                    return new Output();
+                default:
+                    throw new IllegalArgumentException("Unknown Stage: " + stage);
+            }
+        }
+    }
+
+    /**
+     *  This Class Starts and Finishes the Event of One Stage For One
+     *  Thread, Reusing a Single Event Object. Until a Flight Recorder
+     *  Exists it Never Touches the Event Classes, Since Loading Them Sets
+     *  Up JFR's Instrumentation and Slows the JIT Even With No Recording
+     *  Running; After That it Only Reads the Clock While a Recording Has
+     *  the Event On. It is Not Thread Safe.
+     */
+    public static final class Probe {
+
+        // The Stage.
+        private final String stage;
+        // The Event, Created Once a Flight Recorder Exists.
+        private StageEvent event;
+        // Whether the Event Was Begun.
+        private boolean begun;
+
+        Probe(String stage) {
+            this.stage = stage;
+        }
+
+        /**
+         *  This Method is Used to Begin the Timing, if a Recording Has
+         *  the Event On.
+         */
+        public void start() {
+            if (!FlightRecorder.isInitialized()) {
+                return;
+            }
+            if (this.event == null) {
+                this.event = Factory.create(this.stage);
+            }
+            this.begun = this.event.isEnabled();
+            if (this.begun) {
+                this.event.begin();
+            }
+        }
+
+        /**
+         *  This Method is Used to Fill in the Fields and Commit the Event,
+         *  if it Was Begun and the Recording Wants it.
+         *
+         *  @param batchSize    The Number of Items.
+         *
+         *  @param engine       The Engine.
+         *
+         *  @param firstItem    The Line or Index of the First Item.
+         */
+        public void finish(int batchSize, String engine, long firstItem) {
+            if (!this.begun) {
+                return;
+            }
+            this.begun = false;
+            this.event.end();
+            if (this.event.shouldCommit()) {
+                this.event.batchSize = batchSize;
+                this.event.engine = engine;
+                this.event.firstItem = firstItem;
+                this.event.commit();
+            }
+        }
+    }
+
+    /**
+     *  Private Constructor Used to Prevent Instances of This Helper Class
+     *  From Being Created.
+     */
+    private StageEvents() {
+    }
+
+    /**
+     *  This Method is Used to Create the Probe of a Named Processing Stage.
+     *
+     *  @param stage        The Stage: parse, invert, verify, decrypt or
+     *                      write.
+     *
+     *  @return             The Probe.
+     */
+    public static Probe probe(String stage) {
+        if (!STAGES.contains(stage)) {
+            throw new IllegalArgumentException("Unknown Stage: " + stage);
+        }
+        return new Probe(stage);
+    }
+}
@@ -0,0 +1,148 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  This Class is Responsible for Describing a Key Space by a Word List,
+ *  Optionally Followed by a Mask That is Appended to Every Word (For
+ *  Example a Word Followed by Two Digits). Each Key is the Word's Bytes,
+ *  Then the Mask Bytes, Then Padding Up to 16 Bytes. Words That Would
+ *  Not Fit in 16 Bytes Together With the Mask are Skipped.
+ *
+ *  @date October 19, 2026
+ *  @version 1.0.0
+ */
+public final class WordlistKeySpace implements KeySpace {
+
+    // The Words, Already Encoded.
+    private final byte[][] words;
+    // The Mask Appended to Each Word, or Null.
+    private final MaskKeySpace suffix;
+    // The Number of Suffixes per Word.
+    private final long suffixCount;
+    // The Byte Padding Positions Past the Suffix.
+    private final byte padding;
+    // The Description of the Space.
+    private final String description;
+
+    /**
+     *  Constructor Method That is Used to Create a Space From a List of
+     *  Words.
+     *
+     *  @param words        The Words, Encoded as UTF-8.
+     *
+     *  @param suffixMask   The Mask Appended to Each Word, or Null.
+     *
+     *  @param padding      The Byte Used Past the End of the Key.
+     */
+    public WordlistKeySpace(List<String> words, String suffixMask, byte padding) {
+        // Parse the Suffix Mask, if Any.
+        this.suffix = suffixMask == null || suffixMask.isEmpty() ? null : new MaskKeySpace(suffixMask, padding);
+        this.suffixCount = this.suffix == null ? 1 : this.suffix.size();
+        int room = 16 - (this.suffix == null ? 0 : this.suffix.length());
+        this.padding = padding;
+
+        // Keep the Words That Fit and Fingerprint the List.
+        List<byte[]> kept = new ArrayList<>();
+        MessageDigest digest = sha256();
+        for (String word : words) {
+            byte[] encoded = word.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length <= room) {
+                kept.add(encoded);
+                digest.update(encoded);
+                digest.update((byte) '\n');
+            }
+        }
+        this.words = kept.toArray(new byte[0][]);
+
+        // Make Sure the Space Can be Indexed With a Long.
+        if (this.words.length > 0 && this.suffixCount > Long.MAX_VALUE / this.words.length) {
+            throw new IllegalArgumentException("Word List and Suffix Describe More Than 2^63 Keys");
+        }
+
+        // Describe the List by its Size and Fingerprint.
+        this.description = "wordlist:" + this.words.length + ":" + Block128.toHex(digest.digest(), 0)
+                + ":suffix=" + (this.suffix == null ? "" : suffixMask) + ":pad=" + (padding & 0xFF);
+    }
+
+    /**
+     *  This Method is Responsible for Reading a Word List File, One Word
+     *  per Line. Blank Lines are Skipped.
+     *
+     *  @param file         The Path of the Word List.
+     *
+     *  @param suffixMask   The Mask Appended to Each Word, or Null.
+     *
+     *  @return             The Key Space.
+     *
+     *  @throws IOException When the File Can Not be Read.
+     */
+    public static WordlistKeySpace read(Path file, String suffixMask) throws IOException {
+        // Read Every Non Blank Line.
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    words.add(line);
+                }
+            }
+        }
+        return new WordlistKeySpace(words, suffixMask, (byte) 0);
+    }
+
+    @Override
+    public long size() {
+        // Every Word is Tried With Every Suffix.
+        return this.words.length * this.suffixCount;
+    }
+
+    @Override
+    public void keyAt(long index, byte[] dest, int offset) {
+        // Make Sure the Index Lies in the Space.
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Key Index: " + index + ", Size: " + size());
+        }
+
+        // Write the Suffix (and its Padding) First, Then Shift it
+        // Along by Writing the Word Over the Front of the Key.
+        byte[] word = this.words[(int) (index / this.suffixCount)];
+        if (this.suffix == null) {
+            for (int i = 0; i < 16; i++) {
+                dest[offset + i] = this.padding;
+            }
+        }
+        else {
+            this.suffix.keyAt(index % this.suffixCount, dest, offset);
+            System.arraycopy(dest, offset, dest, offset + word.length, 16 - word.length);
+        }
+        System.arraycopy(word, 0, dest, offset, word.length);
+    }
+
+    @Override
+    public String describe() {
+        // Return Description
+        return this.description;
+    }
+
+    /**
+     *  This Method is Used to Get a SHA-256 Digest.
+     *
+     *  @return             The Digest.
+     */
+    private static MessageDigest sha256() {
+        try {
+            // Every Java Platform Must Provide SHA-256.
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}